@@ -1,12 +1,20 @@
 package com.inventory.management.central.application.usecase;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.InventoryPage;
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.InventoryTotalsView;
+import com.inventory.management.central.infrastructure.adapter.in.web.PageSizeSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,10 +33,22 @@ import java.util.Optional;
 public class GetCentralInventoryUseCase {
     
     private final CentralInventoryRepository centralInventoryRepository;
+    private final InventoryTotalsView inventoryTotalsView;
+    private final CentralInventoryReadCache readCache;
+    
+    @Value("${app.pagination.default-page-size:100}")
+    private int defaultPageSize;
+    
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
     
     /**
      * Busca inventário central por SKU.
      * 
+     * Lido pelo cache de leitura (local e Redis) e, na ausência, do banco.
+     * Quando há totais mais recentes fora do banco (state store do Kafka
+     * Streams), eles prevalecem sobre os persistidos.
+     * 
      * @param productSku SKU do produto
      * @return inventário central encontrado
      */
@@ -40,7 +60,17 @@ public class GetCentralInventoryUseCase {
             return Optional.empty();
         }
         
-        Optional<CentralInventory> inventory = centralInventoryRepository.findByProductSku(productSku.trim());
+        String sku = productSku.trim();
+        Optional<CentralInventory> inventory = readCache.getCentralInventory(sku,
+                () -> centralInventoryRepository.findByProductSku(sku));
+        
+        Optional<StockTotals> liveTotals = inventoryTotalsView.findTotals(sku);
+        if (liveTotals.isPresent()) {
+            // O banco é atualizado de forma assíncrona e pode ainda não ter o produto
+            CentralInventory current = inventory.orElseGet(() -> CentralInventory.create(sku, "Product " + sku));
+            current.applyStoreTotals(liveTotals.get());
+            inventory = Optional.of(current);
+        }
         
         if (inventory.isPresent()) {
             log.debug("✅ Inventário encontrado: productSku={}, disponível={}", 
@@ -66,6 +96,48 @@ public class GetCentralInventoryUseCase {
         return inventories;
     }
     
+    /**
+     * Lista uma página de inventários centrais em ordem de SKU (paginação keyset).
+     * Busca um item além do tamanho da página para saber se há continuação.
+     * 
+     * @param activeOnly se apenas produtos ativos devem ser listados
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho da página solicitado (null para o padrão)
+     * @return página de inventários
+     */
+    public InventoryPage<CentralInventory> getInventoriesPage(boolean activeOnly, String afterSku, Integer limit) {
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        log.debug("📄 Listando página de inventários centrais: activeOnly={}, afterSku={}, pageSize={}", 
+                activeOnly, afterSku, pageSize);
+        
+        List<CentralInventory> rows = centralInventoryRepository.findPageAfterSku(afterSku, pageSize + 1, activeOnly);
+        InventoryPage<CentralInventory> page = InventoryPage.fromOverfetch(rows, pageSize, CentralInventory::getProductSku);
+        
+        log.debug("✅ {} inventários na página, próxima={}", page.items().size(), page.hasNext());
+        return page;
+    }
+    
+    /**
+     * Lista uma página de inventários centrais contendo apenas os campos
+     * selecionados, lidos diretamente do banco.
+     * 
+     * @param activeOnly se apenas produtos ativos devem ser listados
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho da página solicitado (null para o padrão)
+     * @param selection campos selecionados
+     * @return página de linhas campo → valor
+     */
+    public InventoryPage<Map<String, Object>> getInventoryFieldsPage(boolean activeOnly, String afterSku,
+                                                                     Integer limit, FieldSelection selection) {
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        log.debug("📄 Listando campos de inventários centrais: activeOnly={}, afterSku={}, pageSize={}, fields={}", 
+                activeOnly, afterSku, pageSize, selection.fields());
+        
+        List<Map<String, Object>> rows = centralInventoryRepository.findFieldsPageAfterSku(
+                afterSku, pageSize + 1, activeOnly, selection);
+        return InventoryPage.fromOverfetch(rows, pageSize, row -> (String) row.get(selection.keyField()));
+    }
+    
     /**
      * Lista apenas produtos ativos.
      * 
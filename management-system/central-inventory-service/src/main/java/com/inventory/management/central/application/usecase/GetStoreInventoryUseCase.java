@@ -1,12 +1,18 @@
 package com.inventory.management.central.application.usecase;
 
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.InventoryPage;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import com.inventory.management.central.infrastructure.adapter.in.web.PageSizeSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -27,6 +33,13 @@ public class GetStoreInventoryUseCase {
     private static final String INVALID_STORE_ID = "⚠️  ID da loja inválido";
     
     private final StoreInventoryRepository storeInventoryRepository;
+    private final CentralInventoryReadCache readCache;
+    
+    @Value("${app.pagination.default-page-size:100}")
+    private int defaultPageSize;
+    
+    @Value("${app.pagination.max-page-size:500}")
+    private int maxPageSize;
     
     /**
      * Busca inventário de um produto em uma loja específica.
@@ -78,7 +91,64 @@ public class GetStoreInventoryUseCase {
     }
     
     /**
-     * Lista o inventário de um produto em todas as lojas.
+     * Lista uma página do inventário de uma loja em ordem de SKU (paginação keyset).
+     * 
+     * @param storeId identificador da loja
+     * @param withStockOnly se apenas produtos com estoque devem ser listados
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho da página solicitado (null para o padrão)
+     * @return página de inventários da loja
+     */
+    public InventoryPage<StoreInventory> getInventoryByStorePage(String storeId, boolean withStockOnly,
+                                                                 String afterSku, Integer limit) {
+        if (storeId == null || storeId.trim().isEmpty()) {
+            log.warn(INVALID_STORE_ID);
+            return InventoryPage.empty();
+        }
+        
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        log.debug("📄 Listando página da loja: storeId={}, withStockOnly={}, afterSku={}, pageSize={}", 
+                storeId, withStockOnly, afterSku, pageSize);
+        
+        List<StoreInventory> rows = storeInventoryRepository.findPageByStoreIdAfterSku(
+                storeId.trim(), afterSku, pageSize + 1, withStockOnly);
+        InventoryPage<StoreInventory> page = InventoryPage.fromOverfetch(rows, pageSize, StoreInventory::getProductSku);
+        
+        log.debug("✅ {} produtos na página da loja {}, próxima={}", page.items().size(), storeId, page.hasNext());
+        return page;
+    }
+    
+    /**
+     * Lista uma página do inventário de uma loja contendo apenas os campos
+     * selecionados, lidos diretamente do banco.
+     * 
+     * @param storeId identificador da loja
+     * @param withStockOnly se apenas produtos com estoque devem ser listados
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho da página solicitado (null para o padrão)
+     * @param selection campos selecionados
+     * @return página de linhas campo → valor
+     */
+    public InventoryPage<Map<String, Object>> getInventoryFieldsByStorePage(String storeId, boolean withStockOnly,
+                                                                            String afterSku, Integer limit,
+                                                                            FieldSelection selection) {
+        if (storeId == null || storeId.trim().isEmpty()) {
+            log.warn(INVALID_STORE_ID);
+            return InventoryPage.empty();
+        }
+        
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        log.debug("📄 Listando campos da loja: storeId={}, withStockOnly={}, afterSku={}, pageSize={}, fields={}", 
+                storeId, withStockOnly, afterSku, pageSize, selection.fields());
+        
+        List<Map<String, Object>> rows = storeInventoryRepository.findFieldsPageByStoreIdAfterSku(
+                storeId.trim(), afterSku, pageSize + 1, withStockOnly, selection);
+        return InventoryPage.fromOverfetch(rows, pageSize, row -> (String) row.get(selection.keyField()));
+    }
+    
+    /**
+     * Lista o inventário de um produto em todas as lojas, pelo cache de
+     * leitura (local e Redis) e, na ausência, do banco.
      * 
      * @param productSku SKU do produto
      * @return lista de inventários do produto por loja
@@ -91,7 +161,9 @@ public class GetStoreInventoryUseCase {
             return List.of();
         }
         
-        List<StoreInventory> inventories = storeInventoryRepository.findByProductSku(productSku.trim());
+        String sku = productSku.trim();
+        List<StoreInventory> inventories = readCache.getStoreInventories(sku,
+                () -> storeInventoryRepository.findByProductSku(sku));
         
         log.debug("✅ Produto {} encontrado em {} lojas", productSku, inventories.size());
         return inventories;
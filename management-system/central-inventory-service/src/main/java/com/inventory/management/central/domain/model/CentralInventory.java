@@ -10,15 +10,24 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(includeFieldNames = true)
 public class CentralInventory {
+	/**
+	 * Campos que podem ser selecionados nas listagens (parâmetro fields),
+	 * com os nomes usados na serialização. O primeiro é o campo chave.
+	 */
+	public static final List<String> FIELDS = List.of("productSku", "productName", "description", "category",
+			"unitPrice", "totalQuantity", "totalReservedQuantity", "availableQuantity", "lastUpdated", "version",
+			"active");
+
 	@EqualsAndHashCode.Include
 	private String productSku;
 	private String productName;
@@ -36,6 +45,18 @@ public class CentralInventory {
 		this.availableQuantity = this.totalQuantity - this.totalReservedQuantity;
 	}
 
+	/**
+	 * Aplica os totais somados entre as lojas.
+	 *
+	 * @param totals totais de estoque do produto
+	 */
+	public void applyStoreTotals(StockTotals totals) {
+		this.totalQuantity = Math.toIntExact(totals.quantity());
+		this.totalReservedQuantity = Math.toIntExact(totals.reservedQuantity());
+		calculateAvailableQuantity();
+		this.lastUpdated = LocalDateTime.now();
+	}
+
 	public boolean hasAvailableStock() {
 		return availableQuantity != null && availableQuantity > 0;
 	}
@@ -0,0 +1,65 @@
+package com.inventory.management.central.domain.model;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Seleção de campos (sparse fieldset) solicitada para uma listagem.
+ * O campo chave, usado na ordenação e no cursor, é sempre incluído e
+ * aparece primeiro; os demais seguem a ordem informada, sem repetições.
+ *
+ * @param fields nomes dos campos selecionados, como serializados na resposta
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record FieldSelection(List<String> fields) {
+
+    public FieldSelection {
+        fields = List.copyOf(fields);
+    }
+
+    /**
+     * Interpreta o parâmetro {@code fields} (nomes separados por vírgula).
+     *
+     * @param fields valor do parâmetro
+     * @param available campos disponíveis, sendo o primeiro o campo chave
+     * @return seleção de campos ou null se nenhum campo foi informado
+     * @throws IllegalArgumentException se algum campo não existir
+     */
+    public static FieldSelection parse(String fields, List<String> available) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(available.get(0));
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!available.contains(name)) {
+                throw new IllegalArgumentException("Campo inválido no parâmetro fields: " + name);
+            }
+            selected.add(name);
+        }
+        return new FieldSelection(List.copyOf(selected));
+    }
+
+    /**
+     * @return nome do campo chave (ordenação e cursor)
+     */
+    public String keyField() {
+        return fields.get(0);
+    }
+
+    /**
+     * @return identificador curto da seleção, usado para diferenciar ETags
+     */
+    public String fingerprint() {
+        return Integer.toHexString(fields.hashCode());
+    }
+}
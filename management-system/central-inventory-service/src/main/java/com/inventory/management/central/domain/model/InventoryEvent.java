@@ -76,6 +76,12 @@ public class InventoryEvent {
      */
     private String details;
     
+    /**
+     * Sequência monotônica da alteração por loja e produto, atribuída pela loja
+     * (null em eventos de produtores que não a informam).
+     */
+    private Long sequence;
+    
     /**
      * Status do processamento do evento.
      */
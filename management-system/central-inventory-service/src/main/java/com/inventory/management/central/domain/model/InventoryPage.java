@@ -0,0 +1,51 @@
+package com.inventory.management.central.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de inventários obtida por paginação keyset (ordenação estável por SKU).
+ *
+ * @param items itens da página, ordenados por SKU
+ * @param nextAfterSku último SKU da página, usado como ponto de continuação
+ *                     (null quando não há próxima página)
+ * @param <T> tipo do inventário
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record InventoryPage<T>(List<T> items, String nextAfterSku) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou um item além do tamanho
+     * da página, o que indica a existência de uma próxima página sem precisar de COUNT.
+     *
+     * @param rows itens retornados (até pageSize + 1)
+     * @param pageSize tamanho da página
+     * @param skuExtractor função que obtém o SKU (chave de ordenação) do item
+     * @param <T> tipo do inventário
+     * @return página de inventários
+     */
+    public static <T> InventoryPage<T> fromOverfetch(List<T> rows, int pageSize, Function<T, String> skuExtractor) {
+        if (rows.size() <= pageSize) {
+            return new InventoryPage<>(rows, null);
+        }
+        List<T> page = List.copyOf(rows.subList(0, pageSize));
+        return new InventoryPage<>(page, skuExtractor.apply(page.get(pageSize - 1)));
+    }
+
+    /**
+     * @return página vazia e sem continuação
+     */
+    public static <T> InventoryPage<T> empty() {
+        return new InventoryPage<>(List.of(), null);
+    }
+
+    /**
+     * @return true se existir uma próxima página
+     */
+    public boolean hasNext() {
+        return nextAfterSku != null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.inventory.management.central.domain.model;
+
+/**
+ * Totais de estoque de um produto somados entre todas as lojas.
+ *
+ * @param productSku SKU do produto
+ * @param quantity quantidade total
+ * @param reservedQuantity quantidade total reservada
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record StockTotals(String productSku, long quantity, long reservedQuantity) {
+
+    /**
+     * @param productSku SKU do produto
+     * @return totais zerados, para produtos sem inventário em nenhuma loja
+     */
+    public static StockTotals empty(String productSku) {
+        return new StockTotals(productSku, 0, 0);
+    }
+
+    /**
+     * @param other totais (ou variações) do mesmo produto
+     * @return soma das quantidades de ambos
+     */
+    public StockTotals plus(StockTotals other) {
+        return new StockTotals(productSku, quantity + other.quantity, reservedQuantity + other.reservedQuantity);
+    }
+}
@@ -9,6 +9,7 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Entidade de domínio representando o inventário por loja.
@@ -23,12 +24,20 @@ import java.time.LocalDateTime;
  */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(includeFieldNames = true)
 public class StoreInventory {
+    /**
+     * Campos que podem ser selecionados nas listagens (parâmetro fields),
+     * com os nomes usados na serialização. O primeiro é o campo chave.
+     */
+    public static final List<String> FIELDS = List.of("productSku", "storeId", "storeName", "storeLocation",
+            "quantity", "reserved", "reservedQuantity", "available", "availableQuantity", "lastUpdated", "version",
+            "lastSyncTime", "isSynchronized");
+    
     // Métodos customizados para o builder (Lombok permite isso via @Builder)
     public static class StoreInventoryBuilder {
         public StoreInventoryBuilder reservedQuantity(Integer reserved) {
@@ -105,6 +114,11 @@ public class StoreInventory {
      */
     private Boolean isSynchronized;
     
+    /**
+     * Sequência do último evento da loja aplicado a este inventário.
+     */
+    private Long lastSequence;
+    
     /**
      * Calcula a quantidade disponível baseada na quantidade total e reservada.
      */
@@ -133,6 +147,17 @@ public class StoreInventory {
                available >= requestedQuantity;
     }
     
+    /**
+     * Verifica se um evento com a sequência informada é mais recente que o
+     * último aplicado. Eventos sem sequência são sempre aceitos.
+     * 
+     * @param sequence sequência do evento
+     * @return true se o evento deve ser aplicado
+     */
+    public boolean acceptsSequence(Long sequence) {
+        return sequence == null || lastSequence == null || sequence > lastSequence;
+    }
+    
     /**
      * Marca como sincronizado.
      */
@@ -0,0 +1,49 @@
+package com.inventory.management.central.domain.port;
+
+import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.StoreInventory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Porta do cache de leitura do inventário por SKU.
+ * Define a leitura com carregamento sob demanda e a atualização das
+ * entradas após cada alteração confirmada pelo processamento de eventos.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CentralInventoryReadCache {
+
+    /**
+     * Obtém o inventário central do cache ou o carrega através do loader informado.
+     *
+     * @param productSku SKU do produto
+     * @param loader carregamento a partir do banco de dados
+     * @return inventário central (cópia independente da entrada em cache)
+     */
+    Optional<CentralInventory> getCentralInventory(String productSku,
+                                                   Supplier<Optional<CentralInventory>> loader);
+
+    /**
+     * Obtém o inventário do produto em todas as lojas do cache ou o carrega
+     * através do loader informado.
+     *
+     * @param productSku SKU do produto
+     * @param loader carregamento a partir do banco de dados
+     * @return inventários do produto por loja (cópias independentes da entrada em cache)
+     */
+    List<StoreInventory> getStoreInventories(String productSku, Supplier<List<StoreInventory>> loader);
+
+    /**
+     * Recarrega os produtos informados após o commit da transação corrente (ou
+     * imediatamente, fora de transação) e grava o estado persistido no cache.
+     *
+     * @param productSkus SKUs alterados
+     */
+    void refreshAfterCommit(Collection<String> productSkus);
+}
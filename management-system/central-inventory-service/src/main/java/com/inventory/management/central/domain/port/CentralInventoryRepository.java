@@ -1,8 +1,12 @@
 package com.inventory.management.central.domain.port;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +29,60 @@ public interface CentralInventoryRepository {
      */
     CentralInventory save(CentralInventory inventory);
     
+    /**
+     * Salva ou atualiza um lote de inventários centrais na transação corrente.
+     * As escritas são enviadas ao banco em lotes JDBC.
+     * 
+     * @param inventories inventários a serem salvos
+     */
+    void saveAll(Collection<CentralInventory> inventories);
+    
+    /**
+     * Grava os totais consolidados de vários produtos com um único comando,
+     * criando o inventário central dos produtos que ainda não o têm.
+     * 
+     * @param totals totais por produto (no máximo um por produto)
+     */
+    void upsertTotals(Collection<StockTotals> totals);
+    
+    /**
+     * Soma variações aos totais de vários produtos com um único comando, sem ler
+     * os registros, criando o inventário central dos produtos que ainda não o
+     * têm a partir da própria variação.
+     * 
+     * @param deltas variações por produto (no máximo uma por produto)
+     */
+    void addTotals(Collection<StockTotals> deltas);
+    
+    /**
+     * Bloqueia os totais dos produtos até o fim da transação corrente.
+     * Variações e recálculos de um mesmo produto adquirem o bloqueio antes de
+     * somar as lojas ou gravar os totais, de modo que um recálculo nunca grava
+     * uma soma que deixa de fora uma variação concorrente.
+     * 
+     * @param productSkus SKUs dos produtos
+     */
+    void lockTotals(Collection<String> productSkus);
+    
+    /**
+     * Marca os produtos como pendentes de recálculo na transação corrente: a
+     * marca é confirmada junto com a alteração das lojas que a originou e
+     * sobrevive a reinícios e rebalanceamentos.
+     * 
+     * @param productSkus SKUs dos produtos
+     */
+    void markTotalsPending(Collection<String> productSkus);
+    
+    /**
+     * Remove e retorna, na transação corrente, produtos pendentes de recálculo.
+     * Marcas em uso por outra transação são ignoradas e, se a transação não
+     * confirmar, as removidas voltam a ficar pendentes.
+     * 
+     * @param limit quantidade máxima de produtos
+     * @return SKUs pendentes
+     */
+    List<String> claimPendingTotals(int limit);
+    
     /**
      * Busca inventário por SKU do produto.
      * 
@@ -33,6 +91,14 @@ public interface CentralInventoryRepository {
      */
     Optional<CentralInventory> findByProductSku(String productSku);
     
+    /**
+     * Busca os inventários de vários produtos com uma única consulta.
+     * 
+     * @param productSkus SKUs dos produtos
+     * @return inventários encontrados
+     */
+    List<CentralInventory> findByProductSkuIn(Collection<String> productSkus);
+    
     /**
      * Lista todos os inventários centrais.
      * 
@@ -78,6 +144,30 @@ public interface CentralInventoryRepository {
      */
     List<CentralInventory> findActiveProducts();
     
+    /**
+     * Lista, em ordem de SKU, inventários com SKU posterior ao informado
+     * (paginação keyset).
+     * 
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de inventários
+     * @param activeOnly se apenas produtos ativos devem ser considerados
+     * @return inventários ordenados por SKU
+     */
+    List<CentralInventory> findPageAfterSku(String afterSku, int limit, boolean activeOnly);
+    
+    /**
+     * Mesma listagem de {@link #findPageAfterSku}, lendo do banco apenas os
+     * campos selecionados.
+     * 
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de inventários
+     * @param activeOnly se apenas produtos ativos devem ser considerados
+     * @param selection campos selecionados
+     * @return linhas campo → valor ordenadas por SKU
+     */
+    List<Map<String, Object>> findFieldsPageAfterSku(String afterSku, int limit, boolean activeOnly,
+                                                     FieldSelection selection);
+    
     /**
      * Remove um inventário por SKU.
      * 
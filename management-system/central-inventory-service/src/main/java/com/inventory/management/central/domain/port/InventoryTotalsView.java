@@ -0,0 +1,26 @@
+package com.inventory.management.central.domain.port;
+
+import com.inventory.management.central.domain.model.StockTotals;
+
+import java.util.Optional;
+
+/**
+ * Porta de saída para leitura dos totais consolidados de um produto mantidos
+ * fora do banco (por exemplo, no estado local do Kafka Streams), mais recentes
+ * que o inventário central persistido.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface InventoryTotalsView {
+
+    /**
+     * Busca os totais atuais de um produto.
+     *
+     * @param productSku SKU do produto
+     * @return totais do produto, ou vazio se não disponíveis nesta instância
+     *         (a consulta deve então usar o inventário central persistido)
+     */
+    Optional<StockTotals> findTotals(String productSku);
+}
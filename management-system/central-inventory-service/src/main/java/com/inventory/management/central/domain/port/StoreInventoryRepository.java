@@ -1,8 +1,12 @@
 package com.inventory.management.central.domain.port;
 
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.model.StoreInventory;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -25,6 +29,34 @@ public interface StoreInventoryRepository {
      */
     StoreInventory save(StoreInventory inventory);
     
+    /**
+     * Salva ou atualiza um lote de inventários de loja na transação corrente.
+     * As escritas são enviadas ao banco em lotes JDBC.
+     * 
+     * @param inventories inventários a serem salvos
+     */
+    void saveAll(Collection<StoreInventory> inventories);
+    
+    /**
+     * Grava o inventário com um único comando (insert ou update), desde que a
+     * sequência informada seja posterior à já gravada para o produto e a loja.
+     * 
+     * @param inventory inventário a ser gravado
+     * @return variação das quantidades em relação ao registro anterior (ou a zero,
+     *         se criado), ou vazio se o inventário gravado já tem sequência igual ou posterior
+     */
+    Optional<StockTotals> upsert(StoreInventory inventory);
+    
+    /**
+     * Grava um lote de inventários com um único comando, ignorando os que já
+     * têm sequência igual ou posterior gravada.
+     * 
+     * @param inventories inventários a serem gravados
+     * @return variação das quantidades de cada inventário gravado em relação ao
+     *         registro anterior (ou a zero, se criado); inventários superados não aparecem
+     */
+    List<StockTotals> upsertAll(Collection<StoreInventory> inventories);
+    
     /**
      * Busca inventário por SKU e loja.
      * 
@@ -42,6 +74,14 @@ public interface StoreInventoryRepository {
      */
     List<StoreInventory> findByProductSku(String productSku);
     
+    /**
+     * Lista os inventários de vários produtos em todas as lojas, com uma única consulta.
+     * 
+     * @param productSkus SKUs dos produtos
+     * @return inventários dos produtos
+     */
+    List<StoreInventory> findByProductSkuIn(Collection<String> productSkus);
+    
     /**
      * Lista todos os inventários de uma loja específica.
      * 
@@ -79,6 +119,32 @@ public interface StoreInventoryRepository {
      */
     List<StoreInventory> findByStoreIdWithAvailableStock(String storeId);
     
+    /**
+     * Lista, em ordem de SKU, inventários da loja com SKU posterior ao
+     * informado (paginação keyset).
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de inventários
+     * @param withStockOnly se apenas inventários com estoque disponível devem ser considerados
+     * @return inventários da loja ordenados por SKU
+     */
+    List<StoreInventory> findPageByStoreIdAfterSku(String storeId, String afterSku, int limit, boolean withStockOnly);
+    
+    /**
+     * Mesma listagem de {@link #findPageByStoreIdAfterSku}, lendo do banco
+     * apenas os campos selecionados.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de inventários
+     * @param withStockOnly se apenas inventários com estoque disponível devem ser considerados
+     * @param selection campos selecionados
+     * @return linhas campo → valor ordenadas por SKU
+     */
+    List<Map<String, Object>> findFieldsPageByStoreIdAfterSku(String storeId, String afterSku, int limit,
+                                                              boolean withStockOnly, FieldSelection selection);
+    
     /**
      * Calcula a quantidade total de um produto em todas as lojas.
      * 
@@ -95,6 +161,25 @@ public interface StoreInventoryRepository {
      */
     Integer sumReservedQuantityByProductSku(String productSku);
     
+    /**
+     * Busca a geração da lista de lojas de cada produto: um contador incrementado
+     * na mesma transação de toda gravação ou remoção de inventários de loja do
+     * produto, de modo que um estado confirmado depois sempre tem geração maior.
+     * 
+     * @param productSkus SKUs dos produtos
+     * @return geração por SKU (produtos nunca gravados não aparecem)
+     */
+    Map<String, Long> findGenerationsByProductSkuIn(Collection<String> productSkus);
+    
+    /**
+     * Soma as quantidades de vários produtos em todas as lojas, com uma única consulta agregada.
+     * Produtos sem inventário em nenhuma loja não aparecem no resultado.
+     * 
+     * @param productSkus SKUs dos produtos
+     * @return totais por produto
+     */
+    List<StockTotals> sumQuantitiesByProductSkuIn(Collection<String> productSkus);
+    
     /**
      * Remove inventário por SKU e loja.
      * 
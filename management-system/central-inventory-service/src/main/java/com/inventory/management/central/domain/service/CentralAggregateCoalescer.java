@@ -0,0 +1,106 @@
+package com.inventory.management.central.domain.service;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coalescência do recálculo do inventário central.
+ * 
+ * Em vez de somar as lojas e regravar central_inventory a cada evento, os
+ * SKUs cujos inventários de loja mudaram são marcados como pendentes na
+ * tabela central_inventory_pending, na mesma transação da alteração, e
+ * recalculados uma única vez por janela de flush, com uma consulta agregada
+ * para todos os SKUs pendentes. O resultado é o mesmo do recálculo imediato,
+ * pois os totais são sempre lidos do estado confirmado das lojas, com os SKUs
+ * bloqueados antes da soma; a carga de agregação passa a acompanhar o número
+ * de SKUs distintos e não o de eventos. As marcas sobrevivem a reinícios e
+ * rebalanceamentos, e as de um flush que não confirma voltam a ficar pendentes.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+public class CentralAggregateCoalescer {
+    
+    private final StoreInventoryRepository storeInventoryRepository;
+    private final CentralInventoryRepository centralInventoryRepository;
+    private final InventoryGenerationCounters generationCounters;
+    private final CentralInventoryReadCache readCache;
+    private final boolean enabled;
+    private final int flushBatchSize;
+    
+    public CentralAggregateCoalescer(
+            StoreInventoryRepository storeInventoryRepository,
+            CentralInventoryRepository centralInventoryRepository,
+            InventoryGenerationCounters generationCounters,
+            CentralInventoryReadCache readCache,
+            @Value("${app.aggregate-coalescing.enabled:true}") boolean enabled,
+            @Value("${app.aggregate-coalescing.flush-batch-size:1000}") int flushBatchSize) {
+        this.storeInventoryRepository = storeInventoryRepository;
+        this.centralInventoryRepository = centralInventoryRepository;
+        this.generationCounters = generationCounters;
+        this.readCache = readCache;
+        this.enabled = enabled;
+        this.flushBatchSize = flushBatchSize;
+    }
+    
+    /**
+     * @return true se o recálculo do inventário central é coalescido
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Marca os SKUs como pendentes de recálculo na transação corrente.
+     * 
+     * @param productSkus SKUs dos produtos
+     */
+    public void markDirty(Collection<String> productSkus) {
+        centralInventoryRepository.markTotalsPending(productSkus);
+    }
+    
+    /**
+     * Recalcula uma vez cada SKU pendente a partir dos totais das lojas.
+     * 
+     * @return quantidade de produtos recalculados
+     */
+    @Scheduled(fixedDelayString = "${app.aggregate-coalescing.flush-interval-ms:500}")
+    @Transactional
+    public int flush() {
+        if (!enabled) {
+            return 0;
+        }
+        List<String> productSkus = centralInventoryRepository.claimPendingTotals(flushBatchSize);
+        if (productSkus.isEmpty()) {
+            return 0;
+        }
+        
+        centralInventoryRepository.lockTotals(productSkus);
+        Map<String, StockTotals> totals = storeInventoryRepository.sumQuantitiesByProductSkuIn(productSkus).stream()
+                .collect(Collectors.toMap(StockTotals::productSku, Function.identity()));
+        centralInventoryRepository.upsertTotals(productSkus.stream()
+                .map(productSku -> totals.getOrDefault(productSku, StockTotals.empty(productSku)))
+                .toList());
+        readCache.refreshAfterCommit(productSkus);
+        productSkus.forEach(generationCounters::advanceProductAfterCommit);
+        
+        log.debug("🏛️  Inventário central recalculado: {} produtos", productSkus.size());
+        return productSkus.size();
+    }
+}
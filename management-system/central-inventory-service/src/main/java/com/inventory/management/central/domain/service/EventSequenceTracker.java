@@ -0,0 +1,156 @@
+package com.inventory.management.central.domain.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Marcas d'água em memória da sequência de eventos por loja e produto.
+ *
+ * Guarda a maior sequência já confirmada de cada par (loja, produto), de forma
+ * que reentregas e eventos fora de ordem sejam descartados antes da escrita no
+ * banco. A fonte de verdade é a coluna {@code last_sequence} de
+ * store_inventory: o cache é limitado em tamanho e, em uma ausência (após um
+ * restart, uma remoção por tamanho ou um par visto pela primeira vez), a marca
+ * é recarregada do banco.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class EventSequenceTracker {
+
+    /**
+     * Marca de um par sem sequência gravada; não supera nenhum evento.
+     */
+    private static final long NO_SEQUENCE = Long.MIN_VALUE;
+
+    private final StoreInventoryRepository storeInventoryRepository;
+    private final LoadingCache<SequenceKey, Long> highWaterMarks;
+
+    public EventSequenceTracker(
+            StoreInventoryRepository storeInventoryRepository,
+            @Value("${app.sequence-tracker.maximum-size:200000}") long maximumSize) {
+        this.storeInventoryRepository = storeInventoryRepository;
+        this.highWaterMarks = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build(new CacheLoader<>() {
+                    @Override
+                    public Long load(SequenceKey key) {
+                        return loadHighWaterMark(key);
+                    }
+
+                    @Override
+                    public Map<SequenceKey, Long> loadAll(Set<? extends SequenceKey> keys) {
+                        return loadHighWaterMarks(keys);
+                    }
+                });
+    }
+
+    /**
+     * Verifica se o evento é duplicado ou anterior à maior sequência conhecida.
+     * Eventos sem sequência nunca são descartados.
+     *
+     * @param event evento recebido
+     * @return true se o evento já foi superado
+     */
+    public boolean isSuperseded(InventoryEvent event) {
+        Long sequence = event.getSequence();
+        if (sequence == null) {
+            return false;
+        }
+        return sequence <= highWaterMarks.get(new SequenceKey(event.getStoreId(), event.getProductSku()));
+    }
+
+    /**
+     * Carrega do banco, em uma única consulta, as marcas ausentes dos eventos
+     * de um lote, evitando uma consulta por evento em {@link #isSuperseded}.
+     *
+     * @param events eventos do lote
+     */
+    public void preload(Collection<InventoryEvent> events) {
+        Set<SequenceKey> keys = events.stream()
+                .filter(event -> event.getSequence() != null)
+                .map(event -> new SequenceKey(event.getStoreId(), event.getProductSku()))
+                .collect(Collectors.toSet());
+        if (!keys.isEmpty()) {
+            highWaterMarks.getAll(keys);
+        }
+    }
+
+    /**
+     * Registra uma sequência já persistida (lida do banco).
+     *
+     * @param storeId identificador da loja
+     * @param productSku SKU do produto
+     * @param sequence sequência persistida (ignorada se null)
+     */
+    public void remember(String storeId, String productSku, Long sequence) {
+        if (sequence != null) {
+            highWaterMarks.asMap().merge(new SequenceKey(storeId, productSku), sequence, Math::max);
+        }
+    }
+
+    /**
+     * Registra a sequência aplicada após o commit da transação corrente
+     * (ou imediatamente, fora de transação).
+     *
+     * @param storeId identificador da loja
+     * @param productSku SKU do produto
+     * @param sequence sequência aplicada (ignorada se null)
+     */
+    public void advanceAfterCommit(String storeId, String productSku, Long sequence) {
+        if (sequence == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remember(storeId, productSku, sequence);
+                }
+            });
+        } else {
+            remember(storeId, productSku, sequence);
+        }
+    }
+
+    private Long loadHighWaterMark(SequenceKey key) {
+        return storeInventoryRepository.findByProductSkuAndStoreId(key.productSku(), key.storeId())
+                .map(StoreInventory::getLastSequence)
+                .orElse(NO_SEQUENCE);
+    }
+
+    private Map<SequenceKey, Long> loadHighWaterMarks(Set<? extends SequenceKey> keys) {
+        Set<String> productSkus = keys.stream().map(SequenceKey::productSku).collect(Collectors.toSet());
+        Map<SequenceKey, Long> loaded = new HashMap<>();
+        keys.forEach(key -> loaded.put(key, NO_SEQUENCE));
+        for (StoreInventory inventory : storeInventoryRepository.findByProductSkuIn(productSkus)) {
+            SequenceKey key = new SequenceKey(inventory.getStoreId(), inventory.getProductSku());
+            if (loaded.containsKey(key) && inventory.getLastSequence() != null) {
+                loaded.put(key, inventory.getLastSequence());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Par (loja, produto) de uma marca d'água.
+     */
+    private record SequenceKey(String storeId, String productSku) {
+    }
+}
@@ -1,20 +1,29 @@
 package com.inventory.management.central.domain.service;
 
-import com.inventory.management.central.domain.exception.InventoryProcessingException;
-import com.inventory.management.central.domain.model.CentralInventory;
 import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
 import com.inventory.management.central.domain.port.InventoryEventRepository;
 import com.inventory.management.central.domain.port.StoreInventoryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Serviço de domínio para processamento de eventos de inventário.
@@ -34,6 +43,19 @@ public class InventoryEventProcessingService {
     private final InventoryEventRepository inventoryEventRepository;
     private final StoreInventoryRepository storeInventoryRepository;
     private final CentralInventoryRepository centralInventoryRepository;
+    private final InventoryGenerationCounters generationCounters;
+    private final CentralAggregateCoalescer aggregateCoalescer;
+    private final EventSequenceTracker sequenceTracker;
+    private final CentralInventoryReadCache readCache;
+    
+    /**
+     * Mantém o inventário central por variações (novo − anterior) somadas com um
+     * único upsert, que também cria os produtos ausentes, em vez de recalcular as
+     * somas das lojas. Cada modo é o único modelo de escrita dos totais: com as
+     * variações habilitadas nenhum caminho regrava a soma das lojas.
+     */
+    @Value("${app.aggregate-deltas.enabled:true}")
+    private boolean aggregateDeltas;
     
     /**
      * Processa um evento de inventário recebido de uma loja.
@@ -41,8 +63,11 @@ public class InventoryEventProcessingService {
      * Versão COMPLETA que persiste eventos E sincroniza as bases de dados
      * do store e central inventory em tempo real.
      * 
+     * Eventos duplicados ou anteriores ao último aplicado para a mesma loja e
+     * produto (pela sequência atribuída pela loja) são descartados sem escritas.
+     * 
      * @param event evento a ser processado
-     * @return true se processado com sucesso
+     * @return true se processado com sucesso (ou descartado por já ter sido superado)
      */
     @Transactional
     public boolean processInventoryEvent(InventoryEvent event) {
@@ -55,12 +80,27 @@ public class InventoryEventProcessingService {
                 log.warn("⚠️  Evento inválido ignorado: eventId={}", event.getEventId());
                 return false;
             }
+            if (sequenceTracker.isSuperseded(event)) {
+                log.info("⏭️  Evento duplicado ou obsoleto ignorado: eventId={}, sequência={}", 
+                        event.getEventId(), event.getSequence());
+                return true;
+            }
             
             // 1. Processar e logar o evento
             processEventByType(event);
             
             // 2. Sincronizar as tabelas de inventário
-            updateInventoryTables(event);
+            if (!updateInventoryTables(event)) {
+                log.info("⏭️  Evento obsoleto ignorado: eventId={}, sequência={}", 
+                        event.getEventId(), event.getSequence());
+                return true;
+            }
+            
+            // 3. Após o commit: atualizar o cache de leitura antes de invalidar as ETags (uma ETag nova
+            //    nunca acompanha conteúdo antigo) e avançar a sequência
+            readCache.refreshAfterCommit(List.of(event.getProductSku()));
+            generationCounters.advanceAfterCommit(event.getStoreId(), event.getProductSku());
+            sequenceTracker.advanceAfterCommit(event.getStoreId(), event.getProductSku(), event.getSequence());
             
             log.info("✅ Evento processado e inventários sincronizados: eventId={}", event.getEventId());
             return true;
@@ -71,21 +111,130 @@ public class InventoryEventProcessingService {
         }
     }
     
+    /**
+     * Processa um lote de eventos de inventário (uma poll do Kafka) em uma única transação.
+     * 
+     * Os inventários afetados são pré-carregados com consultas IN, os eventos são
+     * aplicados em memória na ordem do lote e as escritas seguem como um único
+     * upsert por tabela.
+     * Os totais centrais partem das variações devolvidas pelo upsert das lojas,
+     * calculadas sobre as linhas bloqueadas no banco (e não sobre o pré-carregamento,
+     * que pode estar desatualizado), e são aplicados como variação atômica quando
+     * habilitado ou recalculados a partir das lojas. Eventos inválidos são ignorados, assim
+     * como eventos duplicados ou anteriores ao último aplicado para a mesma loja e produto.
+     * 
+     * @param events eventos do lote, na ordem de consumo
+     * @return quantidade de eventos aplicados
+     */
+    @Transactional
+    public int processInventoryEventBatch(List<InventoryEvent> events) {
+        List<InventoryEvent> candidates = events.stream()
+                .filter(this::isEventValid)
+                .toList();
+        sequenceTracker.preload(candidates);
+        List<InventoryEvent> validEvents = candidates.stream()
+                .filter(event -> !sequenceTracker.isSuperseded(event))
+                .toList();
+        log.info("🔄 Processando lote de eventos: recebidos={}, a aplicar={}", events.size(), validEvents.size());
+        
+        if (validEvents.isEmpty()) {
+            return 0;
+        }
+        validEvents.forEach(this::processEventByType);
+        
+        Set<String> productSkus = validEvents.stream()
+                .map(InventoryEvent::getProductSku)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        
+        // 1. Pré-carregar os inventários de todas as lojas dos produtos do lote
+        Map<String, Map<String, StoreInventory>> storesBySku = new HashMap<>();
+        for (StoreInventory storeInventory : storeInventoryRepository.findByProductSkuIn(productSkus)) {
+            storesBySku.computeIfAbsent(storeInventory.getProductSku(), sku -> new HashMap<>())
+                    .put(storeInventory.getStoreId(), storeInventory);
+        }
+        
+        // 2. Aplicar os eventos em memória; eventos repetidos do mesmo produto e loja sobrescrevem em ordem
+        //    e eventos com sequência já aplicada ao inventário da loja são descartados
+        Map<String, StoreInventory> changedStores = new LinkedHashMap<>();
+        int applied = 0;
+        for (InventoryEvent event : validEvents) {
+            String storeKey = event.getProductSku() + "@" + event.getStoreId();
+            StoreInventory storeInventory = storesBySku
+                    .computeIfAbsent(event.getProductSku(), sku -> new HashMap<>())
+                    .computeIfAbsent(event.getStoreId(),
+                            storeId -> StoreInventory.create(event.getProductSku(), storeId, "Store " + storeId));
+            if (!storeInventory.acceptsSequence(event.getSequence())) {
+                // Só a sequência lida do banco é memorizada já; a aplicada por um evento anterior do lote
+                // existe apenas em memória e só é registrada após o commit
+                if (!changedStores.containsKey(storeKey)) {
+                    sequenceTracker.remember(event.getStoreId(), event.getProductSku(),
+                            storeInventory.getLastSequence());
+                }
+                continue;
+            }
+            applyEvent(storeInventory, event);
+            changedStores.put(storeKey, storeInventory);
+            applied++;
+        }
+        if (changedStores.isEmpty()) {
+            log.info("⏭️  Lote sem eventos novos: {} eventos obsoletos ignorados", validEvents.size());
+            return 0;
+        }
+        List<StockTotals> storeDeltas = storeInventoryRepository.upsertAll(changedStores.values());
+        
+        // 3. Atualizar os totais centrais: variação líquida por produto quando habilitada,
+        //    senão recálculo a partir das lojas
+        Set<String> changedSkus = changedStores.values().stream()
+                .map(StoreInventory::getProductSku)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (aggregateDeltas) {
+            applyCentralDeltas(List.copyOf(netDeltasBySku(storeDeltas).values()));
+        } else {
+            recalculateCentralInventory(changedSkus);
+        }
+        
+        // 4. Após o commit: atualizar o cache de leitura antes de invalidar as ETags e avançar as sequências
+        readCache.refreshAfterCommit(changedSkus);
+        changedStores.values().forEach(storeInventory -> {
+            generationCounters.advanceAfterCommit(storeInventory.getStoreId(), storeInventory.getProductSku());
+            sequenceTracker.advanceAfterCommit(storeInventory.getStoreId(), storeInventory.getProductSku(),
+                    storeInventory.getLastSequence());
+        });
+        
+        log.info("✅ Lote processado: eventos={}, inventários de loja={}, produtos={}", 
+                applied, changedStores.size(), changedSkus.size());
+        return applied;
+    }
+    
     /**
      * Atualiza as tabelas de inventário (store_inventory e central_inventory)
      * com base no evento processado.
+     * 
+     * @return false se o evento já foi superado pelo inventário da loja
      */
-    private void updateInventoryTables(InventoryEvent event) {
+    private boolean updateInventoryTables(InventoryEvent event) {
         try {
             log.info("🔄 Sincronizando inventários para evento: {}", event.getEventId());
             
             // 1. Atualizar store_inventory
-            updateStoreInventory(event);
+            Optional<StockTotals> applied = updateStoreInventory(event);
+            if (applied.isEmpty()) {
+                return false;
+            }
+            StockTotals delta = applied.get();
             
-            // 2. Atualizar central_inventory (agregado)  
-            updateCentralInventory(event.getProductSku());
+            // 2. Atualizar central_inventory (agregado): pela variação quando habilitado;
+            //    senão recalculado (coalescido por SKU quando habilitado)
+            if (aggregateDeltas) {
+                applyCentralDeltas(List.of(delta));
+                log.debug("🏛️  Variação aplicada ao central_inventory: produto={}, quantidade={}, reservado={}",
+                        event.getProductSku(), delta.quantity(), delta.reservedQuantity());
+            } else {
+                recalculateCentralInventory(List.of(event.getProductSku()));
+            }
             
             log.info("✅ Inventários sincronizados com sucesso: produto={}", event.getProductSku());
+            return true;
             
         } catch (Exception e) {
             log.error("❌ Erro ao sincronizar inventários: produto={}, erro={}", 
@@ -97,86 +246,96 @@ public class InventoryEventProcessingService {
     
     /**
      * Atualiza o inventário da loja específica.
+     * 
+     * @return variação das quantidades da loja em relação ao registro anterior,
+     *         ou vazio se o evento já foi superado
      */
-    private void updateStoreInventory(InventoryEvent event) {
+    private Optional<StockTotals> updateStoreInventory(InventoryEvent event) {
         String productSku = event.getProductSku();
         String storeId = event.getStoreId();
         
         log.debug("🏪 Atualizando store_inventory: produto={}, loja={}", productSku, storeId);
         
-        // Buscar inventário existente ou criar novo
-        Optional<StoreInventory> existingOpt = storeInventoryRepository.findByProductSkuAndStoreId(productSku, storeId);
+        // Upsert em um único comando: cria o registro ou o atualiza se a sequência for posterior à gravada
+        StoreInventory storeInventory = StoreInventory.create(productSku, storeId, "Store " + storeId);
+        applyEvent(storeInventory, event);
+        Optional<StockTotals> delta = storeInventoryRepository.upsert(storeInventory);
         
-        StoreInventory storeInventory;
-        if (existingOpt.isPresent()) {
-            storeInventory = existingOpt.get();
-            log.debug("📦 Store inventory encontrado: produto={}, loja={}, qtd_atual={}", 
-                    productSku, storeId, storeInventory.getQuantity());
-        } else {
-            // Criar novo registro
-            storeInventory = StoreInventory.create(productSku, storeId, "Store " + storeId);
-            log.debug("🆕 Criando novo store inventory: produto={}, loja={}", productSku, storeId);
+        if (delta.isEmpty()) {
+            // A sequência gravada é igual ou posterior à do evento
+            sequenceTracker.remember(storeId, productSku, event.getSequence());
+            return Optional.empty();
         }
-        
-        // Atualizar com dados do evento
-        storeInventory.setQuantity(event.getNewQuantity());
-        storeInventory.setReservedQuantity(event.getReservedQuantity() != null ? event.getReservedQuantity() : 0);
-        storeInventory.calculateAvailableQuantity();
-        storeInventory.setLastUpdated(LocalDateTime.now());
-        storeInventory.markAsSynchronized();
-        
-        // Salvar (usando save normal)
-        StoreInventory saved = storeInventoryRepository.save(storeInventory);
-        
-        // Verificar se a operação foi bem-sucedida
-        if (saved != null) {
-            log.debug("💾 Store inventory salvo: produto={}, loja={}, qtd={}, reservado={}, disponível={}", 
-                    productSku, storeId, saved.getQuantity(), saved.getReservedQuantity(), saved.getAvailableQuantity());
+        log.debug("💾 Store inventory salvo: produto={}, loja={}, qtd={}, reservado={}, disponível={}", 
+                productSku, storeId, storeInventory.getQuantity(), storeInventory.getReservedQuantity(),
+                storeInventory.getAvailableQuantity());
+        return delta;
+    }
+    
+    /**
+     * Soma ao inventário central as variações informadas (no máximo uma por
+     * produto), com os produtos bloqueados contra recálculos concorrentes.
+     */
+    private void applyCentralDeltas(List<StockTotals> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        centralInventoryRepository.lockTotals(deltas.stream().map(StockTotals::productSku).toList());
+        centralInventoryRepository.addTotals(deltas);
+    }
+    
+    /**
+     * Variação líquida por produto das variações dos inventários de loja gravados.
+     */
+    private static Map<String, StockTotals> netDeltasBySku(List<StockTotals> storeDeltas) {
+        return storeDeltas.stream()
+                .collect(Collectors.toMap(StockTotals::productSku, Function.identity(), StockTotals::plus,
+                        LinkedHashMap::new));
+    }
+    
+    /**
+     * Recalcula o inventário central dos produtos a partir das lojas: coalescido
+     * por SKU quando habilitado, senão imediatamente.
+     */
+    private void recalculateCentralInventory(Collection<String> productSkus) {
+        if (aggregateCoalescer.isEnabled()) {
+            aggregateCoalescer.markDirty(productSkus);
         } else {
-            log.error("❌ Falha ao salvar store inventory: produto={}, loja={}", productSku, storeId);
-            throw new InventoryProcessingException("Falha ao salvar store inventory");
+            updateCentralInventory(productSkus);
         }
     }
     
     /**
      * Atualiza o inventário central consolidado.
      */
-    private void updateCentralInventory(String productSku) {
-        log.debug("🏛️  Atualizando central_inventory: produto={}", productSku);
-        
-        // Agregar dados de todas as lojas para este produto
-        Integer totalQuantity = storeInventoryRepository.sumQuantityByProductSku(productSku);
-        Integer totalReserved = storeInventoryRepository.sumReservedQuantityByProductSku(productSku);
-        
-        if (totalQuantity == null) totalQuantity = 0;
-        if (totalReserved == null) totalReserved = 0;
+    private void updateCentralInventory(Collection<String> productSkus) {
+        log.debug("🏛️  Atualizando central_inventory: produtos={}", productSkus);
         
-        log.debug("📊 Totais agregados: produto={}, total={}, reservado={}", productSku, totalQuantity, totalReserved);
+        // Bloquear os produtos antes de somar: a soma já inclui toda variação confirmada antes do bloqueio
+        centralInventoryRepository.lockTotals(productSkus);
         
-        // Buscar inventário central existente ou criar novo
-        Optional<CentralInventory> existingOpt = centralInventoryRepository.findByProductSku(productSku);
+        // Agregar dados de todas as lojas para estes produtos
+        Map<String, StockTotals> totals = storeInventoryRepository.sumQuantitiesByProductSkuIn(productSkus).stream()
+                .collect(Collectors.toMap(StockTotals::productSku, Function.identity()));
         
-        CentralInventory centralInventory;
-        if (existingOpt.isPresent()) {
-            centralInventory = existingOpt.get();
-            log.debug("📦 Central inventory encontrado: produto={}, total_atual={}", 
-                    productSku, centralInventory.getTotalQuantity());
-        } else {
-            // Criar novo registro
-            centralInventory = CentralInventory.create(productSku, "Product " + productSku);
-            log.debug("🆕 Criando novo central inventory: produto={}", productSku);
+        // Upsert dos totais consolidados, criando o inventário central se necessário
+        centralInventoryRepository.upsertTotals(productSkus.stream()
+                .map(productSku -> totals.getOrDefault(productSku, StockTotals.empty(productSku)))
+                .toList());
+    }
+    
+    /**
+     * Aplica as quantidades informadas no evento ao inventário da loja.
+     */
+    private void applyEvent(StoreInventory storeInventory, InventoryEvent event) {
+        storeInventory.setQuantity(event.getNewQuantity());
+        storeInventory.setReservedQuantity(event.getReservedQuantity() != null ? event.getReservedQuantity() : 0);
+        storeInventory.calculateAvailableQuantity();
+        storeInventory.setLastUpdated(LocalDateTime.now());
+        storeInventory.markAsSynchronized();
+        if (event.getSequence() != null) {
+            storeInventory.setLastSequence(event.getSequence());
         }
-        
-        // Atualizar com totais consolidados
-        centralInventory.setTotalQuantity(totalQuantity);
-        centralInventory.setTotalReservedQuantity(totalReserved);
-        centralInventory.calculateAvailableQuantity();
-        centralInventory.setLastUpdated(LocalDateTime.now());
-        
-        // Salvar
-        CentralInventory saved = centralInventoryRepository.save(centralInventory);
-        log.debug("💾 Central inventory salvo: produto={}, total={}, reservado={}, disponível={}", 
-                productSku, saved.getTotalQuantity(), saved.getTotalReservedQuantity(), saved.getAvailableQuantity());
     }
     
     /**
@@ -0,0 +1,121 @@
+package com.inventory.management.central.domain.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Contadores de geração do inventário, mantidos em memória.
+ * Cada alteração confirmada avança a geração global e as gerações da loja e
+ * do SKU afetados, permitindo responder a requisições condicionais sem
+ * consultar o banco de dados. Os tokens incluem o identificador da instância,
+ * para que contadores reiniciados não colidam com tokens antigos, e a janela
+ * de revalidação corrente, que limita por quanto tempo uma instância que não
+ * processou a alteração pode considerar um conteúdo inalterado.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class InventoryGenerationCounters {
+    
+    private static final String SEPARATOR = "-";
+    
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> storeGenerations = new ConcurrentHashMap<>();
+    private final Map<String, Long> skuGenerations = new ConcurrentHashMap<>();
+    private final long revalidationWindowMillis;
+    private final LongSupplier clock;
+    
+    @Autowired
+    public InventoryGenerationCounters(
+            @Value("${app.conditional-get.revalidation-window:PT30S}") Duration revalidationWindow) {
+        this(revalidationWindow, System::currentTimeMillis);
+    }
+    
+    InventoryGenerationCounters(Duration revalidationWindow, LongSupplier clock) {
+        this.revalidationWindowMillis = revalidationWindow.toMillis();
+        this.clock = clock;
+    }
+    
+    /**
+     * Avança as gerações da loja e do produto após o commit da transação
+     * corrente (ou imediatamente, fora de transação).
+     * 
+     * @param storeId identificador da loja
+     * @param productSku SKU do produto
+     */
+    public void advanceAfterCommit(String storeId, String productSku) {
+        afterCommit(() -> advance(storeId, productSku));
+    }
+    
+    /**
+     * Avança a geração do produto após o commit da transação corrente, para
+     * alterações do inventário central que não partem de uma loja específica.
+     * 
+     * @param productSku SKU do produto
+     */
+    public void advanceProductAfterCommit(String productSku) {
+        afterCommit(() -> skuGenerations.merge(productSku, sequence.incrementAndGet(), Math::max));
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    void advance(String storeId, String productSku) {
+        long generation = sequence.incrementAndGet();
+        storeGenerations.merge(storeId, generation, Math::max);
+        skuGenerations.merge(productSku, generation, Math::max);
+    }
+    
+    /**
+     * @return token da geração global, alterado por qualquer mudança
+     */
+    public String globalToken() {
+        return token(sequence.get());
+    }
+    
+    /**
+     * @param storeId identificador da loja
+     * @return token da geração da loja
+     */
+    public String storeToken(String storeId) {
+        return token(storeGenerations.getOrDefault(storeId, 0L));
+    }
+    
+    /**
+     * @param productSku SKU do produto
+     * @return token da geração do produto (consolidado entre as lojas)
+     */
+    public String skuToken(String productSku) {
+        return token(skuGenerations.getOrDefault(productSku, 0L));
+    }
+    
+    private String token(long generation) {
+        if (revalidationWindowMillis <= 0) {
+            return instanceId + SEPARATOR + generation;
+        }
+        return instanceId + SEPARATOR + (clock.getAsLong() / revalidationWindowMillis) + SEPARATOR + generation;
+    }
+}
@@ -0,0 +1,178 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Backpressure do consumo de eventos conforme a pressão sobre o banco.
+ *
+ * A cada verificação observa as threads aguardando conexão no pool do Hikari
+ * e a latência de uma sonda (obtenção de conexão + validação no banco). A sonda
+ * usa um pool próprio de uma conexão com connection-timeout igual ao
+ * probe-timeout-seconds, de modo que nunca espera pelo pool da aplicação. Acima
+ * dos limites de pausa, as partições de todos os containers Kafka são pausadas:
+ * o consumidor continua fazendo poll (sem registros) e permanece no grupo, de
+ * modo que a lentidão vira lag e não rebalanceamentos por
+ * {@code max.poll.interval.ms}. As partições só são retomadas quando ambos os
+ * sinais caem abaixo dos limites de retomada, que são menores que os de pausa
+ * para evitar oscilação. Banco indisponível também conta como pressão.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.consumer.backpressure", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+@Slf4j
+public class ConsumerBackpressureController {
+
+    private final KafkaListenerEndpointRegistry registry;
+    private final DataSource dataSource;
+    private final DataSource probeDataSource;
+    private final int pausePendingThreads;
+    private final int resumePendingThreads;
+    private final long pauseLatencyMs;
+    private final long resumeLatencyMs;
+    private final int probeTimeoutSeconds;
+
+    private volatile boolean paused;
+
+    @Autowired
+    public ConsumerBackpressureController(
+            KafkaListenerEndpointRegistry registry,
+            DataSource dataSource,
+            @Value("${app.kafka.consumer.backpressure.pause-pending-threads:3}") int pausePendingThreads,
+            @Value("${app.kafka.consumer.backpressure.resume-pending-threads:0}") int resumePendingThreads,
+            @Value("${app.kafka.consumer.backpressure.pause-latency-ms:500}") long pauseLatencyMs,
+            @Value("${app.kafka.consumer.backpressure.resume-latency-ms:100}") long resumeLatencyMs,
+            @Value("${app.kafka.consumer.backpressure.probe-timeout-seconds:2}") int probeTimeoutSeconds) {
+        this(registry, dataSource, probeDataSource(dataSource, probeTimeoutSeconds), pausePendingThreads,
+                resumePendingThreads, pauseLatencyMs, resumeLatencyMs, probeTimeoutSeconds);
+    }
+
+    ConsumerBackpressureController(KafkaListenerEndpointRegistry registry, DataSource dataSource,
+                                   DataSource probeDataSource, int pausePendingThreads, int resumePendingThreads,
+                                   long pauseLatencyMs, long resumeLatencyMs, int probeTimeoutSeconds) {
+        this.registry = registry;
+        this.dataSource = dataSource;
+        this.probeDataSource = probeDataSource;
+        this.pausePendingThreads = pausePendingThreads;
+        this.resumePendingThreads = resumePendingThreads;
+        this.pauseLatencyMs = pauseLatencyMs;
+        this.resumeLatencyMs = resumeLatencyMs;
+        this.probeTimeoutSeconds = probeTimeoutSeconds;
+    }
+
+    /**
+     * Avalia a pressão sobre o banco e pausa ou retoma os containers.
+     */
+    @Scheduled(fixedDelayString = "${app.kafka.consumer.backpressure.check-interval-ms:1000}")
+    public void evaluate() {
+        int pendingThreads = threadsAwaitingConnection();
+        // Com o pool saturado a sonda apenas esperaria por conexão: a pressão já está caracterizada
+        long latencyMs = pendingThreads >= pausePendingThreads ? Long.MAX_VALUE : probeLatencyMillis();
+
+        if (!paused && (pendingThreads >= pausePendingThreads || latencyMs >= pauseLatencyMs)) {
+            log.warn("🛑 Pressão no banco, pausando consumo: threadsAguardando={}, latência={}ms",
+                    pendingThreads, formatLatency(latencyMs));
+            registry.getListenerContainers().forEach(MessageListenerContainer::pause);
+            paused = true;
+        } else if (paused && pendingThreads <= resumePendingThreads && latencyMs <= resumeLatencyMs) {
+            log.info("▶️  Pressão no banco normalizada, retomando consumo: threadsAguardando={}, latência={}ms",
+                    pendingThreads, latencyMs);
+            registry.getListenerContainers().forEach(MessageListenerContainer::resume);
+            paused = false;
+        }
+    }
+
+    /**
+     * @return true se o consumo está pausado por pressão no banco
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * Fecha o pool da sonda.
+     */
+    @PreDestroy
+    public void close() {
+        if (probeDataSource != dataSource && probeDataSource instanceof HikariDataSource probePool) {
+            probePool.close();
+        }
+    }
+
+    /**
+     * Configuração do pool da sonda: as mesmas credenciais do pool da aplicação,
+     * uma única conexão e espera limitada ao timeout da sonda.
+     */
+    static HikariConfig probeConfig(HikariDataSource application, int probeTimeoutSeconds) {
+        long timeoutMs = Math.max(250L, probeTimeoutSeconds * 1000L);
+        HikariConfig config = new HikariConfig();
+        application.copyStateTo(config);
+        config.setPoolName(application.getPoolName() + "-backpressure-probe");
+        config.setMaximumPoolSize(1);
+        config.setMinimumIdle(0);
+        config.setConnectionTimeout(timeoutMs);
+        config.setValidationTimeout(Math.min(config.getValidationTimeout(), timeoutMs));
+        config.setInitializationFailTimeout(-1);
+        return config;
+    }
+
+    private static DataSource probeDataSource(DataSource dataSource, int probeTimeoutSeconds) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return new HikariDataSource(probeConfig(dataSource.unwrap(HikariDataSource.class),
+                        probeTimeoutSeconds));
+            }
+        } catch (SQLException e) {
+            log.debug("Pool de conexões não inspecionável: {}", e.getMessage());
+        }
+        log.warn("⚠️  DataSource sem Hikari, a sonda de latência usará o pool da aplicação");
+        return dataSource;
+    }
+
+    private int threadsAwaitingConnection() {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                return pool != null ? pool.getThreadsAwaitingConnection() : 0;
+            }
+        } catch (SQLException e) {
+            log.debug("Pool de conexões não inspecionável: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    private long probeLatencyMillis() {
+        long start = System.nanoTime();
+        try (Connection connection = probeDataSource.getConnection()) {
+            if (!connection.isValid(probeTimeoutSeconds)) {
+                return Long.MAX_VALUE;
+            }
+        } catch (SQLException e) {
+            log.warn("⚠️  Sonda de latência do banco falhou: {}", e.getMessage());
+            return Long.MAX_VALUE;
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static String formatLatency(long latencyMs) {
+        return latencyMs == Long.MAX_VALUE ? "n/d" : String.valueOf(latencyMs);
+    }
+}
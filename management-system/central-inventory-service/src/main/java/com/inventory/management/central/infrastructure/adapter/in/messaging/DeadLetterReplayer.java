@@ -0,0 +1,136 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.inventory.management.central.infrastructure.config.KafkaConfig;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reenvio dos eventos do DLT ao tópico de origem.
+ *
+ * Lê os DLTs do tópico principal e do prioritário com um grupo de consumo
+ * próprio ({@code <grupo>-dlt-replay}), de modo que cada evento é reenviado
+ * uma única vez, e publica o payload original (mesma chave, sem os cabeçalhos
+ * de retry) no tópico de origem do DLT, onde volta a
+ * percorrer as camadas de retry caso falhe de novo. O offset do grupo de replay
+ * só avança sobre eventos cuja publicação foi confirmada.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class DeadLetterReplayer {
+
+    private static final String REPLAY_GROUP_SUFFIX = "-dlt-replay";
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final RetryTopicMetrics retryTopicMetrics;
+    private final String mainTopic;
+    private final String priorityTopic;
+    private final String groupId;
+    private final Duration pollTimeout;
+
+    public DeadLetterReplayer(
+            ConsumerFactory<String, String> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate,
+            RetryTopicMetrics retryTopicMetrics,
+            @Value("${app.kafka.topics.inventory-update:inventory-update}") String mainTopic,
+            @Value("${app.kafka.topics.inventory-priority:inventory-update-priority}") String priorityTopic,
+            @Value("${spring.kafka.consumer.group-id}") String groupId,
+            @Value("${app.kafka.consumer.retry.replay-poll-timeout:PT2S}") Duration pollTimeout) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.retryTopicMetrics = retryTopicMetrics;
+        this.mainTopic = mainTopic;
+        this.priorityTopic = priorityTopic;
+        this.groupId = groupId;
+        this.pollTimeout = pollTimeout;
+    }
+
+    /**
+     * Reenvia ao tópico de origem os próximos eventos ainda não reenviados dos DLTs.
+     *
+     * @param limit quantidade máxima de eventos a reenviar
+     * @return quantidade de eventos reenviados
+     */
+    public int replay(int limit) {
+        Map<String, String> sourceTopics = Map.of(
+                mainTopic + KafkaConfig.DLT_SUFFIX, mainTopic,
+                priorityTopic + KafkaConfig.DLT_SUFFIX, priorityTopic);
+        log.info("🔁 Iniciando replay do DLT: topics={}, limit={}", sourceTopics.keySet(), limit);
+
+        int replayed = 0;
+        try (Consumer<String, String> consumer =
+                     consumerFactory.createConsumer(groupId + REPLAY_GROUP_SUFFIX, REPLAY_GROUP_SUFFIX)) {
+            List<TopicPartition> assignment = new ArrayList<>();
+            for (String deadLetterTopic : sourceTopics.keySet()) {
+                List<PartitionInfo> partitions = consumer.partitionsFor(deadLetterTopic);
+                if (partitions != null) {
+                    partitions.forEach(partition ->
+                            assignment.add(new TopicPartition(partition.topic(), partition.partition())));
+                }
+            }
+            if (assignment.isEmpty()) {
+                log.info("ℹ️  DLT inexistente ou sem partições: topics={}", sourceTopics.keySet());
+                return 0;
+            }
+            consumer.assign(assignment);
+
+            while (replayed < limit) {
+                ConsumerRecords<String, String> records = consumer.poll(pollTimeout);
+                if (records.isEmpty()) {
+                    break;
+                }
+                Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                try {
+                    for (ConsumerRecord<String, String> deadLetter : records) {
+                        if (replayed >= limit) {
+                            break;
+                        }
+                        kafkaTemplate.send(sourceTopics.get(deadLetter.topic()), deadLetter.key(), deadLetter.value())
+                                .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        offsets.put(new TopicPartition(deadLetter.topic(), deadLetter.partition()),
+                                new OffsetAndMetadata(deadLetter.offset() + 1));
+                        replayed++;
+                    }
+                } finally {
+                    if (!offsets.isEmpty()) {
+                        consumer.commitSync(offsets);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay do DLT interrompido", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Falha ao reenviar evento do DLT", e);
+        } finally {
+            retryTopicMetrics.recordReplayed(replayed);
+        }
+
+        log.info("✅ Replay do DLT concluído: {} eventos reenviados", replayed);
+        return replayed;
+    }
+}
@@ -0,0 +1,249 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.metrics.StoreQueueMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Consumidor Kafka em lote para eventos de inventário das lojas.
+ *
+ * Cada poll é decodificada por inteiro e dividida em filas por SKU: eventos
+ * do mesmo produto caem sempre na mesma fila e são aplicados na ordem do
+ * lote, enquanto filas distintas rodam em paralelo (threads virtuais), cada
+ * uma em sua própria transação
+ * ({@link InventoryEventProcessingService#processInventoryEventBatch}).
+ * Como as filas tocam produtos disjuntos, não disputam as mesmas linhas.
+ *
+ * Antes disso a poll é dividida em rodadas pelo {@link StoreFairScheduler}:
+ * eventos transacionais (RESERVE/COMMIT) primeiro e, em seguida, as demais
+ * alterações em round-robin ponderado entre lojas, para que a carga em massa
+ * de uma loja não atrase as demais dentro da poll. Entre polls, os eventos
+ * transacionais não esperam o backlog do tópico principal: as lojas os
+ * publicam no tópico prioritário, consumido por um container próprio
+ * ({@link #consumePriorityEventBatch}); a ordem em relação aos eventos do
+ * tópico principal é garantida pela sequência por loja e produto. A
+ * quantidade de eventos por loja observada na última poll do tópico principal
+ * é exportada por {@link StoreQueueMetrics}.
+ *
+ * O offset é confirmado uma vez por lote quando todas as filas concluem.
+ * Registros que não podem ser decodificados são descartados. Se a transação
+ * de uma fila falhar, seus eventos são reaplicados um a um para isolar o
+ * registro com problema; o menor índice com falha entre as filas é sinalizado
+ * ao error handler do container, que confirma o offset até o registro
+ * anterior e reprocessa a partir dele (os eventos trazem quantidades
+ * absolutas, então reaplicar registros já processados é idempotente).
+ * 
+ * Não inicia com o Kafka Streams habilitado ({@code app.kafka.streams.enabled=true}):
+ * a agregação passa a ser feita pela topologia.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.consumer.batch", name = "enabled", havingValue = "true")
+@Slf4j
+public class InventoryEventBatchKafkaConsumer {
+
+    private final InventoryEventProcessingService eventProcessingService;
+    private final ObjectMapper objectMapper;
+    private final Executor workerExecutor;
+    private final StoreFairScheduler scheduler;
+    private final StoreQueueMetrics storeQueueMetrics;
+    private final int workers;
+
+    public InventoryEventBatchKafkaConsumer(
+            InventoryEventProcessingService eventProcessingService,
+            ObjectMapper objectMapper,
+            @Qualifier("inventoryEventWorkerExecutor") Executor workerExecutor,
+            StoreFairScheduler scheduler,
+            StoreQueueMetrics storeQueueMetrics,
+            @Value("${app.kafka.consumer.batch.workers:8}") int workers) {
+        this.eventProcessingService = eventProcessingService;
+        this.objectMapper = objectMapper;
+        this.workerExecutor = workerExecutor;
+        this.scheduler = scheduler;
+        this.storeQueueMetrics = storeQueueMetrics;
+        this.workers = Math.max(1, workers);
+    }
+
+    /**
+     * Consome uma poll de eventos de inventário do tópico Kafka.
+     *
+     * @param records registros da poll, na ordem das partições
+     * @param acknowledgment acknowledgment para confirmação manual do lote
+     */
+    @KafkaListener(
+        topics = "${app.kafka.topics.inventory-update:inventory-update}",
+        groupId = "${app.kafka.consumer.group-id:central-inventory-group}",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "#{!${app.kafka.streams.enabled:false}}"
+    )
+    public void consumeInventoryEventBatch(List<ConsumerRecord<String, String>> records,
+                                           Acknowledgment acknowledgment) {
+        log.info("📥 Lote recebido: {} registros", records.size());
+        processBatch(records, acknowledgment, true);
+    }
+
+    /**
+     * Consome uma poll do tópico prioritário (RESERVE/COMMIT), em container
+     * próprio, sem esperar o backlog do tópico principal.
+     *
+     * @param records registros da poll, na ordem das partições
+     * @param acknowledgment acknowledgment para confirmação manual do lote
+     */
+    @KafkaListener(
+        topics = "${app.kafka.topics.inventory-priority:inventory-update-priority}",
+        groupId = "${app.kafka.consumer.group-id:central-inventory-group}",
+        containerFactory = "batchKafkaListenerContainerFactory",
+        autoStartup = "#{!${app.kafka.streams.enabled:false}}"
+    )
+    public void consumePriorityEventBatch(List<ConsumerRecord<String, String>> records,
+                                          Acknowledgment acknowledgment) {
+        log.info("⚡ Lote prioritário recebido: {} registros", records.size());
+        processBatch(records, acknowledgment, false);
+    }
+
+    /**
+     * Decodifica, escalona e aplica a poll, confirmando o offset ao final.
+     *
+     * @param reportDepths se a quantidade de eventos por loja da poll deve ser exportada
+     */
+    private void processBatch(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment,
+                              boolean reportDepths) {
+
+        List<DecodedEvent> decodedEvents = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            try {
+                InventoryEvent event = objectMapper.readValue(record.value(), InventoryEvent.class);
+                if (event == null) {
+                    throw new IllegalArgumentException("payload nulo");
+                }
+                decodedEvents.add(new DecodedEvent(i, event));
+            } catch (Exception e) {
+                log.error("❌ Registro descartado por erro na deserialização: partition={}, offset={}, erro={}",
+                        record.partition(), record.offset(), e.getMessage());
+            }
+        }
+
+        List<StoreFairScheduler.Round<DecodedEvent>> rounds = scheduler.schedule(decodedEvents, DecodedEvent::event);
+        if (reportDepths) {
+            // Mantido até a próxima poll, para que o scrape leia o backlog observado e não a fila já drenada
+            storeQueueMetrics.updateDepths(rounds.isEmpty() ? Map.of() : rounds.get(0).pendingByStore());
+        }
+        Optional<LaneFailure> failure = Optional.empty();
+        for (StoreFairScheduler.Round<DecodedEvent> round : rounds) {
+            Optional<LaneFailure> roundFailure = processRound(records, round.items());
+            if (roundFailure.isPresent()
+                    && (failure.isEmpty() || roundFailure.get().recordIndex() < failure.get().recordIndex())) {
+                failure = roundFailure;
+            }
+        }
+
+        if (failure.isPresent()) {
+            LaneFailure laneFailure = failure.get();
+            throw new BatchListenerFailedException("Falha no processamento do evento: " + laneFailure.eventId(),
+                    laneFailure.cause(), laneFailure.recordIndex());
+        }
+
+        log.info("✅ Lote processado com sucesso: {} registros em {} rodadas", records.size(), rounds.size());
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Divide os eventos de uma rodada em filas por SKU e as processa em paralelo.
+     *
+     * @return falha de menor índice entre as filas, se houver
+     */
+    private Optional<LaneFailure> processRound(List<ConsumerRecord<String, String>> records,
+                                               List<DecodedEvent> roundEvents) {
+        List<List<DecodedEvent>> lanes = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        roundEvents.forEach(decoded -> lanes.get(laneOf(decoded.event())).add(decoded));
+
+        List<List<DecodedEvent>> activeLanes = lanes.stream().filter(lane -> !lane.isEmpty()).toList();
+        if (activeLanes.size() <= 1) {
+            return activeLanes.isEmpty() ? Optional.empty() : processLane(records, activeLanes.get(0));
+        }
+        List<CompletableFuture<Optional<LaneFailure>>> results = activeLanes.stream()
+                .map(lane -> CompletableFuture.supplyAsync(() -> processLane(records, lane), workerExecutor))
+                .toList();
+        return results.stream()
+                .map(CompletableFuture::join)
+                .flatMap(Optional::stream)
+                .min(Comparator.comparingInt(LaneFailure::recordIndex));
+    }
+
+    /**
+     * Aplica os eventos de uma fila em uma transação; se ela falhar, reaplica
+     * os eventos um a um, cada um em sua própria transação, até o primeiro com falha.
+     *
+     * @return falha do primeiro registro que não pôde ser processado, se houver
+     */
+    private Optional<LaneFailure> processLane(List<ConsumerRecord<String, String>> records,
+                                              List<DecodedEvent> lane) {
+        try {
+            eventProcessingService.processInventoryEventBatch(lane.stream().map(DecodedEvent::event).toList());
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("⚠️  Falha no processamento do lote, reprocessando {} eventos individualmente: erro={}",
+                    lane.size(), e.getMessage());
+        }
+
+        for (DecodedEvent decoded : lane) {
+            InventoryEvent event = decoded.event();
+            try {
+                if (!eventProcessingService.processInventoryEvent(event)) {
+                    log.warn("⚠️  Evento inválido ignorado: eventId={}", event.getEventId());
+                }
+            } catch (Exception e) {
+                ConsumerRecord<String, String> record = records.get(decoded.recordIndex());
+                log.error("💀 Erro no processamento do evento: partition={}, offset={}, eventId={}, erro={}",
+                        record.partition(), record.offset(), event.getEventId(), e.getMessage(), e);
+                return Optional.of(new LaneFailure(decoded.recordIndex(), event.getEventId(), e));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Fila do evento: eventos do mesmo SKU caem sempre na mesma fila.
+     */
+    private int laneOf(InventoryEvent event) {
+        String productSku = event.getProductSku();
+        return productSku == null ? 0 : Math.floorMod(productSku.hashCode(), workers);
+    }
+
+    /**
+     * Evento decodificado e o índice do seu registro na poll.
+     */
+    private record DecodedEvent(int recordIndex, InventoryEvent event) {
+    }
+
+    /**
+     * Primeiro registro de uma fila que não pôde ser processado.
+     */
+    private record LaneFailure(int recordIndex, Object eventId, Exception cause) {
+    }
+}
@@ -4,15 +4,20 @@ import com.inventory.management.central.domain.model.InventoryEvent;
 import com.inventory.management.central.domain.service.InventoryEventProcessingService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.central.infrastructure.config.KafkaConfig;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
+import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -24,6 +29,19 @@ import java.time.LocalDateTime;
  * das lojas via Kafka e os processa em tempo real para
  * manter o inventário central sincronizado.
  * 
+ * Falhas não são repetidas na thread do consumidor: o mesmo listener recebe
+ * os tópicos de retry com atraso crescente e, esgotadas as tentativas, o
+ * evento chega ao DLT em {@link #handleDeadLetter}
+ * (ver {@link #consumeInventoryEvent}). A configuração de retry fica no
+ * próprio listener para não se aplicar ao listener em lote do mesmo tópico.
+ * 
+ * O tópico principal só é consumido aqui com o modo em lote desabilitado
+ * ({@code app.kafka.consumer.batch.enabled=false}); caso contrário os eventos
+ * são consumidos por {@link InventoryEventBatchKafkaConsumer}, que publica as
+ * falhas na primeira camada de retry, e apenas os containers de retry e DLT
+ * deste listener são iniciados ({@link RetryTopicContainerStarter}). Não
+ * inicia com o Kafka Streams habilitado ({@code app.kafka.streams.enabled=true}).
+ * 
  * @author Sistema de Gerenciamento de Inventário
  * @version 1.0.0
  * @since 1.0.0
@@ -33,37 +51,64 @@ import java.time.LocalDateTime;
 @Slf4j
 public class InventoryEventKafkaConsumer {
     
+    /**
+     * Id do listener do tópico principal; os containers de retry e DLT usam
+     * o mesmo id com o sufixo do tópico.
+     */
+    public static final String LISTENER_ID = "inventoryEventListener";
+    
     private final InventoryEventProcessingService eventProcessingService;
     private final ObjectMapper objectMapper;
+    private final RetryTopicMetrics retryTopicMetrics;
     
     /**
-     * Consome eventos de inventário do tópico Kafka.
+     * Consome eventos de inventário dos tópicos principal e prioritário e dos tópicos de retry.
+     * Um evento com falha é publicado no tópico de retry da próxima camada
+     * (atraso inicial multiplicado a cada camada, até o atraso máximo) e o
+     * offset é confirmado em seguida, de modo que a partição continua
+     * fluindo. Esgotadas as tentativas, ou quando a falha não se resolve com
+     * nova tentativa ({@code KafkaConfig.NON_RETRYABLE_EXCEPTIONS}), o evento
+     * vai para o DLT.
      * 
      * @param eventJson JSON do evento
+     * @param topic tópico de origem (principal ou camada de retry)
      * @param partition partição da mensagem
      * @param offset offset da mensagem
      * @param timestamp timestamp da mensagem
      * @param acknowledgment acknowledgment para confirmação manual
      */
+    @RetryableTopic(
+        attempts = "${app.kafka.consumer.retry.max-attempts:4}",
+        backoff = @Backoff(
+            delayExpression = "${app.kafka.consumer.retry.initial-delay-ms:1000}",
+            multiplierExpression = "${app.kafka.consumer.retry.multiplier:2.0}",
+            maxDelayExpression = "${app.kafka.consumer.retry.max-delay-ms:30000}"),
+        dltTopicSuffix = KafkaConfig.DLT_SUFFIX,
+        exclude = {EventDeserializationException.class, DeserializationException.class,
+                ValidationException.class, IllegalArgumentException.class},
+        traversingCauses = "true",
+        listenerContainerFactory = "kafkaListenerContainerFactory"
+    )
     @KafkaListener(
-        topics = "${app.kafka.topics.inventory-update:inventory-update}",
+        id = LISTENER_ID,
+        topics = {"${app.kafka.topics.inventory-update:inventory-update}",
+                "${app.kafka.topics.inventory-priority:inventory-update-priority}"},
         groupId = "${app.kafka.consumer.group-id:central-inventory-group}",
-        containerFactory = "kafkaListenerContainerFactory"
-    )
-    @Retryable(
-        retryFor = {Exception.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 1000, multiplier = 2.0)
+        containerFactory = "kafkaListenerContainerFactory",
+        autoStartup = "#{!${app.kafka.streams.enabled:false} && !${app.kafka.consumer.batch.enabled:false}}"
     )
     public void consumeInventoryEvent(
             @Payload String eventJson,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
             @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
             @Header(KafkaHeaders.OFFSET) long offset,
             @Header(KafkaHeaders.RECEIVED_TIMESTAMP) long timestamp,
             Acknowledgment acknowledgment) {
         
-        log.info("📥 Evento recebido: partition={}, offset={}, timestamp={}", 
-                partition, offset, LocalDateTime.now());
+        log.info("📥 Evento recebido: topic={}, partition={}, offset={}, timestamp={}", 
+                topic, partition, offset, LocalDateTime.now());
+        
+        retryTopicMetrics.recordDelivery(topic);
         
         try {
             // Deserializar evento
@@ -84,7 +129,7 @@ public class InventoryEventKafkaConsumer {
             } else {
                 log.error("❌ Falha no processamento do evento: eventId={}", event.getEventId());
                 
-                // Não fazer acknowledge - deixar para retry ou DLQ
+                // Não fazer acknowledge - encaminhar para o próximo tópico de retry ou DLT
                 throw new EventProcessingException(
                         "Falha no processamento do evento: " + event.getEventId());
             }
@@ -93,11 +138,37 @@ public class InventoryEventKafkaConsumer {
             log.error("💀 Erro crítico no consumo do evento: partition={}, offset={}, erro={}", 
                     partition, offset, e.getMessage(), e);
             
-            // Re-lançar para acionar retry ou enviar para DLQ
+            // Re-lançar para encaminhar ao próximo tópico de retry ou DLT
             throw new EventProcessingException("Erro crítico no processamento", e);
         }
     }
     
+    /**
+     * Recebe eventos que esgotaram as tentativas (ou não puderam ser deserializados).
+     * O evento permanece no DLT e pode ser reenviado ao tópico principal pelo
+     * endpoint administrativo de replay.
+     * 
+     * @param eventJson JSON do evento
+     * @param topic tópico DLT
+     * @param partition partição da mensagem
+     * @param offset offset da mensagem
+     * @param acknowledgment acknowledgment para confirmação manual
+     */
+    @DltHandler
+    public void handleDeadLetter(
+            @Payload String eventJson,
+            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            @Header(KafkaHeaders.OFFSET) long offset,
+            Acknowledgment acknowledgment) {
+        
+        log.error("☠️  Evento enviado ao DLT após esgotar as tentativas: topic={}, partition={}, offset={}, json={}", 
+                topic, partition, offset, eventJson);
+        
+        retryTopicMetrics.recordDelivery(topic);
+        acknowledgment.acknowledge();
+    }
+    
     /**
      * Deserializa o JSON do evento para objeto InventoryEvent.
      * 
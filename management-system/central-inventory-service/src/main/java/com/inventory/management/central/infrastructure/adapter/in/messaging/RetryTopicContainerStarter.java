@@ -0,0 +1,47 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inicia os containers de retry e DLT do {@link InventoryEventKafkaConsumer}
+ * no modo em lote.
+ *
+ * Os containers de retry herdam o autoStartup do listener principal, que fica
+ * parado no modo em lote (o tópico principal é consumido por
+ * {@link InventoryEventBatchKafkaConsumer}); as camadas de retry recebem as
+ * falhas do lote e precisam estar ativas.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnExpression("${app.kafka.consumer.batch.enabled:false} && !${app.kafka.streams.enabled:false}")
+@RequiredArgsConstructor
+@Slf4j
+public class RetryTopicContainerStarter {
+
+    private final KafkaListenerEndpointRegistry registry;
+
+    /**
+     * Inicia os containers cujo id é o do listener principal com sufixo de tópico.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRetryContainers() {
+        String prefix = InventoryEventKafkaConsumer.LISTENER_ID + "-";
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            String listenerId = container.getListenerId();
+            if (listenerId != null && listenerId.startsWith(prefix) && !container.isRunning()) {
+                container.start();
+                log.info("🔁 Container de retry iniciado no modo em lote: {}", listenerId);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.inventory.management.central.domain.model.InventoryEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Escalonamento justo entre lojas dos eventos de uma poll.
+ *
+ * Os eventos são divididos em rodadas processadas em sequência:
+ * <ol>
+ *   <li>Faixa prioritária: eventos transacionais (RESERVE/COMMIT) de todas as
+ *   lojas, para que sua atualização não espere cargas em massa de outra loja;</li>
+ *   <li>Demais eventos (UPDATE/RESTOCK etc.) em filas por loja, drenadas em
+ *   round-robin com déficit: a cada rodada cada loja contribui com até
+ *   {@code quantum × peso} eventos. Quando resta apenas uma loja com eventos,
+ *   o restante segue em uma única rodada.</li>
+ * </ol>
+ * A ordem entre eventos da mesma loja e produto é preservada: um evento
+ * transacional promove para a faixa prioritária os eventos anteriores do
+ * mesmo par (loja, produto), e as filas por loja são FIFO.
+ *
+ * O escalonamento só reordena dentro de uma poll; o backlog acumulado entre
+ * polls é isolado pelo tópico prioritário, no qual o serviço de loja publica
+ * RESERVE/COMMIT e que é consumido por um container próprio.
+ *
+ * Os pesos são configurados em {@code app.kafka.consumer.fair-scheduling.store-weights}
+ * no formato {@code LOJA:peso,LOJA:peso}; lojas não listadas têm peso 1.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class StoreFairScheduler {
+
+    private static final Set<InventoryEvent.EventType> PRIORITY_TYPES =
+            EnumSet.of(InventoryEvent.EventType.RESERVE, InventoryEvent.EventType.COMMIT);
+    private static final String NO_STORE = "";
+
+    private final int quantum;
+    private final Map<String, Integer> storeWeights;
+
+    public StoreFairScheduler(
+            @Value("${app.kafka.consumer.fair-scheduling.quantum:50}") int quantum,
+            @Value("${app.kafka.consumer.fair-scheduling.store-weights:}") String storeWeights) {
+        this.quantum = Math.max(1, quantum);
+        this.storeWeights = parseWeights(storeWeights);
+    }
+
+    /**
+     * Divide os itens de uma poll em rodadas.
+     *
+     * @param items itens na ordem da poll
+     * @param eventOf evento de cada item
+     * @param <T> tipo do item
+     * @return rodadas na ordem de processamento; itens de cada rodada na ordem da poll
+     */
+    public <T> List<Round<T>> schedule(List<T> items, Function<T, InventoryEvent> eventOf) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        // Último evento transacional de cada par (loja, produto)
+        Map<String, Integer> lastPriorityIndex = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            InventoryEvent event = eventOf.apply(items.get(i));
+            if (PRIORITY_TYPES.contains(event.getEventType())) {
+                lastPriorityIndex.put(chainKey(event), i);
+            }
+        }
+
+        List<Indexed<T>> priority = new ArrayList<>();
+        Map<String, Deque<Indexed<T>>> storeQueues = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            InventoryEvent event = eventOf.apply(items.get(i));
+            Indexed<T> item = new Indexed<>(i, items.get(i));
+            if (i <= lastPriorityIndex.getOrDefault(chainKey(event), -1)) {
+                priority.add(item);
+            } else {
+                storeQueues.computeIfAbsent(storeOf(event), store -> new ArrayDeque<>()).add(item);
+            }
+        }
+
+        List<Round<T>> rounds = new ArrayList<>();
+        if (!priority.isEmpty()) {
+            rounds.add(round(priority, pendingByStore(storeQueues, priority, eventOf)));
+        }
+        while (!storeQueues.isEmpty()) {
+            Map<String, Integer> pending = pendingByStore(storeQueues, List.of(), eventOf);
+            List<Indexed<T>> taken = new ArrayList<>();
+            boolean lastStore = storeQueues.size() == 1;
+            var queues = storeQueues.entrySet().iterator();
+            while (queues.hasNext()) {
+                var queue = queues.next();
+                int share = lastStore ? Integer.MAX_VALUE : quantum * weightOf(queue.getKey());
+                for (int n = 0; n < share && !queue.getValue().isEmpty(); n++) {
+                    taken.add(queue.getValue().poll());
+                }
+                if (queue.getValue().isEmpty()) {
+                    queues.remove();
+                }
+            }
+            rounds.add(round(taken, pending));
+        }
+        return rounds;
+    }
+
+    /**
+     * @param storeId identificador da loja
+     * @return peso da loja no escalonamento
+     */
+    public int weightOf(String storeId) {
+        return storeWeights.getOrDefault(storeId, 1);
+    }
+
+    private static <T> Round<T> round(List<Indexed<T>> taken, Map<String, Integer> pendingByStore) {
+        taken.sort(Comparator.comparingInt(Indexed::index));
+        return new Round<>(taken.stream().map(Indexed::item).toList(), pendingByStore);
+    }
+
+    /**
+     * Eventos ainda não processados por loja no início da rodada.
+     */
+    private static <T> Map<String, Integer> pendingByStore(Map<String, Deque<Indexed<T>>> storeQueues,
+                                                           List<Indexed<T>> extra,
+                                                           Function<T, InventoryEvent> eventOf) {
+        Map<String, Integer> pending = new LinkedHashMap<>();
+        storeQueues.forEach((store, queue) -> pending.put(store, queue.size()));
+        extra.forEach(item -> pending.merge(storeOf(eventOf.apply(item.item())), 1, Integer::sum));
+        return pending;
+    }
+
+    private static String chainKey(InventoryEvent event) {
+        return event.getProductSku() + "@" + storeOf(event);
+    }
+
+    private static String storeOf(InventoryEvent event) {
+        return event.getStoreId() != null ? event.getStoreId() : NO_STORE;
+    }
+
+    private static Map<String, Integer> parseWeights(String storeWeights) {
+        Map<String, Integer> weights = new HashMap<>();
+        if (storeWeights == null || storeWeights.isBlank()) {
+            return weights;
+        }
+        for (String entry : storeWeights.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Peso de loja inválido: " + entry);
+            }
+            weights.put(parts[0].trim(), Math.max(1, Integer.parseInt(parts[1].trim())));
+        }
+        return weights;
+    }
+
+    /**
+     * Rodada de processamento.
+     *
+     * @param items itens da rodada, na ordem da poll
+     * @param pendingByStore eventos ainda não processados por loja no início da rodada
+     * @param <T> tipo do item
+     */
+    public record Round<T>(List<T> items, Map<String, Integer> pendingByStore) {
+    }
+
+    private record Indexed<T>(int index, T item) {
+    }
+}
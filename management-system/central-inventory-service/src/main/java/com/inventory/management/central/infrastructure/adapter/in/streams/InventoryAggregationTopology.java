@@ -0,0 +1,159 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StockTotals;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.serializer.JsonSerde;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Topologia Kafka Streams da agregação do inventário central, alternativa ao
+ * processamento por evento com JPA ({@code app.kafka.streams.enabled=true}).
+ *
+ * <ol>
+ *   <li>Os eventos do tópico de inventário viram o último estado de cada par
+ *   (produto, loja), chaveado por {@code sku@loja} e mantido no state store
+ *   {@value #STORE_STATE_STORE}. Eventos com sequência igual ou anterior à já
+ *   aplicada são descartados, como no processamento JPA.</li>
+ *   <li>Os estados das lojas são agrupados por SKU em uma KTable de totais
+ *   ({@value #SKU_TOTALS_STORE}): cada mudança em uma loja subtrai o estado
+ *   anterior e soma o novo, sem reler as demais lojas.</li>
+ *   <li>As duas tabelas são publicadas nos tópicos de estado das lojas e de
+ *   totais, consumidos por {@link StreamsChangelogPostgresSink} para
+ *   atualizar o banco de forma assíncrona.</li>
+ * </ol>
+ * Os state stores são persistentes (RocksDB) e consultáveis por
+ * {@link StreamsInventoryTotalsView}.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.streams", name = "enabled", havingValue = "true")
+@Slf4j
+public class InventoryAggregationTopology {
+
+    /**
+     * State store do último estado por {@code sku@loja}.
+     */
+    public static final String STORE_STATE_STORE = "central-store-inventory-state";
+
+    /**
+     * State store dos totais por SKU.
+     */
+    public static final String SKU_TOTALS_STORE = "central-sku-totals";
+
+    private final ObjectMapper objectMapper;
+    private final String inventoryUpdateTopic;
+    private final String inventoryPriorityTopic;
+    private final String storeStateTopic;
+    private final String skuTotalsTopic;
+    private final Serde<StoreStockState> storeStateSerde;
+    private final Serde<StockTotals> totalsSerde;
+
+    public InventoryAggregationTopology(
+            ObjectMapper objectMapper,
+            @Value("${app.kafka.topics.inventory-update:inventory-update}") String inventoryUpdateTopic,
+            @Value("${app.kafka.topics.inventory-priority:inventory-update-priority}") String inventoryPriorityTopic,
+            @Value("${app.kafka.topics.store-state:central-inventory-store-state}") String storeStateTopic,
+            @Value("${app.kafka.topics.sku-totals:central-inventory-sku-totals}") String skuTotalsTopic) {
+        this.objectMapper = objectMapper;
+        this.inventoryUpdateTopic = inventoryUpdateTopic;
+        this.inventoryPriorityTopic = inventoryPriorityTopic;
+        this.storeStateTopic = storeStateTopic;
+        this.skuTotalsTopic = skuTotalsTopic;
+        this.storeStateSerde = jsonSerde(StoreStockState.class, objectMapper);
+        this.totalsSerde = jsonSerde(StockTotals.class, objectMapper);
+    }
+
+    /**
+     * Registra a topologia no builder.
+     *
+     * @param builder builder do Kafka Streams
+     * @return stream de eventos de entrada
+     */
+    public KStream<String, String> build(StreamsBuilder builder) {
+        KStream<String, String> events = builder.stream(List.of(inventoryUpdateTopic, inventoryPriorityTopic),
+                Consumed.with(Serdes.String(), Serdes.String()));
+
+        // 1. Último estado por (produto, loja), respeitando a sequência da loja
+        KTable<String, StoreStockState> storeStates = events
+                .flatMapValues(this::parse)
+                .map((key, event) -> KeyValue.pair(
+                        event.getProductSku() + "@" + event.getStoreId(), StoreStockState.from(event)))
+                .groupByKey(Grouped.with("store-state", Serdes.String(), storeStateSerde))
+                .reduce((current, incoming) -> incoming.supersedes(current) ? incoming : current,
+                        Materialized.<String, StoreStockState, KeyValueStore<Bytes, byte[]>>as(STORE_STATE_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(storeStateSerde));
+
+        // 2. Totais por SKU: a KTable entrega o estado anterior ao subtrator e o novo ao somador
+        KTable<String, StockTotals> totals = storeStates
+                .groupBy((key, state) -> KeyValue.pair(state.productSku(), state),
+                        Grouped.with("sku-totals", Serdes.String(), storeStateSerde))
+                .aggregate(() -> new StockTotals(null, 0, 0),
+                        (productSku, state, aggregate) -> new StockTotals(productSku,
+                                aggregate.quantity() + state.quantity(),
+                                aggregate.reservedQuantity() + state.reservedQuantity()),
+                        (productSku, state, aggregate) -> new StockTotals(productSku,
+                                aggregate.quantity() - state.quantity(),
+                                aggregate.reservedQuantity() - state.reservedQuantity()),
+                        Materialized.<String, StockTotals, KeyValueStore<Bytes, byte[]>>as(SKU_TOTALS_STORE)
+                                .withKeySerde(Serdes.String())
+                                .withValueSerde(totalsSerde));
+
+        // 3. Publicação para a atualização assíncrona do banco
+        storeStates.toStream().to(storeStateTopic, Produced.with(Serdes.String(), storeStateSerde));
+        totals.toStream().to(skuTotalsTopic, Produced.with(Serdes.String(), totalsSerde));
+
+        log.info("🌊 Topologia Kafka Streams registrada: entrada={}, prioritário={}, estadoLojas={}, totais={}",
+                inventoryUpdateTopic, inventoryPriorityTopic, storeStateTopic, skuTotalsTopic);
+        return events;
+    }
+
+    /**
+     * Eventos ilegíveis ou inválidos são descartados (não há DLT na topologia).
+     */
+    private List<InventoryEvent> parse(String eventJson) {
+        try {
+            InventoryEvent event = objectMapper.readValue(eventJson, InventoryEvent.class);
+            if (isValid(event)) {
+                return List.of(event);
+            }
+            log.warn("⚠️  Evento inválido ignorado pela topologia: eventId={}", event.getEventId());
+        } catch (Exception e) {
+            log.error("❌ Erro na deserialização do evento na topologia: json={}, erro={}", eventJson, e.getMessage());
+        }
+        return List.of();
+    }
+
+    private static boolean isValid(InventoryEvent event) {
+        return event != null
+                && event.getProductSku() != null && !event.getProductSku().isBlank()
+                && event.getStoreId() != null && !event.getStoreId().isBlank()
+                && event.getEventType() != null
+                && event.getNewQuantity() != null && event.getNewQuantity() >= 0;
+    }
+
+    static <T> Serde<T> jsonSerde(Class<T> type, ObjectMapper objectMapper) {
+        return new JsonSerde<>(type, objectMapper).noTypeInfo().ignoreTypeHeaders();
+    }
+}
@@ -0,0 +1,57 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StoreInventory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Último estado conhecido do estoque de um produto em uma loja, mantido no
+ * state store do Kafka Streams e publicado no tópico de estado das lojas.
+ *
+ * @param productSku SKU do produto
+ * @param storeId identificador da loja
+ * @param quantity quantidade na loja
+ * @param reservedQuantity quantidade reservada na loja
+ * @param sequence sequência do último evento aplicado (null se a loja não informa)
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record StoreStockState(String productSku, String storeId, int quantity, int reservedQuantity, Long sequence) {
+
+    /**
+     * @param event evento de inventário válido
+     * @return estado da loja após o evento
+     */
+    public static StoreStockState from(InventoryEvent event) {
+        return new StoreStockState(event.getProductSku(), event.getStoreId(), event.getNewQuantity(),
+                event.getReservedQuantity() != null ? event.getReservedQuantity() : 0, event.getSequence());
+    }
+
+    /**
+     * Mesma regra de {@link StoreInventory#acceptsSequence}: sem sequência em
+     * qualquer dos lados, o estado mais recente na ordem do tópico prevalece.
+     *
+     * @param current estado atual (pode ser null)
+     * @return true se este estado deve substituir o atual
+     */
+    public boolean supersedes(StoreStockState current) {
+        return current == null || sequence == null || current.sequence() == null || sequence > current.sequence();
+    }
+
+    /**
+     * @return inventário da loja correspondente, para persistência
+     */
+    public StoreInventory toStoreInventory() {
+        StoreInventory storeInventory = StoreInventory.create(productSku, storeId, "Store " + storeId);
+        storeInventory.setQuantity(quantity);
+        storeInventory.setReservedQuantity(reservedQuantity);
+        storeInventory.calculateAvailableQuantity();
+        storeInventory.setLastUpdated(LocalDateTime.now());
+        storeInventory.markAsSynchronized();
+        storeInventory.setLastSequence(sequence);
+        return storeInventory;
+    }
+}
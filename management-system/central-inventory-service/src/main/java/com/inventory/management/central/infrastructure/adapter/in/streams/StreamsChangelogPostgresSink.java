@@ -0,0 +1,115 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import com.inventory.management.central.domain.service.InventoryGenerationCounters;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atualização assíncrona do banco a partir dos tópicos publicados pela
+ * {@link InventoryAggregationTopology}.
+ *
+ * Cada poll vira um único upsert por tabela: apenas o último valor de cada
+ * chave no lote é gravado (os tópicos carregam estado, não variações) e o
+ * upsert de store_inventory mantém a guarda de sequência, de modo que
+ * reentregas são inofensivas. As gerações das ETags e o cache de leitura são
+ * atualizados após a gravação.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.streams", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StreamsChangelogPostgresSink {
+
+    private final StoreInventoryRepository storeInventoryRepository;
+    private final CentralInventoryRepository centralInventoryRepository;
+    private final InventoryGenerationCounters generationCounters;
+    private final CentralInventoryReadCache readCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Grava em store_inventory o último estado de cada (produto, loja) do lote.
+     *
+     * @param records registros do tópico de estado das lojas
+     * @param acknowledgment acknowledgment para confirmação manual do lote
+     */
+    @KafkaListener(
+        topics = "${app.kafka.topics.store-state:central-inventory-store-state}",
+        groupId = "${app.kafka.consumer.group-id:central-inventory-group}-streams-sink",
+        containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void consumeStoreStates(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        Map<String, StoreInventory> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.value() != null) {
+                latest.put(record.key(), read(record.value(), StoreStockState.class).toStoreInventory());
+            }
+        }
+        if (!latest.isEmpty()) {
+            int written = storeInventoryRepository.upsertAll(latest.values()).size();
+            readCache.refreshAfterCommit(latest.values().stream()
+                    .map(StoreInventory::getProductSku)
+                    .distinct()
+                    .toList());
+            latest.values().forEach(storeInventory -> generationCounters.advanceAfterCommit(
+                    storeInventory.getStoreId(), storeInventory.getProductSku()));
+            log.debug("💾 Estado das lojas gravado a partir do Kafka Streams: recebidos={}, gravados={}",
+                    records.size(), written);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Grava em central_inventory o último total de cada SKU do lote.
+     *
+     * @param records registros do tópico de totais
+     * @param acknowledgment acknowledgment para confirmação manual do lote
+     */
+    @KafkaListener(
+        topics = "${app.kafka.topics.sku-totals:central-inventory-sku-totals}",
+        groupId = "${app.kafka.consumer.group-id:central-inventory-group}-streams-sink",
+        containerFactory = "batchKafkaListenerContainerFactory"
+    )
+    public void consumeSkuTotals(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
+        Map<String, StockTotals> latest = new LinkedHashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            if (record.value() != null) {
+                latest.put(record.key(), read(record.value(), StockTotals.class));
+            }
+        }
+        if (!latest.isEmpty()) {
+            centralInventoryRepository.upsertTotals(latest.values());
+            readCache.refreshAfterCommit(latest.keySet());
+            latest.keySet().forEach(generationCounters::advanceProductAfterCommit);
+            log.debug("🏛️  Totais centrais gravados a partir do Kafka Streams: {} produtos", latest.size());
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Registro do Kafka Streams ilegível: " + json, e);
+        }
+    }
+}
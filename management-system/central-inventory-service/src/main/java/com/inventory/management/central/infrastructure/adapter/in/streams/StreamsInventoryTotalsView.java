@@ -0,0 +1,53 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.port.InventoryTotalsView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StoreQueryParameters;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.QueryableStoreTypes;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Totais por SKU lidos do state store local da topologia (interactive query).
+ *
+ * Só responde pelas partições atribuídas a esta instância e enquanto o
+ * Kafka Streams está em execução; fora disso (inicialização, rebalanceamento
+ * ou SKU de outra instância) retorna vazio e a consulta usa o inventário
+ * central persistido, atualizado de forma assíncrona pelo changelog.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.kafka.streams", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class StreamsInventoryTotalsView implements InventoryTotalsView {
+
+    private final StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    @Override
+    public Optional<StockTotals> findTotals(String productSku) {
+        KafkaStreams kafkaStreams = streamsBuilderFactoryBean.getKafkaStreams();
+        if (kafkaStreams == null || kafkaStreams.state() != KafkaStreams.State.RUNNING) {
+            return Optional.empty();
+        }
+        try {
+            ReadOnlyKeyValueStore<String, StockTotals> store = kafkaStreams.store(StoreQueryParameters.fromNameAndType(
+                    InventoryAggregationTopology.SKU_TOTALS_STORE, QueryableStoreTypes.keyValueStore()));
+            return Optional.ofNullable(store.get(productSku));
+        } catch (InvalidStateStoreException e) {
+            log.debug("State store de totais indisponível: productSku={}, erro={}", productSku, e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -3,7 +3,10 @@ package com.inventory.management.central.infrastructure.adapter.in.web;
 import com.inventory.management.central.application.usecase.GetCentralInventoryUseCase;
 import com.inventory.management.central.application.usecase.GetStoreInventoryUseCase;
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.InventoryPage;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.service.InventoryGenerationCounters;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,17 +14,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
  * Controlador REST para APIs centralizadas de inventário.
  * 
  * Este controlador fornece endpoints para consulta consolidada
- * do inventário de todas as lojas do sistema.
+ * do inventário de todas as lojas do sistema. As consultas mais
+ * frequentes retornam ETag e respondem 304 a requisições com
+ * If-None-Match sem acessar o banco de dados. As listagens paginadas
+ * aceitam o parâmetro fields, que restringe os campos lidos do banco e
+ * serializados na resposta, e todas as respostas podem ser negociadas em
+ * JSON, CBOR ou Smile pelo cabeçalho Accept.
  * 
  * @author Sistema de Gerenciamento de Inventário
  * @version 1.0.0
@@ -34,8 +45,11 @@ import java.util.Optional;
 @Tag(name = "Central Inventory", description = "APIs para inventário consolidado")
 public class CentralInventoryController {
     
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
     private final GetCentralInventoryUseCase getCentralInventoryUseCase;
     private final GetStoreInventoryUseCase getStoreInventoryUseCase;
+    private final InventoryGenerationCounters generationCounters;
     
     /**
      * Busca inventário central por SKU.
@@ -45,39 +59,121 @@ public class CentralInventoryController {
                description = "Retorna o inventário consolidado de um produto específico")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "Inventário encontrado"),
+        @ApiResponse(responseCode = "304", description = "Inventário não alterado"),
         @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
         @ApiResponse(responseCode = "400", description = "SKU inválido")
     })
     public ResponseEntity<CentralInventory> getProductInventory(
             @Parameter(description = "SKU do produto", required = true)
-            @PathVariable String productSku) {
+            @PathVariable String productSku,
+            @Parameter(description = "ETag obtido na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
         log.info("🔍 Consultando inventário central: productSku={}", productSku);
         
+        String eTag = EntityTagSupport.toETag(generationCounters.skuToken(productSku));
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        
         Optional<CentralInventory> inventory = getCentralInventoryUseCase.getByProductSku(productSku);
         
-        return inventory.map(ResponseEntity::ok)
+        return inventory.map(found -> ResponseEntity.ok().eTag(eTag).body(found))
                        .orElse(ResponseEntity.notFound().build());
     }
     
     /**
-     * Lista todos os produtos com inventário.
+     * Lista todos os produtos com inventário, paginados por SKU.
+     * O token da próxima página é retornado no cabeçalho X-Next-Cursor.
      */
     @GetMapping("/products")
     @Operation(summary = "Listar todos os produtos", 
-               description = "Retorna lista de todos os produtos com inventário consolidado")
-    @ApiResponse(responseCode = "200", description = "Lista de produtos retornada")
+               description = "Retorna uma página de produtos com inventário consolidado, ordenada por SKU. " +
+                             "O cabeçalho X-Next-Cursor traz o cursor da próxima página")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de produtos retornada"),
+        @ApiResponse(responseCode = "304", description = "Página não alterada"),
+        @ApiResponse(responseCode = "400", description = "Cursor inválido")
+    })
     public ResponseEntity<List<CentralInventory>> getAllProducts(
             @Parameter(description = "Incluir apenas produtos ativos")
-            @RequestParam(defaultValue = "true") boolean activeOnly) {
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @Parameter(description = "Tamanho máximo da página")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor de continuação retornado na página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "ETag obtido na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.info("📋 Listando produtos: activeOnly={}, limit={}, cursor={}", activeOnly, limit, cursor);
+        
+        String afterSku;
+        try {
+            afterSku = ContinuationTokenSupport.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️  {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
         
-        log.info("📋 Listando produtos: activeOnly={}", activeOnly);
+        String eTag = EntityTagSupport.toETag(generationCounters.globalToken());
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         
-        List<CentralInventory> inventories = activeOnly 
-                ? getCentralInventoryUseCase.getActiveProducts()
-                : getCentralInventoryUseCase.getAllInventories();
+        InventoryPage<CentralInventory> page = 
+                getCentralInventoryUseCase.getInventoriesPage(activeOnly, afterSku, limit);
         
-        return ResponseEntity.ok(inventories);
+        return withNextCursor(page, eTag);
+    }
+    
+    /**
+     * Lista todos os produtos com inventário, paginados por SKU, contendo
+     * apenas os campos informados em fields (o SKU é sempre incluído).
+     */
+    @GetMapping(value = "/products", params = "fields")
+    @Operation(summary = "Listar campos selecionados dos produtos", 
+               description = "Retorna uma página de produtos apenas com os campos informados em fields " +
+                             "(separados por vírgula), ordenada por SKU. " +
+                             "O cabeçalho X-Next-Cursor traz o cursor da próxima página")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de produtos retornada"),
+        @ApiResponse(responseCode = "304", description = "Página não alterada"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou campos inválidos")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getAllProductFields(
+            @Parameter(description = "Incluir apenas produtos ativos")
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @Parameter(description = "Tamanho máximo da página")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor de continuação retornado na página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos a retornar, separados por vírgula", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "ETag obtido na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.info("📋 Listando campos de produtos: activeOnly={}, limit={}, cursor={}, fields={}", 
+                activeOnly, limit, cursor, fields);
+        
+        String afterSku;
+        FieldSelection selection;
+        try {
+            afterSku = ContinuationTokenSupport.decode(cursor);
+            selection = requireSelection(fields, CentralInventory.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️  {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        String eTag = EntityTagSupport.toETag(generationCounters.globalToken() + "-" + selection.fingerprint());
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        
+        InventoryPage<Map<String, Object>> page = 
+                getCentralInventoryUseCase.getInventoryFieldsPage(activeOnly, afterSku, limit, selection);
+        
+        return withNextCursor(page, eTag);
     }
     
     /**
@@ -212,28 +308,102 @@ public class CentralInventoryController {
     }
     
     /**
-     * Lista inventário de uma loja específica.
+     * Lista inventário de uma loja específica, paginado por SKU.
+     * O token da próxima página é retornado no cabeçalho X-Next-Cursor.
      */
     @GetMapping("/stores/{storeId}/products")
     @Operation(summary = "Listar inventário da loja", 
-               description = "Retorna todos os produtos de uma loja específica")
+               description = "Retorna uma página de produtos de uma loja específica, ordenada por SKU. " +
+                             "O cabeçalho X-Next-Cursor traz o cursor da próxima página")
     @ApiResponses({
-        @ApiResponse(responseCode = "200", description = "Lista de produtos da loja"),
-        @ApiResponse(responseCode = "400", description = "ID da loja inválido")
+        @ApiResponse(responseCode = "200", description = "Página de produtos da loja"),
+        @ApiResponse(responseCode = "304", description = "Página não alterada"),
+        @ApiResponse(responseCode = "400", description = "ID da loja ou cursor inválido")
     })
     public ResponseEntity<List<StoreInventory>> getStoreInventory(
             @Parameter(description = "ID da loja", required = true)
             @PathVariable String storeId,
             @Parameter(description = "Incluir apenas produtos com estoque")
-            @RequestParam(defaultValue = "false") boolean withStockOnly) {
+            @RequestParam(defaultValue = "false") boolean withStockOnly,
+            @Parameter(description = "Tamanho máximo da página")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor de continuação retornado na página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "ETag obtido na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.info("🏪 Listando inventário da loja: storeId={}, withStockOnly={}, limit={}, cursor={}", 
+                storeId, withStockOnly, limit, cursor);
+        
+        String afterSku;
+        try {
+            afterSku = ContinuationTokenSupport.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️  {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+        
+        String eTag = EntityTagSupport.toETag(generationCounters.storeToken(storeId));
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        
+        InventoryPage<StoreInventory> page = 
+                getStoreInventoryUseCase.getInventoryByStorePage(storeId, withStockOnly, afterSku, limit);
+        
+        return withNextCursor(page, eTag);
+    }
+    
+    /**
+     * Lista inventário de uma loja específica, paginado por SKU, contendo
+     * apenas os campos informados em fields (o SKU é sempre incluído).
+     */
+    @GetMapping(value = "/stores/{storeId}/products", params = "fields")
+    @Operation(summary = "Listar campos selecionados do inventário da loja", 
+               description = "Retorna uma página de produtos da loja apenas com os campos informados em fields " +
+                             "(separados por vírgula), ordenada por SKU. " +
+                             "O cabeçalho X-Next-Cursor traz o cursor da próxima página")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Página de produtos da loja"),
+        @ApiResponse(responseCode = "304", description = "Página não alterada"),
+        @ApiResponse(responseCode = "400", description = "ID da loja, cursor ou campos inválidos")
+    })
+    public ResponseEntity<List<Map<String, Object>>> getStoreInventoryFields(
+            @Parameter(description = "ID da loja", required = true)
+            @PathVariable String storeId,
+            @Parameter(description = "Incluir apenas produtos com estoque")
+            @RequestParam(defaultValue = "false") boolean withStockOnly,
+            @Parameter(description = "Tamanho máximo da página")
+            @RequestParam(required = false) Integer limit,
+            @Parameter(description = "Cursor de continuação retornado na página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos a retornar, separados por vírgula", required = true)
+            @RequestParam String fields,
+            @Parameter(description = "ETag obtido na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        
+        log.info("🏪 Listando campos do inventário da loja: storeId={}, withStockOnly={}, limit={}, cursor={}, fields={}", 
+                storeId, withStockOnly, limit, cursor, fields);
+        
+        String afterSku;
+        FieldSelection selection;
+        try {
+            afterSku = ContinuationTokenSupport.decode(cursor);
+            selection = requireSelection(fields, StoreInventory.FIELDS);
+        } catch (IllegalArgumentException e) {
+            log.warn("⚠️  {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
         
-        log.info("🏪 Listando inventário da loja: storeId={}, withStockOnly={}", storeId, withStockOnly);
+        String eTag = EntityTagSupport.toETag(generationCounters.storeToken(storeId) + "-" + selection.fingerprint());
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         
-        List<StoreInventory> inventories = withStockOnly
-                ? getStoreInventoryUseCase.getStoreProductsWithStock(storeId)
-                : getStoreInventoryUseCase.getInventoryByStore(storeId);
+        InventoryPage<Map<String, Object>> page = getStoreInventoryUseCase.getInventoryFieldsByStorePage(
+                storeId, withStockOnly, afterSku, limit, selection);
         
-        return ResponseEntity.ok(inventories);
+        return withNextCursor(page, eTag);
     }
     
     /**
@@ -258,6 +428,27 @@ public class CentralInventoryController {
         return ResponseEntity.ok(stats);
     }
     
+    private static FieldSelection requireSelection(String fields, List<String> available) {
+        FieldSelection selection = FieldSelection.parse(fields, available);
+        if (selection == null) {
+            throw new IllegalArgumentException("Parâmetro fields vazio");
+        }
+        return selection;
+    }
+    
+    private <T> ResponseEntity<List<T>> withNextCursor(InventoryPage<T> page, String eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT);
+        if (page.hasNext()) {
+            builder.header(NEXT_CURSOR_HEADER, ContinuationTokenSupport.encode(page.nextAfterSku()));
+        }
+        return builder.body(page.items());
+    }
+    
+    private <T> ResponseEntity<T> notModified(String eTag) {
+        log.debug("♻️  Conteúdo não alterado, respondendo 304: eTag={}", eTag);
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+    }
+    
     /**
      * Response para verificação de disponibilidade de estoque.
      */
@@ -0,0 +1,57 @@
+package com.inventory.management.central.infrastructure.adapter.in.web;
+
+/**
+ * Utilitário para entity tags das consultas condicionais (If-None-Match).
+ * Os tokens de geração do inventário são expostos como entity tags fortes.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EntityTagSupport {
+    
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+    
+    private EntityTagSupport() {
+        // Utility class
+    }
+    
+    /**
+     * Converte o token de geração em entity tag forte.
+     * 
+     * @param token token de geração
+     * @return entity tag entre aspas
+     */
+    public static String toETag(String token) {
+        return "\"" + token + "\"";
+    }
+    
+    /**
+     * Verifica se o cabeçalho If-None-Match corresponde à entity tag atual.
+     * Aceita listas separadas por vírgula, o curinga e tags fracas
+     * (comparação fraca, conforme a RFC 9110 para If-None-Match).
+     * 
+     * @param ifNoneMatch valor do cabeçalho (pode ser nulo)
+     * @param eTag entity tag atual
+     * @return true se o conteúdo do cliente ainda é o atual
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (WILDCARD.equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
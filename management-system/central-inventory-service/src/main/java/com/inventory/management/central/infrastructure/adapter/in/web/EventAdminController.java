@@ -3,6 +3,8 @@ package com.inventory.management.central.infrastructure.adapter.in.web;
 import com.inventory.management.central.domain.model.InventoryEvent;
 import com.inventory.management.central.domain.port.InventoryEventRepository;
 import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.adapter.in.messaging.DeadLetterReplayer;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -40,6 +42,8 @@ public class EventAdminController {
     
     private final InventoryEventRepository eventRepository;
     private final InventoryEventProcessingService eventProcessingService;
+    private final DeadLetterReplayer deadLetterReplayer;
+    private final RetryTopicMetrics retryTopicMetrics;
     
     /**
      * Lista todos os eventos de inventário.
@@ -192,6 +196,49 @@ public class EventAdminController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Reenvia eventos do DLT ao tópico principal.
+     */
+    @PostMapping("/dead-letter/replay")
+    @Operation(summary = "Reenviar eventos do DLT", 
+               description = "Reenvia ao tópico principal os eventos do DLT ainda não reenviados")
+    @ApiResponse(responseCode = "200", description = "Replay concluído")
+    public ResponseEntity<Map<String, Object>> replayDeadLetters(
+            @Parameter(description = "Quantidade máxima de eventos a reenviar (padrão: 100)")
+            @RequestParam(defaultValue = "100") Integer limit) {
+        
+        log.info("🔁 Iniciando replay do DLT: limit={}", limit);
+        
+        int replayedCount = deadLetterReplayer.replay(limit);
+        
+        Map<String, Object> response = Map.of(
+                "message", "Replay concluído",
+                "replayedCount", replayedCount,
+                TIMESTAMP_KEY, LocalDateTime.now()
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Entregas por camada de retry.
+     */
+    @GetMapping("/retry-stats")
+    @Operation(summary = "Estatísticas de retry", 
+               description = "Retorna as entregas acumuladas por tópico de retry e DLT")
+    @ApiResponse(responseCode = "200", description = "Estatísticas retornadas")
+    public ResponseEntity<Map<String, Object>> getRetryStats() {
+        
+        log.info("📊 Consultando estatísticas de retry");
+        
+        Map<String, Object> stats = Map.of(
+                "deliveriesByTier", retryTopicMetrics.deliveriesByTier(),
+                TIMESTAMP_KEY, LocalDateTime.now()
+        );
+        
+        return ResponseEntity.ok(stats);
+    }
+    
     /**
      * Estatísticas de eventos.
      */
@@ -0,0 +1,31 @@
+package com.inventory.management.central.infrastructure.adapter.in.web;
+
+/**
+ * Utilitário para resolver o tamanho de página das listagens paginadas
+ * a partir do limite solicitado pelo cliente.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class PageSizeSupport {
+    
+    private PageSizeSupport() {
+        // Utility class
+    }
+    
+    /**
+     * Resolve o tamanho efetivo da página.
+     * 
+     * @param limit tamanho solicitado (null ou não positivo para o padrão)
+     * @param defaultPageSize tamanho padrão da página
+     * @param maxPageSize tamanho máximo permitido
+     * @return tamanho da página limitado ao máximo configurado
+     */
+    public static int resolve(Integer limit, int defaultPageSize, int maxPageSize) {
+        if (limit == null || limit <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(limit, maxPageSize);
+    }
+}
@@ -0,0 +1,385 @@
+package com.inventory.management.central.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cache de leitura do inventário por SKU em dois níveis: Caffeine em memória
+ * (L1) na frente de um hash Redis por SKU (L2), compartilhado entre as instâncias.
+ *
+ * Cada SKU guarda duas partes versionadas: o inventário central (versão da
+ * linha em central_inventory) e a lista das lojas (geração do produto em
+ * store_inventory_generation, incrementada a cada gravação ou remoção de loja
+ * e lida antes do conteúdo, de modo que uma lista nunca carrega uma versão
+ * mais nova que os dados que contém). Após cada alteração confirmada o
+ * processamento de eventos recarrega os SKUs afetados do banco e grava as duas
+ * camadas; no Redis a gravação é um script que só substitui uma parte por
+ * outra de versão maior, de modo que instâncias (ou leituras concorrentes) com
+ * dados mais antigos não sobrescrevem os mais novos. As demais instâncias
+ * descartam seu L1 pelo canal de invalidação e releem do Redis.
+ *
+ * Falhas do Redis (protegido pelo circuit breaker {@code redis}) degradam para
+ * o banco de dados sem interromper a leitura. O TTL do L1 limita a
+ * defasagem de uma instância que perca uma invalidação.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class CentralInventoryTwoTierCache implements CentralInventoryReadCache {
+
+    private static final String KEY_SEPARATOR = "|";
+    private static final String CENTRAL_FIELD = "central";
+    private static final String CENTRAL_VERSION_FIELD = "central-version";
+    private static final String STORES_FIELD = "stores";
+    private static final String STORES_VERSION_FIELD = "stores-version";
+    private static final String ABSENT = "";
+    private static final TypeReference<List<StoreInventory>> STORE_LIST = new TypeReference<>() { };
+
+    /**
+     * Para cada chave (ARGV a partir de 2, quatro valores por chave: central,
+     * versão, lojas, versão), grava cada parte informada apenas se a versão
+     * for maior que a armazenada. ARGV[1] é o TTL do hash em milissegundos.
+     */
+    static final RedisScript<Long> WRITE_IF_NEWER_SCRIPT = new DefaultRedisScript<>(
+            "local written = 0\n" +
+            "for i, key in ipairs(KEYS) do\n" +
+            "  local base = (i - 1) * 4 + 1\n" +
+            "  local touched = false\n" +
+            "  for part = 0, 1 do\n" +
+            "    local value = ARGV[base + part * 2 + 1]\n" +
+            "    local version = ARGV[base + part * 2 + 2]\n" +
+            "    if value ~= '' then\n" +
+            "      local field = part == 0 and '" + CENTRAL_FIELD + "' or '" + STORES_FIELD + "'\n" +
+            "      local current = redis.call('HGET', key, field .. '-version')\n" +
+            "      if not current or tonumber(current) < tonumber(version) then\n" +
+            "        redis.call('HSET', key, field, value, field .. '-version', version)\n" +
+            "        touched = true\n" +
+            "        written = written + 1\n" +
+            "      end\n" +
+            "    end\n" +
+            "  end\n" +
+            "  if touched then redis.call('PEXPIRE', key, ARGV[1]) end\n" +
+            "end\n" +
+            "return written",
+            Long.class);
+
+    private final CentralInventoryRepository centralInventoryRepository;
+    private final StoreInventoryRepository storeInventoryRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CircuitBreaker redisCircuitBreaker;
+    private final Cache<String, Versioned<CentralInventory>> centralCache;
+    private final Cache<String, Versioned<List<StoreInventory>>> storesCache;
+    private final boolean enabled;
+    private final String keyPrefix;
+    private final String invalidationChannel;
+    private final long redisTtlMillis;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Autowired
+    public CentralInventoryTwoTierCache(
+            CentralInventoryRepository centralInventoryRepository,
+            StoreInventoryRepository storeInventoryRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${app.read-cache.enabled:true}") boolean enabled,
+            @Value("${app.read-cache.local.maximum-size:100000}") long maximumSize,
+            @Value("${app.read-cache.local.ttl:PT10S}") Duration localTtl,
+            @Value("${app.read-cache.redis.ttl:PT10M}") Duration redisTtl,
+            @Value("${app.read-cache.redis.key-prefix:inventory:central-cache:}") String keyPrefix,
+            @Value("${app.read-cache.invalidation-channel:inventory:central-cache:invalidate}")
+            String invalidationChannel) {
+        this(centralInventoryRepository, storeInventoryRepository, redisTemplate, objectMapper,
+                circuitBreakerRegistry.circuitBreaker("redis"), meterRegistry, enabled, maximumSize, localTtl,
+                redisTtl, keyPrefix, invalidationChannel, Ticker.systemTicker());
+    }
+
+    CentralInventoryTwoTierCache(CentralInventoryRepository centralInventoryRepository,
+                                 StoreInventoryRepository storeInventoryRepository,
+                                 StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 CircuitBreaker redisCircuitBreaker, MeterRegistry meterRegistry,
+                                 boolean enabled, long maximumSize, Duration localTtl, Duration redisTtl,
+                                 String keyPrefix, String invalidationChannel, Ticker ticker) {
+        this.centralInventoryRepository = centralInventoryRepository;
+        this.storeInventoryRepository = storeInventoryRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisCircuitBreaker = redisCircuitBreaker;
+        this.enabled = enabled;
+        this.keyPrefix = keyPrefix;
+        this.invalidationChannel = invalidationChannel;
+        this.redisTtlMillis = redisTtl.toMillis();
+        this.centralCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.storesCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(localTtl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, centralCache, "central-inventory-l1");
+        CaffeineCacheMetrics.monitor(meterRegistry, storesCache, "store-inventories-l1");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<CentralInventory> getCentralInventory(String productSku,
+                                                          Supplier<Optional<CentralInventory>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Versioned<CentralInventory> cached = centralCache.getIfPresent(productSku);
+        if (cached == null) {
+            cached = readRedis(productSku, CENTRAL_FIELD, CENTRAL_VERSION_FIELD, CentralInventory.class);
+            if (cached == null) {
+                Optional<CentralInventory> loaded = loader.get();
+                if (loaded.isEmpty()) {
+                    return loaded;
+                }
+                cached = new Versioned<>(loaded.get(), versionOf(loaded.get()));
+                writeRedis(Map.of(productSku, new Parts(cached, null)));
+            }
+            cached = centralCache.asMap().merge(productSku, cached, CentralInventoryTwoTierCache::newest);
+        }
+        return Optional.of(cached.value().toBuilder().build());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<StoreInventory> getStoreInventories(String productSku, Supplier<List<StoreInventory>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Versioned<List<StoreInventory>> cached = storesCache.getIfPresent(productSku);
+        if (cached == null) {
+            cached = readRedis(productSku, STORES_FIELD, STORES_VERSION_FIELD, STORE_LIST);
+            if (cached == null) {
+                long generation = storeInventoryRepository.findGenerationsByProductSkuIn(List.of(productSku))
+                        .getOrDefault(productSku, 0L);
+                List<StoreInventory> loaded = loader.get();
+                cached = new Versioned<>(List.copyOf(loaded), generation);
+                writeRedis(Map.of(productSku, new Parts(null, cached)));
+            }
+            cached = storesCache.asMap().merge(productSku, cached, CentralInventoryTwoTierCache::newest);
+        }
+        return cached.value().stream().map(storeInventory -> storeInventory.toBuilder().build()).toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshAfterCommit(Collection<String> productSkus) {
+        if (!enabled || productSkus.isEmpty()) {
+            return;
+        }
+        Set<String> skus = new LinkedHashSet<>(productSkus);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh(skus);
+                }
+            });
+        } else {
+            refresh(skus);
+        }
+    }
+
+    /**
+     * Processa uma invalidação recebida de outra instância via Redis pub/sub.
+     *
+     * @param message mensagem no formato instância|SKU
+     */
+    public void onRemoteInvalidation(String message) {
+        String[] parts = message.split("\\" + KEY_SEPARATOR, 2);
+        if (parts.length != 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        centralCache.invalidate(parts[1]);
+        storesCache.invalidate(parts[1]);
+    }
+
+    void refresh(Set<String> productSkus) {
+        Map<String, Parts> parts = new HashMap<>();
+        try {
+            Map<String, Long> generations = storeInventoryRepository.findGenerationsByProductSkuIn(productSkus);
+            Map<String, List<StoreInventory>> storesBySku = new HashMap<>();
+            productSkus.forEach(productSku -> storesBySku.put(productSku, new ArrayList<>()));
+            for (StoreInventory storeInventory : storeInventoryRepository.findByProductSkuIn(productSkus)) {
+                storesBySku.computeIfAbsent(storeInventory.getProductSku(), sku -> new ArrayList<>())
+                        .add(storeInventory);
+            }
+            Map<String, CentralInventory> centralBySku = new HashMap<>();
+            centralInventoryRepository.findByProductSkuIn(productSkus)
+                    .forEach(central -> centralBySku.put(central.getProductSku(), central));
+
+            storesBySku.forEach((productSku, stores) -> {
+                CentralInventory central = centralBySku.get(productSku);
+                parts.put(productSku, new Parts(
+                        central != null ? new Versioned<>(central, versionOf(central)) : null,
+                        new Versioned<>(List.copyOf(stores), generations.getOrDefault(productSku, 0L))));
+            });
+        } catch (RuntimeException e) {
+            // Sem o estado confirmado, as entradas locais são descartadas e o Redis expira pelo TTL
+            log.warn("⚠️  Falha ao recarregar o cache de leitura, descartando entradas locais: skus={}, erro={}",
+                    productSkus.size(), e.getMessage());
+            productSkus.forEach(productSku -> {
+                centralCache.invalidate(productSku);
+                storesCache.invalidate(productSku);
+                publishInvalidation(productSku);
+            });
+            return;
+        }
+
+        writeRedis(parts);
+        parts.forEach((productSku, part) -> {
+            if (part.central() != null) {
+                centralCache.asMap().merge(productSku, part.central(), CentralInventoryTwoTierCache::newest);
+            } else {
+                centralCache.invalidate(productSku);
+            }
+            storesCache.asMap().merge(productSku, part.stores(), CentralInventoryTwoTierCache::newest);
+            publishInvalidation(productSku);
+        });
+        log.debug("🧊 Cache de leitura atualizado: {} produtos", parts.size());
+    }
+
+    private <T> Versioned<T> readRedis(String productSku, String field, String versionField, Class<T> type) {
+        return readRedis(productSku, field, versionField, json -> objectMapper.readValue(json, type));
+    }
+
+    private <T> Versioned<T> readRedis(String productSku, String field, String versionField,
+                                       TypeReference<T> type) {
+        return readRedis(productSku, field, versionField, json -> objectMapper.readValue(json, type));
+    }
+
+    private <T> Versioned<T> readRedis(String productSku, String field, String versionField, JsonReader<T> reader) {
+        try {
+            List<Object> values = redisCircuitBreaker.executeSupplier(() ->
+                    redisTemplate.opsForHash().multiGet(key(productSku), List.of(field, versionField)));
+            if (values == null || values.size() != 2 || values.get(0) == null || values.get(1) == null) {
+                return null;
+            }
+            return new Versioned<>(reader.read((String) values.get(0)), Long.parseLong((String) values.get(1)));
+        } catch (Exception e) {
+            log.debug("Cache Redis indisponível na leitura: productSku={}, erro={}", productSku, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Map<String, Parts> parts) {
+        if (parts.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(parts.size());
+        List<String> args = new ArrayList<>(parts.size() * 4 + 1);
+        args.add(Long.toString(redisTtlMillis));
+        try {
+            for (Map.Entry<String, Parts> entry : parts.entrySet()) {
+                keys.add(key(entry.getKey()));
+                addArgs(args, entry.getValue().central());
+                addArgs(args, entry.getValue().stores());
+            }
+            redisCircuitBreaker.executeSupplier(() ->
+                    redisTemplate.execute(WRITE_IF_NEWER_SCRIPT, keys, args.toArray()));
+        } catch (Exception e) {
+            log.warn("⚠️  Falha ao gravar o cache Redis: skus={}, erro={}", parts.size(), e.getMessage());
+        }
+    }
+
+    private void addArgs(List<String> args, Versioned<?> part) throws JsonProcessingException {
+        if (part == null) {
+            args.add(ABSENT);
+            args.add("0");
+        } else {
+            args.add(objectMapper.writeValueAsString(part.value()));
+            args.add(Long.toString(part.version()));
+        }
+    }
+
+    private void publishInvalidation(String productSku) {
+        try {
+            redisCircuitBreaker.executeRunnable(() ->
+                    redisTemplate.convertAndSend(invalidationChannel, instanceId + KEY_SEPARATOR + productSku));
+        } catch (Exception e) {
+            log.warn("⚠️  Falha ao publicar invalidação do cache de leitura: {}", e.getMessage());
+        }
+    }
+
+    private String key(String productSku) {
+        return keyPrefix + productSku;
+    }
+
+    private static long versionOf(CentralInventory central) {
+        return central.getVersion() != null ? central.getVersion() : 0L;
+    }
+
+    private static <T> Versioned<T> newest(Versioned<T> existing, Versioned<T> candidate) {
+        return existing.version() > candidate.version() ? existing : candidate;
+    }
+
+    /**
+     * Valor em cache com a versão persistida correspondente.
+     */
+    record Versioned<T>(T value, long version) {
+    }
+
+    /**
+     * Partes de um SKU a gravar (null quando não informada).
+     */
+    private record Parts(Versioned<CentralInventory> central, Versioned<List<StoreInventory>> stores) {
+    }
+
+    @FunctionalInterface
+    private interface JsonReader<T> {
+        T read(String json) throws JsonProcessingException;
+    }
+}
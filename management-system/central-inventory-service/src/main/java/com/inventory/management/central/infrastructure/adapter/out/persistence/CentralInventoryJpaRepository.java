@@ -1,5 +1,7 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.central.domain.model.CentralInventory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +20,13 @@ import java.util.List;
 @Repository
 public interface CentralInventoryJpaRepository extends JpaRepository<CentralInventoryJpaEntity, String> {
     
+    /**
+     * Expressão de construtor que projeta a linha no modelo de domínio.
+     */
+    String DOMAIN_PROJECTION = "new com.inventory.management.central.domain.model.CentralInventory(" +
+            "c.productSku, c.productName, c.description, c.category, c.unitPrice, c.totalQuantity, " +
+            "c.totalReservedQuantity, c.availableQuantity, c.lastUpdated, c.version, c.active)";
+    
     /**
      * Busca produtos por categoria.
      */
@@ -34,6 +43,23 @@ public interface CentralInventoryJpaRepository extends JpaRepository<CentralInve
     @Query("SELECT c FROM CentralInventoryJpaEntity c WHERE c.availableQuantity > 0")
     List<CentralInventoryJpaEntity> findWithAvailableStock();
     
+    /**
+     * Busca uma página de inventários com SKU posterior ao informado,
+     * percorrendo a chave primária em ordem. O resultado é projetado
+     * diretamente no modelo de domínio, sem entidades gerenciadas.
+     */
+    @Query("SELECT " + DOMAIN_PROJECTION + " FROM CentralInventoryJpaEntity c " +
+           "WHERE c.productSku > :afterSku ORDER BY c.productSku")
+    List<CentralInventory> findPageAfterSku(@Param("afterSku") String afterSku, Pageable pageable);
+    
+    /**
+     * Busca uma página de inventários ativos com SKU posterior ao informado,
+     * projetada diretamente no modelo de domínio.
+     */
+    @Query("SELECT " + DOMAIN_PROJECTION + " FROM CentralInventoryJpaEntity c " +
+           "WHERE c.active = true AND c.productSku > :afterSku ORDER BY c.productSku")
+    List<CentralInventory> findActivePageAfterSku(@Param("afterSku") String afterSku, Pageable pageable);
+    
     /**
      * Busca produtos com estoque baixo.
      */
@@ -0,0 +1,37 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA dos produtos com inventário central pendente de recálculo.
+ * As linhas são gravadas e removidas por {@link InventoryUpsertRepository};
+ * a entidade existe para que o schema seja criado e validado com as demais tabelas.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "central_inventory_pending")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CentralInventoryPendingJpaEntity {
+    
+    @Id
+    @Column(name = "product_sku", nullable = false, length = 100)
+    private String productSku;
+    
+    @Column(name = "marked_at", nullable = false)
+    private LocalDateTime markedAt;
+}
@@ -1,16 +1,23 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.CentralInventoryJpaRepository;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.mapper.InventoryEntityMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementação JPA do repositório de inventário central.
@@ -19,8 +26,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Slf4j
 public class CentralInventoryRepositoryAdapter implements CentralInventoryRepository {
+    /**
+     * Atributo da entidade de cada campo selecionável (os nomes coincidem).
+     */
+    static final Map<String, String> FIELD_ATTRIBUTES = CentralInventory.FIELDS.stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), Function.identity()));
+    
     private final CentralInventoryJpaRepository jpaRepository;
     private final InventoryEntityMapper mapper;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final InventoryUpsertRepository upsertRepository;
 
     @Override
     @Transactional
@@ -55,6 +70,64 @@ public class CentralInventoryRepositoryAdapter implements CentralInventoryReposi
         }
     }
 
+    @Override
+    @Transactional
+    public void saveAll(Collection<CentralInventory> inventories) {
+        log.debug("💾 Salvando lote de inventários centrais: {} registros", inventories.size());
+        
+        // Uma única consulta IN resolve todos os registros existentes do lote
+        Map<String, CentralInventoryJpaEntity> existing = jpaRepository.findAllById(inventories.stream()
+                        .map(CentralInventory::getProductSku)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(CentralInventoryJpaEntity::getProductSku, Function.identity()));
+        
+        for (CentralInventory inventory : inventories) {
+            var existingEntity = existing.get(inventory.getProductSku());
+            
+            if (existingEntity != null) {
+                existingEntity.setTotalQuantity(inventory.getTotalQuantity());
+                existingEntity.setTotalReservedQuantity(inventory.getTotalReservedQuantity());
+                existingEntity.setAvailableQuantity(inventory.getAvailableQuantity());
+                existingEntity.setLastUpdated(inventory.getLastUpdated());
+            } else {
+                jpaRepository.save(mapper.toJpaEntity(inventory));
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void upsertTotals(Collection<StockTotals> totals) {
+        log.debug("💾 Upsert de totais centrais: {} produtos", totals.size());
+        upsertRepository.upsertCentralTotals(totals);
+    }
+
+    @Override
+    @Transactional
+    public void addTotals(Collection<StockTotals> deltas) {
+        log.debug("💾 Variações de totais centrais: {} produtos", deltas.size());
+        upsertRepository.addCentralDeltas(deltas);
+    }
+
+    @Override
+    @Transactional
+    public void lockTotals(Collection<String> productSkus) {
+        upsertRepository.lockCentralTotals(productSkus);
+    }
+
+    @Override
+    @Transactional
+    public void markTotalsPending(Collection<String> productSkus) {
+        upsertRepository.markPendingTotals(productSkus);
+    }
+
+    @Override
+    @Transactional
+    public List<String> claimPendingTotals(int limit) {
+        return upsertRepository.claimPendingTotals(limit);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<CentralInventory> findByProductSku(String productSku) {
@@ -63,6 +136,15 @@ public class CentralInventoryRepositoryAdapter implements CentralInventoryReposi
                 .map(mapper::toDomain);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CentralInventory> findByProductSkuIn(Collection<String> productSkus) {
+        log.debug("🔍 Buscando inventários centrais: {} SKUs", productSkus.size());
+        return jpaRepository.findAllById(productSkus).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CentralInventory> findAll() {
@@ -97,6 +179,27 @@ public class CentralInventoryRepositoryAdapter implements CentralInventoryReposi
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CentralInventory> findPageAfterSku(String afterSku, int limit, boolean activeOnly) {
+        log.debug("📄 Buscando página de inventários centrais: afterSku={}, limit={}, activeOnly={}",
+                afterSku, limit, activeOnly);
+        String startAfter = afterSku != null ? afterSku : "";
+        return activeOnly
+                ? jpaRepository.findActivePageAfterSku(startAfter, PageRequest.ofSize(limit))
+                : jpaRepository.findPageAfterSku(startAfter, PageRequest.ofSize(limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsPageAfterSku(String afterSku, int limit, boolean activeOnly,
+                                                            FieldSelection selection) {
+        log.debug("📄 Buscando campos de inventários centrais: afterSku={}, limit={}, activeOnly={}, fields={}",
+                afterSku, limit, activeOnly, selection.fields());
+        return fieldProjectionRepository.findPage(CentralInventoryJpaEntity.class, FIELD_ATTRIBUTES, selection,
+                afterSku, limit, (cb, root) -> activeOnly ? List.of(cb.isTrue(root.get("active"))) : List.of());
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<CentralInventory> findByCategory(String category) {
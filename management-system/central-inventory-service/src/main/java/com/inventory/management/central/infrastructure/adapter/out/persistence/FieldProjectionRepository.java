@@ -0,0 +1,98 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.central.domain.model.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Consultas de listagem com seleção de campos (sparse fieldsets).
+ * Apenas as colunas dos campos solicitados entram no SELECT, e cada linha
+ * é devolvida como mapa campo → valor na ordem da seleção, sem entidade
+ * gerenciada nem modelo de domínio intermediários.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Busca uma página keyset projetando apenas os campos selecionados.
+     *
+     * @param entityClass entidade consultada
+     * @param attributes atributo JPA de cada campo (caminhos aninhados separados por ponto)
+     * @param selection campos selecionados; o campo chave define ordenação e continuação
+     * @param afterKey último valor do campo chave já retornado (null para a primeira página)
+     * @param limit quantidade máxima de linhas
+     * @param filters filtros adicionais da listagem
+     * @param <E> tipo da entidade
+     * @return linhas com os campos selecionados, ordenadas pelo campo chave
+     */
+    public <E> List<Map<String, Object>> findPage(Class<E> entityClass, Map<String, String> attributes,
+                                                  FieldSelection selection, String afterKey, int limit,
+                                                  BiFunction<CriteriaBuilder, Root<E>, List<Predicate>> filters) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+
+        // Campos que são aliases do mesmo atributo compartilham a coluna selecionada
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        int[] columnOfField = new int[selection.fields().size()];
+        for (int i = 0; i < columnOfField.length; i++) {
+            columnOfField[i] = columns.computeIfAbsent(attributes.get(selection.fields().get(i)),
+                    attribute -> columns.size());
+        }
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        columns.keySet().forEach(attribute -> selections.add(path(root, attribute)));
+
+        Path<String> key = path(root, attributes.get(selection.keyField()));
+        List<Predicate> predicates = new ArrayList<>(filters.apply(cb, root));
+        predicates.add(cb.greaterThan(key, afterKey != null ? afterKey : ""));
+
+        query.multiselect(selections)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(key));
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columnOfField.length; i++) {
+                row.put(selection.fields().get(i), tuple.get(columnOfField[i]));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static <T> Path<T> path(Root<?> root, String attribute) {
+        Path<?> path = root;
+        for (String part : attribute.split("\\.")) {
+            path = path.get(part);
+        }
+        @SuppressWarnings("unchecked")
+        Path<T> typed = (Path<T>) path;
+        return typed;
+    }
+}
@@ -0,0 +1,380 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Escritas do inventário por loja e central com um único
+ * INSERT ... ON CONFLICT ... RETURNING do PostgreSQL por chamada.
+ * As linhas são enviadas como arrays e expandidas com unnest, de modo que um
+ * registro ou um lote inteiro custam o mesmo comando, sem dirty checking; o
+ * inventário por loja é antes bloqueado com um SELECT ... FOR UPDATE para o
+ * cálculo das variações. Usa a conexão da transação corrente.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryUpsertRepository {
+
+    /**
+     * Bloqueia as linhas existentes, sempre na mesma ordem, e devolve as
+     * quantidades anteriores ao upsert. Executado em comando próprio: a ordem
+     * de execução das sub-consultas de um WITH não é definida pelo PostgreSQL.
+     */
+    static final String LOCK_STORE_INVENTORY_SQL =
+            "SELECT si.product_sku, si.store_id, si.quantity, si.reserved FROM store_inventory si " +
+            "JOIN unnest(?::varchar[], ?::varchar[]) AS t(product_sku, store_id) " +
+            "ON t.product_sku = si.product_sku AND t.store_id = si.store_id " +
+            "ORDER BY si.product_sku, si.store_id FOR UPDATE OF si";
+
+    /**
+     * Só sobrescreve a linha existente se a sequência do evento for posterior
+     * à gravada (eventos sem sequência sempre sobrescrevem) e incrementa a
+     * geração da lista de lojas de cada produto gravado. Devolve se cada linha
+     * foi criada pelo próprio comando (xmax zero).
+     */
+    static final String UPSERT_STORE_INVENTORY_SQL =
+            "WITH input AS (" +
+            "SELECT * FROM unnest(?::varchar[], ?::varchar[], ?::varchar[], ?::varchar[], ?::int[], ?::int[], " +
+            "?::int[], ?::timestamp[], ?::timestamp[], ?::boolean[], ?::bigint[]) " +
+            "AS t(product_sku, store_id, store_name, store_location, quantity, reserved, available, " +
+            "last_updated, last_sync_time, is_synchronized, last_sequence)), " +
+            "upserted AS (" +
+            "INSERT INTO store_inventory AS si (product_sku, store_id, store_name, store_location, quantity, " +
+            "reserved, available, last_updated, last_sync_time, synchronized, last_sequence, version) " +
+            "SELECT product_sku, store_id, store_name, store_location, quantity, reserved, available, " +
+            "last_updated, last_sync_time, is_synchronized, last_sequence, 0 FROM input " +
+            "ON CONFLICT (product_sku, store_id) DO UPDATE SET quantity = EXCLUDED.quantity, " +
+            "reserved = EXCLUDED.reserved, available = EXCLUDED.available, " +
+            "last_updated = EXCLUDED.last_updated, last_sync_time = EXCLUDED.last_sync_time, " +
+            "synchronized = EXCLUDED.synchronized, " +
+            "last_sequence = COALESCE(EXCLUDED.last_sequence, si.last_sequence), " +
+            "version = COALESCE(si.version, 0) + 1 " +
+            "WHERE EXCLUDED.last_sequence IS NULL OR si.last_sequence IS NULL " +
+            "OR EXCLUDED.last_sequence > si.last_sequence " +
+            "RETURNING si.product_sku, si.store_id, si.quantity, si.reserved, si.xmax = 0 AS inserted), " +
+            "generations AS (" +
+            "INSERT INTO store_inventory_generation AS g (product_sku, generation) " +
+            "SELECT DISTINCT product_sku, 1 FROM upserted ORDER BY 1 " +
+            "ON CONFLICT (product_sku) DO UPDATE SET generation = g.generation + 1) " +
+            "SELECT product_sku, store_id, quantity, reserved, inserted FROM upserted";
+
+    /**
+     * Produtos ainda sem inventário central recebem o nome provisório usado
+     * pelo processamento de eventos ({@code Product <sku>}).
+     */
+    static final String UPSERT_CENTRAL_TOTALS_SQL =
+            "INSERT INTO central_inventory AS ci (product_sku, product_name, total_quantity, " +
+            "total_reserved_quantity, available_quantity, last_updated, version, active) " +
+            "SELECT t.product_sku, 'Product ' || t.product_sku, t.total_quantity, t.total_reserved, " +
+            "t.total_quantity - t.total_reserved, CURRENT_TIMESTAMP, 0, true " +
+            "FROM unnest(?::varchar[], ?::int[], ?::int[]) AS t(product_sku, total_quantity, total_reserved) " +
+            "ON CONFLICT (product_sku) DO UPDATE SET total_quantity = EXCLUDED.total_quantity, " +
+            "total_reserved_quantity = EXCLUDED.total_reserved_quantity, " +
+            "available_quantity = EXCLUDED.available_quantity, last_updated = EXCLUDED.last_updated, " +
+            "version = COALESCE(ci.version, 0) + 1";
+
+    /**
+     * Soma as variações aos totais gravados; produtos ainda sem inventário
+     * central são criados com a própria variação, no mesmo comando.
+     */
+    static final String ADD_CENTRAL_DELTAS_SQL =
+            "INSERT INTO central_inventory AS ci (product_sku, product_name, total_quantity, " +
+            "total_reserved_quantity, available_quantity, last_updated, version, active) " +
+            "SELECT t.product_sku, 'Product ' || t.product_sku, t.total_quantity, t.total_reserved, " +
+            "t.total_quantity - t.total_reserved, CURRENT_TIMESTAMP, 0, true " +
+            "FROM unnest(?::varchar[], ?::int[], ?::int[]) AS t(product_sku, total_quantity, total_reserved) " +
+            "ON CONFLICT (product_sku) DO UPDATE SET total_quantity = ci.total_quantity + EXCLUDED.total_quantity, " +
+            "total_reserved_quantity = ci.total_reserved_quantity + EXCLUDED.total_reserved_quantity, " +
+            "available_quantity = ci.available_quantity + EXCLUDED.available_quantity, " +
+            "last_updated = EXCLUDED.last_updated, version = COALESCE(ci.version, 0) + 1";
+
+    /**
+     * Advisory locks de transação por produto, adquiridos sempre na mesma ordem
+     * para que lotes concorrentes não entrem em deadlock.
+     */
+    static final String LOCK_CENTRAL_TOTALS_SQL =
+            "SELECT pg_advisory_xact_lock(lock_key) FROM (" +
+            "SELECT DISTINCT hashtext('central_inventory:' || t.product_sku) AS lock_key " +
+            "FROM unnest(?::varchar[]) AS t(product_sku) ORDER BY lock_key) AS keys";
+
+    /**
+     * Renova a marca já existente em vez de ignorá-la: a linha fica bloqueada até
+     * o commit, de modo que um flush concorrente não a remova antes de a
+     * alteração das lojas que a originou estar visível para a soma.
+     */
+    static final String MARK_PENDING_TOTALS_SQL =
+            "INSERT INTO central_inventory_pending AS p (product_sku, marked_at) " +
+            "SELECT DISTINCT t.product_sku, CURRENT_TIMESTAMP FROM unnest(?::varchar[]) AS t(product_sku) " +
+            "ORDER BY 1 ON CONFLICT (product_sku) DO UPDATE SET marked_at = EXCLUDED.marked_at";
+
+    /**
+     * Marcas bloqueadas por outra transação (ainda não confirmadas ou em outro
+     * flush) ficam para o próximo flush.
+     */
+    static final String CLAIM_PENDING_TOTALS_SQL =
+            "DELETE FROM central_inventory_pending WHERE product_sku IN (" +
+            "SELECT product_sku FROM central_inventory_pending ORDER BY marked_at LIMIT ? " +
+            "FOR UPDATE SKIP LOCKED) RETURNING product_sku";
+
+    private final DataSource dataSource;
+
+    /**
+     * Grava os inventários por loja, ignorando os que já receberam uma sequência igual ou posterior.
+     * Havendo mais de um inventário para o mesmo produto e loja, prevalece o último. As linhas
+     * existentes são bloqueadas antes do upsert e a variação é calculada sobre os valores bloqueados.
+     *
+     * @param inventories inventários a gravar
+     * @return variação das quantidades de cada inventário gravado em relação ao registro anterior
+     *         (ou a zero, se criado); inventários superados não aparecem
+     * @throws ConcurrencyFailureException se outra transação criou a linha depois do bloqueio
+     */
+    public List<StockTotals> upsertStoreInventories(Collection<StoreInventory> inventories) {
+        if (inventories.isEmpty()) {
+            return List.of();
+        }
+
+        // Um mesmo comando ON CONFLICT não pode alterar a mesma linha duas vezes
+        Map<String, StoreInventory> unique = new LinkedHashMap<>();
+        inventories.forEach(inventory ->
+                unique.put(storeKey(inventory.getProductSku(), inventory.getStoreId()), inventory));
+        int size = unique.size();
+        String[] productSkus = new String[size];
+        String[] storeIds = new String[size];
+        String[] storeNames = new String[size];
+        String[] storeLocations = new String[size];
+        Integer[] quantities = new Integer[size];
+        Integer[] reserved = new Integer[size];
+        Integer[] available = new Integer[size];
+        Timestamp[] lastUpdated = new Timestamp[size];
+        Timestamp[] lastSyncTimes = new Timestamp[size];
+        Boolean[] synchronizedFlags = new Boolean[size];
+        Long[] lastSequences = new Long[size];
+        int i = 0;
+        for (StoreInventory inventory : unique.values()) {
+            int quantity = inventory.getQuantity() != null ? inventory.getQuantity() : 0;
+            int reservedQuantity = inventory.getReservedQuantity() != null ? inventory.getReservedQuantity() : 0;
+            productSkus[i] = inventory.getProductSku();
+            storeIds[i] = inventory.getStoreId();
+            storeNames[i] = inventory.getStoreName();
+            storeLocations[i] = inventory.getStoreLocation();
+            quantities[i] = quantity;
+            reserved[i] = reservedQuantity;
+            available[i] = quantity - reservedQuantity;
+            lastUpdated[i] = Timestamp.valueOf(inventory.getLastUpdated() != null
+                    ? inventory.getLastUpdated() : LocalDateTime.now());
+            lastSyncTimes[i] = inventory.getLastSyncTime() != null ? Timestamp.valueOf(inventory.getLastSyncTime()) : null;
+            synchronizedFlags[i] = Boolean.TRUE.equals(inventory.getIsSynchronized());
+            lastSequences[i] = inventory.getLastSequence();
+            i++;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            Map<String, StockTotals> previous = lockStoreInventories(connection, productSkus, storeIds);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_STORE_INVENTORY_SQL)) {
+                statement.setArray(1, connection.createArrayOf("varchar", productSkus));
+                statement.setArray(2, connection.createArrayOf("varchar", storeIds));
+                statement.setArray(3, connection.createArrayOf("varchar", storeNames));
+                statement.setArray(4, connection.createArrayOf("varchar", storeLocations));
+                statement.setArray(5, connection.createArrayOf("int4", quantities));
+                statement.setArray(6, connection.createArrayOf("int4", reserved));
+                statement.setArray(7, connection.createArrayOf("int4", available));
+                statement.setArray(8, connection.createArrayOf("timestamp", lastUpdated));
+                statement.setArray(9, connection.createArrayOf("timestamp", lastSyncTimes));
+                statement.setArray(10, connection.createArrayOf("bool", synchronizedFlags));
+                statement.setArray(11, connection.createArrayOf("int8", lastSequences));
+
+                List<StockTotals> deltas = new ArrayList<>(productSkus.length);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String productSku = resultSet.getString(1);
+                        StockTotals before = previous.get(storeKey(productSku, resultSet.getString(2)));
+                        if (before == null && !resultSet.getBoolean(5)) {
+                            // Linha criada por outra transação após o bloqueio: o valor anterior é desconhecido
+                            throw new ConcurrencyFailureException(
+                                    "store_inventory criado concorrentemente: " + productSku);
+                        }
+                        StockTotals written = new StockTotals(productSku, resultSet.getLong(3), resultSet.getLong(4));
+                        deltas.add(before == null ? written : new StockTotals(productSku,
+                                written.quantity() - before.quantity(),
+                                written.reservedQuantity() - before.reservedQuantity()));
+                    }
+                }
+                log.debug("💾 Upsert de store_inventory: enviados={}, gravados={}", productSkus.length, deltas.size());
+                return deltas;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha no upsert de store_inventory: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Grava os totais consolidados do inventário central, criando os produtos ausentes.
+     *
+     * @param totals totais por produto (no máximo um por produto)
+     */
+    public void upsertCentralTotals(Collection<StockTotals> totals) {
+        writeCentralTotals(UPSERT_CENTRAL_TOTALS_SQL, totals);
+    }
+
+    /**
+     * Soma variações aos totais do inventário central, criando os produtos ausentes
+     * com a própria variação.
+     *
+     * @param deltas variações por produto (no máximo uma por produto)
+     */
+    public void addCentralDeltas(Collection<StockTotals> deltas) {
+        writeCentralTotals(ADD_CENTRAL_DELTAS_SQL, deltas);
+    }
+
+    /**
+     * Bloqueia os totais centrais dos produtos até o fim da transação corrente.
+     *
+     * @param productSkus SKUs dos produtos
+     */
+    public void lockCentralTotals(Collection<String> productSkus) {
+        if (productSkus.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_CENTRAL_TOTALS_SQL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", productSkus.toArray(String[]::new)));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // Cada linha corresponde a um bloqueio adquirido
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha no bloqueio de central_inventory: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Marca os produtos como pendentes de recálculo na transação corrente.
+     *
+     * @param productSkus SKUs dos produtos
+     */
+    public void markPendingTotals(Collection<String> productSkus) {
+        if (productSkus.isEmpty()) {
+            return;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(MARK_PENDING_TOTALS_SQL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", productSkus.toArray(String[]::new)));
+            statement.executeUpdate();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException(
+                    "Falha ao marcar central_inventory_pending: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Remove na transação corrente até {@code limit} produtos pendentes de recálculo.
+     *
+     * @param limit quantidade máxima de produtos
+     * @return SKUs removidos
+     */
+    public List<String> claimPendingTotals(int limit) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM_PENDING_TOTALS_SQL)) {
+            statement.setInt(1, limit);
+            List<String> productSkus = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    productSkus.add(resultSet.getString(1));
+                }
+            }
+            return productSkus;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException(
+                    "Falha ao consumir central_inventory_pending: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void writeCentralTotals(String sql, Collection<StockTotals> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+
+        int size = totals.size();
+        String[] productSkus = new String[size];
+        Integer[] quantities = new Integer[size];
+        Integer[] reserved = new Integer[size];
+        int i = 0;
+        for (StockTotals total : totals) {
+            productSkus[i] = total.productSku();
+            quantities[i] = Math.toIntExact(total.quantity());
+            reserved[i] = Math.toIntExact(total.reservedQuantity());
+            i++;
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setArray(1, connection.createArrayOf("varchar", productSkus));
+            statement.setArray(2, connection.createArrayOf("int4", quantities));
+            statement.setArray(3, connection.createArrayOf("int4", reserved));
+            int rows = statement.executeUpdate();
+            log.debug("💾 Upsert de central_inventory: {} produtos", rows);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha no upsert de central_inventory: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Map<String, StockTotals> lockStoreInventories(Connection connection, String[] productSkus,
+                                                          String[] storeIds) throws SQLException {
+        Map<String, StockTotals> previous = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_STORE_INVENTORY_SQL)) {
+            statement.setArray(1, connection.createArrayOf("varchar", productSkus));
+            statement.setArray(2, connection.createArrayOf("varchar", storeIds));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    String productSku = resultSet.getString(1);
+                    previous.put(storeKey(productSku, resultSet.getString(2)),
+                            new StockTotals(productSku, resultSet.getLong(3), resultSet.getLong(4)));
+                }
+            }
+        }
+        return previous;
+    }
+
+    private static String storeKey(String productSku, String storeId) {
+        return productSku + "@" + storeId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entidade JPA da geração da lista de lojas de um produto: contador por SKU
+ * incrementado na mesma transação de toda gravação ou remoção de
+ * store_inventory do produto.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "store_inventory_generation")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreInventoryGenerationJpaEntity {
+    
+    @Id
+    @Column(name = "product_sku", nullable = false, length = 100)
+    private String productSku;
+    
+    @Column(name = "generation", nullable = false)
+    private Long generation;
+}
@@ -0,0 +1,41 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositório Spring Data JPA da geração da lista de lojas por produto.
+ * O upsert de store_inventory incrementa a geração no próprio comando; as
+ * consultas abaixo cobrem as gravações e remoções feitas pelo JPA.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface StoreInventoryGenerationJpaRepository
+        extends JpaRepository<StoreInventoryGenerationJpaEntity, String> {
+    
+    /**
+     * Incrementa a geração de um produto (criando-a, se necessário).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO store_inventory_generation AS g (product_sku, generation) " +
+                   "VALUES (:productSku, 1) " +
+                   "ON CONFLICT (product_sku) DO UPDATE SET generation = g.generation + 1",
+           nativeQuery = true)
+    int advance(@Param("productSku") String productSku);
+    
+    /**
+     * Incrementa a geração de todos os produtos com inventário na loja.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO store_inventory_generation AS g (product_sku, generation) " +
+                   "SELECT DISTINCT s.product_sku, 1 FROM store_inventory s WHERE s.store_id = :storeId " +
+                   "ORDER BY 1 ON CONFLICT (product_sku) DO UPDATE SET generation = g.generation + 1",
+           nativeQuery = true)
+    int advanceByStoreId(@Param("storeId") String storeId);
+}
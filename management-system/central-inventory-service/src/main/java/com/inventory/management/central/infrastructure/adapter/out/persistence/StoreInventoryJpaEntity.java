@@ -17,7 +17,9 @@ import java.time.LocalDateTime;
  * @since 1.0.0
  */
 @Entity
-@Table(name = "store_inventory")
+@Table(name = "store_inventory", indexes = {
+    @Index(name = "idx_store_inventory_store_sku", columnList = "store_id, product_sku")
+})
 @Getter
 @Setter
 @Builder
@@ -79,6 +81,9 @@ public class StoreInventoryJpaEntity {
     @Column(name = "synchronized", nullable = false)
     private Boolean isSynchronized;
     
+    @Column(name = "last_sequence")
+    private Long lastSequence;
+    
     @PrePersist
     @PreUpdate
     public void calculateAvailableQuantity() {
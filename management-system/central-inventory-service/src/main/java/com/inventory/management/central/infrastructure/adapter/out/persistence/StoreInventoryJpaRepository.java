@@ -1,12 +1,16 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.StoreInventoryJpaEntity.StoreInventoryId;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -19,6 +23,13 @@ import java.util.List;
 @Repository
 public interface StoreInventoryJpaRepository extends JpaRepository<StoreInventoryJpaEntity, StoreInventoryId> {
     
+    /**
+     * Expressão de construtor que projeta a linha no modelo de domínio.
+     */
+    String DOMAIN_PROJECTION = "new com.inventory.management.central.domain.model.StoreInventory(" +
+            "s.id.productSku, s.id.storeId, s.storeName, s.storeLocation, s.quantity, s.reserved, " +
+            "s.available, s.lastUpdated, s.version, s.lastSyncTime, s.isSynchronized, s.lastSequence)";
+    
     /**
      * Busca inventário por produto e loja.
      */
@@ -29,6 +40,11 @@ public interface StoreInventoryJpaRepository extends JpaRepository<StoreInventor
      */
     List<StoreInventoryJpaEntity> findByIdProductSku(String productSku);
     
+    /**
+     * Busca os inventários de vários produtos em todas as lojas.
+     */
+    List<StoreInventoryJpaEntity> findByIdProductSkuIn(Collection<String> productSkus);
+    
     /**
      * Busca todos os inventários de uma loja.
      */
@@ -51,6 +67,26 @@ public interface StoreInventoryJpaRepository extends JpaRepository<StoreInventor
        @Query("SELECT s FROM StoreInventoryJpaEntity s WHERE s.id.storeId = :storeId AND s.available > 0")
        List<StoreInventoryJpaEntity> findByStoreIdWithAvailableStock(@Param("storeId") String storeId);
     
+    /**
+     * Busca uma página de inventários da loja com SKU posterior ao informado,
+     * ordenada pelo índice (store_id, product_sku) e projetada diretamente
+     * no modelo de domínio, sem entidades gerenciadas.
+     */
+       @Query("SELECT " + DOMAIN_PROJECTION + " FROM StoreInventoryJpaEntity s WHERE s.id.storeId = :storeId " +
+              "AND s.id.productSku > :afterSku ORDER BY s.id.productSku")
+       List<StoreInventory> findPageByStoreIdAfterSku(@Param("storeId") String storeId,
+                                                               @Param("afterSku") String afterSku,
+                                                               Pageable pageable);
+    
+    /**
+     * Busca uma página de inventários da loja com estoque disponível e SKU posterior ao informado.
+     */
+       @Query("SELECT " + DOMAIN_PROJECTION + " FROM StoreInventoryJpaEntity s WHERE s.id.storeId = :storeId " +
+              "AND s.available > 0 AND s.id.productSku > :afterSku ORDER BY s.id.productSku")
+       List<StoreInventory> findPageByStoreIdWithAvailableStockAfterSku(@Param("storeId") String storeId,
+                                                                                 @Param("afterSku") String afterSku,
+                                                                                 Pageable pageable);
+    
     /**
      * Calcula quantidade total de um produto em todas as lojas.
      */
@@ -63,6 +99,14 @@ public interface StoreInventoryJpaRepository extends JpaRepository<StoreInventor
        @Query("SELECT COALESCE(SUM(s.reserved), 0) FROM StoreInventoryJpaEntity s WHERE s.id.productSku = :productSku")
        Integer sumReservedQuantityByProductSku(@Param("productSku") String productSku);
     
+    /**
+     * Soma as quantidades de vários produtos em todas as lojas, agrupadas por produto.
+     */
+       @Query("SELECT new com.inventory.management.central.domain.model.StockTotals(" +
+              "s.id.productSku, SUM(s.quantity), SUM(s.reserved)) FROM StoreInventoryJpaEntity s " +
+              "WHERE s.id.productSku IN :productSkus GROUP BY s.id.productSku")
+       List<StockTotals> sumQuantitiesByProductSkuIn(@Param("productSkus") Collection<String> productSkus);
+    
     /**
      * Remove inventários por produto.
      */
@@ -1,16 +1,23 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.model.StoreInventory;
 import com.inventory.management.central.domain.port.StoreInventoryRepository;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.StoreInventoryJpaEntity.StoreInventoryId;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,7 +32,28 @@ import java.util.stream.Collectors;
 @Slf4j
 public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository {
     
+    /**
+     * Atributo da entidade de cada campo selecionável.
+     */
+    static final Map<String, String> FIELD_ATTRIBUTES = Map.ofEntries(
+            Map.entry("productSku", "id.productSku"),
+            Map.entry("storeId", "id.storeId"),
+            Map.entry("storeName", "storeName"),
+            Map.entry("storeLocation", "storeLocation"),
+            Map.entry("quantity", "quantity"),
+            Map.entry("reserved", "reserved"),
+            Map.entry("reservedQuantity", "reserved"),
+            Map.entry("available", "available"),
+            Map.entry("availableQuantity", "available"),
+            Map.entry("lastUpdated", "lastUpdated"),
+            Map.entry("version", "version"),
+            Map.entry("lastSyncTime", "lastSyncTime"),
+            Map.entry("isSynchronized", "isSynchronized"));
+    
     private final StoreInventoryJpaRepository jpaRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final InventoryUpsertRepository upsertRepository;
+    private final StoreInventoryGenerationJpaRepository generationJpaRepository;
     
     @Override
     public StoreInventory save(StoreInventory storeInventory) {
@@ -48,6 +76,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                 existing.setAvailable(entity.getAvailable());
                 existing.setLastUpdated(entity.getLastUpdated());
                 existing.setIsSynchronized(entity.getIsSynchronized());
+                existing.setLastSequence(entity.getLastSequence());
                 existing.setVersion(existing.getVersion() + 1);
                 
                 savedEntity = jpaRepository.save(existing);
@@ -57,6 +86,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                 savedEntity = jpaRepository.save(entity);
                 log.debug("✅ StoreInventory criado: sku={}", storeInventory.getProductSku());
             }
+            generationJpaRepository.advance(storeInventory.getProductSku());
             
             return toDomain(savedEntity);
             
@@ -67,6 +97,56 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
         }
     }
     
+    @Override
+    @Transactional
+    public void saveAll(Collection<StoreInventory> inventories) {
+        log.debug("💾 Salvando lote de StoreInventory: {} registros", inventories.size());
+        
+        // Uma única consulta IN resolve todos os registros existentes do lote
+        Map<StoreInventoryId, StoreInventoryJpaEntity> existing = jpaRepository.findAllById(inventories.stream()
+                        .map(inventory -> new StoreInventoryId(inventory.getProductSku(), inventory.getStoreId()))
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(StoreInventoryJpaEntity::getId, Function.identity()));
+        
+        for (StoreInventory storeInventory : inventories) {
+            StoreInventoryJpaEntity entity = toEntity(storeInventory);
+            StoreInventoryJpaEntity managed = existing.get(entity.getId());
+            
+            if (managed != null) {
+                managed.setQuantity(entity.getQuantity());
+                managed.setReserved(entity.getReserved());
+                managed.setAvailable(entity.getAvailable());
+                managed.setLastUpdated(entity.getLastUpdated());
+                managed.setLastSyncTime(entity.getLastSyncTime());
+                managed.setIsSynchronized(entity.getIsSynchronized());
+                managed.setLastSequence(entity.getLastSequence());
+            } else {
+                jpaRepository.save(entity);
+            }
+        }
+        inventories.stream()
+                .map(StoreInventory::getProductSku)
+                .distinct()
+                .sorted()
+                .forEach(generationJpaRepository::advance);
+    }
+    
+    @Override
+    @Transactional
+    public Optional<StockTotals> upsert(StoreInventory storeInventory) {
+        log.debug("💾 Upsert de StoreInventory: sku={}, storeId={}, sequência={}", 
+                storeInventory.getProductSku(), storeInventory.getStoreId(), storeInventory.getLastSequence());
+        return upsertRepository.upsertStoreInventories(List.of(storeInventory)).stream().findFirst();
+    }
+    
+    @Override
+    @Transactional
+    public List<StockTotals> upsertAll(Collection<StoreInventory> inventories) {
+        log.debug("💾 Upsert de lote de StoreInventory: {} registros", inventories.size());
+        return upsertRepository.upsertStoreInventories(inventories);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Optional<StoreInventory> findByProductSkuAndStoreId(String productSku, String storeId) {
@@ -88,6 +168,17 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                            .toList();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoreInventory> findByProductSkuIn(Collection<String> productSkus) {
+        log.debug("🔍 Buscando por produtos: {} SKUs", productSkus.size());
+        
+        return jpaRepository.findByIdProductSkuIn(productSkus)
+                           .stream()
+                           .map(this::toDomain)
+                           .toList();
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<StoreInventory> findByStoreId(String storeId) {
@@ -141,6 +232,35 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                            .toList();
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoreInventory> findPageByStoreIdAfterSku(String storeId, String afterSku, int limit,
+                                                          boolean withStockOnly) {
+        log.debug("📄 Buscando página da loja: storeId={}, afterSku={}, limit={}, withStockOnly={}",
+                storeId, afterSku, limit, withStockOnly);
+        
+        String startAfter = afterSku != null ? afterSku : "";
+        return withStockOnly
+                ? jpaRepository.findPageByStoreIdWithAvailableStockAfterSku(storeId, startAfter, PageRequest.ofSize(limit))
+                : jpaRepository.findPageByStoreIdAfterSku(storeId, startAfter, PageRequest.ofSize(limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> findFieldsPageByStoreIdAfterSku(String storeId, String afterSku, int limit,
+                                                                     boolean withStockOnly, FieldSelection selection) {
+        log.debug("📄 Buscando campos da loja: storeId={}, afterSku={}, limit={}, withStockOnly={}, fields={}",
+                storeId, afterSku, limit, withStockOnly, selection.fields());
+        
+        return fieldProjectionRepository.findPage(StoreInventoryJpaEntity.class, FIELD_ATTRIBUTES, selection,
+                afterSku, limit, (cb, root) -> {
+                    Predicate sameStore = cb.equal(root.get("id").get("storeId"), storeId);
+                    return withStockOnly
+                            ? List.of(sameStore, cb.gt(root.get("available"), 0))
+                            : List.of(sameStore);
+                });
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public Integer sumQuantityByProductSku(String productSku) {
@@ -159,6 +279,22 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
         return total != null ? total : 0;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> findGenerationsByProductSkuIn(Collection<String> productSkus) {
+        return generationJpaRepository.findAllById(productSkus).stream()
+                .collect(Collectors.toMap(StoreInventoryGenerationJpaEntity::getProductSku,
+                        StoreInventoryGenerationJpaEntity::getGeneration));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockTotals> sumQuantitiesByProductSkuIn(Collection<String> productSkus) {
+        log.debug("🧮 Calculando totais agrupados: {} produtos", productSkus.size());
+        
+        return jpaRepository.sumQuantitiesByProductSkuIn(productSkus);
+    }
+    
     @Override
     @Transactional
     public void deleteByProductSkuAndStoreId(String productSku, String storeId) {
@@ -166,6 +302,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
         
         StoreInventoryId id = new StoreInventoryId(productSku, storeId);
         jpaRepository.deleteById(id);
+        generationJpaRepository.advance(productSku);
     }
     
     @Override
@@ -174,6 +311,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
         log.debug("🗑️  Removendo inventários do produto: productSku={}", productSku);
         
         jpaRepository.deleteByIdProductSku(productSku);
+        generationJpaRepository.advance(productSku);
     }
     
     @Override
@@ -181,6 +319,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
     public void deleteByStoreId(String storeId) {
         log.debug("🗑️  Removendo inventários da loja: storeId={}", storeId);
         
+        generationJpaRepository.advanceByStoreId(storeId);
         jpaRepository.deleteByIdStoreId(storeId);
     }
     
@@ -223,6 +362,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                 .lastUpdated(entity.getLastUpdated())
                 .lastSyncTime(entity.getLastSyncTime())
                 .isSynchronized(entity.getIsSynchronized())
+                .lastSequence(entity.getLastSequence())
                 .build();
     }
     
@@ -242,6 +382,7 @@ public class StoreInventoryRepositoryAdapter implements StoreInventoryRepository
                 .lastUpdated(domain.getLastUpdated() != null ? domain.getLastUpdated() : LocalDateTime.now())
                 .lastSyncTime(domain.getLastSyncTime())
                 .isSynchronized(domain.getIsSynchronized() != null ? domain.getIsSynchronized() : Boolean.FALSE)
+                .lastSequence(domain.getLastSequence())
                 .build();
     }
 }
@@ -68,6 +68,7 @@ public class InventoryEntityMapper {
                 .lastUpdated(entity.getLastUpdated())
                 .version(entity.getVersion())
                 .isSynchronized(entity.getIsSynchronized())
+                .lastSequence(entity.getLastSequence())
                 .build();
     }
 
@@ -87,6 +88,7 @@ public class InventoryEntityMapper {
                 .lastUpdated(domain.getLastUpdated())
                 .version(domain.getVersion())
                 .isSynchronized(domain.getIsSynchronized())
+                .lastSequence(domain.getLastSequence())
                 .build();
     }
 }
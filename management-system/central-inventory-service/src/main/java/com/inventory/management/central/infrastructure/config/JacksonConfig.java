@@ -2,13 +2,19 @@ package com.inventory.management.central.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 /**
  * Configuração do Jackson para serialização/deserialização JSON.
+ * Também registra os conversores HTTP dos formatos binários CBOR e Smile,
+ * negociados pelo cabeçalho Accept, com a mesma configuração do JSON.
  * 
  * @author Sistema de Gerenciamento de Inventário
  * @version 1.0.0
@@ -36,4 +42,20 @@ public class JacksonConfig {
         
         return mapper;
     }
+    
+    /**
+     * Conversor HTTP para application/cbor, com os módulos e features do ObjectMapper principal.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+    
+    /**
+     * Conversor HTTP para application/x-jackson-smile, com os módulos e features do ObjectMapper principal.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
 }
@@ -1,7 +1,13 @@
 package com.inventory.management.central.infrastructure.config;
 
+import com.inventory.management.central.infrastructure.adapter.in.messaging.InventoryEventKafkaConsumer;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.validation.ValidationException;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -10,18 +16,38 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.util.backoff.FixedBackOff;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Configuração do Kafka para o Central Inventory Service.
  * 
  * Esta configuração define consumidores Kafka para receber eventos
- * de inventário das lojas em tempo real.
+ * de inventário das lojas em tempo real. Além da factory por registro,
+ * há uma factory de lote que entrega cada poll inteira ao listener, com
+ * commit de offset único por lote.
+ * 
+ * Falhas não bloqueiam a partição principal: no consumo por registro o
+ * evento é encaminhado a tópicos de retry com atraso crescente
+ * ({@code <tópico>-retry-<atraso>}) e, esgotadas as tentativas, ao DLT
+ * ({@code <tópico>-dlt}). No consumo em lote o registro do tópico de eventos
+ * com falha é publicado na primeira camada de retry, consumida pelo mesmo
+ * encadeamento de retry do consumo por registro; apenas falhas que não se
+ * resolvem com nova tentativa (deserialização, validação) seguem direto para
+ * o DLT, de onde podem ser reenviadas pelo endpoint administrativo.
  * 
  * @author Sistema de Gerenciamento de Inventário
  * @version 1.0.0
@@ -32,6 +58,26 @@ import java.util.Map;
 @Slf4j
 public class KafkaConfig {
     
+    /**
+     * Sufixo do dead-letter topic (DLT) do tópico de eventos.
+     */
+    public static final String DLT_SUFFIX = "-dlt";
+    
+    /**
+     * Prefixo do sufixo das camadas de retry ({@code <tópico>-retry-<atraso>}).
+     */
+    public static final String RETRY_SUFFIX = "-retry-";
+    
+    /**
+     * Falhas que não se resolvem com nova tentativa e seguem direto para o DLT
+     * (as mesmas excluídas do retry em {@link InventoryEventKafkaConsumer#consumeInventoryEvent}).
+     */
+    static final List<Class<? extends Throwable>> NON_RETRYABLE_EXCEPTIONS = List.of(
+            InventoryEventKafkaConsumer.EventDeserializationException.class,
+            DeserializationException.class,
+            ValidationException.class,
+            IllegalArgumentException.class);
+    
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
     
@@ -56,6 +102,18 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.max-poll-interval-ms:300000}")
     private Integer maxPollIntervalMs;
     
+    @Value("${app.kafka.consumer.batch.max-poll-records:500}")
+    private Integer batchMaxPollRecords;
+    
+    @Value("${app.kafka.topics.inventory-update:inventory-update}")
+    private String inventoryUpdateTopic;
+    
+    @Value("${app.kafka.topics.inventory-priority:inventory-update-priority}")
+    private String inventoryPriorityTopic;
+    
+    @Value("${app.kafka.consumer.retry.initial-delay-ms:1000}")
+    private Long retryInitialDelayMs;
+    
     /**
      * Factory para criação de consumidores Kafka.
      */
@@ -63,6 +121,106 @@ public class KafkaConfig {
     public ConsumerFactory<String, String> consumerFactory() {
         log.info("🔧 Configurando Kafka Consumer Factory");
         
+        Map<String, Object> configProps = consumerProperties();
+        
+        log.info("✅ Kafka Consumer Factory configurado: bootstrapServers={}, groupId={}", 
+                bootstrapServers, groupId);
+        
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+    
+    /**
+     * Factory de container para listeners Kafka em lote.
+     * Cada poll (até {@code app.kafka.consumer.batch.max-poll-records} registros)
+     * é entregue inteira ao listener, que confirma o offset uma vez por lote.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(
+            KafkaTemplate<String, String> kafkaTemplate) {
+        log.info("🔧 Configurando Kafka Batch Listener Container Factory");
+        
+        Map<String, Object> configProps = consumerProperties();
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxPollRecords);
+        
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = 
+                new ConcurrentKafkaListenerContainerFactory<>();
+        
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        
+        // Acknowledgment manual, um commit de offset por lote
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setConcurrency(1);
+        
+        // O registro sinalizado com BatchListenerFailedException (já reaplicado individualmente
+        // pelo listener) segue para a primeira camada de retry, ou para o DLT se a falha não
+        // for recuperável; o lote continua a partir do registro seguinte
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                this::resolveBatchFailureDestination);
+        recoverer.setHeadersFunction(this::firstRetryHeaders);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L)));
+        
+        log.info("✅ Kafka Batch Listener Container Factory configurado: maxPollRecords={}", batchMaxPollRecords);
+        
+        return factory;
+    }
+    
+    /**
+     * Destino de um registro com falha no consumo em lote: a primeira camada
+     * de retry do tópico de eventos (principal ou prioritário) ou, para falhas
+     * não recuperáveis e demais tópicos, o DLT.
+     */
+    TopicPartition resolveBatchFailureDestination(ConsumerRecord<?, ?> consumerRecord, Exception exception) {
+        boolean eventTopic = consumerRecord.topic().equals(inventoryUpdateTopic)
+                || consumerRecord.topic().equals(inventoryPriorityTopic);
+        if (eventTopic && !isNonRetryable(exception)) {
+            return new TopicPartition(consumerRecord.topic() + RETRY_SUFFIX + retryInitialDelayMs, -1);
+        }
+        return new TopicPartition(consumerRecord.topic() + DLT_SUFFIX, -1);
+    }
+    
+    /**
+     * Cabeçalhos que o encadeamento de retry espera na primeira camada:
+     * segunda tentativa, com o atraso inicial a partir de agora.
+     */
+    Headers firstRetryHeaders(ConsumerRecord<?, ?> consumerRecord, Exception exception) {
+        RecordHeaders headers = new RecordHeaders();
+        TopicPartition destination = resolveBatchFailureDestination(consumerRecord, exception);
+        if (destination.topic().endsWith(DLT_SUFFIX)) {
+            return headers;
+        }
+        headers.add(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS, ByteBuffer.allocate(Integer.BYTES).putInt(2).array());
+        headers.add(RetryTopicHeaders.DEFAULT_HEADER_ORIGINAL_TIMESTAMP,
+                BigInteger.valueOf(consumerRecord.timestamp()).toByteArray());
+        headers.add(RetryTopicHeaders.DEFAULT_HEADER_BACKOFF_TIMESTAMP,
+                BigInteger.valueOf(System.currentTimeMillis() + retryInitialDelayMs).toByteArray());
+        return headers;
+    }
+    
+    private static boolean isNonRetryable(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            Throwable current = cause;
+            if (NON_RETRYABLE_EXCEPTIONS.stream().anyMatch(type -> type.isInstance(current))) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Executor das filas paralelas do consumo em lote: uma thread virtual por fila,
+     * de modo que o paralelismo é limitado pelo número de filas
+     * ({@code app.kafka.consumer.batch.workers}) e não por um pool de threads.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService inventoryEventWorkerExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("inventory-event-worker-", 0).factory());
+    }
+    
+    /**
+     * Propriedades comuns dos consumidores Kafka.
+     */
+    private Map<String, Object> consumerProperties() {
         Map<String, Object> configProps = new HashMap<>();
         
         // Configurações básicas
@@ -85,10 +243,7 @@ public class KafkaConfig {
         configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
         configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 5000);
         
-        log.info("✅ Kafka Consumer Factory configurado: bootstrapServers={}, groupId={}", 
-                bootstrapServers, groupId);
-        
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
     
     /**
@@ -109,12 +264,8 @@ public class KafkaConfig {
         // Configurar concorrência (número de threads consumidoras) - apenas 1 para evitar conflitos
         factory.setConcurrency(1);
         
-        // Configurar error handler com retry
-        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
-                new FixedBackOff(1000L, 3L) // 3 tentativas com 1s de intervalo
-        );
-        
-        factory.setCommonErrorHandler(errorHandler);
+        // Sem retry na thread do consumidor: falhas seguem para os tópicos de retry
+        // (ver @RetryableTopic em InventoryEventKafkaConsumer), que instalam seu próprio error handler
         
         log.info("✅ Kafka Listener Container Factory configurado com {} threads", 1);
         
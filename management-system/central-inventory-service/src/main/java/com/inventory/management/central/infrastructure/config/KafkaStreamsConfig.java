@@ -0,0 +1,99 @@
+package com.inventory.management.central.infrastructure.config;
+
+import com.inventory.management.central.domain.port.InventoryTotalsView;
+import com.inventory.management.central.infrastructure.adapter.in.streams.InventoryAggregationTopology;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Configuração do motor Kafka Streams da agregação central.
+ *
+ * Desabilitado por padrão ({@code app.kafka.streams.enabled=false}): as
+ * consultas usam apenas o inventário central persistido. Quando habilitado,
+ * a {@link InventoryAggregationTopology} substitui os listeners JPA do tópico
+ * de inventário (que deixam de iniciar) e os totais passam a ser lidos do
+ * state store local.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@Slf4j
+public class KafkaStreamsConfig {
+
+    /**
+     * Sem o motor Kafka Streams não há totais fora do banco.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.kafka.streams", name = "enabled", havingValue = "false",
+            matchIfMissing = true)
+    public InventoryTotalsView persistedInventoryTotalsView() {
+        return productSku -> Optional.empty();
+    }
+
+    /**
+     * Kafka Streams habilitado: configuração do cliente e registro da topologia.
+     */
+    @Configuration
+    @EnableKafkaStreams
+    @ConditionalOnProperty(prefix = "app.kafka.streams", name = "enabled", havingValue = "true")
+    static class StreamsEngineConfig {
+
+        @Value("${spring.kafka.bootstrap-servers}")
+        private String bootstrapServers;
+
+        @Value("${app.kafka.streams.application-id:central-inventory-streams}")
+        private String applicationId;
+
+        @Value("${app.kafka.streams.state-dir:${java.io.tmpdir}/central-inventory-streams}")
+        private String stateDir;
+
+        @Value("${app.kafka.streams.num-stream-threads:1}")
+        private Integer numStreamThreads;
+
+        @Value("${app.kafka.streams.commit-interval-ms:1000}")
+        private Integer commitIntervalMs;
+
+        @Value("${app.kafka.streams.processing-guarantee:exactly_once_v2}")
+        private String processingGuarantee;
+
+        @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+        public KafkaStreamsConfiguration kafkaStreamsConfiguration() {
+            log.info("🔧 Configurando Kafka Streams: applicationId={}, stateDir={}, threads={}",
+                    applicationId, stateDir, numStreamThreads);
+
+            Map<String, Object> props = new HashMap<>();
+            props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+            props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+            props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+            props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+            props.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, numStreamThreads);
+            props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, commitIntervalMs);
+            // exactly_once_v2: estado, changelog e tópicos de saída confirmados atomicamente
+            props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, processingGuarantee);
+            return new KafkaStreamsConfiguration(props);
+        }
+
+        @Bean
+        public KStream<String, String> inventoryAggregationStream(StreamsBuilder streamsBuilder,
+                                                                  InventoryAggregationTopology topology) {
+            return topology.build(streamsBuilder);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.inventory.management.central.infrastructure.config;
+
+import com.inventory.management.central.infrastructure.adapter.out.cache.CentralInventoryTwoTierCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuração da invalidação distribuída do cache de leitura do inventário.
+ * Assina o canal Redis em que as instâncias publicam os SKUs atualizados.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.read-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ReadCacheConfig {
+    
+    @Value("${app.read-cache.invalidation-channel:inventory:central-cache:invalidate}")
+    private String invalidationChannel;
+    
+    @Bean
+    public RedisMessageListenerContainer readCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, CentralInventoryTwoTierCache readCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> readCache.onRemoteInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
@@ -0,0 +1,80 @@
+package com.inventory.management.central.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores das camadas de retry do consumo de eventos, expostos via Micrometer/Prometheus.
+ * Cada entrega recebida de um tópico de retry ou do DLT incrementa o contador da
+ * camada (tag {@code tier} com o nome do tópico); entregas dos tópicos principal e
+ * prioritário não são contadas.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class RetryTopicMetrics {
+
+    static final String RETRY_TIER_DELIVERIES = "inventory.events.retry_tier.deliveries";
+    static final String DEAD_LETTER_REPLAYED = "inventory.events.dead_letter.replayed";
+    private static final String TIER_TAG = "tier";
+
+    private final MeterRegistry meterRegistry;
+    private final String mainTopic;
+    private final String priorityTopic;
+
+    public RetryTopicMetrics(MeterRegistry meterRegistry,
+                             @Value("${app.kafka.topics.inventory-update:inventory-update}") String mainTopic,
+                             @Value("${app.kafka.topics.inventory-priority:inventory-update-priority}")
+                             String priorityTopic) {
+        this.meterRegistry = meterRegistry;
+        this.mainTopic = mainTopic;
+        this.priorityTopic = priorityTopic;
+    }
+
+    /**
+     * Registra a entrega de um evento ao listener.
+     *
+     * @param topic tópico de origem do registro
+     */
+    public void recordDelivery(String topic) {
+        if (topic == null || topic.equals(mainTopic) || topic.equals(priorityTopic)) {
+            return;
+        }
+        Counter.builder(RETRY_TIER_DELIVERIES)
+                .description("Entregas de eventos por camada de retry (tópicos de retry e DLT)")
+                .tag(TIER_TAG, topic)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Registra eventos reenviados do DLT ao tópico principal.
+     *
+     * @param count quantidade de eventos reenviados
+     */
+    public void recordReplayed(int count) {
+        if (count > 0) {
+            Counter.builder(DEAD_LETTER_REPLAYED)
+                    .description("Eventos reenviados do DLT ao tópico principal")
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+
+    /**
+     * @return entregas acumuladas por camada, ordenadas pelo nome do tópico
+     */
+    public Map<String, Long> deliveriesByTier() {
+        Map<String, Long> deliveries = new TreeMap<>();
+        meterRegistry.find(RETRY_TIER_DELIVERIES).counters()
+                .forEach(counter -> deliveries.put(counter.getId().getTag(TIER_TAG), (long) counter.count()));
+        return deliveries;
+    }
+}
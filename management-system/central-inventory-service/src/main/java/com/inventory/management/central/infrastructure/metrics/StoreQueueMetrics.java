@@ -0,0 +1,60 @@
+package com.inventory.management.central.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Profundidade das filas por loja do consumo em lote, exposta via Micrometer/Prometheus
+ * (gauge {@code inventory.events.store_queue.depth} com a tag {@code store}).
+ * O valor é o último observado (eventos da loja na poll mais recente do tópico
+ * principal) e só muda na poll seguinte, de modo que o scrape não lê zero
+ * apenas porque a poll já foi drenada.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class StoreQueueMetrics {
+
+    static final String STORE_QUEUE_DEPTH = "inventory.events.store_queue.depth";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> depths = new ConcurrentHashMap<>();
+
+    public StoreQueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Registra a profundidade observada das filas; lojas ausentes do mapa ficam com fila vazia.
+     *
+     * @param pendingByStore eventos aguardando processamento por loja no início da poll
+     */
+    public void updateDepths(Map<String, Integer> pendingByStore) {
+        depths.forEach((store, depth) -> {
+            if (!pendingByStore.containsKey(store)) {
+                depth.set(0);
+            }
+        });
+        pendingByStore.forEach((store, pending) -> gaugeOf(store).set(pending));
+    }
+
+    /**
+     * @param storeId identificador da loja
+     * @return profundidade atual da fila da loja
+     */
+    public int depthOf(String storeId) {
+        return gaugeOf(storeId).get();
+    }
+
+    private AtomicInteger gaugeOf(String storeId) {
+        return depths.computeIfAbsent(storeId, store ->
+                meterRegistry.gauge(STORE_QUEUE_DEPTH, Tags.of("store", store), new AtomicInteger()));
+    }
+}
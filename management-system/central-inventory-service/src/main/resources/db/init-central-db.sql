@@ -37,16 +37,40 @@ CREATE TABLE IF NOT EXISTS store_inventory (
     last_updated TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     last_sync_time TIMESTAMP,
     synchronized BOOLEAN NOT NULL DEFAULT false,
+    -- Sequência do último evento da loja aplicado (descarte de duplicados e eventos obsoletos)
+    last_sequence BIGINT,
     PRIMARY KEY (product_sku, store_id)
 );
 
 -- Índices para performance
 CREATE INDEX IF NOT EXISTS idx_store_inventory_store ON store_inventory(store_id);
+-- Paginação keyset do inventário de uma loja (ordenação por SKU)
+CREATE INDEX IF NOT EXISTS idx_store_inventory_store_sku ON store_inventory(store_id, product_sku);
 CREATE INDEX IF NOT EXISTS idx_store_inventory_product ON store_inventory(product_sku);
 CREATE INDEX IF NOT EXISTS idx_store_inventory_available ON store_inventory(available_quantity);
 CREATE INDEX IF NOT EXISTS idx_store_inventory_sync ON store_inventory(synchronized);
 CREATE INDEX IF NOT EXISTS idx_store_inventory_updated ON store_inventory(last_updated);
 
+-- =====================================
+-- Geração da Lista de Lojas por Produto
+-- =====================================
+-- Incrementada na mesma transação de toda gravação ou remoção em store_inventory (versão do cache de leitura)
+CREATE TABLE IF NOT EXISTS store_inventory_generation (
+    product_sku VARCHAR(100) PRIMARY KEY,
+    generation BIGINT NOT NULL
+);
+
+-- =====================================
+-- Produtos com Inventário Central Pendente de Recálculo
+-- =====================================
+-- Marcados na mesma transação da alteração das lojas e removidos pelo flush que os recalcula
+CREATE TABLE IF NOT EXISTS central_inventory_pending (
+    product_sku VARCHAR(100) PRIMARY KEY,
+    marked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_central_inventory_pending_marked ON central_inventory_pending(marked_at);
+
 -- =====================================
 -- Tabela de Eventos de Inventário
 -- =====================================
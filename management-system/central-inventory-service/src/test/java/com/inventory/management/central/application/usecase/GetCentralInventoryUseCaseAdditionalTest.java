@@ -1,7 +1,9 @@
 package com.inventory.management.central.application.usecase;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.InventoryTotalsView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,9 +14,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
 
 /**
  * Testes adicionais para GetCentralInventoryUseCase focados em aumentar cobertura
@@ -27,6 +33,12 @@ class GetCentralInventoryUseCaseAdditionalTest {
     @Mock
     private CentralInventoryRepository centralInventoryRepository;
 
+    @Mock
+    private InventoryTotalsView inventoryTotalsView;
+
+    @Mock
+    private CentralInventoryReadCache readCache;
+
     @InjectMocks
     private GetCentralInventoryUseCase getCentralInventoryUseCase;
 
@@ -34,6 +46,10 @@ class GetCentralInventoryUseCaseAdditionalTest {
 
     @BeforeEach
     void setUp() {
+        // Cache de leitura transparente: delega ao loader (banco)
+        lenient().when(readCache.getCentralInventory(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Optional<CentralInventory>>>getArgument(1).get());
+
         testInventory = CentralInventory.builder()
                 .productSku("TEST-001")
                 .productName("Test Product")
@@ -1,7 +1,12 @@
 package com.inventory.management.central.application.usecase;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.InventoryPage;
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.InventoryTotalsView;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +14,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetCentralInventoryUseCase - Testes Unitários")
@@ -25,6 +35,12 @@ class GetCentralInventoryUseCaseTest {
     @Mock
     private CentralInventoryRepository centralInventoryRepository;
 
+    @Mock
+    private InventoryTotalsView inventoryTotalsView;
+
+    @Mock
+    private CentralInventoryReadCache readCache;
+
     @InjectMocks
     private GetCentralInventoryUseCase useCase;
 
@@ -34,6 +50,10 @@ class GetCentralInventoryUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // Cache de leitura transparente: delega ao loader (banco)
+        lenient().when(readCache.getCentralInventory(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Optional<CentralInventory>>>getArgument(1).get());
+
         centralInventory1 = CentralInventory.builder()
                 .productSku("SKU-001")
                 .productName("Produto 1")
@@ -111,6 +131,45 @@ class GetCentralInventoryUseCaseTest {
         verify(centralInventoryRepository).findByProductSku(productSku);
     }
 
+    @Test
+    @DisplayName("Deve sobrepor os totais do state store aos persistidos")
+    void shouldOverlayLiveTotalsOnPersistedInventory() {
+        // Given
+        when(centralInventoryRepository.findByProductSku("SKU-001"))
+                .thenReturn(Optional.of(centralInventory1));
+        when(inventoryTotalsView.findTotals("SKU-001"))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 130, 30)));
+
+        // When
+        Optional<CentralInventory> result = useCase.getByProductSku("SKU-001");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getProductName()).isEqualTo("Produto 1");
+        assertThat(result.get().getTotalQuantity()).isEqualTo(130);
+        assertThat(result.get().getTotalReservedQuantity()).isEqualTo(30);
+        assertThat(result.get().getAvailableQuantity()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Deve retornar os totais do state store antes de o produto chegar ao banco")
+    void shouldReturnLiveTotalsWhenNotPersistedYet() {
+        // Given
+        when(centralInventoryRepository.findByProductSku("SKU-NEW"))
+                .thenReturn(Optional.empty());
+        when(inventoryTotalsView.findTotals("SKU-NEW"))
+                .thenReturn(Optional.of(new StockTotals("SKU-NEW", 12, 2)));
+
+        // When
+        Optional<CentralInventory> result = useCase.getByProductSku("SKU-NEW");
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getProductSku()).isEqualTo("SKU-NEW");
+        assertThat(result.get().getTotalQuantity()).isEqualTo(12);
+        assertThat(result.get().getAvailableQuantity()).isEqualTo(10);
+    }
+
     @Test
     @DisplayName("Deve retornar vazio quando SKU é nulo")
     void shouldReturnEmptyWhenSkuIsNull() {
@@ -367,4 +426,58 @@ class GetCentralInventoryUseCaseTest {
         assertThat(result).hasSize(1);
         verify(centralInventoryRepository).findByProductNameContaining("Produto");
     }
+
+    @Test
+    @DisplayName("Deve paginar inventários centrais por SKU")
+    void shouldPaginateCentralInventoriesBySku() {
+        // Given
+        ReflectionTestUtils.setField(useCase, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(useCase, "maxPageSize", 500);
+        when(centralInventoryRepository.findPageAfterSku("SKU-000", 3, true))
+                .thenReturn(Arrays.asList(centralInventory1, centralInventory2, centralInventory3));
+
+        // When
+        InventoryPage<CentralInventory> page = useCase.getInventoriesPage(true, "SKU-000", 2);
+
+        // Then
+        assertThat(page.items()).containsExactly(centralInventory1, centralInventory2);
+        assertThat(page.nextAfterSku()).isEqualTo(centralInventory2.getProductSku());
+        verify(centralInventoryRepository, never()).findActiveProducts();
+    }
+
+    @Test
+    @DisplayName("Deve usar tamanho de página padrão quando limite não for informado")
+    void shouldUseDefaultPageSizeWhenLimitIsMissing() {
+        // Given
+        ReflectionTestUtils.setField(useCase, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(useCase, "maxPageSize", 500);
+        when(centralInventoryRepository.findPageAfterSku(null, 101, false)).thenReturn(List.of(centralInventory1));
+
+        // When
+        InventoryPage<CentralInventory> page = useCase.getInventoriesPage(false, null, null);
+
+        // Then
+        assertThat(page.items()).containsExactly(centralInventory1);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve paginar campos selecionados dos inventários centrais por SKU")
+    void shouldPaginateSelectedFieldsBySku() {
+        // Given
+        ReflectionTestUtils.setField(useCase, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(useCase, "maxPageSize", 500);
+        FieldSelection selection = FieldSelection.parse("availableQuantity", CentralInventory.FIELDS);
+        Map<String, Object> first = Map.of("productSku", "SKU-001", "availableQuantity", 80);
+        Map<String, Object> second = Map.of("productSku", "SKU-002", "availableQuantity", 45);
+        when(centralInventoryRepository.findFieldsPageAfterSku("SKU-000", 2, true, selection))
+                .thenReturn(List.of(first, second));
+
+        // When
+        InventoryPage<Map<String, Object>> page = useCase.getInventoryFieldsPage(true, "SKU-000", 1, selection);
+
+        // Then
+        assertThat(page.items()).containsExactly(first);
+        assertThat(page.nextAfterSku()).isEqualTo("SKU-001");
+    }
 }
@@ -1,6 +1,8 @@
 package com.inventory.management.central.application.usecase;
 
+import com.inventory.management.central.domain.model.InventoryPage;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.StoreInventoryRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,14 +11,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("GetStoreInventoryUseCase - Testes Unitários")
@@ -25,6 +31,9 @@ class GetStoreInventoryUseCaseTest {
     @Mock
     private StoreInventoryRepository storeInventoryRepository;
 
+    @Mock
+    private CentralInventoryReadCache readCache;
+
     @InjectMocks
     private GetStoreInventoryUseCase useCase;
 
@@ -34,6 +43,10 @@ class GetStoreInventoryUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        // Cache de leitura transparente: delega ao loader (banco)
+        lenient().when(readCache.getStoreInventories(anyString(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<List<StoreInventory>>>getArgument(1).get());
+
         storeInventory1 = StoreInventory.builder()
                 .productSku("SKU-001")
                 .storeId("STORE-001")
@@ -436,4 +449,49 @@ class GetStoreInventoryUseCaseTest {
 
         verifyNoInteractions(storeInventoryRepository);
     }
+
+    @Test
+    @DisplayName("Deve paginar inventário da loja buscando um item a mais")
+    void shouldPaginateStoreInventoryOverfetchingOneItem() {
+        // Given
+        ReflectionTestUtils.setField(useCase, "defaultPageSize", 1);
+        ReflectionTestUtils.setField(useCase, "maxPageSize", 500);
+        when(storeInventoryRepository.findPageByStoreIdAfterSku("STORE-001", null, 2, true))
+                .thenReturn(Arrays.asList(storeInventory1, storeInventory2));
+
+        // When
+        InventoryPage<StoreInventory> page = useCase.getInventoryByStorePage(" STORE-001 ", true, null, null);
+
+        // Then
+        assertThat(page.items()).containsExactly(storeInventory1);
+        assertThat(page.nextAfterSku()).isEqualTo("SKU-001");
+    }
+
+    @Test
+    @DisplayName("Deve limitar tamanho da página ao máximo configurado")
+    void shouldCapStorePageSizeAtMaximum() {
+        // Given
+        ReflectionTestUtils.setField(useCase, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(useCase, "maxPageSize", 500);
+        when(storeInventoryRepository.findPageByStoreIdAfterSku("STORE-001", "SKU-001", 501, false))
+                .thenReturn(List.of(storeInventory2));
+
+        // When
+        InventoryPage<StoreInventory> page = useCase.getInventoryByStorePage("STORE-001", false, "SKU-001", 10_000);
+
+        // Then
+        assertThat(page.items()).containsExactly(storeInventory2);
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve retornar página vazia para loja inválida")
+    void shouldReturnEmptyPageForInvalidStore() {
+        // When
+        InventoryPage<StoreInventory> page = useCase.getInventoryByStorePage(" ", false, null, null);
+
+        // Then
+        assertThat(page.items()).isEmpty();
+        verifyNoInteractions(storeInventoryRepository);
+    }
 }
@@ -0,0 +1,51 @@
+package com.inventory.management.central.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FieldSelection - Testes Unitários")
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("Deve incluir o campo chave primeiro e remover repetições")
+    void shouldIncludeKeyFieldFirstWithoutDuplicates() {
+        // When
+        FieldSelection selection = FieldSelection.parse(" availableQuantity, productSku,availableQuantity,, ",
+                CentralInventory.FIELDS);
+
+        // Then
+        assertThat(selection.fields()).containsExactly("productSku", "availableQuantity");
+        assertThat(selection.keyField()).isEqualTo("productSku");
+    }
+
+    @Test
+    @DisplayName("Deve retornar null quando nenhum campo for informado")
+    void shouldReturnNullWhenNoFieldIsInformed() {
+        assertThat(FieldSelection.parse(null, CentralInventory.FIELDS)).isNull();
+        assertThat(FieldSelection.parse("  ", CentralInventory.FIELDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar campo inexistente")
+    void shouldRejectUnknownField() {
+        assertThatThrownBy(() -> FieldSelection.parse("productSku,password", CentralInventory.FIELDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("password");
+    }
+
+    @Test
+    @DisplayName("Deve gerar fingerprints distintos para seleções distintas")
+    void shouldGenerateDistinctFingerprintsForDistinctSelections() {
+        // Given
+        FieldSelection quantity = FieldSelection.parse("availableQuantity", StoreInventory.FIELDS);
+        FieldSelection store = FieldSelection.parse("storeId", StoreInventory.FIELDS);
+
+        // Then
+        assertThat(quantity.fingerprint()).isNotEqualTo(store.fingerprint());
+        assertThat(FieldSelection.parse("availableQuantity", StoreInventory.FIELDS).fingerprint())
+                .isEqualTo(quantity.fingerprint());
+    }
+}
@@ -29,6 +29,20 @@ class StoreInventoryTest {
                 .build();
     }
 
+    @Test
+    @DisplayName("Deve aceitar apenas sequências maiores que a última aplicada")
+    void shouldAcceptOnlyNewerSequences() {
+        // Given
+        storeInventory.setLastSequence(5L);
+
+        // Then
+        assertThat(storeInventory.acceptsSequence(6L)).isTrue();
+        assertThat(storeInventory.acceptsSequence(5L)).isFalse();
+        assertThat(storeInventory.acceptsSequence(4L)).isFalse();
+        assertThat(storeInventory.acceptsSequence(null)).isTrue();
+        assertThat(StoreInventory.create("SKU-001", "STORE-001", "Loja").acceptsSequence(1L)).isTrue();
+    }
+
     @Test
     @DisplayName("Deve criar StoreInventory com builder padrão")
     void shouldCreateStoreInventoryWithBuilder() {
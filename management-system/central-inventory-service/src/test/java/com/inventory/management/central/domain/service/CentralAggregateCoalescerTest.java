@@ -0,0 +1,152 @@
+package com.inventory.management.central.domain.service;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CentralAggregateCoalescer - Testes Unitários")
+class CentralAggregateCoalescerTest {
+
+    @Mock
+    private StoreInventoryRepository storeInventoryRepository;
+
+    @Mock
+    private CentralInventoryRepository centralInventoryRepository;
+
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
+    @Mock
+    private CentralInventoryReadCache readCache;
+
+    private CentralAggregateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new CentralAggregateCoalescer(
+                storeInventoryRepository, centralInventoryRepository, generationCounters, readCache, true, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve marcar os SKUs como pendentes na transação corrente")
+    void shouldMarkSkusPendingInCurrentTransaction() {
+        // When
+        coalescer.markDirty(List.of("SKU-001", "SKU-002"));
+
+        // Then
+        verify(centralInventoryRepository).markTotalsPending(List.of("SKU-001", "SKU-002"));
+        verifyNoInteractions(storeInventoryRepository, generationCounters, readCache);
+    }
+
+    @Test
+    @DisplayName("Deve recalcular uma única vez cada SKU pendente, com uma consulta agrupada")
+    void shouldRecalculateEachPendingSkuOnce() {
+        // Given
+        when(centralInventoryRepository.claimPendingTotals(1000)).thenReturn(List.of("SKU-001", "SKU-002"));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(anyCollection()))
+                .thenReturn(List.of(new StockTotals("SKU-001", 120, 20), new StockTotals("SKU-002", 30, 5)));
+
+        // When
+        int recalculated = coalescer.flush();
+
+        // Then
+        assertThat(recalculated).isEqualTo(2);
+        verify(storeInventoryRepository, times(1)).sumQuantitiesByProductSkuIn(anyCollection());
+        verify(storeInventoryRepository, never()).sumQuantityByProductSku(any());
+
+        verify(centralInventoryRepository, never()).findByProductSkuIn(anyCollection());
+        assertThat(captureUpserted()).containsExactlyInAnyOrder(
+                new StockTotals("SKU-001", 120, 20), new StockTotals("SKU-002", 30, 5));
+        verify(generationCounters).advanceProductAfterCommit("SKU-001");
+        verify(generationCounters).advanceProductAfterCommit("SKU-002");
+        verify(readCache).refreshAfterCommit(List.of("SKU-001", "SKU-002"));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear os SKUs antes de somar as lojas e gravar os totais")
+    void shouldLockSkusBeforeSummingStores() {
+        // Given
+        when(centralInventoryRepository.claimPendingTotals(1000)).thenReturn(List.of("SKU-001"));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(List.of("SKU-001")))
+                .thenReturn(List.of(new StockTotals("SKU-001", 120, 20)));
+
+        // When
+        coalescer.flush();
+
+        // Then
+        InOrder inOrder = inOrder(centralInventoryRepository, storeInventoryRepository);
+        inOrder.verify(centralInventoryRepository).claimPendingTotals(1000);
+        inOrder.verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        inOrder.verify(storeInventoryRepository).sumQuantitiesByProductSkuIn(List.of("SKU-001"));
+        inOrder.verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 120, 20)));
+    }
+
+    @Test
+    @DisplayName("Deve zerar os totais de SKU sem inventário em nenhuma loja")
+    void shouldZeroTotalsOfSkuWithoutStoreInventory() {
+        // Given
+        when(centralInventoryRepository.claimPendingTotals(1000)).thenReturn(List.of("SKU-VAZIO"));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        coalescer.flush();
+
+        // Then
+        assertThat(captureUpserted()).containsExactly(StockTotals.empty("SKU-VAZIO"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o flush sem SKUs pendentes sem recalcular")
+    void shouldSkipFlushWithoutPendingSkus() {
+        // Given
+        when(centralInventoryRepository.claimPendingTotals(1000)).thenReturn(List.of());
+
+        // When
+        int recalculated = coalescer.flush();
+
+        // Then
+        assertThat(recalculated).isZero();
+        verify(centralInventoryRepository, never()).lockTotals(anyCollection());
+        verifyNoInteractions(storeInventoryRepository, generationCounters, readCache);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar o flush com a coalescência desabilitada sem acessar o banco")
+    void shouldSkipFlushWhenDisabled() {
+        // Given
+        CentralAggregateCoalescer disabled = new CentralAggregateCoalescer(
+                storeInventoryRepository, centralInventoryRepository, generationCounters, readCache, false, 1000);
+
+        // When
+        int recalculated = disabled.flush();
+
+        // Then
+        assertThat(recalculated).isZero();
+        verifyNoInteractions(storeInventoryRepository, centralInventoryRepository, generationCounters, readCache);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<StockTotals> captureUpserted() {
+        ArgumentCaptor<Collection<StockTotals>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(centralInventoryRepository).upsertTotals(captor.capture());
+        return captor.getValue();
+    }
+}
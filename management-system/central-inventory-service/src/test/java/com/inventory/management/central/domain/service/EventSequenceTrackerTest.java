@@ -0,0 +1,141 @@
+package com.inventory.management.central.domain.service;
+
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSequenceTracker - Testes Unitários")
+class EventSequenceTrackerTest {
+
+    @Mock
+    private StoreInventoryRepository storeInventoryRepository;
+
+    private EventSequenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new EventSequenceTracker(storeInventoryRepository, 1000);
+    }
+
+    @Test
+    @DisplayName("Deve considerar superados eventos com sequência até a marca conhecida")
+    void shouldSupersedeEventsUpToHighWaterMark() {
+        // Given
+        tracker.advanceAfterCommit("STORE-001", "SKU-001", 5L);
+
+        // Then
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 4L))).isTrue();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 5L))).isTrue();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 6L))).isFalse();
+        assertThat(tracker.isSuperseded(event("STORE-002", "SKU-001", 1L))).isFalse();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-002", 1L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve descartar eventos sem sequência")
+    void shouldNotSupersedeEventsWithoutSequence() {
+        // Given
+        tracker.remember("STORE-001", "SKU-001", 5L);
+
+        // Then
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Não deve recuar a marca ao registrar uma sequência menor")
+    void shouldNotLowerHighWaterMark() {
+        // Given
+        tracker.remember("STORE-001", "SKU-001", 9L);
+
+        // When
+        tracker.remember("STORE-001", "SKU-001", 3L);
+        tracker.advanceAfterCommit("STORE-001", "SKU-001", null);
+
+        // Then
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 9L))).isTrue();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 10L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do banco a marca ausente do cache apenas uma vez")
+    void shouldLoadMissingHighWaterMarkFromDatabaseOnce() {
+        // Given
+        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
+                .thenReturn(Optional.of(inventory("STORE-001", "SKU-001", 8L)));
+
+        // Then
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 8L))).isTrue();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 9L))).isFalse();
+        verify(storeInventoryRepository, times(1)).findByProductSkuAndStoreId("SKU-001", "STORE-001");
+    }
+
+    @Test
+    @DisplayName("Deve memorizar a ausência de sequência gravada sem nova consulta")
+    void shouldCacheMissingSequence() {
+        // Given
+        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
+                .thenReturn(Optional.empty());
+
+        // Then
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 1L))).isFalse();
+        assertThat(tracker.isSuperseded(event("STORE-001", "SKU-001", 2L))).isFalse();
+        verify(storeInventoryRepository, times(1)).findByProductSkuAndStoreId("SKU-001", "STORE-001");
+    }
+
+    @Test
+    @DisplayName("Deve pré-carregar as marcas de um lote com uma única consulta")
+    void shouldPreloadBatchWithSingleQuery() {
+        // Given
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001", "SKU-002"))).thenReturn(List.of(
+                inventory("STORE-001", "SKU-001", 4L),
+                inventory("STORE-002", "SKU-001", 9L),
+                inventory("STORE-001", "SKU-002", null)));
+        List<InventoryEvent> batch = List.of(
+                event("STORE-001", "SKU-001", 4L),
+                event("STORE-001", "SKU-002", 1L),
+                event("STORE-003", "SKU-002", 1L),
+                event("STORE-001", "SKU-001", null));
+
+        // When
+        tracker.preload(batch);
+
+        // Then
+        assertThat(tracker.isSuperseded(batch.get(0))).isTrue();
+        assertThat(tracker.isSuperseded(batch.get(1))).isFalse();
+        assertThat(tracker.isSuperseded(batch.get(2))).isFalse();
+        assertThat(tracker.isSuperseded(batch.get(3))).isFalse();
+        verify(storeInventoryRepository, never()).findByProductSkuAndStoreId(anyString(), anyString());
+    }
+
+    private StoreInventory inventory(String storeId, String productSku, Long sequence) {
+        StoreInventory inventory = StoreInventory.create(productSku, storeId, "Store " + storeId);
+        inventory.setLastSequence(sequence);
+        return inventory;
+    }
+
+    private InventoryEvent event(String storeId, String productSku, Long sequence) {
+        return InventoryEvent.builder()
+                .storeId(storeId)
+                .productSku(productSku)
+                .sequence(sequence)
+                .build();
+    }
+}
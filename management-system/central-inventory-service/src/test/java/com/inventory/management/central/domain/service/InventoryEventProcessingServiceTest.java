@@ -2,7 +2,9 @@ package com.inventory.management.central.domain.service;
 
 import com.inventory.management.central.domain.model.CentralInventory;
 import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
 import com.inventory.management.central.domain.port.CentralInventoryRepository;
 import com.inventory.management.central.domain.port.InventoryEventRepository;
 import com.inventory.management.central.domain.port.StoreInventoryRepository;
@@ -10,12 +12,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,12 +48,23 @@ class InventoryEventProcessingServiceTest {
     @Mock
     private CentralInventoryRepository centralInventoryRepository;
 
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
+    @Mock
+    private CentralAggregateCoalescer aggregateCoalescer;
+
+    @Mock
+    private EventSequenceTracker sequenceTracker;
+
+    @Mock
+    private CentralInventoryReadCache readCache;
+
     @InjectMocks
     private InventoryEventProcessingService service;
 
     private InventoryEvent validEvent;
     private StoreInventory storeInventory;
-    private CentralInventory centralInventory;
 
     @BeforeEach
     void setUp() {
@@ -66,40 +88,169 @@ class InventoryEventProcessingServiceTest {
                 .reserved(5)
                 .available(45)
                 .build();
-
-        centralInventory = CentralInventory.builder()
-                .productSku("SKU-001")
-                .productName("Produto Teste")
-                .totalQuantity(100)
-                .totalReservedQuantity(15)
-                .availableQuantity(85)
-                .build();
     }
 
     @Test
     @DisplayName("Deve processar evento válido com sucesso")
     void shouldProcessValidEventSuccessfully() {
         // Given
-        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
-                .thenReturn(Optional.of(storeInventory));
-        when(storeInventoryRepository.save(any(StoreInventory.class)))
-                .thenReturn(storeInventory);
-        when(storeInventoryRepository.sumQuantityByProductSku("SKU-001"))
-                .thenReturn(75);
-        when(storeInventoryRepository.sumReservedQuantityByProductSku("SKU-001"))
-                .thenReturn(10);
-        when(centralInventoryRepository.findByProductSku("SKU-001"))
-                .thenReturn(Optional.of(centralInventory));
-        when(centralInventoryRepository.save(any(CentralInventory.class)))
-                .thenReturn(centralInventory);
+        setupMocksForSuccessfulProcessing();
+
+        // When
+        boolean result = service.processInventoryEvent(validEvent);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(storeInventoryRepository).upsert(any(StoreInventory.class));
+        InOrder inOrder = inOrder(centralInventoryRepository, storeInventoryRepository);
+        inOrder.verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        inOrder.verify(storeInventoryRepository).sumQuantitiesByProductSkuIn(List.of("SKU-001"));
+        inOrder.verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 75, 10)));
+        verify(storeInventoryRepository, never()).findByProductSkuAndStoreId(anyString(), anyString());
+        verify(centralInventoryRepository, never()).findByProductSku(anyString());
+        verify(readCache).refreshAfterCommit(List.of("SKU-001"));
+        verify(generationCounters).advanceAfterCommit("STORE-001", "SKU-001");
+    }
+
+    @Test
+    @DisplayName("Deve marcar o SKU para recálculo coalescido sem agregar o inventário central")
+    void shouldMarkSkuDirtyWhenAggregateCoalescingIsEnabled() {
+        // Given
+        when(aggregateCoalescer.isEnabled()).thenReturn(true);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 25, 5)));
+
+        // When
+        boolean result = service.processInventoryEvent(validEvent);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(aggregateCoalescer).markDirty(List.of("SKU-001"));
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+        verifyNoInteractions(centralInventoryRepository);
+        verify(generationCounters).advanceAfterCommit("STORE-001", "SKU-001");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a variação da loja ao inventário central sem somar as lojas")
+    void shouldApplyStoreDeltaToCentralInventory() {
+        // Given
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 25, 5)));
 
         // When
         boolean result = service.processInventoryEvent(validEvent);
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        InOrder inOrder = inOrder(centralInventoryRepository);
+        inOrder.verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        inOrder.verify(centralInventoryRepository).addTotals(List.of(new StockTotals("SKU-001", 25, 5)));
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+        verify(centralInventoryRepository, never()).upsertTotals(any());
+        verifyNoInteractions(aggregateCoalescer);
+    }
+
+    @Test
+    @DisplayName("Deve somar as variações de duas lojas em um SKU novo sem que uma sobrescreva a outra")
+    void shouldAddDeltasOfTwoStoresForNewSku() {
+        // Given
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        Map<String, StockTotals> central = new HashMap<>();
+        modelCentralTotals(central);
+        InventoryEvent otherStoreEvent = updateEvent("STORE-002", 20, 0);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 75, 10)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 20, 0)));
+
+        // When
+        service.processInventoryEvent(validEvent);
+        service.processInventoryEvent(otherStoreEvent);
+
+        // Then
+        assertThat(central).containsEntry("SKU-001", new StockTotals("SKU-001", 95, 10));
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+        verify(centralInventoryRepository, never()).upsertTotals(any());
+    }
+
+    @Test
+    @DisplayName("Deve manter o total central correto quando um recálculo se intercala com uma variação")
+    void shouldKeepCentralTotalsWhenRecalculationInterleavesWithDelta() {
+        // Given: lojas confirmadas somam 80/8 (STORE-001 50/5 e STORE-002 30/3), central defasado em 70/7
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        Map<String, StockTotals> central = new HashMap<>(Map.of("SKU-001", new StockTotals("SKU-001", 70, 7)));
+        modelCentralTotals(central);
+        CentralAggregateCoalescer recalculation = new CentralAggregateCoalescer(
+                storeInventoryRepository, centralInventoryRepository, generationCounters, readCache, true, 1000);
+        when(centralInventoryRepository.claimPendingTotals(1000)).thenReturn(List.of("SKU-001"));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(List.of("SKU-001")))
+                .thenReturn(List.of(new StockTotals("SKU-001", 80, 8)));
+        // O recálculo de outra transação ocorre entre a gravação da loja (ainda não confirmada) e a variação
+        when(storeInventoryRepository.upsert(any(StoreInventory.class))).thenAnswer(invocation -> {
+            recalculation.flush();
+            return Optional.of(new StockTotals("SKU-001", 25, 5));
+        });
+
+        // When
+        service.processInventoryEvent(validEvent);
+
+        // Then: STORE-001 75/10 + STORE-002 30/3
+        assertThat(central).containsEntry("SKU-001", new StockTotals("SKU-001", 105, 13));
+        InOrder inOrder = inOrder(centralInventoryRepository, storeInventoryRepository);
+        inOrder.verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        inOrder.verify(storeInventoryRepository).sumQuantitiesByProductSkuIn(List.of("SKU-001"));
+        inOrder.verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 80, 8)));
+        inOrder.verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        inOrder.verify(centralInventoryRepository).addTotals(List.of(new StockTotals("SKU-001", 25, 5)));
+    }
+
+    @Test
+    @DisplayName("Deve descartar evento já superado em memória sem acessar o banco")
+    void shouldDropSupersededEventWithoutDatabaseAccess() {
+        // Given
+        validEvent.setSequence(3L);
+        when(sequenceTracker.isSuperseded(validEvent)).thenReturn(true);
+
+        // When
+        boolean result = service.processInventoryEvent(validEvent);
+
+        // Then
+        assertThat(result).isTrue();
+        verifyNoInteractions(storeInventoryRepository, centralInventoryRepository, generationCounters);
+    }
+
+    @Test
+    @DisplayName("Deve descartar evento com sequência já aplicada ao inventário da loja")
+    void shouldDropEventWithSequenceAlreadyAppliedToStoreInventory() {
+        // Given
+        validEvent.setSequence(3L);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class))).thenReturn(Optional.empty());
+
+        // When
+        boolean result = service.processInventoryEvent(validEvent);
+
+        // Then
+        assertThat(result).isTrue();
+        verify(storeInventoryRepository, never()).findByProductSkuAndStoreId(anyString(), anyString());
+        verifyNoInteractions(centralInventoryRepository, generationCounters);
+        verify(sequenceTracker).remember("STORE-001", "SKU-001", 3L);
+        verify(sequenceTracker, never()).advanceAfterCommit(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Deve registrar a sequência do evento aplicado")
+    void shouldRecordSequenceOfAppliedEvent() {
+        // Given
+        validEvent.setSequence(6L);
+        setupMocksForSuccessfulProcessing();
+
+        // When
+        service.processInventoryEvent(validEvent);
+
+        // Then
+        assertThat(captureUpserted().getLastSequence()).isEqualTo(6L);
+        verify(sequenceTracker).advanceAfterCommit("STORE-001", "SKU-001", 6L);
     }
 
     @Test
@@ -229,53 +380,38 @@ class InventoryEventProcessingServiceTest {
     }
 
     @Test
-    @DisplayName("Deve criar novo StoreInventory quando não existe")
+    @DisplayName("Deve gravar o inventário da loja com um único upsert a partir do evento")
     void shouldCreateNewStoreInventoryWhenNotExists() {
         // Given
-        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
-                .thenReturn(Optional.empty());
-        when(storeInventoryRepository.save(any(StoreInventory.class)))
-                .thenReturn(storeInventory);
-        when(storeInventoryRepository.sumQuantityByProductSku("SKU-001"))
-                .thenReturn(75);
-        when(storeInventoryRepository.sumReservedQuantityByProductSku("SKU-001"))
-                .thenReturn(10);
-        when(centralInventoryRepository.findByProductSku("SKU-001"))
-                .thenReturn(Optional.of(centralInventory));
-        when(centralInventoryRepository.save(any(CentralInventory.class)))
-                .thenReturn(centralInventory);
+        setupMocksForSuccessfulProcessing();
 
         // When
         boolean result = service.processInventoryEvent(validEvent);
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
+        StoreInventory upserted = captureUpserted();
+        assertThat(upserted.getStoreName()).isEqualTo("Store STORE-001");
+        assertThat(upserted.getQuantity()).isEqualTo(75);
+        assertThat(upserted.getReservedQuantity()).isEqualTo(10);
+        assertThat(upserted.getAvailableQuantity()).isEqualTo(65);
+        assertThat(upserted.getIsSynchronized()).isTrue();
+        verify(storeInventoryRepository, never()).save(any(StoreInventory.class));
     }
 
     @Test
-    @DisplayName("Deve criar novo CentralInventory quando não existe")
+    @DisplayName("Deve gravar os totais centrais com upsert, sem consultar o inventário central")
     void shouldCreateNewCentralInventoryWhenNotExists() {
         // Given
-        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
-                .thenReturn(Optional.of(storeInventory));
-        when(storeInventoryRepository.save(any(StoreInventory.class)))
-                .thenReturn(storeInventory);
-        when(storeInventoryRepository.sumQuantityByProductSku("SKU-001"))
-                .thenReturn(75);
-        when(storeInventoryRepository.sumReservedQuantityByProductSku("SKU-001"))
-                .thenReturn(10);
-        when(centralInventoryRepository.findByProductSku("SKU-001"))
-                .thenReturn(Optional.empty());
-        when(centralInventoryRepository.save(any(CentralInventory.class)))
-                .thenReturn(centralInventory);
+        setupMocksForSuccessfulProcessing();
 
         // When
         boolean result = service.processInventoryEvent(validEvent);
 
         // Then
         assertThat(result).isTrue();
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 75, 10)));
+        verify(centralInventoryRepository, never()).save(any(CentralInventory.class));
     }
 
     @Test
@@ -290,8 +426,8 @@ class InventoryEventProcessingServiceTest {
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(storeInventoryRepository).upsert(any(StoreInventory.class));
+        verify(centralInventoryRepository).upsertTotals(any());
     }
 
     @Test
@@ -306,8 +442,8 @@ class InventoryEventProcessingServiceTest {
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(storeInventoryRepository).upsert(any(StoreInventory.class));
+        verify(centralInventoryRepository).upsertTotals(any());
     }
 
     @Test
@@ -322,8 +458,8 @@ class InventoryEventProcessingServiceTest {
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(storeInventoryRepository).upsert(any(StoreInventory.class));
+        verify(centralInventoryRepository).upsertTotals(any());
     }
 
     @Test
@@ -338,15 +474,15 @@ class InventoryEventProcessingServiceTest {
 
         // Then
         assertThat(result).isTrue();
-        verify(storeInventoryRepository).save(any(StoreInventory.class));
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(storeInventoryRepository).upsert(any(StoreInventory.class));
+        verify(centralInventoryRepository).upsertTotals(any());
     }
 
     @Test
     @DisplayName("Deve lançar exceção quando ocorre erro no processamento")
     void shouldThrowExceptionWhenProcessingFails() {
         // Given
-        when(storeInventoryRepository.findByProductSkuAndStoreId(anyString(), anyString()))
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
                 .thenThrow(new RuntimeException("Erro de banco de dados"));
 
         // When & Then
@@ -356,28 +492,19 @@ class InventoryEventProcessingServiceTest {
     }
 
     @Test
-    @DisplayName("Deve lidar com totais null dos repositórios")
+    @DisplayName("Deve zerar os totais centrais quando a soma das lojas não retorna o produto")
     void shouldHandleNullTotalsFromRepositories() {
         // Given
-        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
-                .thenReturn(Optional.of(storeInventory));
-        when(storeInventoryRepository.save(any(StoreInventory.class)))
-                .thenReturn(storeInventory);
-        when(storeInventoryRepository.sumQuantityByProductSku("SKU-001"))
-                .thenReturn(null);
-        when(storeInventoryRepository.sumReservedQuantityByProductSku("SKU-001"))
-                .thenReturn(null);
-        when(centralInventoryRepository.findByProductSku("SKU-001"))
-                .thenReturn(Optional.of(centralInventory));
-        when(centralInventoryRepository.save(any(CentralInventory.class)))
-                .thenReturn(centralInventory);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 25, 5)));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(List.of("SKU-001"))).thenReturn(List.of());
 
         // When
         boolean result = service.processInventoryEvent(validEvent);
 
         // Then
         assertThat(result).isTrue();
-        verify(centralInventoryRepository).save(any(CentralInventory.class));
+        verify(centralInventoryRepository).upsertTotals(List.of(StockTotals.empty("SKU-001")));
     }
 
     @Test
@@ -390,18 +517,273 @@ class InventoryEventProcessingServiceTest {
         verifyNoInteractions(storeInventoryRepository, centralInventoryRepository, inventoryEventRepository);
     }
 
+    @Test
+    @DisplayName("Deve processar lote pré-carregando inventários e recalculando os totais com uma única agregação")
+    void shouldProcessBatchWithPrefetchAndSingleAggregation() {
+        // Given
+        StoreInventory otherStore = StoreInventory.builder()
+                .productSku("SKU-001")
+                .storeId("STORE-002")
+                .quantity(30)
+                .reserved(3)
+                .available(27)
+                .build();
+        InventoryEvent newStoreEvent = updateEvent("STORE-003", 20, 0);
+        InventoryEvent laterEvent = updateEvent("STORE-001", 60, 6);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001")))
+                .thenReturn(List.of(storeInventory, otherStore));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(Set.of("SKU-001")))
+                .thenReturn(List.of(new StockTotals("SKU-001", 110, 9)));
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(validEvent, newStoreEvent, laterEvent));
+
+        // Then
+        assertThat(processed).isEqualTo(3);
+        assertThat(storeInventory.getQuantity()).isEqualTo(60);
+        assertThat(storeInventory.getReservedQuantity()).isEqualTo(6);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<StoreInventory>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(storeInventoryRepository).upsertAll(saved.capture());
+        assertThat(saved.getValue()).extracting(StoreInventory::getStoreId)
+                .containsExactlyInAnyOrder("STORE-001", "STORE-003");
+        verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 110, 9)));
+        verify(centralInventoryRepository, never()).findByProductSkuIn(any());
+        verify(storeInventoryRepository, never()).findByProductSkuAndStoreId(anyString(), anyString());
+        verify(storeInventoryRepository, never()).sumQuantityByProductSku(anyString());
+        verify(readCache).refreshAfterCommit(Set.of("SKU-001"));
+        verify(generationCounters).advanceAfterCommit("STORE-003", "SKU-001");
+    }
+
+    @Test
+    @DisplayName("Deve aplicar ao inventário central a variação líquida do lote por produto")
+    void shouldApplyNetBatchDeltaPerProduct() {
+        // Given
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        StoreInventory otherStore = StoreInventory.builder()
+                .productSku("SKU-001")
+                .storeId("STORE-002")
+                .quantity(30)
+                .reserved(3)
+                .available(27)
+                .build();
+        InventoryEvent newStoreEvent = updateEvent("STORE-003", 20, 0);
+        InventoryEvent laterEvent = updateEvent("STORE-001", 60, 6);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001")))
+                .thenReturn(List.of(storeInventory, otherStore));
+        when(storeInventoryRepository.upsertAll(any()))
+                .thenReturn(List.of(new StockTotals("SKU-001", 10, 1), new StockTotals("SKU-001", 20, 0)));
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(validEvent, newStoreEvent, laterEvent));
+
+        // Then
+        assertThat(processed).isEqualTo(3);
+        verify(centralInventoryRepository).lockTotals(List.of("SKU-001"));
+        verify(centralInventoryRepository, times(1)).addTotals(List.of(new StockTotals("SKU-001", 30, 1)));
+        verify(centralInventoryRepository, never()).upsertTotals(any());
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve aplicar no lote as variações das linhas gravadas e não as do pré-carregamento")
+    void shouldApplyBatchDeltaFromUpsertedRowsInsteadOfPrefetch() {
+        // Given: o pré-carregamento vê 50 unidades, mas outra transação confirmou 40 antes do upsert
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of(storeInventory));
+        when(storeInventoryRepository.upsertAll(any())).thenReturn(List.of(new StockTotals("SKU-001", 35, 5)));
+
+        // When
+        service.processInventoryEventBatch(List.of(validEvent));
+
+        // Then
+        verify(centralInventoryRepository).addTotals(List.of(new StockTotals("SKU-001", 35, 5)));
+        verify(centralInventoryRepository, never()).upsertTotals(any());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar no inventário central as lojas cuja gravação foi superada no banco")
+    void shouldSkipCentralUpdateForStoresSupersededInDatabase() {
+        // Given
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of(storeInventory));
+        when(storeInventoryRepository.upsertAll(any())).thenReturn(List.of());
+
+        // When
+        service.processInventoryEventBatch(List.of(validEvent));
+
+        // Then
+        verifyNoInteractions(centralInventoryRepository);
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar no lote o inventário central inexistente a partir da variação, sem recalcular")
+    void shouldCreateMissingCentralInventoryFromBatchDelta() {
+        // Given
+        ReflectionTestUtils.setField(service, "aggregateDeltas", true);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of());
+        when(storeInventoryRepository.upsertAll(any())).thenReturn(List.of(new StockTotals("SKU-001", 75, 10)));
+
+        // When
+        service.processInventoryEventBatch(List.of(validEvent));
+
+        // Then
+        verify(centralInventoryRepository).addTotals(List.of(new StockTotals("SKU-001", 75, 10)));
+        verify(centralInventoryRepository, never()).upsertTotals(any());
+        verify(storeInventoryRepository, never()).sumQuantitiesByProductSkuIn(any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar no lote eventos duplicados ou anteriores ao último aplicado")
+    void shouldDropDuplicateAndStaleBatchEvents() {
+        // Given
+        storeInventory.setLastSequence(5L);
+        InventoryEvent stale = updateEvent("STORE-001", 10, 0);
+        stale.setSequence(4L);
+        InventoryEvent fresh = updateEvent("STORE-001", 60, 6);
+        fresh.setSequence(7L);
+        InventoryEvent redelivered = updateEvent("STORE-001", 60, 6);
+        redelivered.setSequence(7L);
+        InventoryEvent outOfOrder = updateEvent("STORE-001", 20, 2);
+        outOfOrder.setSequence(6L);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of(storeInventory));
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(stale, fresh, redelivered, outOfOrder));
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        assertThat(storeInventory.getQuantity()).isEqualTo(60);
+        assertThat(storeInventory.getLastSequence()).isEqualTo(7L);
+        verify(sequenceTracker).advanceAfterCommit("STORE-001", "SKU-001", 7L);
+        // Apenas a sequência gravada no banco é memorizada antes do commit
+        verify(sequenceTracker).remember("STORE-001", "SKU-001", 5L);
+        verify(sequenceTracker, never()).remember("STORE-001", "SKU-001", 7L);
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar após rollback o evento do lote que superava um evento descartado")
+    void shouldReapplyBatchEventAfterRollback() {
+        // Given
+        EventSequenceTracker tracker = new EventSequenceTracker(storeInventoryRepository, 1000);
+        InventoryEventProcessingService batchService = new InventoryEventProcessingService(inventoryEventRepository,
+                storeInventoryRepository, centralInventoryRepository, generationCounters, aggregateCoalescer,
+                tracker, readCache);
+        storeInventory.setLastSequence(5L);
+        InventoryEvent fresh = updateEvent("STORE-001", 60, 6);
+        fresh.setSequence(7L);
+        InventoryEvent outOfOrder = updateEvent("STORE-001", 20, 2);
+        outOfOrder.setSequence(6L);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of(storeInventory));
+
+        // When: a transação do lote é desfeita (as sincronizações de commit não executam)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            batchService.processInventoryEventBatch(List.of(fresh, outOfOrder));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: a reentrega do evento 7 não é descartada pela sequência que nunca foi gravada
+        InventoryEvent redelivered = updateEvent("STORE-001", 60, 6);
+        redelivered.setSequence(7L);
+        assertThat(tracker.isSuperseded(redelivered)).isFalse();
+        assertThat(tracker.isSuperseded(outOfOrder)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lote sem eventos novos sem escrever no banco")
+    void shouldSkipWritesWhenBatchHasNoNewEvents() {
+        // Given
+        storeInventory.setLastSequence(5L);
+        InventoryEvent stale = updateEvent("STORE-001", 10, 0);
+        stale.setSequence(5L);
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of(storeInventory));
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(stale));
+
+        // Then
+        assertThat(processed).isZero();
+        verify(storeInventoryRepository, never()).upsertAll(any());
+        verifyNoInteractions(centralInventoryRepository, generationCounters);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar eventos inválidos do lote e criar inventário central inexistente")
+    void shouldSkipInvalidBatchEventsAndCreateMissingCentralInventory() {
+        // Given
+        InventoryEvent invalidEvent = updateEvent("STORE-001", 10, 0);
+        invalidEvent.setProductSku(" ");
+        when(storeInventoryRepository.findByProductSkuIn(Set.of("SKU-001"))).thenReturn(List.of());
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(Set.of("SKU-001")))
+                .thenReturn(List.of(new StockTotals("SKU-001", 75, 10)));
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(invalidEvent, validEvent));
+
+        // Then
+        assertThat(processed).isEqualTo(1);
+        verify(centralInventoryRepository).upsertTotals(List.of(new StockTotals("SKU-001", 75, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lote sem eventos válidos sem acessar o banco")
+    void shouldIgnoreBatchWithoutValidEvents() {
+        InventoryEvent invalidEvent = updateEvent("STORE-001", 10, 0);
+        invalidEvent.setEventId(null);
+
+        // When
+        int processed = service.processInventoryEventBatch(List.of(invalidEvent));
+
+        // Then
+        assertThat(processed).isZero();
+        verifyNoInteractions(storeInventoryRepository, centralInventoryRepository, generationCounters);
+    }
+
+    /**
+     * Reproduz em memória a semântica dos totais centrais: o upsert grava a
+     * soma informada e as variações são somadas (criando o produto ausente).
+     */
+    @SuppressWarnings("unchecked")
+    private void modelCentralTotals(Map<String, StockTotals> central) {
+        lenient().doAnswer(invocation -> {
+            ((Collection<StockTotals>) invocation.getArgument(0))
+                    .forEach(totals -> central.put(totals.productSku(), totals));
+            return null;
+        }).when(centralInventoryRepository).upsertTotals(any());
+        doAnswer(invocation -> {
+            ((Collection<StockTotals>) invocation.getArgument(0))
+                    .forEach(delta -> central.merge(delta.productSku(), delta, StockTotals::plus));
+            return null;
+        }).when(centralInventoryRepository).addTotals(any());
+    }
+
+    private InventoryEvent updateEvent(String storeId, int newQuantity, int reservedQuantity) {
+        return InventoryEvent.builder()
+                .eventId(UUID.randomUUID())
+                .productSku("SKU-001")
+                .storeId(storeId)
+                .eventType(InventoryEvent.EventType.UPDATE)
+                .newQuantity(newQuantity)
+                .reservedQuantity(reservedQuantity)
+                .timestamp(LocalDateTime.now())
+                .processingStatus(InventoryEvent.ProcessingStatus.PENDING)
+                .build();
+    }
+
+    private StoreInventory captureUpserted() {
+        ArgumentCaptor<StoreInventory> upserted = ArgumentCaptor.forClass(StoreInventory.class);
+        verify(storeInventoryRepository).upsert(upserted.capture());
+        return upserted.getValue();
+    }
+
     private void setupMocksForSuccessfulProcessing() {
-        when(storeInventoryRepository.findByProductSkuAndStoreId("SKU-001", "STORE-001"))
-                .thenReturn(Optional.of(storeInventory));
-        when(storeInventoryRepository.save(any(StoreInventory.class)))
-                .thenReturn(storeInventory);
-        when(storeInventoryRepository.sumQuantityByProductSku("SKU-001"))
-                .thenReturn(75);
-        when(storeInventoryRepository.sumReservedQuantityByProductSku("SKU-001"))
-                .thenReturn(10);
-        when(centralInventoryRepository.findByProductSku("SKU-001"))
-                .thenReturn(Optional.of(centralInventory));
-        when(centralInventoryRepository.save(any(CentralInventory.class)))
-                .thenReturn(centralInventory);
+        when(storeInventoryRepository.upsert(any(StoreInventory.class)))
+                .thenReturn(Optional.of(new StockTotals("SKU-001", 25, 5)));
+        when(storeInventoryRepository.sumQuantitiesByProductSkuIn(List.of("SKU-001")))
+                .thenReturn(List.of(new StockTotals("SKU-001", 75, 10)));
     }
 }
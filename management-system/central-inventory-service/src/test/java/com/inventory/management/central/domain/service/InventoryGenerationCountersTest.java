@@ -0,0 +1,83 @@
+package com.inventory.management.central.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryGenerationCounters - Testes Unitários")
+class InventoryGenerationCountersTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final InventoryGenerationCounters counters =
+            new InventoryGenerationCounters(Duration.ofSeconds(30), now::get);
+
+    @Test
+    @DisplayName("Deve avançar apenas as gerações da loja e do SKU alterados")
+    void shouldAdvanceOnlyChangedStoreAndSku() {
+        // Given
+        String global = counters.globalToken();
+        String store = counters.storeToken("STORE-001");
+        String otherStore = counters.storeToken("STORE-002");
+        String sku = counters.skuToken("SKU-001");
+
+        // When
+        counters.advanceAfterCommit("STORE-001", "SKU-001");
+
+        // Then
+        assertThat(counters.globalToken()).isNotEqualTo(global);
+        assertThat(counters.storeToken("STORE-001")).isNotEqualTo(store);
+        assertThat(counters.skuToken("SKU-001")).isNotEqualTo(sku);
+        assertThat(counters.storeToken("STORE-002")).isEqualTo(otherStore);
+        assertThat(counters.skuToken("SKU-002")).isEqualTo(counters.skuToken("SKU-003"));
+    }
+
+    @Test
+    @DisplayName("Deve avançar apenas a geração do produto recalculado")
+    void shouldAdvanceOnlyProductGeneration() {
+        // Given
+        String global = counters.globalToken();
+        String store = counters.storeToken("STORE-001");
+        String sku = counters.skuToken("SKU-001");
+        String otherSku = counters.skuToken("SKU-002");
+
+        // When
+        counters.advanceProductAfterCommit("SKU-001");
+
+        // Then
+        assertThat(counters.skuToken("SKU-001")).isNotEqualTo(sku);
+        assertThat(counters.skuToken("SKU-002")).isEqualTo(otherSku);
+        assertThat(counters.storeToken("STORE-001")).isEqualTo(store);
+        assertThat(counters.globalToken()).isNotEqualTo(global);
+    }
+
+    @Test
+    @DisplayName("Deve renovar os tokens a cada janela de revalidação")
+    void shouldRenewTokensOnEachRevalidationWindow() {
+        // Given
+        String token = counters.storeToken("STORE-001");
+
+        // When
+        now.addAndGet(Duration.ofSeconds(29).toMillis());
+        String sameWindow = counters.storeToken("STORE-001");
+        now.addAndGet(Duration.ofSeconds(1).toMillis());
+
+        // Then
+        assertThat(sameWindow).isEqualTo(token);
+        assertThat(counters.storeToken("STORE-001")).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("Deve diferenciar tokens de instâncias distintas")
+    void shouldDifferentiateTokensFromDistinctInstances() {
+        // Given
+        InventoryGenerationCounters instance = new InventoryGenerationCounters(Duration.ZERO);
+        InventoryGenerationCounters otherInstance = new InventoryGenerationCounters(Duration.ZERO);
+
+        // Then
+        assertThat(instance.globalToken()).isNotEqualTo(otherInstance.globalToken());
+    }
+}
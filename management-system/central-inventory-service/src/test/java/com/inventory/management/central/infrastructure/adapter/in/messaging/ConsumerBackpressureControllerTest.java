@@ -0,0 +1,178 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConsumerBackpressureController - Testes Unitários")
+class ConsumerBackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private DataSource probeDataSource;
+
+    @Mock
+    private HikariDataSource hikariDataSource;
+
+    @Mock
+    private HikariPoolMXBean pool;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private MessageListenerContainer mainContainer;
+
+    @Mock
+    private MessageListenerContainer retryContainer;
+
+    private ConsumerBackpressureController controller;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        controller = new ConsumerBackpressureController(registry, dataSource, probeDataSource, 3, 0, 500, 100, 2);
+        lenient().when(dataSource.isWrapperFor(HikariDataSource.class)).thenReturn(true);
+        lenient().when(dataSource.unwrap(HikariDataSource.class)).thenReturn(hikariDataSource);
+        lenient().when(hikariDataSource.getHikariPoolMXBean()).thenReturn(pool);
+        lenient().when(registry.getListenerContainers()).thenReturn(List.of(mainContainer, retryContainer));
+    }
+
+    @Test
+    @DisplayName("Deve pausar os containers quando há threads aguardando conexão, sem sondar o banco")
+    void shouldPauseContainersWhenThreadsAwaitConnection() throws SQLException {
+        // Given
+        when(pool.getThreadsAwaitingConnection()).thenReturn(5);
+
+        // When
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.isPaused()).isTrue();
+        verify(mainContainer).pause();
+        verify(retryContainer).pause();
+        verify(probeDataSource, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve pausar os containers quando a sonda do banco falha")
+    void shouldPauseContainersWhenProbeFails() throws SQLException {
+        // Given
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+        when(probeDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+        // When
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.isPaused()).isTrue();
+        verify(mainContainer).pause();
+    }
+
+    @Test
+    @DisplayName("Não deve pausar com pool livre e banco respondendo")
+    void shouldNotPauseWithoutPressure() throws SQLException {
+        // Given
+        givenHealthyDatabase();
+
+        // When
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.isPaused()).isFalse();
+        verifyNoInteractions(mainContainer, retryContainer);
+    }
+
+    @Test
+    @DisplayName("Deve manter pausado até a pressão cair abaixo do limite de retomada")
+    void shouldStayPausedUntilPressureDropsBelowResumeThreshold() throws SQLException {
+        // Given - pausado por pool saturado
+        when(pool.getThreadsAwaitingConnection()).thenReturn(4, 1, 0);
+        when(probeDataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        controller.evaluate();
+
+        // When - uma thread ainda aguardando: abaixo da pausa, acima da retomada
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.isPaused()).isTrue();
+        verify(mainContainer, never()).resume();
+
+        // When - pool livre e banco respondendo
+        controller.evaluate();
+
+        // Then
+        assertThat(controller.isPaused()).isFalse();
+        verify(mainContainer).resume();
+        verify(retryContainer).resume();
+    }
+
+    @Test
+    @DisplayName("Deve sondar o banco pelo pool próprio, sem disputar o pool da aplicação")
+    void shouldProbeThroughDedicatedPool() throws SQLException {
+        // Given
+        givenHealthyDatabase();
+
+        // When
+        controller.evaluate();
+
+        // Then
+        verify(probeDataSource).getConnection();
+        verify(dataSource, never()).getConnection();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve limitar a espera da sonda ao timeout configurado, com uma única conexão")
+    void shouldBoundProbePoolWaitToProbeTimeout() {
+        // Given
+        HikariDataSource application = new HikariDataSource();
+        application.setPoolName("central-pool");
+        application.setJdbcUrl("jdbc:postgresql://postgres:5432/inventory_db");
+        application.setUsername("inventory_user");
+        application.setMaximumPoolSize(10);
+        application.setConnectionTimeout(30000);
+
+        // When
+        HikariConfig config = ConsumerBackpressureController.probeConfig(application, 2);
+
+        // Then
+        assertThat(config.getConnectionTimeout()).isEqualTo(2000);
+        assertThat(config.getValidationTimeout()).isLessThanOrEqualTo(2000);
+        assertThat(config.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(config.getMinimumIdle()).isZero();
+        assertThat(config.getJdbcUrl()).isEqualTo("jdbc:postgresql://postgres:5432/inventory_db");
+        assertThat(config.getUsername()).isEqualTo("inventory_user");
+        assertThat(config.getPoolName()).isEqualTo("central-pool-backpressure-probe");
+        assertThat(application.getConnectionTimeout()).isEqualTo(30000);
+    }
+
+    private void givenHealthyDatabase() throws SQLException {
+        when(pool.getThreadsAwaitingConnection()).thenReturn(0);
+        when(probeDataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(2)).thenReturn(true);
+    }
+}
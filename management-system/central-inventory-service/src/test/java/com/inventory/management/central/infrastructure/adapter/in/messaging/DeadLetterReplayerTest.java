@@ -0,0 +1,167 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeadLetterReplayer - Testes Unitários")
+class DeadLetterReplayerTest {
+
+    private static final String TOPIC = "inventory-update";
+    private static final String PRIORITY_TOPIC = "inventory-update-priority";
+    private static final String DLT = "inventory-update-dlt";
+    private static final TopicPartition DLT_PARTITION = new TopicPartition(DLT, 0);
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private RetryTopicMetrics retryTopicMetrics;
+
+    private final Map<TopicPartition, OffsetAndMetadata> committedOffsets = new HashMap<>();
+    private MockConsumer<String, String> consumer;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void commitSync(Map<TopicPartition, OffsetAndMetadata> offsets) {
+                super.commitSync(offsets);
+                committedOffsets.putAll(offsets);
+            }
+        };
+        when(consumerFactory.createConsumer("central-group-dlt-replay", "-dlt-replay")).thenReturn(consumer);
+        replayer = new DeadLetterReplayer(consumerFactory, kafkaTemplate, retryTopicMetrics,
+                TOPIC, PRIORITY_TOPIC, "central-group", Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("Deve reenviar eventos do DLT ao tópico principal e confirmar o offset do replay")
+    void shouldReplayDeadLettersToMainTopicAndCommitOffsets() {
+        // Given
+        givenDeadLetters("SKU-1", "SKU-2");
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int replayed = replayer.replay(100);
+
+        // Then
+        assertThat(replayed).isEqualTo(2);
+        verify(kafkaTemplate).send(TOPIC, "SKU-1", "{\"productSku\":\"SKU-1\"}");
+        verify(kafkaTemplate).send(TOPIC, "SKU-2", "{\"productSku\":\"SKU-2\"}");
+        assertThat(committedOffsets.get(DLT_PARTITION).offset()).isEqualTo(2L);
+        assertThat(consumer.closed()).isTrue();
+        verify(retryTopicMetrics).recordReplayed(2);
+    }
+
+    @Test
+    @DisplayName("Deve reenviar eventos do DLT prioritário ao tópico prioritário")
+    void shouldReplayPriorityDeadLettersToPriorityTopic() {
+        // Given
+        String priorityDlt = PRIORITY_TOPIC + "-dlt";
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(priorityDlt,
+                List.of(new PartitionInfo(priorityDlt, 0, node, new Node[]{node}, new Node[]{node})));
+        consumer.updateBeginningOffsets(Map.of(new TopicPartition(priorityDlt, 0), 0L));
+        consumer.schedulePollTask(() -> consumer.addRecord(
+                new ConsumerRecord<>(priorityDlt, 0, 0, "SKU-1", "{\"productSku\":\"SKU-1\"}")));
+        when(kafkaTemplate.send(eq(PRIORITY_TOPIC), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int replayed = replayer.replay(100);
+
+        // Then
+        assertThat(replayed).isEqualTo(1);
+        verify(kafkaTemplate).send(PRIORITY_TOPIC, "SKU-1", "{\"productSku\":\"SKU-1\"}");
+        verify(kafkaTemplate, never()).send(eq(TOPIC), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite e confirmar apenas os eventos reenviados")
+    void shouldRespectLimitAndCommitOnlyReplayedEvents() {
+        // Given
+        givenDeadLetters("SKU-1", "SKU-2", "SKU-3");
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // When
+        int replayed = replayer.replay(1);
+
+        // Then
+        assertThat(replayed).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(eq(TOPIC), anyString(), anyString());
+        assertThat(committedOffsets.get(DLT_PARTITION).offset()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve confirmar apenas os eventos publicados quando o reenvio falha")
+    void shouldCommitOnlyPublishedEventsWhenSendFails() {
+        // Given
+        givenDeadLetters("SKU-1", "SKU-2");
+        when(kafkaTemplate.send(TOPIC, "SKU-1", "{\"productSku\":\"SKU-1\"}"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(TOPIC, "SKU-2", "{\"productSku\":\"SKU-2\"}"))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        // When & Then
+        assertThatThrownBy(() -> replayer.replay(100))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Falha ao reenviar evento do DLT");
+        assertThat(committedOffsets.get(DLT_PARTITION).offset()).isEqualTo(1L);
+        verify(retryTopicMetrics).recordReplayed(1);
+    }
+
+    @Test
+    @DisplayName("Deve retornar zero quando o DLT não existe")
+    void shouldReturnZeroWhenDeadLetterTopicDoesNotExist() {
+        // When
+        int replayed = replayer.replay(100);
+
+        // Then
+        assertThat(replayed).isZero();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    private void givenDeadLetters(String... skus) {
+        Node node = new Node(0, "localhost", 9092);
+        consumer.updatePartitions(DLT, List.of(new PartitionInfo(DLT, 0, node, new Node[]{node}, new Node[]{node})));
+        consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+        consumer.schedulePollTask(() -> {
+            for (int i = 0; i < skus.length; i++) {
+                consumer.addRecord(new ConsumerRecord<>(DLT, 0, i, skus[i],
+                        "{\"productSku\":\"" + skus[i] + "\"}"));
+            }
+        });
+    }
+}
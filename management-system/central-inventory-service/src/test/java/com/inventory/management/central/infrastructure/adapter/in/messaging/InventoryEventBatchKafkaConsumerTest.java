@@ -0,0 +1,264 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.metrics.StoreQueueMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryEventBatchKafkaConsumer - Testes Unitários")
+class InventoryEventBatchKafkaConsumerTest {
+
+    @Mock
+    private InventoryEventProcessingService eventProcessingService;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private ObjectMapper objectMapper;
+
+    private StoreQueueMetrics storeQueueMetrics;
+
+    private InventoryEventBatchKafkaConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        storeQueueMetrics = new StoreQueueMetrics(new SimpleMeterRegistry());
+        consumer = new InventoryEventBatchKafkaConsumer(eventProcessingService, objectMapper, Runnable::run,
+                new StoreFairScheduler(50, ""), storeQueueMetrics, 1);
+    }
+
+    @Test
+    @DisplayName("Deve processar a poll inteira em um lote e confirmar o offset uma vez")
+    void shouldProcessWholePollAsOneBatchAndAcknowledgeOnce() {
+        // Given
+        List<ConsumerRecord<String, String>> records = List.of(record(0, "STORE-001"), record(1, "STORE-002"));
+        when(eventProcessingService.processInventoryEventBatch(anyList())).thenReturn(2);
+
+        // When
+        consumer.consumeInventoryEventBatch(records, acknowledgment);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventoryEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventProcessingService).processInventoryEventBatch(events.capture());
+        assertThat(events.getValue()).extracting(InventoryEvent::getStoreId)
+                .containsExactly("STORE-001", "STORE-002");
+        verify(acknowledgment).acknowledge();
+        verify(eventProcessingService, never()).processInventoryEvent(any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar registros que não podem ser decodificados e processar os demais")
+    void shouldDiscardUndecodableRecordAndProcessTheRest() {
+        // Given
+        ConsumerRecord<String, String> poison = new ConsumerRecord<>("inventory-update", 0, 1L, "SKU-001", "{inválido");
+        ConsumerRecord<String, String> nullPayload = new ConsumerRecord<>("inventory-update", 0, 2L, "SKU-001", "null");
+        List<ConsumerRecord<String, String>> records =
+                List.of(record(0, "STORE-001"), poison, nullPayload, record(3, "STORE-003"));
+        when(eventProcessingService.processInventoryEventBatch(anyList())).thenReturn(2);
+
+        // When
+        consumer.consumeInventoryEventBatch(records, acknowledgment);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<InventoryEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventProcessingService).processInventoryEventBatch(events.capture());
+        assertThat(events.getValue()).hasSize(2);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve reprocessar individualmente quando o lote falhar")
+    void shouldFallBackToIndividualProcessingWhenBatchFails() {
+        // Given
+        List<ConsumerRecord<String, String>> records = List.of(record(0, "STORE-001"), record(1, "STORE-002"));
+        when(eventProcessingService.processInventoryEventBatch(anyList()))
+                .thenThrow(new RuntimeException("deadlock"));
+        when(eventProcessingService.processInventoryEvent(any(InventoryEvent.class))).thenReturn(true);
+
+        // When
+        consumer.consumeInventoryEventBatch(records, acknowledgment);
+
+        // Then
+        verify(eventProcessingService, times(2)).processInventoryEvent(any(InventoryEvent.class));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar o índice do registro com falha no reprocessamento individual")
+    void shouldReportFailedRecordIndexOnIndividualFailure() {
+        // Given
+        ConsumerRecord<String, String> poison = new ConsumerRecord<>("inventory-update", 0, 1L, "SKU-001", "{inválido");
+        List<ConsumerRecord<String, String>> records = List.of(poison, record(1, "STORE-001"), record(2, "STORE-002"));
+        when(eventProcessingService.processInventoryEventBatch(anyList()))
+                .thenThrow(new RuntimeException("constraint violation"));
+        when(eventProcessingService.processInventoryEvent(any(InventoryEvent.class)))
+                .thenReturn(true)
+                .thenThrow(new RuntimeException("constraint violation"));
+
+        // When & Then
+        assertThatThrownBy(() -> consumer.consumeInventoryEventBatch(records, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(2));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve processar SKUs distintos em filas paralelas preservando a ordem por SKU")
+    void shouldProcessDistinctSkusInParallelLanesPreservingPerSkuOrder() {
+        // Given
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        InventoryEventBatchKafkaConsumer parallelConsumer =
+                new InventoryEventBatchKafkaConsumer(eventProcessingService, objectMapper, executor,
+                        new StoreFairScheduler(50, ""), storeQueueMetrics, 64);
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "SKU-A", "STORE-001"), record(1, "SKU-B", "STORE-001"),
+                record(2, "SKU-A", "STORE-002"), record(3, "SKU-B", "STORE-002"));
+        List<List<InventoryEvent>> lanes = new CopyOnWriteArrayList<>();
+        when(eventProcessingService.processInventoryEventBatch(anyList())).thenAnswer(invocation -> {
+            lanes.add(invocation.getArgument(0));
+            return 2;
+        });
+
+        // When
+        parallelConsumer.consumeInventoryEventBatch(records, acknowledgment);
+        executor.close();
+
+        // Then
+        assertThat(lanes).hasSize(2);
+        assertThat(lanes).allSatisfy(lane -> {
+            assertThat(lane).extracting(InventoryEvent::getProductSku).containsOnly(lane.get(0).getProductSku());
+            assertThat(lane).extracting(InventoryEvent::getStoreId).containsExactly("STORE-001", "STORE-002");
+        });
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar o menor índice com falha entre as filas")
+    void shouldReportLowestFailedIndexAcrossLanes() {
+        // Given
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        InventoryEventBatchKafkaConsumer parallelConsumer =
+                new InventoryEventBatchKafkaConsumer(eventProcessingService, objectMapper, executor,
+                        new StoreFairScheduler(50, ""), storeQueueMetrics, 64);
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "SKU-A", "STORE-001"), record(1, "SKU-B", "STORE-001"),
+                record(2, "SKU-A", "STORE-002"), record(3, "SKU-B", "STORE-002"));
+        when(eventProcessingService.processInventoryEventBatch(anyList()))
+                .thenThrow(new RuntimeException("deadlock"));
+        when(eventProcessingService.processInventoryEvent(any(InventoryEvent.class))).thenAnswer(invocation -> {
+            InventoryEvent event = invocation.getArgument(0);
+            if ("STORE-002".equals(event.getStoreId())) {
+                throw new RuntimeException("constraint violation");
+            }
+            return true;
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> parallelConsumer.consumeInventoryEventBatch(records, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .satisfies(e -> assertThat(((BatchListenerFailedException) e).getIndex()).isEqualTo(2));
+        executor.close();
+        verify(eventProcessingService, times(4)).processInventoryEvent(any(InventoryEvent.class));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos transacionais antes da carga em massa de outra loja")
+    void shouldApplyTransactionalEventsBeforeBulkLoadOfAnotherStore() {
+        // Given
+        consumer = new InventoryEventBatchKafkaConsumer(eventProcessingService, objectMapper, Runnable::run,
+                new StoreFairScheduler(1, ""), storeQueueMetrics, 1);
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "SKU-A", "STORE-BULK", "RESTOCK"), record(1, "SKU-B", "STORE-BULK", "RESTOCK"),
+                record(2, "SKU-C", "STORE-BULK", "RESTOCK"), record(3, "SKU-D", "STORE-002", "COMMIT"),
+                record(4, "SKU-E", "STORE-003", "UPDATE"));
+        List<List<InventoryEvent>> batches = new CopyOnWriteArrayList<>();
+        when(eventProcessingService.processInventoryEventBatch(anyList())).thenAnswer(invocation -> {
+            batches.add(invocation.getArgument(0));
+            return 1;
+        });
+
+        // When
+        consumer.consumeInventoryEventBatch(records, acknowledgment);
+
+        // Then
+        assertThat(batches).extracting(batch -> batch.stream().map(InventoryEvent::getProductSku).toList())
+                .containsExactly(List.of("SKU-D"), List.of("SKU-A", "SKU-E"), List.of("SKU-B", "SKU-C"));
+        assertThat(storeQueueMetrics.depthOf("STORE-BULK")).isEqualTo(3);
+        assertThat(storeQueueMetrics.depthOf("STORE-003")).isEqualTo(1);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve processar o tópico prioritário sem alterar a profundidade observada do tópico principal")
+    void shouldProcessPriorityTopicWithoutOverwritingObservedDepth() {
+        // Given
+        storeQueueMetrics.updateDepths(Map.of("STORE-BULK", 400));
+        List<ConsumerRecord<String, String>> records = List.of(
+                record(0, "SKU-A", "STORE-002", "RESERVE"), record(1, "SKU-B", "STORE-003", "COMMIT"));
+        when(eventProcessingService.processInventoryEventBatch(anyList())).thenReturn(2);
+
+        // When
+        consumer.consumePriorityEventBatch(records, acknowledgment);
+
+        // Then
+        verify(eventProcessingService).processInventoryEventBatch(anyList());
+        assertThat(storeQueueMetrics.depthOf("STORE-BULK")).isEqualTo(400);
+        verify(acknowledgment).acknowledge();
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String storeId) {
+        return record(offset, "SKU-001", storeId);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String productSku, String storeId) {
+        return record(offset, productSku, storeId, "UPDATE");
+    }
+
+    private ConsumerRecord<String, String> record(long offset, String productSku, String storeId, String eventType) {
+        String json = """
+                {
+                    "eventId": "%s",
+                    "productSku": "%s",
+                    "storeId": "%s",
+                    "eventType": "%s",
+                    "newQuantity": 75,
+                    "reservedQuantity": 10,
+                    "timestamp": "2025-01-15T10:30:00"
+                }
+                """.formatted(UUID.randomUUID(), productSku, storeId, eventType);
+        return new ConsumerRecord<>("inventory-update", 0, offset, productSku, json);
+    }
+}
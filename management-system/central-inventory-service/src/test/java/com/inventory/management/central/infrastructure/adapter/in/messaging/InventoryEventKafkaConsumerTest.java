@@ -2,6 +2,7 @@ package com.inventory.management.central.infrastructure.adapter.in.messaging;
 
 import com.inventory.management.central.domain.model.InventoryEvent;
 import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -11,11 +12,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.kafka.annotation.RetryTopicConfigurationProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.DestinationTopic;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
 import org.springframework.kafka.support.Acknowledgment;
 
+import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -25,6 +35,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("InventoryEventKafkaConsumer - Testes Unitários")
 class InventoryEventKafkaConsumerTest {
 
+    private static final String TOPIC = "inventory-update";
+
     @Mock
     private InventoryEventProcessingService eventProcessingService;
 
@@ -34,6 +46,12 @@ class InventoryEventKafkaConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private RetryTopicMetrics retryTopicMetrics;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
     @InjectMocks
     private InventoryEventKafkaConsumer consumer;
 
@@ -69,6 +87,30 @@ class InventoryEventKafkaConsumerTest {
                 """.formatted(validEvent.getEventId());
     }
 
+    @Test
+    @DisplayName("Deve configurar tópicos de retry com atraso crescente e DLT apenas no listener por registro")
+    void shouldConfigureRetryTopicTiersAndDeadLetterTopic() throws Exception {
+        // Given
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addEmbeddedValueResolver(new StandardEnvironment()::resolvePlaceholders);
+        beanFactory.registerSingleton("kafkaTemplate", kafkaTemplate);
+        Method listener = InventoryEventKafkaConsumer.class.getMethod("consumeInventoryEvent",
+                String.class, String.class, int.class, long.class, long.class, Acknowledgment.class);
+
+        // When
+        RetryTopicConfiguration configuration = new RetryTopicConfigurationProvider(beanFactory)
+                .findRetryConfigurationFor(new String[]{TOPIC}, listener, consumer);
+        RetryTopicConfiguration batchConfiguration = new RetryTopicConfigurationProvider(beanFactory)
+                .findRetryConfigurationFor(new String[]{TOPIC}, InventoryEventBatchKafkaConsumer.class.getMethod(
+                        "consumeInventoryEventBatch", List.class, Acknowledgment.class), null);
+
+        // Then
+        assertThat(configuration.getDestinationTopicProperties())
+                .extracting(DestinationTopic.Properties::suffix)
+                .containsExactly("", "-retry-1000", "-retry-2000", "-retry-4000", "-dlt");
+        assertThat(batchConfiguration).isNull();
+    }
+
     @Test
     @DisplayName("Deve consumir e processar evento com sucesso")
     void shouldConsumeAndProcessEventSuccessfully() throws Exception {
@@ -83,7 +125,7 @@ class InventoryEventKafkaConsumerTest {
                 .thenReturn(true);
 
         // When
-        consumer.consumeInventoryEvent(validEventJson, partition, offset, timestamp, acknowledgment);
+        consumer.consumeInventoryEvent(validEventJson, TOPIC, partition, offset, timestamp, acknowledgment);
 
         // Then
         verify(objectMapper).readValue(validEventJson, InventoryEvent.class);
@@ -106,7 +148,7 @@ class InventoryEventKafkaConsumerTest {
 
         // When & Then
         assertThatThrownBy(() ->
-                consumer.consumeInventoryEvent(validEventJson, partition, offset, timestamp, acknowledgment))
+                consumer.consumeInventoryEvent(validEventJson, TOPIC, partition, offset, timestamp, acknowledgment))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Erro crítico no processamento");
 
@@ -129,7 +171,7 @@ class InventoryEventKafkaConsumerTest {
 
         // When & Then
         assertThatThrownBy(() ->
-                consumer.consumeInventoryEvent(invalidJson, partition, offset, timestamp, acknowledgment))
+                consumer.consumeInventoryEvent(invalidJson, TOPIC, partition, offset, timestamp, acknowledgment))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Erro crítico no processamento");
 
@@ -153,7 +195,7 @@ class InventoryEventKafkaConsumerTest {
 
         // When & Then
         assertThatThrownBy(() ->
-                consumer.consumeInventoryEvent(validEventJson, partition, offset, timestamp, acknowledgment))
+                consumer.consumeInventoryEvent(validEventJson, TOPIC, partition, offset, timestamp, acknowledgment))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Erro crítico no processamento");
 
@@ -200,7 +242,7 @@ class InventoryEventKafkaConsumerTest {
                 .thenReturn(true);
 
         // When
-        consumer.consumeInventoryEvent(reserveEventJson, partition, offset, timestamp, acknowledgment);
+        consumer.consumeInventoryEvent(reserveEventJson, TOPIC, partition, offset, timestamp, acknowledgment);
 
         // Then
         verify(objectMapper).readValue(reserveEventJson, InventoryEvent.class);
@@ -246,7 +288,7 @@ class InventoryEventKafkaConsumerTest {
                 .thenReturn(true);
 
         // When
-        consumer.consumeInventoryEvent(commitEventJson, partition, offset, timestamp, acknowledgment);
+        consumer.consumeInventoryEvent(commitEventJson, TOPIC, partition, offset, timestamp, acknowledgment);
 
         // Then
         verify(objectMapper).readValue(commitEventJson, InventoryEvent.class);
@@ -292,7 +334,7 @@ class InventoryEventKafkaConsumerTest {
                 .thenReturn(true);
 
         // When
-        consumer.consumeInventoryEvent(cancelEventJson, partition, offset, timestamp, acknowledgment);
+        consumer.consumeInventoryEvent(cancelEventJson, TOPIC, partition, offset, timestamp, acknowledgment);
 
         // Then
         verify(objectMapper).readValue(cancelEventJson, InventoryEvent.class);
@@ -338,11 +380,42 @@ class InventoryEventKafkaConsumerTest {
                 .thenReturn(true);
 
         // When
-        consumer.consumeInventoryEvent(restockEventJson, partition, offset, timestamp, acknowledgment);
+        consumer.consumeInventoryEvent(restockEventJson, TOPIC, partition, offset, timestamp, acknowledgment);
 
         // Then
         verify(objectMapper).readValue(restockEventJson, InventoryEvent.class);
         verify(eventProcessingService).processInventoryEvent(restockEvent);
         verify(acknowledgment).acknowledge();
     }
+
+    @Test
+    @DisplayName("Deve contabilizar a entrega pelo tópico de origem")
+    void shouldRecordDeliveryByOriginTopic() throws Exception {
+        // Given
+        String retryTopic = TOPIC + "-retry-2000";
+        when(objectMapper.readValue(validEventJson, InventoryEvent.class)).thenReturn(validEvent);
+        when(eventProcessingService.processInventoryEvent(validEvent)).thenReturn(true);
+
+        // When
+        consumer.consumeInventoryEvent(validEventJson, retryTopic, 0, 7L, System.currentTimeMillis(), acknowledgment);
+
+        // Then
+        verify(retryTopicMetrics).recordDelivery(retryTopic);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar e contabilizar eventos recebidos do DLT sem reprocessá-los")
+    void shouldAcknowledgeDeadLetterWithoutProcessing() {
+        // Given
+        String deadLetterTopic = TOPIC + "-dlt";
+
+        // When
+        consumer.handleDeadLetter(validEventJson, deadLetterTopic, 0, 42L, acknowledgment);
+
+        // Then
+        verify(retryTopicMetrics).recordDelivery(deadLetterTopic);
+        verify(acknowledgment).acknowledge();
+        verifyNoInteractions(eventProcessingService);
+    }
 }
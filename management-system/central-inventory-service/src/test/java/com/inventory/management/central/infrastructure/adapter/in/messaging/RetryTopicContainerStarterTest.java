@@ -0,0 +1,59 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryTopicContainerStarter - Testes Unitários")
+class RetryTopicContainerStarterTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry registry;
+
+    @Mock
+    private MessageListenerContainer mainContainer;
+
+    @Mock
+    private MessageListenerContainer retryContainer;
+
+    @Mock
+    private MessageListenerContainer dltContainer;
+
+    @Mock
+    private MessageListenerContainer otherContainer;
+
+    @InjectMocks
+    private RetryTopicContainerStarter starter;
+
+    @Test
+    @DisplayName("Deve iniciar apenas os containers de retry e DLT do listener de eventos")
+    void shouldStartOnlyRetryAndDeadLetterContainers() {
+        // Given
+        when(registry.getListenerContainers()).thenReturn(List.of(mainContainer, retryContainer, dltContainer,
+                otherContainer));
+        when(mainContainer.getListenerId()).thenReturn(InventoryEventKafkaConsumer.LISTENER_ID);
+        when(retryContainer.getListenerId()).thenReturn(InventoryEventKafkaConsumer.LISTENER_ID + "-retry-1000");
+        when(dltContainer.getListenerId()).thenReturn(InventoryEventKafkaConsumer.LISTENER_ID + "-dlt");
+        when(otherContainer.getListenerId()).thenReturn("org.springframework.kafka.KafkaListenerEndpointContainer#0");
+        when(dltContainer.isRunning()).thenReturn(true);
+
+        // When
+        starter.startRetryContainers();
+
+        // Then
+        verify(retryContainer).start();
+        verify(dltContainer, never()).start();
+        verify(mainContainer, never()).start();
+        verify(otherContainer, never()).start();
+    }
+}
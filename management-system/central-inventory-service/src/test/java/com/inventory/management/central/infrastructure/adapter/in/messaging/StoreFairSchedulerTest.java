@@ -0,0 +1,128 @@
+package com.inventory.management.central.infrastructure.adapter.in.messaging;
+
+import com.inventory.management.central.domain.model.InventoryEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StoreFairScheduler - Testes Unitários")
+class StoreFairSchedulerTest {
+
+    @Test
+    @DisplayName("Deve colocar RESERVE e COMMIT na faixa prioritária")
+    void shouldPutReserveAndCommitInPriorityLane() {
+        // Given
+        StoreFairScheduler scheduler = new StoreFairScheduler(50, "");
+        List<InventoryEvent> events = List.of(
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.RESTOCK),
+                event("SKU-2", "STORE-B", InventoryEvent.EventType.RESERVE),
+                event("SKU-3", "STORE-A", InventoryEvent.EventType.UPDATE),
+                event("SKU-4", "STORE-C", InventoryEvent.EventType.COMMIT));
+
+        // When
+        List<StoreFairScheduler.Round<InventoryEvent>> rounds = scheduler.schedule(events, Function.identity());
+
+        // Then
+        assertThat(rounds).hasSize(2);
+        assertThat(skus(rounds.get(0))).containsExactly("SKU-2", "SKU-4");
+        assertThat(skus(rounds.get(1))).containsExactly("SKU-1", "SKU-3");
+        assertThat(rounds.get(0).pendingByStore())
+                .containsExactlyInAnyOrderEntriesOf(Map.of("STORE-A", 2, "STORE-B", 1, "STORE-C", 1));
+        assertThat(rounds.get(1).pendingByStore()).containsExactlyEntriesOf(Map.of("STORE-A", 2));
+    }
+
+    @Test
+    @DisplayName("Deve promover eventos anteriores do mesmo produto e loja junto do evento transacional")
+    void shouldPromotePrecedingEventsOfSameChain() {
+        // Given
+        StoreFairScheduler scheduler = new StoreFairScheduler(50, "");
+        List<InventoryEvent> events = List.of(
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.UPDATE),
+                event("SKU-1", "STORE-B", InventoryEvent.EventType.UPDATE),
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.RESERVE),
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.RESTOCK));
+
+        // When
+        List<StoreFairScheduler.Round<InventoryEvent>> rounds = scheduler.schedule(events, Function.identity());
+
+        // Then
+        assertThat(rounds.get(0).items()).containsExactly(events.get(0), events.get(2));
+        assertThat(rounds.get(1).items()).containsExactly(events.get(1), events.get(3));
+    }
+
+    @Test
+    @DisplayName("Deve alternar as lojas conforme o peso e drenar a última loja em uma rodada")
+    void shouldInterleaveStoresByWeightAndDrainLastStoreAtOnce() {
+        // Given
+        StoreFairScheduler scheduler = new StoreFairScheduler(1, "STORE-B:2");
+        List<InventoryEvent> events = List.of(
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.RESTOCK),
+                event("SKU-2", "STORE-A", InventoryEvent.EventType.RESTOCK),
+                event("SKU-3", "STORE-A", InventoryEvent.EventType.RESTOCK),
+                event("SKU-4", "STORE-A", InventoryEvent.EventType.RESTOCK),
+                event("SKU-5", "STORE-B", InventoryEvent.EventType.UPDATE),
+                event("SKU-6", "STORE-B", InventoryEvent.EventType.UPDATE),
+                event("SKU-7", "STORE-B", InventoryEvent.EventType.UPDATE));
+
+        // When
+        List<StoreFairScheduler.Round<InventoryEvent>> rounds = scheduler.schedule(events, Function.identity());
+
+        // Then
+        assertThat(rounds).extracting(this::skus).containsExactly(
+                List.of("SKU-1", "SKU-5", "SKU-6"),
+                List.of("SKU-2", "SKU-7"),
+                List.of("SKU-3", "SKU-4"));
+        assertThat(rounds.get(2).pendingByStore()).containsExactlyEntriesOf(Map.of("STORE-A", 2));
+    }
+
+    @Test
+    @DisplayName("Deve processar uma poll de uma única loja em uma rodada")
+    void shouldScheduleSingleStorePollInOneRound() {
+        // Given
+        StoreFairScheduler scheduler = new StoreFairScheduler(1, "");
+        List<InventoryEvent> events = List.of(
+                event("SKU-1", "STORE-A", InventoryEvent.EventType.UPDATE),
+                event("SKU-2", "STORE-A", InventoryEvent.EventType.UPDATE),
+                event("SKU-3", "STORE-A", InventoryEvent.EventType.UPDATE));
+
+        // When
+        List<StoreFairScheduler.Round<InventoryEvent>> rounds = scheduler.schedule(events, Function.identity());
+
+        // Then
+        assertThat(rounds).singleElement().extracting(StoreFairScheduler.Round::items).isEqualTo(events);
+        assertThat(scheduler.schedule(List.<InventoryEvent>of(), Function.identity())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve interpretar os pesos por loja e rejeitar formato inválido")
+    void shouldParseStoreWeightsAndRejectInvalidFormat() {
+        // Given
+        StoreFairScheduler scheduler = new StoreFairScheduler(50, " STORE-A:3 , STORE-B:0");
+
+        // Then
+        assertThat(scheduler.weightOf("STORE-A")).isEqualTo(3);
+        assertThat(scheduler.weightOf("STORE-B")).isEqualTo(1);
+        assertThat(scheduler.weightOf("STORE-C")).isEqualTo(1);
+        assertThatThrownBy(() -> new StoreFairScheduler(50, "STORE-A"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Peso de loja inválido");
+    }
+
+    private List<String> skus(StoreFairScheduler.Round<InventoryEvent> round) {
+        return round.items().stream().map(InventoryEvent::getProductSku).toList();
+    }
+
+    private static InventoryEvent event(String productSku, String storeId, InventoryEvent.EventType eventType) {
+        return InventoryEvent.builder()
+                .productSku(productSku)
+                .storeId(storeId)
+                .eventType(eventType)
+                .build();
+    }
+}
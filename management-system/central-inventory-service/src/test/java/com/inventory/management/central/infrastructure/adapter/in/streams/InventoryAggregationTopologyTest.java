@@ -0,0 +1,169 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.central.domain.model.InventoryEvent;
+import com.inventory.management.central.domain.model.StockTotals;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InventoryAggregationTopology - Testes Unitários")
+class InventoryAggregationTopologyTest {
+
+    private static final String INPUT_TOPIC = "inventory-update";
+    private static final String PRIORITY_TOPIC = "inventory-update-priority";
+    private static final String STORE_STATE_TOPIC = "central-inventory-store-state";
+    private static final String SKU_TOTALS_TOPIC = "central-inventory-sku-totals";
+
+    @TempDir
+    Path stateDir;
+
+    private ObjectMapper objectMapper;
+    private TopologyTestDriver driver;
+    private TestInputTopic<String, String> input;
+    private TestInputTopic<String, String> priorityInput;
+    private TestOutputTopic<String, StoreStockState> storeStates;
+    private TestOutputTopic<String, StockTotals> skuTotals;
+    private KeyValueStore<String, StockTotals> totalsStore;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        InventoryAggregationTopology topology = new InventoryAggregationTopology(
+                objectMapper, INPUT_TOPIC, PRIORITY_TOPIC, STORE_STATE_TOPIC, SKU_TOTALS_TOPIC);
+        StreamsBuilder builder = new StreamsBuilder();
+        topology.build(builder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "central-inventory-streams-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        input = driver.createInputTopic(INPUT_TOPIC, Serdes.String().serializer(), Serdes.String().serializer());
+        priorityInput = driver.createInputTopic(PRIORITY_TOPIC, Serdes.String().serializer(),
+                Serdes.String().serializer());
+        storeStates = driver.createOutputTopic(STORE_STATE_TOPIC, Serdes.String().deserializer(),
+                InventoryAggregationTopology.jsonSerde(StoreStockState.class, objectMapper).deserializer());
+        skuTotals = driver.createOutputTopic(SKU_TOTALS_TOPIC, Serdes.String().deserializer(),
+                InventoryAggregationTopology.jsonSerde(StockTotals.class, objectMapper).deserializer());
+        totalsStore = driver.getKeyValueStore(InventoryAggregationTopology.SKU_TOTALS_STORE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    @DisplayName("Deve somar os estados de todas as lojas no total do SKU")
+    void shouldSumStoreStatesIntoSkuTotals() throws Exception {
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 2, 1L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-002", 5, 1, 1L));
+        input.pipeInput("SKU-002", event("SKU-002", "STORE-001", 7, 0, 2L));
+
+        assertThat(totalsStore.get("SKU-001")).isEqualTo(new StockTotals("SKU-001", 15, 3));
+        assertThat(totalsStore.get("SKU-002")).isEqualTo(new StockTotals("SKU-002", 7, 0));
+    }
+
+    @Test
+    @DisplayName("Deve substituir o estado anterior da loja ao receber um novo evento")
+    void shouldReplacePreviousStoreStateOnUpdate() throws Exception {
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 2, 1L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-002", 5, 1, 1L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 4, 0, 2L));
+
+        assertThat(totalsStore.get("SKU-001")).isEqualTo(new StockTotals("SKU-001", 9, 1));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar evento com sequência já aplicada")
+    void shouldIgnoreStaleSequence() throws Exception {
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 2, 5L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 99, 0, 4L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 98, 0, 5L));
+
+        assertThat(totalsStore.get("SKU-001")).isEqualTo(new StockTotals("SKU-001", 10, 2));
+        KeyValueStore<String, StoreStockState> stateStore =
+                driver.getKeyValueStore(InventoryAggregationTopology.STORE_STATE_STORE);
+        assertThat(stateStore.get("SKU-001@STORE-001").sequence()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("Deve combinar os tópicos principal e prioritário respeitando a sequência da loja")
+    void shouldMergePriorityTopicRespectingStoreSequence() throws Exception {
+        priorityInput.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 4, 6L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 0, 5L));
+
+        assertThat(totalsStore.get("SKU-001")).isEqualTo(new StockTotals("SKU-001", 10, 4));
+    }
+
+    @Test
+    @DisplayName("Deve aplicar eventos sem sequência na ordem do tópico")
+    void shouldApplyEventsWithoutSequenceInTopicOrder() throws Exception {
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 0, null));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 3, 0, null));
+
+        assertThat(totalsStore.get("SKU-001")).isEqualTo(new StockTotals("SKU-001", 3, 0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar eventos ilegíveis ou inválidos")
+    void shouldDropUnreadableOrInvalidEvents() throws Exception {
+        input.pipeInput("SKU-001", "{json inválido");
+        input.pipeInput("SKU-001", event("SKU-001", "", 10, 0, 1L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", -1, 0, 1L));
+
+        assertThat(totalsStore.get("SKU-001")).isNull();
+        assertThat(storeStates.isEmpty()).isTrue();
+        assertThat(skuTotals.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve publicar o estado das lojas e os totais para a gravação no banco")
+    void shouldPublishStoreStatesAndTotals() throws Exception {
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-001", 10, 2, 1L));
+        input.pipeInput("SKU-001", event("SKU-001", "STORE-002", 5, 1, 3L));
+
+        assertThat(storeStates.readKeyValuesToList()).containsExactly(
+                KeyValue.pair("SKU-001@STORE-001", new StoreStockState("SKU-001", "STORE-001", 10, 2, 1L)),
+                KeyValue.pair("SKU-001@STORE-002", new StoreStockState("SKU-001", "STORE-002", 5, 1, 3L)));
+        assertThat(skuTotals.readKeyValuesToMap())
+                .containsEntry("SKU-001", new StockTotals("SKU-001", 15, 3));
+    }
+
+    private String event(String productSku, String storeId, int quantity, int reserved, Long sequence)
+            throws Exception {
+        return objectMapper.writeValueAsString(InventoryEvent.builder()
+                .eventId(UUID.randomUUID())
+                .productSku(productSku)
+                .storeId(storeId)
+                .eventType(InventoryEvent.EventType.UPDATE)
+                .newQuantity(quantity)
+                .reservedQuantity(reserved)
+                .sequence(sequence)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
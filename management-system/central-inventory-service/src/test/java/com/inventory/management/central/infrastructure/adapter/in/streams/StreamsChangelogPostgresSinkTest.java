@@ -0,0 +1,132 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryReadCache;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import com.inventory.management.central.domain.service.InventoryGenerationCounters;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamsChangelogPostgresSink - Testes Unitários")
+class StreamsChangelogPostgresSinkTest {
+
+    @Mock
+    private StoreInventoryRepository storeInventoryRepository;
+
+    @Mock
+    private CentralInventoryRepository centralInventoryRepository;
+
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
+    @Mock
+    private CentralInventoryReadCache readCache;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private ObjectMapper objectMapper;
+
+    private StreamsChangelogPostgresSink sink;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        sink = new StreamsChangelogPostgresSink(storeInventoryRepository, centralInventoryRepository,
+                generationCounters, readCache, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas o último estado de cada loja do lote")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertLatestStoreStatePerKey() throws Exception {
+        when(storeInventoryRepository.upsertAll(any()))
+                .thenReturn(List.of(new StockTotals("SKU-001", 8, 1), new StockTotals("SKU-001", 5, 0)));
+
+        sink.consumeStoreStates(List.of(
+                record("SKU-001@STORE-001", new StoreStockState("SKU-001", "STORE-001", 10, 2, 1L)),
+                record("SKU-001@STORE-002", new StoreStockState("SKU-001", "STORE-002", 5, 0, 1L)),
+                record("SKU-001@STORE-001", new StoreStockState("SKU-001", "STORE-001", 8, 1, 2L))),
+                acknowledgment);
+
+        ArgumentCaptor<Collection<StoreInventory>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(storeInventoryRepository).upsertAll(captor.capture());
+        List<StoreInventory> written = new ArrayList<>(captor.getValue());
+        assertThat(written).hasSize(2);
+        assertThat(written.get(0).getStoreId()).isEqualTo("STORE-001");
+        assertThat(written.get(0).getQuantity()).isEqualTo(8);
+        assertThat(written.get(0).getAvailableQuantity()).isEqualTo(7);
+        assertThat(written.get(0).getLastSequence()).isEqualTo(2L);
+        verify(generationCounters).advanceAfterCommit("STORE-001", "SKU-001");
+        verify(generationCounters).advanceAfterCommit("STORE-002", "SKU-001");
+        verify(readCache).refreshAfterCommit(List.of("SKU-001"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve gravar apenas o último total de cada SKU do lote")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertLatestTotalsPerSku() throws Exception {
+        sink.consumeSkuTotals(List.of(
+                record("SKU-001", new StockTotals("SKU-001", 10, 2)),
+                record("SKU-002", new StockTotals("SKU-002", 3, 0)),
+                record("SKU-001", new StockTotals("SKU-001", 15, 3))),
+                acknowledgment);
+
+        ArgumentCaptor<Collection<StockTotals>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(centralInventoryRepository).upsertTotals(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new StockTotals("SKU-001", 15, 3), new StockTotals("SKU-002", 3, 0));
+        verify(generationCounters).advanceProductAfterCommit("SKU-001");
+        verify(generationCounters).advanceProductAfterCommit("SKU-002");
+        verify(readCache).refreshAfterCommit(Set.of("SKU-001", "SKU-002"));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve apenas confirmar o lote sem registros com valor")
+    void shouldOnlyAcknowledgeTombstones() {
+        sink.consumeSkuTotals(List.of(new ConsumerRecord<>("central-inventory-sku-totals", 0, 0L, "SKU-001", null)),
+                acknowledgment);
+
+        verifyNoInteractions(centralInventoryRepository, generationCounters, readCache);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve falhar sem confirmar quando o registro é ilegível")
+    void shouldFailWithoutAcknowledgingUnreadableRecord() {
+        List<ConsumerRecord<String, String>> records = List.of(
+                new ConsumerRecord<>("central-inventory-store-state", 0, 0L, "SKU-001@STORE-001", "{inválido"));
+
+        assertThatThrownBy(() -> sink.consumeStoreStates(records, acknowledgment))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(storeInventoryRepository, acknowledgment);
+    }
+
+    private ConsumerRecord<String, String> record(String key, Object value) throws Exception {
+        return new ConsumerRecord<>("topic", 0, 0L, key, objectMapper.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,88 @@
+package com.inventory.management.central.infrastructure.adapter.in.streams;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.StreamsBuilderFactoryBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StreamsInventoryTotalsView - Testes Unitários")
+class StreamsInventoryTotalsViewTest {
+
+    @Mock
+    private StreamsBuilderFactoryBean streamsBuilderFactoryBean;
+
+    @Mock
+    private KafkaStreams kafkaStreams;
+
+    @Mock
+    private ReadOnlyKeyValueStore<String, StockTotals> store;
+
+    private StreamsInventoryTotalsView view;
+
+    @BeforeEach
+    void setUp() {
+        view = new StreamsInventoryTotalsView(streamsBuilderFactoryBean);
+    }
+
+    @Test
+    @DisplayName("Deve ler os totais do state store com o Kafka Streams em execução")
+    void shouldReadTotalsFromStateStoreWhenRunning() {
+        StockTotals totals = new StockTotals("SKU-001", 15, 3);
+        when(streamsBuilderFactoryBean.getKafkaStreams()).thenReturn(kafkaStreams);
+        when(kafkaStreams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        doReturn(store).when(kafkaStreams).store(any());
+        when(store.get("SKU-001")).thenReturn(totals);
+
+        assertThat(view.findTotals("SKU-001")).contains(totals);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o SKU não está no state store local")
+    void shouldReturnEmptyWhenSkuNotInLocalStore() {
+        when(streamsBuilderFactoryBean.getKafkaStreams()).thenReturn(kafkaStreams);
+        when(kafkaStreams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        doReturn(store).when(kafkaStreams).store(any());
+
+        assertThat(view.findTotals("SKU-999")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio durante o rebalanceamento")
+    void shouldReturnEmptyWhenNotRunning() {
+        when(streamsBuilderFactoryBean.getKafkaStreams()).thenReturn(kafkaStreams);
+        when(kafkaStreams.state()).thenReturn(KafkaStreams.State.REBALANCING);
+
+        assertThat(view.findTotals("SKU-001")).isEmpty();
+        verify(kafkaStreams, never()).store(any());
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio antes de o Kafka Streams iniciar")
+    void shouldReturnEmptyBeforeStart() {
+        when(streamsBuilderFactoryBean.getKafkaStreams()).thenReturn(null);
+
+        assertThat(view.findTotals("SKU-001")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o state store está indisponível")
+    void shouldReturnEmptyWhenStoreUnavailable() {
+        when(streamsBuilderFactoryBean.getKafkaStreams()).thenReturn(kafkaStreams);
+        when(kafkaStreams.state()).thenReturn(KafkaStreams.State.RUNNING);
+        when(kafkaStreams.store(any())).thenThrow(new InvalidStateStoreException("migrando"));
+
+        assertThat(view.findTotals("SKU-001")).isEmpty();
+    }
+}
@@ -3,21 +3,27 @@ package com.inventory.management.central.infrastructure.adapter.in.web;
 import com.inventory.management.central.application.usecase.GetCentralInventoryUseCase;
 import com.inventory.management.central.application.usecase.GetStoreInventoryUseCase;
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.InventoryPage;
 import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.service.InventoryGenerationCounters;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +39,9 @@ class CentralInventoryControllerTest {
     @Mock
     private GetStoreInventoryUseCase getStoreInventoryUseCase;
 
+    @Spy
+    private InventoryGenerationCounters generationCounters = new InventoryGenerationCounters(Duration.ZERO);
+
     @InjectMocks
     private CentralInventoryController controller;
 
@@ -105,7 +114,7 @@ class CentralInventoryControllerTest {
                 .thenReturn(Optional.of(centralInventory1));
 
         // When
-        ResponseEntity<CentralInventory> response = controller.getProductInventory(productSku);
+        ResponseEntity<CentralInventory> response = controller.getProductInventory(productSku, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -122,7 +131,7 @@ class CentralInventoryControllerTest {
                 .thenReturn(Optional.empty());
 
         // When
-        ResponseEntity<CentralInventory> response = controller.getProductInventory(productSku);
+        ResponseEntity<CentralInventory> response = controller.getProductInventory(productSku, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
@@ -135,16 +144,18 @@ class CentralInventoryControllerTest {
     void shouldReturnOnlyActiveProductsWhenActiveOnlyTrue() {
         // Given
         List<CentralInventory> activeProducts = Arrays.asList(centralInventory1, centralInventory2);
-        when(getCentralInventoryUseCase.getActiveProducts()).thenReturn(activeProducts);
+        when(getCentralInventoryUseCase.getInventoriesPage(true, null, null))
+                .thenReturn(new InventoryPage<>(activeProducts, null));
 
         // When
-        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true);
+        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(2);
         assertThat(response.getBody()).containsExactlyInAnyOrder(centralInventory1, centralInventory2);
-        verify(getCentralInventoryUseCase).getActiveProducts();
+        assertThat(response.getHeaders().containsKey(CentralInventoryController.NEXT_CURSOR_HEADER)).isFalse();
+        verify(getCentralInventoryUseCase).getInventoriesPage(true, null, null);
         verify(getCentralInventoryUseCase, never()).getAllInventories();
     }
 
@@ -153,16 +164,17 @@ class CentralInventoryControllerTest {
     void shouldReturnAllProductsWhenActiveOnlyFalse() {
         // Given
         List<CentralInventory> allProducts = Arrays.asList(centralInventory1, centralInventory2);
-        when(getCentralInventoryUseCase.getAllInventories()).thenReturn(allProducts);
+        when(getCentralInventoryUseCase.getInventoriesPage(false, null, null))
+                .thenReturn(new InventoryPage<>(allProducts, null));
 
         // When
-        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(false);
+        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(false, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(2);
         assertThat(response.getBody()).containsExactlyInAnyOrder(centralInventory1, centralInventory2);
-        verify(getCentralInventoryUseCase).getAllInventories();
+        verify(getCentralInventoryUseCase).getInventoriesPage(false, null, null);
         verify(getCentralInventoryUseCase, never()).getActiveProducts();
     }
 
@@ -170,16 +182,125 @@ class CentralInventoryControllerTest {
     @DisplayName("Deve retornar lista vazia quando não há produtos")
     void shouldReturnEmptyListWhenNoProducts() {
         // Given
-        when(getCentralInventoryUseCase.getActiveProducts()).thenReturn(Collections.emptyList());
+        when(getCentralInventoryUseCase.getInventoriesPage(true, null, null)).thenReturn(InventoryPage.empty());
 
         // When
-        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true);
+        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEmpty();
     }
 
+    @Test
+    @DisplayName("Deve retornar cursor da próxima página e aceitá-lo na chamada seguinte")
+    void shouldReturnNextCursorAndAcceptItOnFollowingCall() {
+        // Given
+        when(getCentralInventoryUseCase.getInventoriesPage(true, null, 1))
+                .thenReturn(new InventoryPage<>(List.of(centralInventory1), "SKU-001"));
+        when(getCentralInventoryUseCase.getInventoriesPage(true, "SKU-001", 1))
+                .thenReturn(new InventoryPage<>(List.of(centralInventory2), null));
+
+        // When
+        ResponseEntity<List<CentralInventory>> first = controller.getAllProducts(true, 1, null, null);
+        String cursor = first.getHeaders().getFirst(CentralInventoryController.NEXT_CURSOR_HEADER);
+        ResponseEntity<List<CentralInventory>> second = controller.getAllProducts(true, 1, cursor, null);
+
+        // Then
+        assertThat(first.getBody()).containsExactly(centralInventory1);
+        assertThat(cursor).isNotBlank().doesNotContain("SKU");
+        assertThat(second.getBody()).containsExactly(centralInventory2);
+        assertThat(second.getHeaders().containsKey(CentralInventoryController.NEXT_CURSOR_HEADER)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 sem consultar o inventário quando a ETag ainda é atual")
+    void shouldReturnNotModifiedWithoutQueryingWhenETagIsCurrent() {
+        // Given
+        when(getCentralInventoryUseCase.getInventoriesPage(true, null, null))
+                .thenReturn(new InventoryPage<>(List.of(centralInventory1), null));
+        String eTag = controller.getAllProducts(true, null, null, null).getHeaders().getETag();
+
+        // When
+        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true, null, null, eTag);
+
+        // Then
+        assertThat(eTag).isNotBlank();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(eTag);
+        assertThat(response.getBody()).isNull();
+        verify(getCentralInventoryUseCase, times(1)).getInventoriesPage(true, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve retornar o inventário da loja novamente após alteração na loja")
+    void shouldReturnStoreInventoryAgainAfterStoreChange() {
+        // Given
+        String storeId = "STORE-001";
+        when(getStoreInventoryUseCase.getInventoryByStorePage(storeId, false, null, null))
+                .thenReturn(new InventoryPage<>(List.of(storeInventory1), null));
+        String eTag = controller.getStoreInventory(storeId, false, null, null, null).getHeaders().getETag();
+        generationCounters.advanceAfterCommit("STORE-002", "SKU-002");
+        String otherStoreETag = controller.getStoreInventory(storeId, false, null, null, eTag).getHeaders().getETag();
+
+        // When
+        generationCounters.advanceAfterCommit(storeId, "SKU-001");
+        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, false, null, null, eTag);
+
+        // Then
+        assertThat(otherStoreETag).isEqualTo(eTag);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+        verify(getStoreInventoryUseCase, times(2)).getInventoryByStorePage(storeId, false, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas os campos selecionados com ETag própria da seleção")
+    void shouldListOnlySelectedFieldsWithSelectionSpecificETag() {
+        // Given
+        FieldSelection selection = FieldSelection.parse("availableQuantity", CentralInventory.FIELDS);
+        Map<String, Object> row = Map.of("productSku", "SKU-001", "availableQuantity", 80);
+        when(getCentralInventoryUseCase.getInventoryFieldsPage(true, null, 1, selection))
+                .thenReturn(new InventoryPage<>(List.of(row), "SKU-001"));
+        when(getCentralInventoryUseCase.getInventoriesPage(true, null, 1))
+                .thenReturn(new InventoryPage<>(List.of(centralInventory1), null));
+
+        // When
+        ResponseEntity<List<Map<String, Object>>> response =
+                controller.getAllProductFields(true, 1, null, "availableQuantity", null);
+        String fullETag = controller.getAllProducts(true, 1, null, null).getHeaders().getETag();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(row);
+        assertThat(response.getHeaders().getFirst(CentralInventoryController.NEXT_CURSOR_HEADER)).isNotBlank();
+        assertThat(response.getHeaders().getVary()).containsExactly("Accept");
+        assertThat(response.getHeaders().getETag()).isNotBlank().isNotEqualTo(fullETag);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando um campo selecionado não existir")
+    void shouldReturnBadRequestWhenSelectedFieldDoesNotExist() {
+        // When
+        ResponseEntity<List<Map<String, Object>>> response =
+                controller.getStoreInventoryFields("STORE-001", false, null, null, "quantity,password", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(getStoreInventoryUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o cursor for inválido")
+    void shouldReturnBadRequestWhenCursorIsInvalid() {
+        // When
+        ResponseEntity<List<CentralInventory>> response = controller.getAllProducts(true, null, "%%%", null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verifyNoInteractions(getCentralInventoryUseCase);
+    }
+
     @Test
     @DisplayName("Deve retornar produtos com estoque")
     void shouldReturnProductsWithStock() {
@@ -405,16 +526,17 @@ class CentralInventoryControllerTest {
         // Given
         String storeId = "STORE-001";
         List<StoreInventory> storeInventories = Collections.singletonList(storeInventory1);
-        when(getStoreInventoryUseCase.getInventoryByStore(storeId)).thenReturn(storeInventories);
+        when(getStoreInventoryUseCase.getInventoryByStorePage(storeId, false, null, null))
+                .thenReturn(new InventoryPage<>(storeInventories, null));
 
         // When
-        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, false);
+        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, false, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSize(1);
         assertThat(response.getBody()).contains(storeInventory1);
-        verify(getStoreInventoryUseCase).getInventoryByStore(storeId);
+        verify(getStoreInventoryUseCase).getInventoryByStorePage(storeId, false, null, null);
     }
 
     @Test
@@ -422,15 +544,33 @@ class CentralInventoryControllerTest {
     void shouldReturnEmptyListWhenStoreHasNoInventory() {
         // Given
         String storeId = "STORE-999";
-        when(getStoreInventoryUseCase.getInventoryByStore(storeId)).thenReturn(Collections.emptyList());
+        when(getStoreInventoryUseCase.getInventoryByStorePage(storeId, false, null, null))
+                .thenReturn(InventoryPage.empty());
 
         // When
-        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, false);
+        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, false, null, null, null);
 
         // Then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isEmpty();
-        verify(getStoreInventoryUseCase).getInventoryByStore(storeId);
+        verify(getStoreInventoryUseCase).getInventoryByStorePage(storeId, false, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve paginar inventário da loja com estoque expondo cursor da próxima página")
+    void shouldPaginateStoreInventoryWithStockExposingNextCursor() {
+        // Given
+        String storeId = "STORE-001";
+        when(getStoreInventoryUseCase.getInventoryByStorePage(storeId, true, null, 1))
+                .thenReturn(new InventoryPage<>(List.of(storeInventory1), "SKU-001"));
+
+        // When
+        ResponseEntity<List<StoreInventory>> response = controller.getStoreInventory(storeId, true, 1, null, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(CentralInventoryController.NEXT_CURSOR_HEADER))
+                .isEqualTo(ContinuationTokenSupport.encode("SKU-001"));
     }
 
     @Test
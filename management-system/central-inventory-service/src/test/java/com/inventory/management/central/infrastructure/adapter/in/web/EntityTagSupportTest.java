@@ -0,0 +1,30 @@
+package com.inventory.management.central.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EntityTagSupport - Testes Unitários")
+class EntityTagSupportTest {
+
+    private static final String ETAG = EntityTagSupport.toETag("abc-1-7");
+
+    @Test
+    @DisplayName("Deve reconhecer tag igual, lista, tag fraca e curinga")
+    void shouldMatchEqualListWeakAndWildcard() {
+        assertThat(ETAG).isEqualTo("\"abc-1-7\"");
+        assertThat(EntityTagSupport.matchesIfNoneMatch(ETAG, ETAG)).isTrue();
+        assertThat(EntityTagSupport.matchesIfNoneMatch("\"x\", " + ETAG, ETAG)).isTrue();
+        assertThat(EntityTagSupport.matchesIfNoneMatch("W/" + ETAG, ETAG)).isTrue();
+        assertThat(EntityTagSupport.matchesIfNoneMatch("*", ETAG)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar cabeçalho ausente ou tag diferente")
+    void shouldNotMatchMissingOrDifferentTag() {
+        assertThat(EntityTagSupport.matchesIfNoneMatch(null, ETAG)).isFalse();
+        assertThat(EntityTagSupport.matchesIfNoneMatch(" ", ETAG)).isFalse();
+        assertThat(EntityTagSupport.matchesIfNoneMatch("\"abc-1-8\"", ETAG)).isFalse();
+    }
+}
@@ -3,6 +3,8 @@ package com.inventory.management.central.infrastructure.adapter.in.web;
 import com.inventory.management.central.domain.model.InventoryEvent;
 import com.inventory.management.central.domain.port.InventoryEventRepository;
 import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.adapter.in.messaging.DeadLetterReplayer;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +44,12 @@ class EventAdminControllerAdditionalTest {
     @MockBean
     private InventoryEventProcessingService inventoryEventProcessingService;
 
+    @MockBean
+    private DeadLetterReplayer deadLetterReplayer;
+
+    @MockBean
+    private RetryTopicMetrics retryTopicMetrics;
+
     private InventoryEvent testEvent;
 
     @BeforeEach
@@ -3,6 +3,8 @@ package com.inventory.management.central.infrastructure.adapter.in.web;
 import com.inventory.management.central.domain.model.InventoryEvent;
 import com.inventory.management.central.domain.port.InventoryEventRepository;
 import com.inventory.management.central.domain.service.InventoryEventProcessingService;
+import com.inventory.management.central.infrastructure.adapter.in.messaging.DeadLetterReplayer;
+import com.inventory.management.central.infrastructure.metrics.RetryTopicMetrics;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +18,7 @@ import org.springframework.http.ResponseEntity;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +35,12 @@ class EventAdminControllerTest {
     @Mock
     private InventoryEventProcessingService eventProcessingService;
 
+    @Mock
+    private DeadLetterReplayer deadLetterReplayer;
+
+    @Mock
+    private RetryTopicMetrics retryTopicMetrics;
+
     @InjectMocks
     private EventAdminController controller;
 
@@ -258,4 +267,34 @@ class EventAdminControllerTest {
         assertThat(response.getBody()).isEmpty();
         verify(eventRepository).findByProcessingStatus(InventoryEvent.ProcessingStatus.IGNORED);
     }
+
+    @Test
+    @DisplayName("Deve reenviar eventos do DLT respeitando o limite")
+    void shouldReplayDeadLettersWithinLimit() {
+        // Given
+        when(deadLetterReplayer.replay(50)).thenReturn(3);
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.replayDeadLetters(50);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("replayedCount", 3);
+        verify(deadLetterReplayer).replay(50);
+    }
+
+    @Test
+    @DisplayName("Deve retornar entregas por camada de retry")
+    void shouldReturnDeliveriesByRetryTier() {
+        // Given
+        Map<String, Long> deliveries = Map.of("inventory-update-retry-1000", 5L, "inventory-update-dlt", 1L);
+        when(retryTopicMetrics.deliveriesByTier()).thenReturn(deliveries);
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controller.getRetryStats();
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("deliveriesByTier", deliveries);
+    }
 }
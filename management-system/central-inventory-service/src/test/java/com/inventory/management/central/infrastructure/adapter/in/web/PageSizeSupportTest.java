@@ -0,0 +1,28 @@
+package com.inventory.management.central.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para PageSizeSupport.
+ */
+@DisplayName("PageSizeSupport Tests")
+class PageSizeSupportTest {
+
+    @Test
+    @DisplayName("Should use default page size when limit is missing or not positive")
+    void shouldUseDefaultPageSizeWhenLimitIsMissingOrNotPositive() {
+        assertEquals(100, PageSizeSupport.resolve(null, 100, 500));
+        assertEquals(100, PageSizeSupport.resolve(0, 100, 500));
+        assertEquals(100, PageSizeSupport.resolve(-5, 100, 500));
+    }
+
+    @Test
+    @DisplayName("Should cap requested page size at maximum")
+    void shouldCapRequestedPageSizeAtMaximum() {
+        assertEquals(20, PageSizeSupport.resolve(20, 100, 500));
+        assertEquals(500, PageSizeSupport.resolve(10_000, 100, 500));
+    }
+}
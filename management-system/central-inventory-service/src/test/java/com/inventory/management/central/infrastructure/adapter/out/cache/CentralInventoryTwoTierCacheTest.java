@@ -0,0 +1,404 @@
+package com.inventory.management.central.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.StoreInventory;
+import com.inventory.management.central.domain.port.CentralInventoryRepository;
+import com.inventory.management.central.domain.port.StoreInventoryRepository;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CentralInventoryTwoTierCache - Testes Unitários")
+class CentralInventoryTwoTierCacheTest {
+
+    private static final String SKU = "SKU-001";
+    private static final String KEY = "inventory:central-cache:SKU-001";
+
+    @Mock
+    private CentralInventoryRepository centralInventoryRepository;
+
+    @Mock
+    private StoreInventoryRepository storeInventoryRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private CentralInventoryTwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = newCache(true);
+    }
+
+    @Test
+    @DisplayName("Deve carregar do banco uma vez e servir cópias independentes do cache local")
+    void shouldLoadOnceAndServeLocalCopies() {
+        // Given
+        redisMiss();
+
+        // When
+        CentralInventory first = cache.getCentralInventory(SKU, centralLoader(100, 20, 3L)).orElseThrow();
+        first.setTotalQuantity(0);
+        CentralInventory second = cache.getCentralInventory(SKU, centralLoader(100, 20, 3L)).orElseThrow();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getTotalQuantity()).isEqualTo(100);
+        assertThat(second.getAvailableQuantity()).isEqualTo(80);
+        verify(hashOperations, times(1)).multiGet(anyString(), anyCollection());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "central-inventory-l1")
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Deve gravar no Redis o valor carregado do banco com a sua versão")
+    @SuppressWarnings("unchecked")
+    void shouldWriteLoadedValueToRedisWithVersion() throws Exception {
+        // Given
+        redisMiss();
+
+        // When
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+
+        // Then
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(eq(CentralInventoryTwoTierCache.WRITE_IF_NEWER_SCRIPT), keys.capture(),
+                args.capture());
+        assertThat(keys.getValue()).containsExactly(KEY);
+        List<Object> values = Arrays.asList(args.getValue());
+        assertThat(values).hasSize(5);
+        assertThat(values.get(0)).isEqualTo(Long.toString(Duration.ofMinutes(10).toMillis()));
+        assertThat(objectMapper.readValue((String) values.get(1), CentralInventory.class).getTotalQuantity())
+                .isEqualTo(100);
+        assertThat(values.get(2)).isEqualTo("3");
+        assertThat(values.get(3)).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("Deve servir do Redis sem consultar o banco")
+    void shouldServeFromRedisWithoutDatabase() throws Exception {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(KEY, List.of("central", "central-version")))
+                .thenReturn(List.of(objectMapper.writeValueAsString(central(40, 5, 7L)), "7"));
+
+        // When
+        Optional<CentralInventory> result = cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getTotalQuantity()).isEqualTo(40);
+        assertThat(loads.get()).isZero();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Deve ler a lista das lojas do Redis")
+    void shouldServeStoresFromRedis() throws Exception {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(KEY, List.of("stores", "stores-version")))
+                .thenReturn(List.of(objectMapper.writeValueAsString(
+                        List.of(store("STORE-001", 10, 2, 4L), store("STORE-002", 5, 0, 1L))), "5"));
+
+        // When
+        List<StoreInventory> result = cache.getStoreInventories(SKU, this::storesFromDatabase);
+
+        // Then
+        assertThat(result).extracting(StoreInventory::getStoreId).containsExactly("STORE-001", "STORE-002");
+        assertThat(result.get(0).getReservedQuantity()).isEqualTo(2);
+        assertThat(result.get(0).getAvailableQuantity()).isEqualTo(8);
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando o Redis falha")
+    void shouldFallBackToDatabaseWhenRedisFails() {
+        // Given
+        when(redisTemplate.<Object, Object>opsForHash()).thenThrow(new QueryTimeoutException("redis fora"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new QueryTimeoutException("redis fora"));
+
+        // When
+        List<StoreInventory> result = cache.getStoreInventories(SKU, this::storesFromDatabase);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do Redis após o TTL local")
+    void shouldReloadAfterLocalTtl() {
+        // Given
+        redisMiss();
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+        nanos.addAndGet(Duration.ofSeconds(11).toNanos());
+
+        // When
+        CentralInventory result = cache.getCentralInventory(SKU, centralLoader(90, 20, 4L)).orElseThrow();
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(result.getTotalQuantity()).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("Deve gravar as duas camadas após a alteração e publicar a invalidação")
+    @SuppressWarnings("unchecked")
+    void shouldWriteThroughBothTiersOnRefresh() {
+        // Given
+        when(centralInventoryRepository.findByProductSkuIn(anyCollection())).thenReturn(List.of(central(15, 2, 9L)));
+        when(storeInventoryRepository.findGenerationsByProductSkuIn(anyCollection())).thenReturn(Map.of(SKU, 12L));
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection()))
+                .thenReturn(List.of(store("STORE-001", 10, 2, 4L), store("STORE-002", 5, 0, 2L)));
+
+        // When
+        cache.refreshAfterCommit(List.of(SKU));
+
+        // Then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(eq(CentralInventoryTwoTierCache.WRITE_IF_NEWER_SCRIPT), eq(List.of(KEY)),
+                args.capture());
+        assertThat(args.getValue()[2]).isEqualTo("9");
+        assertThat(args.getValue()[4]).isEqualTo("12");
+        verify(redisTemplate).convertAndSend(eq("inventory:central-cache:invalidate"), anyString());
+
+        assertThat(cache.getCentralInventory(SKU, centralLoader(0, 0, 1L)).orElseThrow().getTotalQuantity())
+                .isEqualTo(15);
+        assertThat(cache.getStoreInventories(SKU, this::storesFromDatabase)).hasSize(2);
+        assertThat(loads.get()).isZero();
+        verifyNoInteractions(hashOperations);
+    }
+
+    @Test
+    @DisplayName("Deve publicar uma versão maior da lista quando uma nova loja aparece")
+    @SuppressWarnings("unchecked")
+    void shouldAdvanceStoresVersionWhenNewStoreAppears() {
+        // Given
+        when(storeInventoryRepository.findGenerationsByProductSkuIn(anyCollection()))
+                .thenReturn(Map.of(SKU, 3L))
+                .thenReturn(Map.of(SKU, 4L));
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection()))
+                .thenReturn(List.of(store("STORE-001", 10, 2, 4L)))
+                .thenReturn(List.of(store("STORE-001", 10, 2, 4L), store("STORE-002", 5, 0, 0L)));
+
+        // When
+        cache.refreshAfterCommit(List.of(SKU));
+        cache.refreshAfterCommit(List.of(SKU));
+
+        // Then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(2)).execute(eq(CentralInventoryTwoTierCache.WRITE_IF_NEWER_SCRIPT),
+                eq(List.of(KEY)), args.capture());
+        assertThat(args.getAllValues().get(0)[4]).isEqualTo("3");
+        assertThat(args.getAllValues().get(1)[4]).isEqualTo("4");
+        assertThat(cache.getStoreInventories(SKU, this::storesFromDatabase))
+                .extracting(StoreInventory::getStoreId).containsExactly("STORE-001", "STORE-002");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve ler a geração da lista antes das lojas")
+    void shouldReadGenerationBeforeStores() {
+        // Given
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        cache.refreshAfterCommit(List.of(SKU));
+
+        // Then
+        InOrder inOrder = inOrder(storeInventoryRepository);
+        inOrder.verify(storeInventoryRepository).findGenerationsByProductSkuIn(anyCollection());
+        inOrder.verify(storeInventoryRepository).findByProductSkuIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve manter no cache local a versão mais recente")
+    void shouldKeepNewestVersionLocally() {
+        // Given
+        when(centralInventoryRepository.findByProductSkuIn(anyCollection()))
+                .thenReturn(List.of(central(15, 2, 9L)))
+                .thenReturn(List.of(central(99, 0, 8L)));
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        cache.refreshAfterCommit(List.of(SKU));
+        cache.refreshAfterCommit(List.of(SKU));
+
+        // Then
+        CentralInventory result = cache.getCentralInventory(SKU, centralLoader(0, 0, 1L)).orElseThrow();
+        assertThat(result.getVersion()).isEqualTo(9L);
+        assertThat(result.getTotalQuantity()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o cache somente após o commit da transação")
+    void shouldRefreshOnlyAfterCommit() {
+        // Given
+        when(centralInventoryRepository.findByProductSkuIn(anyCollection())).thenReturn(List.of(central(15, 2, 9L)));
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection())).thenReturn(List.of());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            cache.refreshAfterCommit(List.of(SKU));
+            verifyNoInteractions(centralInventoryRepository, storeInventoryRepository, redisTemplate);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        verify(centralInventoryRepository).findByProductSkuIn(anyCollection());
+        verify(redisTemplate).execute(eq(CentralInventoryTwoTierCache.WRITE_IF_NEWER_SCRIPT), eq(List.of(KEY)),
+                any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o cache local quando a recarga falha")
+    void shouldInvalidateLocalEntriesWhenRefreshFails() {
+        // Given
+        redisMiss();
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+        when(storeInventoryRepository.findByProductSkuIn(anyCollection()))
+                .thenThrow(new QueryTimeoutException("banco fora"));
+
+        // When
+        cache.refreshAfterCommit(List.of(SKU));
+        cache.getCentralInventory(SKU, centralLoader(70, 0, 5L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        verify(redisTemplate).convertAndSend(eq("inventory:central-cache:invalidate"), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o cache local ao receber invalidação de outra instância")
+    void shouldInvalidateOnRemoteMessage() {
+        // Given
+        redisMiss();
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+
+        // When
+        cache.onRemoteInvalidation("outra-instancia|" + SKU);
+        cache.getCentralInventory(SKU, centralLoader(70, 0, 5L));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve delegar ao banco sem cache quando desabilitado")
+    void shouldDelegateWhenDisabled() {
+        // Given
+        cache = newCache(false);
+
+        // When
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+        cache.getCentralInventory(SKU, centralLoader(100, 20, 3L));
+        cache.refreshAfterCommit(List.of(SKU));
+
+        // Then
+        assertThat(loads.get()).isEqualTo(2);
+        verifyNoInteractions(redisTemplate, centralInventoryRepository, storeInventoryRepository);
+    }
+
+    private CentralInventoryTwoTierCache newCache(boolean enabled) {
+        return new CentralInventoryTwoTierCache(centralInventoryRepository, storeInventoryRepository, redisTemplate,
+                objectMapper, CircuitBreaker.ofDefaults("redis-test"), meterRegistry, enabled, 1000,
+                Duration.ofSeconds(10), Duration.ofMinutes(10), "inventory:central-cache:",
+                "inventory:central-cache:invalidate", nanos::get);
+    }
+
+    private void redisMiss() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(anyString(), anyCollection())).thenReturn(Arrays.asList(null, null));
+    }
+
+    private Supplier<Optional<CentralInventory>> centralLoader(int total, int reserved, long version) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(central(total, reserved, version));
+        };
+    }
+
+    private List<StoreInventory> storesFromDatabase() {
+        loads.incrementAndGet();
+        return List.of(store("STORE-001", 10, 2, 4L), store("STORE-002", 5, 0, 1L));
+    }
+
+    private static CentralInventory central(int total, int reserved, long version) {
+        return CentralInventory.builder()
+                .productSku(SKU)
+                .productName("Produto 1")
+                .totalQuantity(total)
+                .totalReservedQuantity(reserved)
+                .availableQuantity(total - reserved)
+                .lastUpdated(LocalDateTime.now())
+                .version(version)
+                .active(true)
+                .build();
+    }
+
+    private static StoreInventory store(String storeId, int quantity, int reserved, long version) {
+        return StoreInventory.builder()
+                .productSku(SKU)
+                .storeId(storeId)
+                .storeName("Store " + storeId)
+                .quantity(quantity)
+                .reservedQuantity(reserved)
+                .availableQuantity(quantity - reserved)
+                .lastUpdated(LocalDateTime.now())
+                .version(version)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
 import com.inventory.management.central.domain.model.CentralInventory;
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.mapper.InventoryEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,14 +11,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +34,12 @@ class CentralInventoryRepositoryAdapterTest {
     @Mock
     private InventoryEntityMapper mapper;
 
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Mock
+    private InventoryUpsertRepository upsertRepository;
+
     @InjectMocks
     private CentralInventoryRepositoryAdapter adapter;
 
@@ -328,6 +339,22 @@ class CentralInventoryRepositoryAdapterTest {
         verify(mapper, never()).toDomain((CentralInventoryJpaEntity) any());
     }
 
+    @Test
+    @DisplayName("Deve somar variações de quantidade com um único upsert, sem ler os registros")
+    void shouldAddTotalsWithSingleUpsert() {
+        // Given
+        List<StockTotals> deltas = List.of(new StockTotals("SKU-001", 25, -5));
+
+        // When
+        adapter.lockTotals(List.of("SKU-001"));
+        adapter.addTotals(deltas);
+
+        // Then
+        verify(upsertRepository).lockCentralTotals(List.of("SKU-001"));
+        verify(upsertRepository).addCentralDeltas(deltas);
+        verifyNoInteractions(jpaRepository);
+    }
+
     @Test
     @DisplayName("Deve deletar produto por SKU")
     void shouldDeleteProductBySku() {
@@ -337,4 +364,104 @@ class CentralInventoryRepositoryAdapterTest {
         // Then
         verify(jpaRepository).deleteById("SKU-001");
     }
+
+    @Test
+    @DisplayName("Deve buscar página de inventários ativos após o SKU informado")
+    void shouldFindActivePageAfterSku() {
+        // Given
+        when(jpaRepository.findActivePageAfterSku("SKU-000", PageRequest.ofSize(2))).thenReturn(List.of(centralInventory));
+
+        // When
+        List<CentralInventory> result = adapter.findPageAfterSku("SKU-000", 2, true);
+
+        // Then
+        assertThat(result).containsExactly(centralInventory);
+        verify(jpaRepository, never()).findPageAfterSku(any(), any());
+        verify(mapper, never()).toDomain(any(CentralInventoryJpaEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve buscar página de campos selecionados pela projeção")
+    void shouldFindFieldsPageThroughProjection() {
+        // Given
+        FieldSelection selection = FieldSelection.parse("availableQuantity", CentralInventory.FIELDS);
+        List<Map<String, Object>> rows = List.of(Map.of("productSku", "SKU-001", "availableQuantity", 90));
+        when(fieldProjectionRepository.findPage(eq(CentralInventoryJpaEntity.class),
+                eq(CentralInventoryRepositoryAdapter.FIELD_ATTRIBUTES), eq(selection), eq("SKU-000"), eq(2), any()))
+                .thenReturn(rows);
+
+        // When
+        List<Map<String, Object>> result = adapter.findFieldsPageAfterSku("SKU-000", 2, true, selection);
+
+        // Then
+        assertThat(result).isSameAs(rows);
+        assertThat(CentralInventoryRepositoryAdapter.FIELD_ATTRIBUTES).containsOnlyKeys(CentralInventory.FIELDS);
+        verifyNoInteractions(jpaRepository, mapper);
+    }
+
+    @Test
+    @DisplayName("Deve buscar primeira página de todos os inventários")
+    void shouldFindFirstPageOfAllInventories() {
+        // Given
+        when(jpaRepository.findPageAfterSku("", PageRequest.ofSize(2))).thenReturn(List.of());
+
+        // When
+        List<CentralInventory> result = adapter.findPageAfterSku(null, 2, false);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(jpaRepository, never()).findActivePageAfterSku(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve salvar lote atualizando entidades gerenciadas e criando as novas")
+    void shouldSaveAllUpdatingManagedEntitiesAndCreatingNewOnes() {
+        // Given
+        CentralInventory newInventory = CentralInventory.create("SKU-002", "Product SKU-002");
+        CentralInventoryJpaEntity newEntity = CentralInventoryJpaEntity.builder().productSku("SKU-002").build();
+        centralInventory.setTotalQuantity(120);
+        centralInventory.setTotalReservedQuantity(20);
+        centralInventory.calculateAvailableQuantity();
+        when(jpaRepository.findAllById(List.of("SKU-001", "SKU-002"))).thenReturn(List.of(jpaEntity));
+        when(mapper.toJpaEntity(newInventory)).thenReturn(newEntity);
+
+        // When
+        adapter.saveAll(List.of(centralInventory, newInventory));
+
+        // Then
+        assertThat(jpaEntity.getTotalQuantity()).isEqualTo(120);
+        assertThat(jpaEntity.getAvailableQuantity()).isEqualTo(100);
+        verify(jpaRepository).save(newEntity);
+        verify(jpaRepository, never()).save(jpaEntity);
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar inventários de vários SKUs com uma consulta")
+    void shouldFindByProductSkuInWithSingleQuery() {
+        // Given
+        when(jpaRepository.findAllById(List.of("SKU-001", "SKU-404"))).thenReturn(List.of(jpaEntity));
+        when(mapper.toDomain(jpaEntity)).thenReturn(centralInventory);
+
+        // When
+        List<CentralInventory> result = adapter.findByProductSkuIn(List.of("SKU-001", "SKU-404"));
+
+        // Then
+        assertThat(result).containsExactly(centralInventory);
+        verify(jpaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar os totais centrais com um único upsert, sem consultar antes")
+    void shouldUpsertTotalsWithSingleStatement() {
+        // Given
+        List<StockTotals> totals = List.of(new StockTotals("SKU-001", 120, 20), new StockTotals("SKU-002", 0, 0));
+
+        // When
+        adapter.upsertTotals(totals);
+
+        // Then
+        verify(upsertRepository).upsertCentralTotals(totals);
+        verifyNoInteractions(jpaRepository, mapper);
+    }
 }
@@ -0,0 +1,147 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do {@link InventoryUpsertRepository} contra um PostgreSQL real.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("InventoryUpsertRepository - Integração com PostgreSQL")
+class InventoryUpsertRepositoryIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static DriverManagerDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private InventoryUpsertRepository repository;
+
+    @BeforeAll
+    static void createSchema() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        // Mesmo esquema gerado pelo Hibernate para as entidades
+        new JdbcTemplate(dataSource).execute(
+                "CREATE TABLE store_inventory (" +
+                "product_sku VARCHAR(100) NOT NULL, store_id VARCHAR(50) NOT NULL, " +
+                "store_name VARCHAR(200), store_location VARCHAR(200), quantity INTEGER NOT NULL, " +
+                "reserved INTEGER NOT NULL, available INTEGER NOT NULL, last_updated TIMESTAMP NOT NULL, " +
+                "version BIGINT, last_sync_time TIMESTAMP, synchronized BOOLEAN NOT NULL, last_sequence BIGINT, " +
+                "PRIMARY KEY (product_sku, store_id)); " +
+                "CREATE TABLE store_inventory_generation (" +
+                "product_sku VARCHAR(100) PRIMARY KEY, generation BIGINT NOT NULL)");
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new InventoryUpsertRepository(dataSource);
+        jdbcTemplate.execute("TRUNCATE store_inventory, store_inventory_generation");
+        jdbcTemplate.update("INSERT INTO store_inventory (product_sku, store_id, quantity, reserved, available, " +
+                "last_updated, synchronized, version, last_sequence) VALUES " +
+                "('SKU-001', 'STORE-001', 50, 5, 45, now(), true, 0, 1), " +
+                "('SKU-001', 'STORE-002', 20, 0, 20, now(), true, 0, 1)");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar linhas existentes e retornar a variação sobre os valores anteriores")
+    void shouldUpdateExistingRowsAndReturnDeltas() {
+        // When
+        List<StockTotals> deltas = transactionTemplate.execute(status -> repository.upsertStoreInventories(List.of(
+                inventory("STORE-002", 15, 3, 2L),
+                inventory("STORE-001", 70, 10, 2L),
+                inventory("STORE-003", 8, 1, 2L))));
+
+        // Then
+        assertThat(deltas).containsExactlyInAnyOrder(
+                new StockTotals("SKU-001", -5, 3),
+                new StockTotals("SKU-001", 20, 5),
+                new StockTotals("SKU-001", 8, 1));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM store_inventory WHERE product_sku = 'SKU-001' AND store_id = 'STORE-001'",
+                Integer.class)).isEqualTo(70);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT generation FROM store_inventory_generation WHERE product_sku = 'SKU-001'",
+                Long.class)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar linhas existentes com sequência igual ou posterior")
+    void shouldSkipStaleUpdates() {
+        // When
+        List<StockTotals> deltas = transactionTemplate.execute(status ->
+                repository.upsertStoreInventories(List.of(inventory("STORE-001", 99, 0, 1L))));
+
+        // Then
+        assertThat(deltas).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM store_inventory WHERE product_sku = 'SKU-001' AND store_id = 'STORE-001'",
+                Integer.class)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Deve calcular a variação sobre o valor gravado pela transação concorrente")
+    void shouldComputeDeltaAgainstConcurrentlyCommittedValue() throws Exception {
+        // Given
+        CountDownLatch firstWritten = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CompletableFuture<List<StockTotals>> first = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> {
+                    List<StockTotals> result = repository.upsertStoreInventories(
+                            List.of(inventory("STORE-001", 60, 5, 2L)));
+                    firstWritten.countDown();
+                    await(releaseFirst);
+                    return result;
+                }));
+        assertThat(firstWritten.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<List<StockTotals>> second = CompletableFuture.supplyAsync(() ->
+                transactionTemplate.execute(status -> repository.upsertStoreInventories(
+                        List.of(inventory("STORE-001", 65, 7, 3L)))));
+        releaseFirst.countDown();
+
+        // Then
+        assertThat(first.get(10, TimeUnit.SECONDS)).containsExactly(new StockTotals("SKU-001", 10, 0));
+        assertThat(second.get(10, TimeUnit.SECONDS)).containsExactly(new StockTotals("SKU-001", 5, 2));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static StoreInventory inventory(String storeId, int quantity, int reserved, Long sequence) {
+        StoreInventory inventory = StoreInventory.create("SKU-001", storeId, "Store " + storeId);
+        inventory.setQuantity(quantity);
+        inventory.setReservedQuantity(reserved);
+        inventory.calculateAvailableQuantity();
+        inventory.setLastSequence(sequence);
+        return inventory;
+    }
+}
@@ -0,0 +1,277 @@
+package com.inventory.management.central.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.central.domain.model.StockTotals;
+import com.inventory.management.central.domain.model.StoreInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryUpsertRepository - Testes Unitários")
+class InventoryUpsertRepositoryTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private PreparedStatement lockStatement;
+
+    @Mock
+    private ResultSet lockResultSet;
+
+    @Mock
+    private Array sqlArray;
+
+    @InjectMocks
+    private InventoryUpsertRepository repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.createArrayOf(anyString(), any(Object[].class))).thenReturn(sqlArray);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.UPSERT_STORE_INVENTORY_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.UPSERT_CENTRAL_TOTALS_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.ADD_CENTRAL_DELTAS_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.LOCK_CENTRAL_TOTALS_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.MARK_PENDING_TOTALS_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.CLAIM_PENDING_TOTALS_SQL))
+                .thenReturn(statement);
+        lenient().when(connection.prepareStatement(InventoryUpsertRepository.LOCK_STORE_INVENTORY_SQL))
+                .thenReturn(lockStatement);
+        lenient().when(statement.executeQuery()).thenReturn(resultSet);
+        lenient().when(lockStatement.executeQuery()).thenReturn(lockResultSet);
+    }
+
+    @Test
+    @DisplayName("Deve bloquear as linhas existentes antes do upsert e calcular as variações sobre elas")
+    void shouldLockExistingRowsBeforeUpsertAndReturnDeltas() throws SQLException {
+        // Given
+        when(lockResultSet.next()).thenReturn(true, false);
+        when(lockResultSet.getString(1)).thenReturn("SKU-001");
+        when(lockResultSet.getString(2)).thenReturn("STORE-001");
+        when(lockResultSet.getLong(3)).thenReturn(50L);
+        when(lockResultSet.getLong(4)).thenReturn(5L);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("SKU-001", "SKU-002");
+        when(resultSet.getString(2)).thenReturn("STORE-001", "STORE-001");
+        when(resultSet.getLong(3)).thenReturn(75L, 10L);
+        when(resultSet.getLong(4)).thenReturn(10L, 0L);
+        when(resultSet.getBoolean(5)).thenReturn(true);
+
+        // When
+        List<StockTotals> deltas = repository.upsertStoreInventories(List.of(
+                inventory("SKU-001", "STORE-001", 75, 10, 6L),
+                inventory("SKU-002", "STORE-001", 10, 0, null)));
+
+        // Then
+        assertThat(deltas).containsExactly(new StockTotals("SKU-001", 25, 5), new StockTotals("SKU-002", 10, 0));
+        InOrder inOrder = inOrder(lockStatement, statement);
+        inOrder.verify(lockStatement).executeQuery();
+        inOrder.verify(statement).executeQuery();
+        verify(lockStatement, times(2)).setArray(anyInt(), eq(sqlArray));
+        verify(statement, times(11)).setArray(anyInt(), eq(sqlArray));
+        verify(connection).close();
+        assertThat(InventoryUpsertRepository.LOCK_STORE_INVENTORY_SQL)
+                .contains("ORDER BY si.product_sku, si.store_id FOR UPDATE OF si");
+        assertThat(InventoryUpsertRepository.UPSERT_STORE_INVENTORY_SQL).doesNotContain("FOR UPDATE");
+        assertThat(InventoryUpsertRepository.UPSERT_STORE_INVENTORY_SQL)
+                .contains("INSERT INTO store_inventory_generation")
+                .contains("SET generation = g.generation + 1");
+    }
+
+    @Test
+    @DisplayName("Deve enviar uma única linha por produto e loja, prevalecendo a última")
+    void shouldKeepLastInventoryPerProductAndStore() throws SQLException {
+        // Given
+        when(resultSet.next()).thenReturn(false);
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        List<StockTotals> deltas = repository.upsertStoreInventories(List.of(
+                inventory("SKU-001", "STORE-001", 75, 10, 6L),
+                inventory("SKU-001", "STORE-001", 60, 6, 7L)));
+
+        // Then
+        assertThat(deltas).isEmpty();
+        verify(connection, times(3)).createArrayOf(eq("int4"), values.capture());
+        verify(connection).createArrayOf(eq("int8"), values.capture());
+        assertThat(values.getAllValues().get(0)).containsExactly(60);
+        assertThat(values.getAllValues().get(3)).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Deve falhar com erro de concorrência quando a linha foi criada por outra transação após o bloqueio")
+    void shouldFailWhenRowWasCreatedConcurrentlyAfterLock() throws SQLException {
+        // Given
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("SKU-001");
+        when(resultSet.getString(2)).thenReturn("STORE-001");
+        when(resultSet.getBoolean(5)).thenReturn(false);
+        List<StoreInventory> inventories = List.of(inventory("SKU-001", "STORE-001", 75, 10, 6L));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.upsertStoreInventories(inventories))
+                .isInstanceOf(ConcurrencyFailureException.class);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os totais centrais com um único comando")
+    void shouldUpsertCentralTotalsWithSingleStatement() throws SQLException {
+        // Given
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        repository.upsertCentralTotals(List.of(new StockTotals("SKU-001", 120, 20), StockTotals.empty("SKU-002")));
+
+        // Then
+        verify(statement).executeUpdate();
+        verify(connection).createArrayOf(eq("varchar"), values.capture());
+        assertThat(values.getValue()).containsExactly("SKU-001", "SKU-002");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve somar as variações centrais com um único comando que cria os produtos ausentes")
+    void shouldAddCentralDeltasWithSingleStatement() throws SQLException {
+        // Given
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        repository.addCentralDeltas(List.of(new StockTotals("SKU-001", 25, -5)));
+
+        // Then
+        verify(connection).prepareStatement(InventoryUpsertRepository.ADD_CENTRAL_DELTAS_SQL);
+        verify(statement).executeUpdate();
+        verify(connection, times(2)).createArrayOf(eq("int4"), values.capture());
+        assertThat(values.getAllValues().get(0)).containsExactly(25);
+        assertThat(values.getAllValues().get(1)).containsExactly(-5);
+        assertThat(InventoryUpsertRepository.ADD_CENTRAL_DELTAS_SQL)
+                .contains("total_quantity = ci.total_quantity + EXCLUDED.total_quantity");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve bloquear os totais centrais dos produtos com um único comando")
+    void shouldLockCentralTotalsWithSingleStatement() throws SQLException {
+        // Given
+        when(resultSet.next()).thenReturn(true, true, false);
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        repository.lockCentralTotals(List.of("SKU-002", "SKU-001"));
+
+        // Then
+        verify(connection).prepareStatement(InventoryUpsertRepository.LOCK_CENTRAL_TOTALS_SQL);
+        verify(connection).createArrayOf(eq("varchar"), values.capture());
+        assertThat(values.getValue()).containsExactly("SKU-002", "SKU-001");
+        verify(resultSet, times(3)).next();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve marcar os produtos pendentes de recálculo com um único comando")
+    void shouldMarkPendingTotalsWithSingleStatement() throws SQLException {
+        // Given
+        ArgumentCaptor<Object[]> values = ArgumentCaptor.forClass(Object[].class);
+
+        // When
+        repository.markPendingTotals(List.of("SKU-001", "SKU-002"));
+
+        // Then
+        verify(connection).prepareStatement(InventoryUpsertRepository.MARK_PENDING_TOTALS_SQL);
+        verify(statement).executeUpdate();
+        verify(connection).createArrayOf(eq("varchar"), values.capture());
+        assertThat(values.getValue()).containsExactly("SKU-001", "SKU-002");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve remover e retornar os produtos pendentes até o limite")
+    void shouldClaimPendingTotalsUpToLimit() throws SQLException {
+        // Given
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("SKU-001", "SKU-002");
+
+        // When
+        List<String> claimed = repository.claimPendingTotals(500);
+
+        // Then
+        assertThat(claimed).containsExactly("SKU-001", "SKU-002");
+        verify(statement).setInt(1, 500);
+        assertThat(InventoryUpsertRepository.CLAIM_PENDING_TOTALS_SQL).contains("FOR UPDATE SKIP LOCKED");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve converter falhas de SQL e liberar a conexão")
+    void shouldWrapSqlFailures() throws SQLException {
+        // Given
+        when(statement.executeQuery()).thenThrow(new SQLException("deadlock detected"));
+
+        // When & Then
+        assertThatThrownBy(() -> repository.upsertStoreInventories(
+                List.of(inventory("SKU-001", "STORE-001", 75, 10, 6L))))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessageContaining("deadlock detected");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Deve ignorar lotes vazios sem acessar o banco")
+    void shouldSkipDatabaseForEmptyBatches() {
+        assertThat(repository.upsertStoreInventories(List.of())).isEmpty();
+        repository.upsertCentralTotals(List.of());
+        repository.addCentralDeltas(List.of());
+        repository.lockCentralTotals(List.of());
+        repository.markPendingTotals(List.of());
+        verifyNoInteractions(dataSource);
+    }
+
+    private StoreInventory inventory(String sku, String storeId, int quantity, int reserved, Long sequence) {
+        StoreInventory inventory = StoreInventory.create(sku, storeId, "Store " + storeId);
+        inventory.setQuantity(quantity);
+        inventory.setReservedQuantity(reserved);
+        inventory.calculateAvailableQuantity();
+        inventory.setLastSequence(sequence);
+        return inventory;
+    }
+}
@@ -1,22 +1,28 @@
 package com.inventory.management.central.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.central.domain.model.FieldSelection;
+import com.inventory.management.central.domain.model.StockTotals;
 import com.inventory.management.central.domain.model.StoreInventory;
 import com.inventory.management.central.infrastructure.adapter.out.persistence.StoreInventoryJpaEntity.StoreInventoryId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +32,15 @@ class StoreInventoryRepositoryAdapterTest {
     @Mock
     private StoreInventoryJpaRepository jpaRepository;
 
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Mock
+    private InventoryUpsertRepository upsertRepository;
+
+    @Mock
+    private StoreInventoryGenerationJpaRepository generationJpaRepository;
+
     @InjectMocks
     private StoreInventoryRepositoryAdapter adapter;
 
@@ -229,6 +244,22 @@ class StoreInventoryRepositoryAdapterTest {
         verify(jpaRepository).sumQuantityByProductSku("SKU-VAZIO");
     }
 
+    @Test
+    @DisplayName("Deve somar quantidades de vários SKUs em uma única consulta agrupada")
+    void shouldSumQuantitiesByProductSkuIn() {
+        // Given
+        List<String> skus = List.of("SKU-001", "SKU-002");
+        when(jpaRepository.sumQuantitiesByProductSkuIn(skus))
+                .thenReturn(List.of(new StockTotals("SKU-001", 150, 25), new StockTotals("SKU-002", 40, 0)));
+
+        // When
+        List<StockTotals> result = adapter.sumQuantitiesByProductSkuIn(skus);
+
+        // Then
+        assertThat(result).containsExactly(new StockTotals("SKU-001", 150, 25), new StockTotals("SKU-002", 40, 0));
+        verify(jpaRepository, never()).sumQuantityByProductSku(any());
+    }
+
     @Test
     @DisplayName("Deve somar quantidade reservada por SKU")
     void shouldSumReservedQuantityByProductSku() {
@@ -265,6 +296,7 @@ class StoreInventoryRepositoryAdapterTest {
 
         // Then
         verify(jpaRepository).deleteById(any(StoreInventoryId.class));
+        verify(generationJpaRepository).advance("SKU-001");
     }
 
     @Test
@@ -275,6 +307,7 @@ class StoreInventoryRepositoryAdapterTest {
 
         // Then
         verify(jpaRepository).deleteByIdProductSku("SKU-001");
+        verify(generationJpaRepository).advance("SKU-001");
     }
 
     @Test
@@ -284,7 +317,9 @@ class StoreInventoryRepositoryAdapterTest {
         adapter.deleteByStoreId("STORE-001");
 
         // Then
-        verify(jpaRepository).deleteByIdStoreId("STORE-001");
+        InOrder inOrder = inOrder(generationJpaRepository, jpaRepository);
+        inOrder.verify(generationJpaRepository).advanceByStoreId("STORE-001");
+        inOrder.verify(jpaRepository).deleteByIdStoreId("STORE-001");
     }
 
     @Test
@@ -374,4 +409,147 @@ class StoreInventoryRepositoryAdapterTest {
             entity.getIsSynchronized() == false
         ));
     }
+
+    @Test
+    @DisplayName("Deve buscar página da loja após o SKU informado")
+    void shouldFindStorePageAfterSku() {
+        // Given
+        when(jpaRepository.findPageByStoreIdAfterSku("STORE-001", "SKU-000", PageRequest.ofSize(2)))
+                .thenReturn(List.of(storeInventory));
+
+        // When
+        List<StoreInventory> result = adapter.findPageByStoreIdAfterSku("STORE-001", "SKU-000", 2, false);
+
+        // Then
+        assertThat(result).containsExactly(storeInventory);
+        verify(jpaRepository, never()).findPageByStoreIdWithAvailableStockAfterSku(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar primeira página da loja apenas com estoque")
+    void shouldFindFirstStorePageWithStockOnly() {
+        // Given
+        when(jpaRepository.findPageByStoreIdWithAvailableStockAfterSku("STORE-001", "", PageRequest.ofSize(2)))
+                .thenReturn(List.of());
+
+        // When
+        List<StoreInventory> result = adapter.findPageByStoreIdAfterSku("STORE-001", null, 2, true);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(jpaRepository, never()).findPageByStoreIdAfterSku(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar página de campos selecionados da loja pela projeção")
+    void shouldFindStoreFieldsPageThroughProjection() {
+        // Given
+        FieldSelection selection = FieldSelection.parse("availableQuantity", StoreInventory.FIELDS);
+        List<Map<String, Object>> rows = List.of(Map.of("productSku", "SKU-001", "availableQuantity", 5));
+        when(fieldProjectionRepository.findPage(eq(StoreInventoryJpaEntity.class),
+                eq(StoreInventoryRepositoryAdapter.FIELD_ATTRIBUTES), eq(selection), eq("SKU-000"), eq(2), any()))
+                .thenReturn(rows);
+
+        // When
+        List<Map<String, Object>> result =
+                adapter.findFieldsPageByStoreIdAfterSku("STORE-001", "SKU-000", 2, true, selection);
+
+        // Then
+        assertThat(result).isSameAs(rows);
+        assertThat(StoreInventoryRepositoryAdapter.FIELD_ATTRIBUTES).containsOnlyKeys(StoreInventory.FIELDS);
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve salvar lote atualizando entidades gerenciadas e criando as novas")
+    void shouldSaveAllUpdatingManagedEntitiesAndCreatingNewOnes() {
+        // Given
+        StoreInventory newInventory = StoreInventory.create("SKU-001", "STORE-002", "Store STORE-002");
+        storeInventory.setQuantity(80);
+        storeInventory.setReservedQuantity(10);
+        storeInventory.calculateAvailableQuantity();
+        when(jpaRepository.findAllById(List.of(id, new StoreInventoryId("SKU-001", "STORE-002"))))
+                .thenReturn(List.of(jpaEntity));
+
+        // When
+        adapter.saveAll(List.of(storeInventory, newInventory));
+
+        // Then
+        assertThat(jpaEntity.getQuantity()).isEqualTo(80);
+        assertThat(jpaEntity.getAvailableQuantity()).isEqualTo(70);
+        verify(jpaRepository).save(argThat(entity -> "STORE-002".equals(entity.getId().getStoreId())));
+        verify(jpaRepository, never()).save(jpaEntity);
+        verify(jpaRepository, never()).findById(any());
+        verify(generationJpaRepository).advance("SKU-001");
+    }
+
+    @Test
+    @DisplayName("Deve buscar a geração da lista de lojas por SKU")
+    void shouldFindGenerationsByProductSkuIn() {
+        // Given
+        when(generationJpaRepository.findAllById(List.of("SKU-001", "SKU-002")))
+                .thenReturn(List.of(new StoreInventoryGenerationJpaEntity("SKU-001", 7L)));
+
+        // When
+        Map<String, Long> result = adapter.findGenerationsByProductSkuIn(List.of("SKU-001", "SKU-002"));
+
+        // Then
+        assertThat(result).containsExactly(Map.entry("SKU-001", 7L));
+    }
+
+    @Test
+    @DisplayName("Deve buscar inventários de vários SKUs com uma consulta")
+    void shouldFindByProductSkuInWithSingleQuery() {
+        // Given
+        when(jpaRepository.findByIdProductSkuIn(List.of("SKU-001"))).thenReturn(List.of(jpaEntity));
+
+        // When
+        List<StoreInventory> result = adapter.findByProductSkuIn(List.of("SKU-001"));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getStoreId()).isEqualTo("STORE-001");
+        verify(jpaRepository, never()).findByIdProductSku(any());
+    }
+
+    @Test
+    @DisplayName("Deve gravar inventário com upsert e retornar a variação, sem consultar antes")
+    void shouldUpsertReturningDelta() {
+        // Given
+        when(upsertRepository.upsertStoreInventories(List.of(storeInventory)))
+                .thenReturn(List.of(new StockTotals("SKU-001", 5, -2)));
+
+        // When
+        Optional<StockTotals> delta = adapter.upsert(storeInventory);
+
+        // Then
+        assertThat(delta).contains(new StockTotals("SKU-001", 5, -2));
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando o upsert é descartado pela sequência")
+    void shouldReturnEmptyWhenUpsertIsSuperseded() {
+        // Given
+        when(upsertRepository.upsertStoreInventories(List.of(storeInventory))).thenReturn(List.of());
+
+        // When & Then
+        assertThat(adapter.upsert(storeInventory)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve gravar lote com um único upsert e retornar as variações gravadas")
+    void shouldUpsertAllWithSingleStatement() {
+        // Given
+        StoreInventory newInventory = StoreInventory.create("SKU-001", "STORE-002", "Store STORE-002");
+        when(upsertRepository.upsertStoreInventories(List.of(storeInventory, newInventory)))
+                .thenReturn(List.of(new StockTotals("SKU-001", 0, 0), new StockTotals("SKU-001", 0, 0)));
+
+        // When
+        List<StockTotals> written = adapter.upsertAll(List.of(storeInventory, newInventory));
+
+        // Then
+        assertThat(written).hasSize(2);
+        verifyNoInteractions(jpaRepository);
+    }
 }
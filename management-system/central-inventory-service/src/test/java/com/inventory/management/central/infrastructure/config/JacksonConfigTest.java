@@ -146,6 +146,27 @@ class JacksonConfigTest {
                 .isTrue();
     }
 
+    @Test
+    @DisplayName("Deve criar conversores CBOR e Smile com a configuração do ObjectMapper principal")
+    void shouldCreateBinaryConvertersWithPrimaryMapperConfiguration() throws Exception {
+        // Given
+        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        TestObject original = new TestObject(LocalDateTime.of(2024, 1, 15, 10, 30));
+
+        // When
+        ObjectMapper cborMapper = jacksonConfig.cborHttpMessageConverter(objectMapper).getObjectMapper();
+        ObjectMapper smileMapper = jacksonConfig.smileHttpMessageConverter(objectMapper).getObjectMapper();
+
+        // Then
+        assertThat(cborMapper.getFactory()).isInstanceOf(com.fasterxml.jackson.dataformat.cbor.CBORFactory.class);
+        assertThat(smileMapper.getFactory()).isInstanceOf(com.fasterxml.jackson.dataformat.smile.SmileFactory.class);
+        assertThat(cborMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)).isFalse();
+        assertThat(cborMapper.readValue(cborMapper.writeValueAsBytes(original), TestObject.class).timestamp)
+                .isEqualTo(original.timestamp);
+        assertThat(smileMapper.readValue(smileMapper.writeValueAsBytes(original), TestObject.class).timestamp)
+                .isEqualTo(original.timestamp);
+    }
+
     // Classes auxiliares para os testes
     public static class TestObject {
         public LocalDateTime timestamp;
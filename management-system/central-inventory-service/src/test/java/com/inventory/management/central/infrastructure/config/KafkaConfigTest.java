@@ -1,17 +1,32 @@
 package com.inventory.management.central.infrastructure.config;
 
+import com.inventory.management.central.infrastructure.adapter.in.messaging.InventoryEventKafkaConsumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+import org.springframework.kafka.retrytopic.RetryTopicHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ExecutorService;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,6 +36,9 @@ class KafkaConfigTest {
     @InjectMocks
     private KafkaConfig kafkaConfig;
 
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
     @BeforeEach
     void setUp() {
         // Configurar valores via reflection para simular @Value
@@ -96,6 +114,93 @@ class KafkaConfigTest {
         assertThat(factory.getConsumerFactory()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Deve criar factory de lote com poll maior e ack manual")
+    void shouldCreateBatchListenerContainerFactory() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "batchMaxPollRecords", 500);
+
+        // When
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                kafkaConfig.batchKafkaListenerContainerFactory(kafkaTemplate);
+
+        // Then
+        assertThat(factory.isBatchListener()).isTrue();
+        assertThat(factory.getContainerProperties().getAckMode()).isEqualTo(ContainerProperties.AckMode.MANUAL);
+        var configProps = factory.getConsumerFactory().getConfigurationProperties();
+        assertThat(configProps.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)).isEqualTo(500);
+        assertThat(configProps.get(ConsumerConfig.GROUP_ID_CONFIG)).isEqualTo("central-inventory-group");
+        assertThat(kafkaConfig.consumerFactory().getConfigurationProperties()
+                .get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar falhas do lote à primeira camada de retry e as não recuperáveis ao DLT")
+    void shouldRouteBatchFailuresToFirstRetryTierOrDeadLetterTopic() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "inventoryUpdateTopic", "inventory-update");
+        ReflectionTestUtils.setField(kafkaConfig, "inventoryPriorityTopic", "inventory-update-priority");
+        ReflectionTestUtils.setField(kafkaConfig, "retryInitialDelayMs", 1000L);
+        ConsumerRecord<String, String> event = new ConsumerRecord<>("inventory-update", 0, 42L, "SKU-001", "{}");
+        ConsumerRecord<String, String> reserve =
+                new ConsumerRecord<>("inventory-update-priority", 0, 9L, "SKU-001", "{}");
+        ConsumerRecord<String, String> state = new ConsumerRecord<>("central-inventory-store-state", 0, 7L, "k", "{}");
+        Exception transientFailure = new ListenerExecutionFailedException("falha",
+                new BatchListenerFailedException("falha", new QueryTimeoutException("timeout"), 3));
+        Exception validationFailure = new ListenerExecutionFailedException("falha",
+                new BatchListenerFailedException("falha",
+                        new IllegalArgumentException("Tipo de evento não reconhecido"), 3));
+        Exception deserializationFailure = new InventoryEventKafkaConsumer.EventDeserializationException(
+                "Falha na deserialização do evento", new RuntimeException("json"));
+
+        // When & Then
+        assertThat(kafkaConfig.resolveBatchFailureDestination(event, transientFailure))
+                .isEqualTo(new TopicPartition("inventory-update-retry-1000", -1));
+        assertThat(kafkaConfig.resolveBatchFailureDestination(event, validationFailure))
+                .isEqualTo(new TopicPartition("inventory-update-dlt", -1));
+        assertThat(kafkaConfig.resolveBatchFailureDestination(event, deserializationFailure))
+                .isEqualTo(new TopicPartition("inventory-update-dlt", -1));
+        assertThat(kafkaConfig.resolveBatchFailureDestination(reserve, transientFailure))
+                .isEqualTo(new TopicPartition("inventory-update-priority-retry-1000", -1));
+        assertThat(kafkaConfig.resolveBatchFailureDestination(state, transientFailure))
+                .isEqualTo(new TopicPartition("central-inventory-store-state-dlt", -1));
+    }
+
+    @Test
+    @DisplayName("Deve marcar a segunda tentativa e o atraso inicial nos registros da primeira camada de retry")
+    void shouldAddRetryHeadersForFirstRetryTier() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "inventoryUpdateTopic", "inventory-update");
+        ReflectionTestUtils.setField(kafkaConfig, "retryInitialDelayMs", 1000L);
+        ConsumerRecord<String, String> event = new ConsumerRecord<>("inventory-update", 0, 42L, "SKU-001", "{}");
+        long before = System.currentTimeMillis();
+
+        // When
+        Headers retryHeaders = kafkaConfig.firstRetryHeaders(event, new QueryTimeoutException("timeout"));
+        Headers deadLetterHeaders = kafkaConfig.firstRetryHeaders(event, new IllegalArgumentException("inválido"));
+
+        // Then
+        assertThat(ByteBuffer.wrap(retryHeaders.lastHeader(RetryTopicHeaders.DEFAULT_HEADER_ATTEMPTS).value())
+                .getInt()).isEqualTo(2);
+        assertThat(new BigInteger(retryHeaders.lastHeader(RetryTopicHeaders.DEFAULT_HEADER_BACKOFF_TIMESTAMP)
+                .value()).longValue()).isGreaterThanOrEqualTo(before + 1000L);
+        assertThat(deadLetterHeaders.toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve executar as filas do consumo em lote em threads virtuais")
+    void shouldRunBatchWorkersOnVirtualThreads() throws Exception {
+        // Given
+        try (ExecutorService executor = kafkaConfig.inventoryEventWorkerExecutor()) {
+            // When
+            Thread worker = executor.submit(Thread::currentThread).get();
+
+            // Then
+            assertThat(worker.isVirtual()).isTrue();
+            assertThat(worker.getName()).startsWith("inventory-event-worker-");
+        }
+    }
+
     @Test
     @DisplayName("Deve funcionar com diferentes valores de configuração")
     void shouldWorkWithDifferentConfigurationValues() {
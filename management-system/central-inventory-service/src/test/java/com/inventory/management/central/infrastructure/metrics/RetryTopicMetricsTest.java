@@ -0,0 +1,55 @@
+package com.inventory.management.central.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RetryTopicMetrics - Testes Unitários")
+class RetryTopicMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryTopicMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new RetryTopicMetrics(meterRegistry, "inventory-update", "inventory-update-priority");
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar entregas por camada ignorando os tópicos principal e prioritário")
+    void shouldCountDeliveriesPerTierIgnoringMainTopic() {
+        // When
+        metrics.recordDelivery("inventory-update");
+        metrics.recordDelivery("inventory-update-priority");
+        metrics.recordDelivery("inventory-update-retry-1000");
+        metrics.recordDelivery("inventory-update-retry-1000");
+        metrics.recordDelivery("inventory-update-retry-2000");
+        metrics.recordDelivery("inventory-update-dlt");
+
+        // Then
+        assertThat(metrics.deliveriesByTier()).containsExactly(
+                Map.entry("inventory-update-dlt", 1L),
+                Map.entry("inventory-update-retry-1000", 2L),
+                Map.entry("inventory-update-retry-2000", 1L));
+        assertThat(meterRegistry.counter(RetryTopicMetrics.RETRY_TIER_DELIVERIES, "tier", "inventory-update-retry-1000")
+                .count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar eventos reenviados do DLT")
+    void shouldCountReplayedDeadLetters() {
+        // When
+        metrics.recordReplayed(3);
+        metrics.recordReplayed(0);
+
+        // Then
+        assertThat(meterRegistry.counter(RetryTopicMetrics.DEAD_LETTER_REPLAYED).count()).isEqualTo(3.0);
+        assertThat(metrics.deliveriesByTier()).isEmpty();
+    }
+}
@@ -0,0 +1,32 @@
+package com.inventory.management.central.infrastructure.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StoreQueueMetrics - Testes Unitários")
+class StoreQueueMetricsTest {
+
+    @Test
+    @DisplayName("Deve exportar a profundidade por loja e zerar lojas sem eventos pendentes")
+    void shouldExportDepthPerStoreAndResetDrainedStores() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StoreQueueMetrics metrics = new StoreQueueMetrics(meterRegistry);
+
+        // When
+        metrics.updateDepths(Map.of("STORE-A", 120, "STORE-B", 3));
+        metrics.updateDepths(Map.of("STORE-A", 40));
+
+        // Then
+        assertThat(meterRegistry.get(StoreQueueMetrics.STORE_QUEUE_DEPTH).tag("store", "STORE-A").gauge().value())
+                .isEqualTo(40.0);
+        assertThat(meterRegistry.get(StoreQueueMetrics.STORE_QUEUE_DEPTH).tag("store", "STORE-B").gauge().value())
+                .isZero();
+        assertThat(metrics.depthOf("STORE-B")).isZero();
+    }
+}
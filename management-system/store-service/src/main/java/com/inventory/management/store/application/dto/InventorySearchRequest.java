@@ -8,19 +8,42 @@ import java.util.Optional;
  */
 public class InventorySearchRequest {
     
+    private final String storeId;
     private final Optional<String> nameFilter;
     private final Optional<Integer> minQuantity;
     private final Optional<BigDecimal> minPrice;
     private final Optional<BigDecimal> maxPrice;
+    private final Optional<SortField> sortBy;
+    private final boolean descending;
+    private final Optional<Integer> limit;
     
     public InventorySearchRequest(Optional<String> nameFilter, 
                                  Optional<Integer> minQuantity,
                                  Optional<BigDecimal> minPrice, 
                                  Optional<BigDecimal> maxPrice) {
+        this(null, nameFilter, minQuantity, minPrice, maxPrice, Optional.empty(), false, Optional.empty());
+    }
+    
+    public InventorySearchRequest(String storeId,
+                                 Optional<String> nameFilter, 
+                                 Optional<Integer> minQuantity,
+                                 Optional<BigDecimal> minPrice, 
+                                 Optional<BigDecimal> maxPrice,
+                                 Optional<SortField> sortBy,
+                                 boolean descending,
+                                 Optional<Integer> limit) {
+        this.storeId = storeId;
         this.nameFilter = nameFilter;
         this.minQuantity = minQuantity;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
+        this.sortBy = sortBy != null ? sortBy : Optional.empty();
+        this.descending = descending;
+        this.limit = limit != null ? limit : Optional.empty();
+    }
+    
+    public String getStoreId() {
+        return storeId;
     }
     
     public Optional<String> getNameFilter() {
@@ -38,4 +61,32 @@ public class InventorySearchRequest {
     public Optional<BigDecimal> getMaxPrice() {
         return maxPrice;
     }
+    
+    public Optional<SortField> getSortBy() {
+        return sortBy;
+    }
+    
+    public boolean isDescending() {
+        return descending;
+    }
+    
+    public Optional<Integer> getLimit() {
+        return limit;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("InventorySearchRequest{storeId='%s', nameFilter=%s, minQuantity=%s, minPrice=%s, " +
+                "maxPrice=%s, sortBy=%s, descending=%s, limit=%s}",
+                storeId, nameFilter, minQuantity, minPrice, maxPrice, sortBy, descending, limit);
+    }
+    
+    /**
+     * Campos disponíveis para ordenação da busca.
+     */
+    public enum SortField {
+        NAME,
+        PRICE,
+        QUANTITY
+    }
 }
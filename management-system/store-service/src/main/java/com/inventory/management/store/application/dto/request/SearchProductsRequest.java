@@ -10,6 +10,8 @@ package com.inventory.management.store.application.dto.request;
 public class SearchProductsRequest {
     private String storeId;
     private String productName;
+    private Integer limit;
+    private String afterSku;
     
     /**
      * Construtor completo.
@@ -22,6 +24,31 @@ public class SearchProductsRequest {
         this.productName = productName;
     }
     
+    /**
+     * Construtor com limite de resultados.
+     * 
+     * @param storeId identificador da loja
+     * @param productName nome do produto para filtro
+     * @param limit quantidade máxima de resultados
+     */
+    public SearchProductsRequest(String storeId, String productName, Integer limit) {
+        this(storeId, productName);
+        this.limit = limit;
+    }
+    
+    /**
+     * Construtor para listagem paginada.
+     * 
+     * @param storeId identificador da loja
+     * @param productName nome do produto para filtro
+     * @param limit quantidade máxima de resultados
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     */
+    public SearchProductsRequest(String storeId, String productName, Integer limit, String afterSku) {
+        this(storeId, productName, limit);
+        this.afterSku = afterSku;
+    }
+    
     /**
      * Construtor padrão.
      */
@@ -43,9 +70,25 @@ public class SearchProductsRequest {
         this.productName = productName;
     }
     
+    public Integer getLimit() {
+        return limit;
+    }
+    
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+    
+    public String getAfterSku() {
+        return afterSku;
+    }
+    
+    public void setAfterSku(String afterSku) {
+        this.afterSku = afterSku;
+    }
+    
     @Override
     public String toString() {
-        return String.format("SearchProductsRequest{storeId='%s', productName='%s'}", 
-                storeId, productName);
+        return String.format("SearchProductsRequest{storeId='%s', productName='%s', limit=%s, afterSku='%s'}", 
+                storeId, productName, limit, afterSku);
     }
 }
@@ -23,4 +23,13 @@ public class UpdateProductQuantityRequest {
     private String productSku;
     private String storeId;
     private Integer newQuantity;
+    
+    /**
+     * Versão esperada do produto (If-Match). Nula quando a atualização é incondicional.
+     */
+    private Long expectedVersion;
+    
+    public UpdateProductQuantityRequest(String productSku, String storeId, Integer newQuantity) {
+        this(productSku, storeId, newQuantity, null);
+    }
 }
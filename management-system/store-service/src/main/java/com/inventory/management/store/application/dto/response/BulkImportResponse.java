@@ -0,0 +1,37 @@
+package com.inventory.management.store.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Resposta da importação em massa de produtos.
+ * Em caso de falha, os totais de produtos refletem apenas os lotes já confirmados.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+    
+    private boolean success;
+    private String message;
+    private String storeId;
+    private long rowsRead;
+    private long rowsRejected;
+    private long productsCreated;
+    private long productsUpdated;
+    private long stockChanges;
+    private int batches;
+    private long durationMs;
+    private List<String> errors;
+}
@@ -16,17 +16,27 @@ public class ReserveProductResponse {
     private Integer reservedQuantity;
     private Integer availableQuantity;
     private String message;
+    private boolean quotaExceeded;
     
     /**
      * Construtor completo.
      */
     public ReserveProductResponse(boolean success, String productSku, Integer reservedQuantity, 
                                 Integer availableQuantity, String message) {
+        this(success, productSku, reservedQuantity, availableQuantity, message, false);
+    }
+    
+    /**
+     * Construtor completo com indicador de cota excedida.
+     */
+    public ReserveProductResponse(boolean success, String productSku, Integer reservedQuantity, 
+                                Integer availableQuantity, String message, boolean quotaExceeded) {
         this.success = success;
         this.productSku = productSku;
         this.reservedQuantity = reservedQuantity;
         this.availableQuantity = availableQuantity;
         this.message = message;
+        this.quotaExceeded = quotaExceeded;
     }
     
     /**
@@ -74,6 +84,14 @@ public class ReserveProductResponse {
         this.message = message;
     }
     
+    public boolean isQuotaExceeded() {
+        return quotaExceeded;
+    }
+    
+    public void setQuotaExceeded(boolean quotaExceeded) {
+        this.quotaExceeded = quotaExceeded;
+    }
+    
     /**
      * Cria uma resposta de sucesso.
      * 
@@ -125,4 +143,22 @@ public class ReserveProductResponse {
             message
         );
     }
+    
+    /**
+     * Cria uma resposta de rejeição por cota de cliente excedida.
+     * 
+     * @param productSku SKU do produto
+     * @param message motivo da rejeição
+     * @return resposta de falha por cota
+     */
+    public static ReserveProductResponse quotaExceeded(String productSku, String message) {
+        return new ReserveProductResponse(
+            false,
+            productSku,
+            null,
+            null,
+            message,
+            true
+        );
+    }
 }
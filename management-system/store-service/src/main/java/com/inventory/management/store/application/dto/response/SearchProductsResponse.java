@@ -18,15 +18,25 @@ public class SearchProductsResponse {
     private List<Product> products;
     private int totalFound;
     private String message;
+    private String nextAfterSku;
     
     /**
-     * Construtor completo.
+     * Construtor sem continuação de página.
      */
     public SearchProductsResponse(boolean success, List<Product> products, int totalFound, String message) {
+        this(success, products, totalFound, message, null);
+    }
+    
+    /**
+     * Construtor completo.
+     */
+    public SearchProductsResponse(boolean success, List<Product> products, int totalFound, String message,
+                                  String nextAfterSku) {
         this.success = success;
         this.products = products;
         this.totalFound = totalFound;
         this.message = message;
+        this.nextAfterSku = nextAfterSku;
     }
     
     /**
@@ -65,4 +75,15 @@ public class SearchProductsResponse {
     public void setMessage(String message) {
         this.message = message;
     }
+    
+    /**
+     * @return SKU de continuação da próxima página (null quando não houver)
+     */
+    public String getNextAfterSku() {
+        return nextAfterSku;
+    }
+    
+    public void setNextAfterSku(String nextAfterSku) {
+        this.nextAfterSku = nextAfterSku;
+    }
 }
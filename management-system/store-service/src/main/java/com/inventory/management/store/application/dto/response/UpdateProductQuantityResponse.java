@@ -27,12 +27,22 @@ public class UpdateProductQuantityResponse {
     private Integer totalQuantity;
     private Integer reservedQuantity;
     private Integer availableQuantity;
+    private Long version;
+    private boolean versionConflict;
     
     /**
      * Cria uma resposta de sucesso para atualização de quantidade.
      */
     public static UpdateProductQuantityResponse success(String productSku, String productName, 
             Integer totalQuantity, Integer reservedQuantity, Integer availableQuantity) {
+        return success(productSku, productName, totalQuantity, reservedQuantity, availableQuantity, null);
+    }
+    
+    /**
+     * Cria uma resposta de sucesso para atualização de quantidade com a nova versão do produto.
+     */
+    public static UpdateProductQuantityResponse success(String productSku, String productName, 
+            Integer totalQuantity, Integer reservedQuantity, Integer availableQuantity, Long version) {
         return UpdateProductQuantityResponse.builder()
             .success(true)
             .message("Quantidade atualizada com sucesso")
@@ -41,6 +51,19 @@ public class UpdateProductQuantityResponse {
             .totalQuantity(totalQuantity)
             .reservedQuantity(reservedQuantity)
             .availableQuantity(availableQuantity)
+            .version(version)
+            .build();
+    }
+    
+    /**
+     * Cria uma resposta de falha por versão divergente (If-Match).
+     */
+    public static UpdateProductQuantityResponse versionConflict(String message, Long currentVersion) {
+        return UpdateProductQuantityResponse.builder()
+            .success(false)
+            .versionConflict(true)
+            .message(message)
+            .version(currentVersion)
             .build();
     }
     
@@ -0,0 +1,148 @@
+package com.inventory.management.store.application.usecase;
+
+import com.inventory.management.store.application.dto.response.BulkImportResponse;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.service.InventoryDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Caso de uso para importação em massa de produtos e estoque na loja.
+ * As linhas são consumidas em streaming e gravadas em lotes, cada um em
+ * sua própria transação, de forma que o consumo de memória dependa apenas
+ * do tamanho do lote. Linhas inválidas são descartadas e reportadas.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportProductsUseCase {
+    
+    static final int MAX_REPORTED_ERRORS = 20;
+    
+    private final InventoryDomainService inventoryDomainService;
+    
+    @Value("${app.inventory.bulk-import.batch-size:10000}")
+    private int batchSize;
+    
+    /**
+     * Executa a importação das linhas informadas na loja.
+     * 
+     * @param storeId identificador da loja
+     * @param rows linhas a importar; linhas inválidas lançam IllegalArgumentException em {@code next()}
+     * @return resumo da importação
+     */
+    public BulkImportResponse execute(String storeId, Iterator<ProductImportRow> rows) {
+        log.info("📦 Iniciando importação em massa: storeId={}, lote={}", storeId, batchSize);
+        
+        long started = System.nanoTime();
+        ImportSummary summary = new ImportSummary(storeId);
+        List<ProductImportRow> batch = new ArrayList<>(batchSize);
+        try {
+            while (rows.hasNext()) {
+                ProductImportRow row;
+                try {
+                    row = rows.next();
+                } catch (IllegalArgumentException e) {
+                    summary.reject(e.getMessage());
+                    continue;
+                }
+                summary.rowsRead++;
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flush(storeId, batch, summary);
+                }
+            }
+            flush(storeId, batch, summary);
+        } catch (Exception e) {
+            log.error("❌ Importação em massa interrompida: storeId={}, lotes confirmados={}, erro={}", 
+                    storeId, summary.batches, e.getMessage(), e);
+            return summary.toResponse(false, "Importação interrompida: " + e.getMessage(), started);
+        }
+        
+        log.info("✅ Importação em massa concluída: storeId={}, linhas={}, rejeitadas={}, criados={}, " +
+                "atualizados={}, lotes={}, duração={}ms", storeId, summary.rowsRead, summary.rowsRejected,
+                summary.productsCreated, summary.productsUpdated, summary.batches, elapsedMs(started));
+        return summary.toResponse(true, "Importação concluída", started);
+    }
+    
+    private void flush(String storeId, List<ProductImportRow> batch, ImportSummary summary) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ProductImportChange> changes = inventoryDomainService.importProductBatch(storeId, batch);
+        summary.apply(changes);
+        batch.clear();
+        log.debug("Lote importado: storeId={}, lote={}, alterações={}", storeId, summary.batches, changes.size());
+    }
+    
+    private static long elapsedMs(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+    
+    /**
+     * Totais acumulados da importação.
+     */
+    private static final class ImportSummary {
+        
+        private final String storeId;
+        private final List<String> errors = new ArrayList<>();
+        private long rowsRead;
+        private long rowsRejected;
+        private long productsCreated;
+        private long productsUpdated;
+        private long stockChanges;
+        private int batches;
+        
+        ImportSummary(String storeId) {
+            this.storeId = storeId;
+        }
+        
+        void reject(String error) {
+            rowsRejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+        
+        void apply(List<ProductImportChange> changes) {
+            batches++;
+            for (ProductImportChange change : changes) {
+                if (change.created()) {
+                    productsCreated++;
+                } else {
+                    productsUpdated++;
+                }
+                if (change.stockChanged()) {
+                    stockChanges++;
+                }
+            }
+        }
+        
+        BulkImportResponse toResponse(boolean success, String message, long started) {
+            return BulkImportResponse.builder()
+                .success(success)
+                .message(message)
+                .storeId(storeId)
+                .rowsRead(rowsRead)
+                .rowsRejected(rowsRejected)
+                .productsCreated(productsCreated)
+                .productsUpdated(productsUpdated)
+                .stockChanges(stockChanges)
+                .batches(batches)
+                .durationMs(elapsedMs(started))
+                .errors(List.copyOf(errors))
+                .build();
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.inventory.management.store.application.usecase;
 
 import com.inventory.management.store.application.dto.request.CancelReservationRequest;
 import com.inventory.management.store.application.dto.response.CancelReservationResponse;
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,7 @@ import org.springframework.stereotype.Service;
 public class CancelReservationUseCase {
     
     private final InventoryDomainService inventoryDomainService;
+    private final OptimisticLockRetryTemplate optimisticLockRetryTemplate;
     
     /**
      * Executa o cancelamento de uma reserva de produto.
@@ -40,11 +43,12 @@ public class CancelReservationUseCase {
             }
             
             // Cancelar reserva através do serviço de domínio
-            Product product = inventoryDomainService.cancelReservation(
-                request.getProductSku(), 
-                request.getStoreId(), 
-                request.getQuantity()
-            );
+            Product product = optimisticLockRetryTemplate.executeWithOptimisticLockRetry(() ->
+                inventoryDomainService.cancelReservation(
+                    request.getProductSku(), 
+                    request.getStoreId(), 
+                    request.getQuantity()
+                ));
             
             log.info("Reserva cancelada com sucesso: SKU={}, Quantidade reservada atual={}", 
                     product.getSku(), product.getReservedQuantity());
@@ -62,6 +66,10 @@ public class CancelReservationUseCase {
             log.warn("Falha ao cancelar reserva: {}", e.getMessage());
             return CancelReservationResponse.failure(request.getProductSku(), e.getMessage());
             
+        } catch (ConcurrencyConflictException e) {
+            log.warn("Conflito de concorrência ao cancelar reserva: {}", e.getMessage());
+            throw e;
+            
         } catch (Exception e) {
             log.error("Erro inesperado ao cancelar reserva: {}", e.getMessage(), e);
             return CancelReservationResponse.failure(request.getProductSku(), "Erro interno do sistema");
@@ -4,6 +4,7 @@ import com.inventory.management.store.application.dto.request.CommitProductReque
 import com.inventory.management.store.application.dto.response.CommitProductResponse;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Service;
 public class CommitProductUseCase {
     
     private final InventoryDomainService inventoryDomainService;
+    private final OptimisticLockRetryTemplate optimisticLockRetryTemplate;
     
     /**
      * Executa a confirmação de venda de um produto reservado.
@@ -33,11 +35,12 @@ public class CommitProductUseCase {
         log.info("Executando confirmação de venda: {}", request);
         
         try {
-            Product product = inventoryDomainService.commitReservedProduct(
-                request.getProductSku(),
-                request.getStoreId(),
-                request.getQuantity()
-            );
+            Product product = optimisticLockRetryTemplate.executeWithOptimisticLockRetry(() ->
+                inventoryDomainService.commitReservedProduct(
+                    request.getProductSku(),
+                    request.getStoreId(),
+                    request.getQuantity()
+                ));
             
             return CommitProductResponse.builder()
                 .success(true)
@@ -0,0 +1,44 @@
+package com.inventory.management.store.application.usecase;
+
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.service.InventoryDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Caso de uso para exportação do catálogo completo de uma loja.
+ * Os produtos são entregues um a um ao consumidor enquanto são lidos,
+ * de forma que o consumo de memória não depende do tamanho do catálogo.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportCatalogUseCase {
+    
+    private final InventoryDomainService inventoryDomainService;
+    
+    /**
+     * Executa a exportação do catálogo da loja.
+     * 
+     * @param storeId identificador da loja
+     * @param consumer consumidor de cada produto exportado
+     * @return quantidade de produtos exportados
+     */
+    public long execute(String storeId, Consumer<Product> consumer) {
+        log.info("Iniciando exportação do catálogo: storeId={}", storeId);
+        
+        long started = System.nanoTime();
+        long exported = inventoryDomainService.exportCatalog(storeId, consumer);
+        
+        log.info("Exportação do catálogo concluída: storeId={}, produtos={}, duração={}ms", 
+                storeId, exported, (System.nanoTime() - started) / 1_000_000);
+        return exported;
+    }
+}
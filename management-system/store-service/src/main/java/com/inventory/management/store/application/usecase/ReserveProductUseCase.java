@@ -2,8 +2,11 @@ package com.inventory.management.store.application.usecase;
 
 import com.inventory.management.store.application.dto.request.ReserveProductRequest;
 import com.inventory.management.store.application.dto.response.ReserveProductResponse;
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
+import com.inventory.management.store.infrastructure.service.ReservationQuotaService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Service;
 public class ReserveProductUseCase {
     
     private final InventoryDomainService inventoryDomainService;
+    private final OptimisticLockRetryTemplate optimisticLockRetryTemplate;
+    private final ReservationQuotaService reservationQuotaService;
     
     /**
      * Executa a reserva de um produto.
@@ -44,13 +49,23 @@ public class ReserveProductUseCase {
                 return ReserveProductResponse.failure(request.getProductSku(), "reservationDuration é obrigatório");
             }
 
+            // Cotas por cliente verificadas em memória, antes de qualquer acesso ao banco
+            var quotaDecision = reservationQuotaService.tryAcquire(
+                request.getCustomerId(), request.getStoreId(), request.getProductSku(), request.getQuantity());
+            if (!quotaDecision.allowed()) {
+                log.warn("Reserva rejeitada por cota: SKU={}, Cliente={}, Motivo={}", 
+                        request.getProductSku(), request.getCustomerId(), quotaDecision.message());
+                return ReserveProductResponse.quotaExceeded(request.getProductSku(), quotaDecision.message());
+            }
+
             // Reservar produto através do serviço de domínio
-            Product product = inventoryDomainService.reserveProduct(
-                request.getProductSku(),
-                request.getStoreId(),
-                request.getQuantity()
-                // customerId e reservationDuration podem ser usados para lógica adicional
-            );
+            Product product = optimisticLockRetryTemplate.executeWithOptimisticLockRetry(() ->
+                inventoryDomainService.reserveProduct(
+                    request.getProductSku(),
+                    request.getStoreId(),
+                    request.getQuantity()
+                    // customerId e reservationDuration podem ser usados para lógica adicional
+                ));
 
             log.info("Produto reservado com sucesso: SKU={}, Quantidade reservada atual={}, Cliente={}, Duração={}", 
                     product.getSku(), product.getReservedQuantity(), request.getCustomerId(), request.getReservationDuration());
@@ -65,6 +80,10 @@ public class ReserveProductUseCase {
             log.error("Erro ao reservar produto: {}", e.getMessage());
             return ReserveProductResponse.failure(request.getProductSku(), e.getMessage());
             
+        } catch (ConcurrencyConflictException e) {
+            log.warn("Conflito de concorrência ao reservar produto: {}", e.getMessage());
+            throw e;
+            
         } catch (Exception e) {
             log.error("Erro inesperado ao reservar produto: {}", e.getMessage(), e);
             return ReserveProductResponse.failure(request.getProductSku(), "Erro interno do sistema");
@@ -4,13 +4,19 @@ import com.inventory.management.store.application.dto.request.SearchProductsRequ
 import com.inventory.management.store.application.dto.request.GetProductRequest;
 import com.inventory.management.store.application.dto.response.SearchProductsResponse;
 import com.inventory.management.store.application.dto.response.GetProductResponse;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.adapter.in.web.PageSizeSupport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Caso de uso para buscar produtos disponíveis no inventário da loja.
@@ -27,6 +33,12 @@ public class SearchProductsUseCase {
     
     private final InventoryDomainService inventoryDomainService;
     
+    @Value("${app.inventory.pagination.default-page-size:100}")
+    private int defaultPageSize;
+    
+    @Value("${app.inventory.pagination.max-page-size:500}")
+    private int maxPageSize;
+    
     /**
      * Executa a busca de produtos - método de conveniência para testes.
      * 
@@ -41,6 +53,8 @@ public class SearchProductsUseCase {
     
     /**
      * Executa a busca de produtos disponíveis na loja.
+     * Sem filtro de nome, a listagem é paginada por SKU (keyset): cada chamada
+     * retorna no máximo uma página e o SKU de continuação da próxima.
      * 
      * @param request dados da requisição de busca
      * @return resultado da busca
@@ -50,20 +64,31 @@ public class SearchProductsUseCase {
         
         try {
             List<Product> products;
+            String nextAfterSku = null;
             
             if (request.getProductName() != null && !request.getProductName().trim().isEmpty()) {
-                products = inventoryDomainService.searchProductsByName(
-                    request.getProductName().trim(), 
-                    request.getStoreId()
-                );
+                products = request.getLimit() == null
+                    ? inventoryDomainService.searchProductsByName(
+                        request.getProductName().trim(), 
+                        request.getStoreId())
+                    : inventoryDomainService.searchProductsByName(
+                        request.getProductName().trim(), 
+                        request.getStoreId(),
+                        request.getLimit());
             } else {
-                products = inventoryDomainService.findAvailableProducts(request.getStoreId());
+                ProductPage<Product> page = inventoryDomainService.findAvailableProducts(
+                    request.getStoreId(),
+                    request.getAfterSku(),
+                    PageSizeSupport.resolve(request.getLimit(), defaultPageSize, maxPageSize));
+                products = page.products();
+                nextAfterSku = page.nextAfterSku();
             }
             
             return SearchProductsResponse.builder()
                 .success(true)
                 .products(products)
                 .totalFound(products.size())
+                .nextAfterSku(nextAfterSku)
                 .message("Busca realizada com sucesso")
                 .build();
                 
@@ -78,6 +103,40 @@ public class SearchProductsUseCase {
         }
     }
     
+    /**
+     * Lista uma página de produtos disponíveis na loja pelo caminho somente
+     * leitura: as visões vêm projetadas da consulta e seguem direto para a
+     * resposta, sem passar pelo modelo de domínio.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho de página solicitado (null para o padrão)
+     * @return página de visões de produtos
+     */
+    public ProductPage<ProductView> listAvailableProducts(String storeId, String afterSku, Integer limit) {
+        log.info("Listando produtos disponíveis: storeId={}, afterSku={}, limit={}", storeId, afterSku, limit);
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        return inventoryDomainService.findAvailableProductViews(storeId, afterSku, pageSize);
+    }
+    
+    /**
+     * Lista uma página de produtos disponíveis na loja contendo apenas os
+     * campos selecionados, lidos diretamente do banco.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param limit tamanho de página solicitado (null para o padrão)
+     * @param selection campos selecionados
+     * @return página de linhas campo → valor
+     */
+    public ProductPage<Map<String, Object>> listAvailableProductFields(String storeId, String afterSku, Integer limit,
+                                                                       FieldSelection selection) {
+        log.info("Listando campos {} de produtos disponíveis: storeId={}, afterSku={}, limit={}", 
+                selection.fields(), storeId, afterSku, limit);
+        int pageSize = PageSizeSupport.resolve(limit, defaultPageSize, maxPageSize);
+        return inventoryDomainService.findAvailableProductFields(storeId, afterSku, pageSize, selection);
+    }
+    
     /**
      * Executa a busca de um produto específico por SKU.
      * 
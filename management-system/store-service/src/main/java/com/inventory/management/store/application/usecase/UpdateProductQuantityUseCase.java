@@ -2,8 +2,11 @@ package com.inventory.management.store.application.usecase;
 
 import com.inventory.management.store.application.dto.request.UpdateProductQuantityRequest;
 import com.inventory.management.store.application.dto.response.UpdateProductQuantityResponse;
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
+import com.inventory.management.store.domain.exception.ProductVersionConflictException;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -22,6 +25,7 @@ import org.springframework.stereotype.Service;
 public class UpdateProductQuantityUseCase {
     
     private final InventoryDomainService inventoryDomainService;
+    private final OptimisticLockRetryTemplate optimisticLockRetryTemplate;
     
     /**
      * Executa a atualização da quantidade de um produto.
@@ -39,12 +43,18 @@ public class UpdateProductQuantityUseCase {
                 return UpdateProductQuantityResponse.failure("Quantidade deve ser maior ou igual a zero");
             }
             
-            // Atualizar quantidade através do serviço de domínio
-            Product product = inventoryDomainService.updateProductQuantity(
-                request.getProductSku(), 
-                request.getStoreId(), 
-                request.getNewQuantity()
-            );
+            // Atualizar quantidade através do serviço de domínio, com retry em conflito de versão
+            Product product = optimisticLockRetryTemplate.executeWithOptimisticLockRetry(() ->
+                request.getExpectedVersion() == null
+                    ? inventoryDomainService.updateProductQuantity(
+                        request.getProductSku(), 
+                        request.getStoreId(), 
+                        request.getNewQuantity())
+                    : inventoryDomainService.updateProductQuantity(
+                        request.getProductSku(), 
+                        request.getStoreId(), 
+                        request.getNewQuantity(),
+                        request.getExpectedVersion()));
             
             log.info("Quantidade atualizada com sucesso: SKU={}, Quantidade atual={}, Disponível={}", 
                     product.getSku(), product.getQuantity(), product.getAvailableQuantity());
@@ -54,13 +64,22 @@ public class UpdateProductQuantityUseCase {
                 product.getName(),
                 product.getQuantity(),
                 product.getReservedQuantity(),
-                product.getAvailableQuantity()
+                product.getAvailableQuantity(),
+                product.getVersion()
             );
             
+        } catch (ProductVersionConflictException e) {
+            log.warn("Versão divergente ao atualizar quantidade: {}", e.getMessage());
+            return UpdateProductQuantityResponse.versionConflict(e.getMessage(), e.getCurrentVersion());
+            
         } catch (IllegalArgumentException e) {
             log.warn("Falha ao atualizar quantidade: {}", e.getMessage());
             return UpdateProductQuantityResponse.failure(e.getMessage());
             
+        } catch (ConcurrencyConflictException e) {
+            log.warn("Conflito de concorrência ao atualizar quantidade: {}", e.getMessage());
+            throw e;
+            
         } catch (Exception e) {
             log.error("Erro inesperado ao atualizar quantidade: {}", e.getMessage(), e);
             return UpdateProductQuantityResponse.failure("Erro interno do sistema");
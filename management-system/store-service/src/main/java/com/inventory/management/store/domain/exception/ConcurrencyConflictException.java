@@ -0,0 +1,16 @@
+package com.inventory.management.store.domain.exception;
+
+/**
+ * Exceção lançada quando uma escrita continua em conflito de versão
+ * após esgotar as tentativas do retry otimista.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ConcurrencyConflictException extends RuntimeException {
+    
+    public ConcurrencyConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
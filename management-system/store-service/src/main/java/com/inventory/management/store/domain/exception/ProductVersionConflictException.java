@@ -0,0 +1,30 @@
+package com.inventory.management.store.domain.exception;
+
+import lombok.Getter;
+
+/**
+ * Exceção lançada quando a versão informada pelo cliente (If-Match)
+ * não corresponde à versão atual do produto.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+public class ProductVersionConflictException extends RuntimeException {
+    
+    private final String productSku;
+    private final String storeId;
+    private final Long expectedVersion;
+    private final Long currentVersion;
+    
+    public ProductVersionConflictException(String productSku, String storeId, 
+                                           Long expectedVersion, Long currentVersion) {
+        super(String.format("Versão do produto divergente: SKU=%s, Loja=%s, esperada=%d, atual=%d", 
+                productSku, storeId, expectedVersion, currentVersion));
+        this.productSku = productSku;
+        this.storeId = storeId;
+        this.expectedVersion = expectedVersion;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -75,6 +75,13 @@ public class InventoryUpdateEvent {
      */
     private String details;
     
+    /**
+     * Sequência monotônica da alteração por loja e produto (versão do estoque
+     * após a operação). Permite ao consumidor descartar eventos duplicados ou
+     * que chegam depois de um estado mais recente.
+     */
+    private Long sequence;
+    
     /**
      * Tipos de eventos de inventário suportados.
      */
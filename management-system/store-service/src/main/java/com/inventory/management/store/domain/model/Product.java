@@ -23,7 +23,7 @@ import java.util.UUID;
  */
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
@@ -85,6 +85,12 @@ public class Product {
      */
     private LocalDateTime updatedAt;
     
+    /**
+     * Versão do estoque para controle de concorrência otimista.
+     * Incrementada a cada alteração persistida dos contadores.
+     */
+    private Long version;
+    
     /**
      * Calcula a quantidade disponível (não reservada).
      * 
@@ -0,0 +1,35 @@
+package com.inventory.management.store.domain.model;
+
+/**
+ * Alteração efetivamente aplicada a um produto por uma importação em massa.
+ * Produtos cujos dados importados já eram iguais aos gravados não geram alteração.
+ *
+ * @param sku SKU do produto
+ * @param created se o produto foi criado pela importação
+ * @param previousQuantity quantidade anterior (null se criado ou se o estoque não mudou)
+ * @param newQuantity nova quantidade (null se apenas o catálogo mudou)
+ * @param reservedQuantity quantidade reservada atual (null se apenas o catálogo mudou)
+ * @param version versão do estoque após a alteração (null se apenas o catálogo mudou)
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ProductImportChange(String sku, boolean created, Integer previousQuantity,
+                                  Integer newQuantity, Integer reservedQuantity, Long version) {
+
+    /**
+     * @return true se a quantidade em estoque foi alterada
+     */
+    public boolean stockChanged() {
+        return newQuantity != null;
+    }
+
+    /**
+     * @return true se a alteração representa entrada de estoque
+     *         (produto novo ou quantidade maior que a anterior)
+     */
+    public boolean isRestock() {
+        return stockChanged() && (previousQuantity == null || newQuantity > previousQuantity);
+    }
+}
@@ -0,0 +1,43 @@
+package com.inventory.management.store.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Linha de uma importação em massa de produtos (catálogo e estoque).
+ * A quantidade informada substitui a quantidade atual do produto na loja.
+ *
+ * @param sku SKU do produto
+ * @param name nome do produto
+ * @param description descrição do produto (opcional)
+ * @param price preço unitário
+ * @param quantity quantidade em estoque
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ProductImportRow(String sku, String name, String description, BigDecimal price, Integer quantity) {
+
+    private static final int MAX_SKU_LENGTH = 100;
+    private static final int MAX_NAME_LENGTH = 255;
+
+    /**
+     * Valida os campos obrigatórios e os limites da linha.
+     *
+     * @throws IllegalArgumentException se algum campo for inválido
+     */
+    public ProductImportRow {
+        if (sku == null || sku.isBlank() || sku.length() > MAX_SKU_LENGTH) {
+            throw new IllegalArgumentException("SKU obrigatório com até " + MAX_SKU_LENGTH + " caracteres");
+        }
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw new IllegalArgumentException("Nome obrigatório com até " + MAX_NAME_LENGTH + " caracteres: " + sku);
+        }
+        if (price == null || price.signum() < 0) {
+            throw new IllegalArgumentException("Preço deve ser maior ou igual a zero: " + sku);
+        }
+        if (quantity == null || quantity < 0) {
+            throw new IllegalArgumentException("Quantidade deve ser maior ou igual a zero: " + sku);
+        }
+    }
+}
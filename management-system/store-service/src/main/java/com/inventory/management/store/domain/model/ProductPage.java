@@ -0,0 +1,44 @@
+package com.inventory.management.store.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de produtos obtida por paginação keyset (ordenação estável por SKU).
+ *
+ * @param products produtos da página, ordenados por SKU
+ * @param nextAfterSku último SKU da página, usado como ponto de continuação
+ *                     (null quando não há próxima página)
+ * @param <T> representação do produto ({@link Product} ou {@link ProductView})
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ProductPage<T>(List<T> products, String nextAfterSku) {
+
+    /**
+     * Monta a página a partir de uma consulta que buscou um item além do tamanho
+     * da página, o que indica a existência de uma próxima página sem precisar de COUNT.
+     *
+     * @param rows produtos retornados (até pageSize + 1)
+     * @param pageSize tamanho da página
+     * @param skuExtractor função que obtém o SKU (chave de ordenação) do produto
+     * @param <T> representação do produto
+     * @return página de produtos
+     */
+    public static <T> ProductPage<T> fromOverfetch(List<T> rows, int pageSize, Function<T, String> skuExtractor) {
+        if (rows.size() <= pageSize) {
+            return new ProductPage<>(rows, null);
+        }
+        List<T> page = List.copyOf(rows.subList(0, pageSize));
+        return new ProductPage<>(page, skuExtractor.apply(page.get(pageSize - 1)));
+    }
+
+    /**
+     * @return true se existir uma próxima página
+     */
+    public boolean hasNext() {
+        return nextAfterSku != null;
+    }
+}
@@ -0,0 +1,91 @@
+package com.inventory.management.store.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Visão somente leitura de um produto, usada nas listagens.
+ * É preenchida diretamente pela consulta (projeção por construtor), sem
+ * entidade gerenciada nem modelo de domínio intermediários, e serializada
+ * com os mesmos campos de {@link Product}.
+ *
+ * @param id identificador do produto
+ * @param sku SKU do produto
+ * @param name nome do produto
+ * @param description descrição do produto
+ * @param price preço unitário
+ * @param quantity quantidade total em estoque
+ * @param reservedQuantity quantidade reservada
+ * @param storeId identificador da loja
+ * @param active se o produto está ativo
+ * @param updatedAt data da última atualização do estoque
+ * @param version versão do produto
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public record ProductView(UUID id, String sku, String name, String description, BigDecimal price,
+                          Integer quantity, Integer reservedQuantity, String storeId, Boolean active,
+                          LocalDateTime updatedAt, Long version) {
+
+    /**
+     * Campos que podem ser selecionados nas listagens (parâmetro fields),
+     * com os nomes usados na serialização. O primeiro é o campo chave.
+     */
+    public static final List<String> FIELDS = List.of("sku", "id", "name", "description", "price", "quantity",
+            "reservedQuantity", "availableQuantity", "storeId", "active", "updatedAt", "version");
+
+    /**
+     * Cria a visão a partir do modelo de domínio.
+     *
+     * @param product produto
+     * @return visão do produto
+     */
+    public static ProductView from(Product product) {
+        return new ProductView(product.getId(), product.getSku(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getQuantity(), product.getReservedQuantity(), product.getStoreId(),
+                product.getActive(), product.getUpdatedAt(), product.getVersion());
+    }
+
+    /**
+     * Quantidade disponível (não reservada), com a mesma regra de {@link Product#getAvailableQuantity()}.
+     *
+     * @return quantidade disponível
+     */
+    public Integer getAvailableQuantity() {
+        return quantity;
+    }
+
+    /**
+     * Extrai apenas os campos selecionados, na ordem da seleção.
+     *
+     * @param selection campos selecionados
+     * @return mapa campo → valor
+     */
+    public Map<String, Object> select(FieldSelection selection) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : selection.fields()) {
+            row.put(field, switch (field) {
+                case "sku" -> sku;
+                case "id" -> id;
+                case "name" -> name;
+                case "description" -> description;
+                case "price" -> price;
+                case "quantity" -> quantity;
+                case "reservedQuantity" -> reservedQuantity;
+                case "availableQuantity" -> getAvailableQuantity();
+                case "storeId" -> storeId;
+                case "active" -> active;
+                case "updatedAt" -> updatedAt;
+                case "version" -> version;
+                default -> throw new IllegalArgumentException("Campo inexistente: " + field);
+            });
+        }
+        return row;
+    }
+}
@@ -0,0 +1,111 @@
+package com.inventory.management.store.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Representa um movimento de estoque no ledger append-only da loja.
+ * Cada operação de reserva, confirmação, cancelamento ou ajuste gera um
+ * movimento com os deltas de quantidade e de reserva, que é posteriormente
+ * consolidado no snapshot do produto pelo compactador.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@ToString(includeFieldNames = true)
+public class StockMovement {
+
+    /**
+     * Posição do movimento no ledger (sequencial e crescente).
+     */
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    /**
+     * SKU do produto movimentado.
+     */
+    private String sku;
+
+    /**
+     * Identificador da loja.
+     */
+    private String storeId;
+
+    /**
+     * Tipo do movimento.
+     */
+    private MovementType movementType;
+
+    /**
+     * Variação aplicada à quantidade disponível.
+     */
+    private Integer quantityDelta;
+
+    /**
+     * Variação aplicada à quantidade reservada.
+     */
+    private Integer reservedDelta;
+
+    /**
+     * Momento em que o movimento foi registrado.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * Tipos de movimento de estoque.
+     */
+    public enum MovementType {
+        RESERVE,
+        COMMIT,
+        CANCEL,
+        ADJUSTMENT
+    }
+
+    /**
+     * Cria um movimento a partir do estado do produto antes e depois da operação.
+     *
+     * @param product produto já alterado pela regra de domínio
+     * @param movementType tipo do movimento
+     * @param previousQuantity quantidade antes da operação
+     * @param previousReservedQuantity quantidade reservada antes da operação
+     * @return movimento com os deltas calculados
+     */
+    public static StockMovement of(Product product, MovementType movementType,
+                                   Integer previousQuantity, Integer previousReservedQuantity) {
+        return StockMovement.builder()
+                .sku(product.getSku())
+                .storeId(product.getStoreId())
+                .movementType(movementType)
+                .quantityDelta(valueOrZero(product.getQuantity()) - valueOrZero(previousQuantity))
+                .reservedDelta(valueOrZero(product.getReservedQuantity()) - valueOrZero(previousReservedQuantity))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Verifica se o movimento não altera nenhum contador.
+     *
+     * @return true se ambos os deltas forem zero
+     */
+    public boolean isEmpty() {
+        return quantityDelta == 0 && reservedDelta == 0;
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.inventory.management.store.domain.port;
+
+import com.inventory.management.store.domain.model.Product;
+
+import java.util.function.Supplier;
+
+/**
+ * Interface do cache local de produtos.
+ * Define o contrato para leitura com carregamento sob demanda e para
+ * manter as entradas coerentes após alterações de estoque.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ProductCache {
+    
+    /**
+     * Obtém o produto do cache ou o carrega através do loader informado.
+     * 
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     * @param loader carregamento do produto a partir da fonte de dados
+     * @return produto encontrado (cópia independente da entrada em cache)
+     */
+    Product get(String sku, String storeId, Supplier<Product> loader);
+    
+    /**
+     * Atualiza os contadores de estoque da entrada em cache, se existir,
+     * após a confirmação da transação corrente.
+     * 
+     * @param product produto com o estado de estoque persistido
+     */
+    void refreshStock(Product product);
+    
+    /**
+     * Remove o produto do cache local e das demais instâncias.
+     * 
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     */
+    void evict(String sku, String storeId);
+}
@@ -1,10 +1,19 @@
 package com.inventory.management.store.domain.port;
 
+import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.model.StockMovement;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Interface para operações de persistência de produtos.
@@ -41,6 +50,28 @@ public interface ProductRepository {
      */
     Optional<Product> findBySkuAndStoreId(String sku, String storeId);
     
+    /**
+     * Busca apenas os contadores de estoque de um produto por SKU e loja,
+     * sem carregar os atributos de catálogo (nome, descrição, preço).
+     * 
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     * @return produto com dados de estoque ou empty se não existir
+     */
+    Optional<Product> findStockBySkuAndStoreId(String sku, String storeId);
+    
+    /**
+     * Persiste somente os contadores de estoque de um produto existente
+     * (quantidade, quantidade reservada e data de atualização), desde que a
+     * versão do produto ainda seja a mesma lida antes da alteração.
+     * 
+     * @param product produto com os contadores atualizados
+     * @return produto persistido com a nova versão
+     * @throws IllegalArgumentException se o produto não existir
+     * @throws org.springframework.dao.OptimisticLockingFailureException se a versão tiver mudado
+     */
+    Product saveStock(Product product);
+    
     /**
      * Lista todos os produtos de uma loja.
      * 
@@ -49,6 +80,17 @@ public interface ProductRepository {
      */
     List<Product> findByStoreId(String storeId);
     
+    /**
+     * Percorre todos os produtos de uma loja em ordem de SKU, entregando-os
+     * um a um ao consumidor sem materializar a lista completa.
+     * Deve ser chamado dentro de uma transação.
+     * 
+     * @param storeId identificador da loja
+     * @param consumer consumidor de cada produto
+     * @return quantidade de produtos percorridos
+     */
+    long forEachByStoreId(String storeId, Consumer<Product> consumer);
+    
     /**
      * Lista produtos com estoque disponível em uma loja.
      * 
@@ -57,6 +99,41 @@ public interface ProductRepository {
      */
     List<Product> findAvailableProductsByStoreId(String storeId);
     
+    /**
+     * Lista, em ordem de SKU, produtos com estoque disponível em uma loja
+     * cujo SKU seja posterior ao informado (paginação keyset).
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de produtos
+     * @return produtos com estoque disponível ordenados por SKU
+     */
+    List<Product> findAvailableProductsByStoreIdAfterSku(String storeId, String afterSku, int limit);
+    
+    /**
+     * Variante somente leitura de {@link #findAvailableProductsByStoreIdAfterSku},
+     * que retorna visões projetadas diretamente pela consulta.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de produtos
+     * @return visões dos produtos com estoque disponível ordenadas por SKU
+     */
+    List<ProductView> findAvailableProductViewsByStoreIdAfterSku(String storeId, String afterSku, int limit);
+    
+    /**
+     * Variante de {@link #findAvailableProductViewsByStoreIdAfterSku} que lê do
+     * banco apenas os campos selecionados.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de produtos
+     * @param selection campos selecionados
+     * @return linhas campo → valor dos produtos com estoque disponível ordenadas por SKU
+     */
+    List<Map<String, Object>> findAvailableProductFieldsByStoreIdAfterSku(String storeId, String afterSku, int limit,
+                                                                          FieldSelection selection);
+    
     /**
      * Busca produtos por nome (busca parcial).
      * 
@@ -66,6 +143,23 @@ public interface ProductRepository {
      */
     List<Product> findByNameContainingAndStoreId(String name, String storeId);
     
+    /**
+     * Busca produtos ativos de uma loja a partir de uma lista de SKUs.
+     * 
+     * @param skus SKUs dos produtos
+     * @param storeId identificador da loja
+     * @return produtos encontrados (sem ordem garantida)
+     */
+    List<Product> findBySkusAndStoreId(Collection<String> skus, String storeId);
+    
+    /**
+     * Busca produtos da loja aplicando filtros, ordenação e limite no banco.
+     * 
+     * @param request critérios de busca
+     * @return produtos encontrados
+     */
+    List<Product> searchInventory(InventorySearchRequest request);
+    
     /**
      * Remove um produto do repositório.
      * 
@@ -88,4 +182,43 @@ public interface ProductRepository {
      * @return lista de produtos ativos
      */
     List<Product> findActiveProductsByStoreId(String storeId);
+    
+    /**
+     * Busca um produto por SKU e loja considerando o ledger de movimentos.
+     * As quantidades retornadas correspondem ao snapshot persistido somado
+     * aos deltas ainda não consolidados pelo compactador.
+     * 
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     * @return produto com quantidades efetivas ou empty se não existir
+     */
+    Optional<Product> findBySkuAndStoreIdWithPendingMovements(String sku, String storeId);
+    
+    /**
+     * Registra um movimento no ledger de estoque (somente inserção).
+     * 
+     * @param movement movimento a ser registrado
+     * @return movimento registrado com sua posição no ledger
+     */
+    StockMovement appendStockMovement(StockMovement movement);
+    
+    /**
+     * Serializa alterações de estoque de um produto até o fim da transação
+     * corrente, sem atualizar a linha do produto.
+     * 
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     */
+    void acquireStockLock(String sku, String storeId);
+    
+    /**
+     * Grava um lote de produtos importados em massa na loja, criando os
+     * produtos inexistentes e atualizando catálogo e quantidade dos demais
+     * em poucas instruções, sem carregar entidades.
+     * 
+     * @param storeId identificador da loja
+     * @param rows linhas do lote, com no máximo uma linha por SKU
+     * @return alterações efetivamente aplicadas
+     */
+    List<ProductImportChange> upsertImportBatch(String storeId, List<ProductImportRow> rows);
 }
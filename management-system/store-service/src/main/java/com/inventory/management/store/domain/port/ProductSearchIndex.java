@@ -0,0 +1,49 @@
+package com.inventory.management.store.domain.port;
+
+import com.inventory.management.store.domain.model.Product;
+
+import java.util.List;
+
+/**
+ * Interface do índice de busca textual de produtos por loja.
+ * Define o contrato para buscas por substring e prefixo do nome
+ * sem consulta ao banco de dados.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ProductSearchIndex {
+    
+    /**
+     * Indica se o índice já foi construído e pode atender buscas.
+     * 
+     * @return true se o índice estiver pronto
+     */
+    boolean isReady();
+    
+    /**
+     * Busca produtos da loja cujo nome contenha o termo informado.
+     * 
+     * @param storeId identificador da loja
+     * @param query termo de busca
+     * @param limit quantidade máxima de resultados
+     * @return SKUs encontrados, ordenados por relevância
+     */
+    List<String> search(String storeId, String query, int limit);
+    
+    /**
+     * Adiciona ou atualiza um produto no índice.
+     * 
+     * @param product produto a ser indexado
+     */
+    void index(Product product);
+    
+    /**
+     * Remove um produto do índice.
+     * 
+     * @param storeId identificador da loja
+     * @param sku SKU do produto
+     */
+    void remove(String storeId, String sku);
+}
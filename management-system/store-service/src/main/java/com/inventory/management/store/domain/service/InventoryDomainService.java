@@ -1,19 +1,34 @@
 package com.inventory.management.store.domain.service;
 
 import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.exception.ProductVersionConflictException;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.InventoryUpdateEvent;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.model.StockMovement;
 import com.inventory.management.store.domain.port.InventoryEventPublisher;
+import com.inventory.management.store.domain.port.ProductCache;
 import com.inventory.management.store.domain.port.ProductRepository;
+import com.inventory.management.store.domain.port.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +46,23 @@ public class InventoryDomainService {
     
     private final ProductRepository productRepository;
     private final InventoryEventPublisher eventPublisher;
+    private final ProductCache productCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final InventoryGenerationCounters generationCounters;
+    
+    /**
+     * Quando habilitado, alterações de estoque são registradas no ledger
+     * append-only em vez de reescrever a linha do produto.
+     */
+    @Value("${app.inventory.stock-ledger.enabled:false}")
+    private boolean stockLedgerEnabled;
+    
+    /**
+     * Quando habilitado, cada produto com estoque alterado por importação em
+     * massa gera um evento RESTOCK ou UPDATE para o serviço central.
+     */
+    @Value("${app.inventory.bulk-import.publish-events:true}")
+    private boolean bulkImportEventsEnabled;
     
     /**
      * Reserva uma quantidade de produto para checkout.
@@ -45,11 +77,13 @@ public class InventoryDomainService {
     public Product reserveProduct(String productSku, String storeId, Integer quantity) {
         log.info("Reservando produto: SKU={}, Loja={}, Quantidade={}", productSku, storeId, quantity);
         
-        Product product = findProductBySkuAndStore(productSku, storeId);
+        Product product = findProductForStockChange(productSku, storeId, false);
+        Integer previousQuantity = product.getQuantity();
         Integer previousReservedQuantity = product.getReservedQuantity();
         
         product.reserveQuantity(quantity);
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = persistStockChange(product, StockMovement.MovementType.RESERVE,
+                previousQuantity, previousReservedQuantity);
 
         InventoryUpdateEvent event = InventoryUpdateEvent.createReserveEvent(
             productSku, 
@@ -58,6 +92,7 @@ public class InventoryDomainService {
             savedProduct.getReservedQuantity(),
             savedProduct.getReservedQuantity()
         );
+        event.setSequence(savedProduct.getVersion());
         eventPublisher.publishInventoryUpdateEventAsync(event);
         
         log.info("Produto reservado com sucesso: SKU={}, Reservado={}", productSku, savedProduct.getReservedQuantity());
@@ -77,11 +112,13 @@ public class InventoryDomainService {
     public Product commitReservedProduct(String productSku, String storeId, Integer quantity) {
         log.info("Confirmando venda: SKU={}, Loja={}, Quantidade={}", productSku, storeId, quantity);
         
-        Product product = findProductBySkuAndStore(productSku, storeId);
+        Product product = findProductForStockChange(productSku, storeId, false);
         Integer previousQuantity = product.getQuantity();
+        Integer previousReservedQuantity = product.getReservedQuantity();
         
         product.commitReservation(quantity);
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = persistStockChange(product, StockMovement.MovementType.COMMIT,
+                previousQuantity, previousReservedQuantity);
 
         InventoryUpdateEvent event = InventoryUpdateEvent.createCommitEvent(
             productSku, 
@@ -90,6 +127,7 @@ public class InventoryDomainService {
             savedProduct.getQuantity(),
             savedProduct.getReservedQuantity()
         );
+        event.setSequence(savedProduct.getVersion());
         eventPublisher.publishInventoryUpdateEventAsync(event);
         
         log.info("Venda confirmada: SKU={}, Nova quantidade={}, Reservado={}", 
@@ -110,11 +148,13 @@ public class InventoryDomainService {
     public Product cancelReservation(String productSku, String storeId, Integer quantity) {
         log.info("Cancelando reserva: SKU={}, Loja={}, Quantidade={}", productSku, storeId, quantity);
         
-        Product product = findProductBySkuAndStore(productSku, storeId);
+        Product product = findProductForStockChange(productSku, storeId, true);
+        Integer previousQuantity = product.getQuantity();
         Integer previousReservedQuantity = product.getReservedQuantity();
         
         product.cancelReservation(quantity);
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = persistStockChange(product, StockMovement.MovementType.CANCEL,
+                previousQuantity, previousReservedQuantity);
 
         InventoryUpdateEvent event = InventoryUpdateEvent.createCancelEvent(
             productSku, 
@@ -123,6 +163,7 @@ public class InventoryDomainService {
             savedProduct.getReservedQuantity(),
             savedProduct.getReservedQuantity()
         );
+        event.setSequence(savedProduct.getVersion());
         eventPublisher.publishInventoryUpdateEventAsync(event);
         
         log.info("Reserva cancelada: SKU={}, Reservado={}", productSku, savedProduct.getReservedQuantity());
@@ -140,13 +181,34 @@ public class InventoryDomainService {
      */
     @Transactional
     public Product updateProductQuantity(String productSku, String storeId, Integer newQuantity) {
+        return updateProductQuantity(productSku, storeId, newQuantity, null);
+    }
+    
+    /**
+     * Atualiza a quantidade de um produto condicionada à versão esperada.
+     * 
+     * @param productSku SKU do produto
+     * @param storeId identificador da loja
+     * @param newQuantity nova quantidade
+     * @param expectedVersion versão esperada do produto (null para não verificar)
+     * @return produto atualizado
+     * @throws IllegalArgumentException se o produto não existir
+     * @throws ProductVersionConflictException se a versão atual for diferente da esperada
+     */
+    @Transactional
+    public Product updateProductQuantity(String productSku, String storeId, Integer newQuantity, Long expectedVersion) {
         log.info("Atualizando quantidade: SKU={}, Loja={}, Nova quantidade={}", productSku, storeId, newQuantity);
         
-        Product product = findProductBySkuAndStore(productSku, storeId);
+        Product product = findProductForStockChange(productSku, storeId, true);
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            throw new ProductVersionConflictException(productSku, storeId, expectedVersion, product.getVersion());
+        }
         Integer previousQuantity = product.getQuantity();
+        Integer previousReservedQuantity = product.getReservedQuantity();
         
         product.updateQuantity(newQuantity);
-        Product savedProduct = productRepository.save(product);
+        Product savedProduct = persistStockChange(product, StockMovement.MovementType.ADJUSTMENT,
+                previousQuantity, previousReservedQuantity);
 
         InventoryUpdateEvent event = InventoryUpdateEvent.builder()
             .eventId(UUID.randomUUID())
@@ -158,6 +220,7 @@ public class InventoryDomainService {
             .reservedQuantity(savedProduct.getReservedQuantity())
             .timestamp(LocalDateTime.now())
             .details("Quantidade atualizada manualmente")
+            .sequence(savedProduct.getVersion())
             .build();
         eventPublisher.publishInventoryUpdateEventAsync(event);
         
@@ -166,6 +229,84 @@ public class InventoryDomainService {
         return savedProduct;
     }
     
+    /**
+     * Importa um lote de produtos na loja em uma única transação.
+     * Linhas repetidas do mesmo SKU são agregadas (prevalece a última) e apenas
+     * os produtos efetivamente alterados têm o near-cache invalidado, o índice
+     * de busca atualizado e, se o estoque mudou, um evento publicado.
+     * 
+     * @param storeId identificador da loja
+     * @param rows linhas do lote
+     * @return alterações aplicadas
+     * @throws IllegalArgumentException se a loja não for informada
+     */
+    @Transactional
+    public List<ProductImportChange> importProductBatch(String storeId, List<ProductImportRow> rows) {
+        if (storeId == null || storeId.isBlank()) {
+            throw new IllegalArgumentException("storeId é obrigatório para importação de produtos");
+        }
+        
+        Map<String, ProductImportRow> rowsBySku = new LinkedHashMap<>();
+        rows.forEach(row -> rowsBySku.put(row.sku(), row));
+        
+        List<ProductImportChange> changes = productRepository.upsertImportBatch(storeId, List.copyOf(rowsBySku.values()));
+        for (ProductImportChange change : changes) {
+            ProductImportRow row = rowsBySku.get(change.sku());
+            productCache.evict(change.sku(), storeId);
+            productSearchIndex.index(Product.builder()
+                    .sku(change.sku())
+                    .name(row != null ? row.name() : null)
+                    .storeId(storeId)
+                    .active(true)
+                    .build());
+            if (bulkImportEventsEnabled && change.stockChanged()) {
+                eventPublisher.publishInventoryUpdateEventAsync(importEvent(storeId, change));
+            }
+        }
+        if (!changes.isEmpty()) {
+            generationCounters.advanceAfterCommit(storeId);
+        }
+        
+        log.debug("Lote de importação aplicado: Loja={}, Linhas={}, Alterações={}", 
+                storeId, rows.size(), changes.size());
+        return changes;
+    }
+    
+    private InventoryUpdateEvent importEvent(String storeId, ProductImportChange change) {
+        return InventoryUpdateEvent.builder()
+            .eventId(UUID.randomUUID())
+            .productSku(change.sku())
+            .storeId(storeId)
+            .eventType(change.isRestock() 
+                    ? InventoryUpdateEvent.EventType.RESTOCK 
+                    : InventoryUpdateEvent.EventType.UPDATE)
+            .previousQuantity(change.previousQuantity() != null ? change.previousQuantity() : 0)
+            .newQuantity(change.newQuantity())
+            .reservedQuantity(change.reservedQuantity())
+            .timestamp(LocalDateTime.now())
+            .details("Quantidade atualizada por importação em massa")
+            .sequence(change.version())
+            .build();
+    }
+    
+    /**
+     * Exporta o catálogo completo da loja, entregando os produtos em ordem de SKU
+     * ao consumidor conforme são lidos do banco, em uma transação somente leitura.
+     * 
+     * @param storeId identificador da loja
+     * @param consumer consumidor de cada produto exportado
+     * @return quantidade de produtos exportados
+     * @throws IllegalArgumentException se a loja não for informada
+     */
+    @Transactional(readOnly = true)
+    public long exportCatalog(String storeId, Consumer<Product> consumer) {
+        if (storeId == null || storeId.isBlank()) {
+            throw new IllegalArgumentException("storeId é obrigatório para exportação do catálogo");
+        }
+        log.debug("Exportando catálogo da loja: {}", storeId);
+        return productRepository.forEachByStoreId(storeId, consumer);
+    }
+    
     /**
      * Busca produtos disponíveis na loja.
      * 
@@ -177,6 +318,60 @@ public class InventoryDomainService {
         return productRepository.findAvailableProductsByStoreId(storeId);
     }
     
+    /**
+     * Busca uma página de produtos disponíveis na loja, em ordem de SKU.
+     * Busca um produto além do tamanho da página para saber se há continuação.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param pageSize tamanho da página
+     * @return página de produtos com estoque disponível
+     */
+    public ProductPage<Product> findAvailableProducts(String storeId, String afterSku, int pageSize) {
+        log.debug("Buscando página de produtos disponíveis: loja={}, após SKU={}, tamanho={}", 
+                storeId, afterSku, pageSize);
+        List<Product> rows = productRepository.findAvailableProductsByStoreIdAfterSku(storeId, afterSku, pageSize + 1);
+        return ProductPage.fromOverfetch(rows, pageSize, Product::getSku);
+    }
+    
+    /**
+     * Busca uma página de produtos disponíveis na loja como visões somente leitura,
+     * projetadas diretamente pela consulta, para respostas de listagem.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param pageSize tamanho da página
+     * @return página de visões de produtos com estoque disponível
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<ProductView> findAvailableProductViews(String storeId, String afterSku, int pageSize) {
+        log.debug("Buscando página de visões de produtos disponíveis: loja={}, após SKU={}, tamanho={}", 
+                storeId, afterSku, pageSize);
+        List<ProductView> rows = productRepository.findAvailableProductViewsByStoreIdAfterSku(
+                storeId, afterSku, pageSize + 1);
+        return ProductPage.fromOverfetch(rows, pageSize, ProductView::sku);
+    }
+    
+    /**
+     * Busca uma página de produtos disponíveis na loja contendo apenas os
+     * campos selecionados, lidos diretamente pela consulta.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU da página anterior (null para a primeira página)
+     * @param pageSize tamanho da página
+     * @param selection campos selecionados
+     * @return página de linhas campo → valor
+     */
+    @Transactional(readOnly = true)
+    public ProductPage<Map<String, Object>> findAvailableProductFields(String storeId, String afterSku, int pageSize,
+                                                                       FieldSelection selection) {
+        log.debug("Buscando página de campos {} de produtos disponíveis: loja={}, após SKU={}, tamanho={}", 
+                selection.fields(), storeId, afterSku, pageSize);
+        List<Map<String, Object>> rows = productRepository.findAvailableProductFieldsByStoreIdAfterSku(
+                storeId, afterSku, pageSize + 1, selection);
+        return ProductPage.fromOverfetch(rows, pageSize, row -> (String) row.get(selection.keyField()));
+    }
+    
     /**
      * Busca produtos por nome.
      * 
@@ -185,55 +380,56 @@ public class InventoryDomainService {
      * @return lista de produtos encontrados
      */
     public List<Product> searchProductsByName(String name, String storeId) {
-        log.debug("Buscando produtos por nome: nome={}, loja={}", name, storeId);
-        return productRepository.findByNameContainingAndStoreId(name, storeId);
+        return searchProductsByName(name, storeId, null);
+    }
+    
+    /**
+     * Busca produtos por nome com limite de resultados.
+     * Com o índice de busca pronto, os SKUs são obtidos em memória já
+     * ordenados por relevância e apenas esses produtos são carregados.
+     * 
+     * @param name nome ou parte do nome
+     * @param storeId identificador da loja
+     * @param limit quantidade máxima de resultados (null para sem limite)
+     * @return lista de produtos encontrados
+     */
+    public List<Product> searchProductsByName(String name, String storeId, Integer limit) {
+        log.debug("Buscando produtos por nome: nome={}, loja={}, limite={}", name, storeId, limit);
+        int maxResults = limit != null ? limit : Integer.MAX_VALUE;
+        
+        if (!productSearchIndex.isReady()) {
+            return productRepository.findByNameContainingAndStoreId(name, storeId).stream()
+                    .limit(maxResults)
+                    .toList();
+        }
+        
+        List<String> skus = productSearchIndex.search(storeId, name, maxResults);
+        if (skus.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Product> productsBySku = productRepository.findBySkusAndStoreId(skus, storeId).stream()
+                .collect(Collectors.toMap(Product::getSku, Function.identity(), (first, second) -> first));
+        return skus.stream()
+                .map(productsBySku::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
     
     /**
      * Busca produtos no inventário baseado em critérios de filtro.
+     * Filtros, ordenação e limite são aplicados diretamente no banco.
      * 
      * @param searchRequest critérios de busca
      * @return lista de produtos que atendem aos critérios
+     * @throws IllegalArgumentException se a loja não for informada
      */
     public List<Product> searchInventory(InventorySearchRequest searchRequest) {
         log.debug("Buscando inventário com filtros: {}", searchRequest);
         
-        // Usa busca por nome se especificado, senão busca todos disponíveis
-        List<Product> allProducts;
-        if (searchRequest.getNameFilter().isPresent()) {
-            allProducts = productRepository.findByNameContainingAndStoreId(
-                searchRequest.getNameFilter().get(), "STORE_DEFAULT");
-        } else {
-            allProducts = productRepository.findAvailableProductsByStoreId("STORE_DEFAULT");
+        if (searchRequest.getStoreId() == null || searchRequest.getStoreId().isBlank()) {
+            throw new IllegalArgumentException("storeId é obrigatório para busca no inventário");
         }
-        
-        return allProducts.stream()
-                .filter(product -> {
-                    // Filtro por quantidade mínima
-                    if (searchRequest.getMinQuantity().isPresent()) {
-                        Integer minQuantity = searchRequest.getMinQuantity().get();
-                        if (product.getQuantity() < minQuantity) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filtro por preço mínimo
-                    if (searchRequest.getMinPrice().isPresent()) {
-                        if (product.getPrice().compareTo(searchRequest.getMinPrice().get()) < 0) {
-                            return false;
-                        }
-                    }
-                    
-                    // Filtro por preço máximo
-                    if (searchRequest.getMaxPrice().isPresent()) {
-                        if (product.getPrice().compareTo(searchRequest.getMaxPrice().get()) > 0) {
-                            return false;
-                        }
-                    }
-                    
-                    return true;
-                })
-                .collect(Collectors.toList());
+        return productRepository.searchInventory(searchRequest);
     }
     
     /**
@@ -245,13 +441,78 @@ public class InventoryDomainService {
      * @throws IllegalArgumentException se o produto não existir
      */
     public Product findProductBySkuAndStore(String productSku, String storeId) {
-        Optional<Product> product = productRepository.findBySkuAndStoreId(productSku, storeId);
-        if (product.isEmpty()) {
-            String message = String.format("Produto não encontrado: SKU=%s, Loja=%s", productSku, storeId);
-            log.error(message);
-            throw new IllegalArgumentException(message);
+        return productCache.get(productSku, storeId, () -> loadProduct(productSku, storeId));
+    }
+    
+    private Product loadProduct(String productSku, String storeId) {
+        Optional<Product> product = stockLedgerEnabled
+                ? productRepository.findBySkuAndStoreIdWithPendingMovements(productSku, storeId)
+                : productRepository.findBySkuAndStoreId(productSku, storeId);
+        return product.orElseThrow(() -> productNotFound(productSku, storeId));
+    }
+    
+    private IllegalArgumentException productNotFound(String productSku, String storeId) {
+        String message = String.format("Produto não encontrado: SKU=%s, Loja=%s", productSku, storeId);
+        log.error(message);
+        return new IllegalArgumentException(message);
+    }
+    
+    /**
+     * Carrega o produto para uma alteração de estoque.
+     * No modo ledger, serializa as alterações do produto via lock transacional
+     * antes de ler o snapshot com os deltas pendentes. Fora dele, quando a
+     * resposta não precisa de dados de catálogo, lê apenas os contadores.
+     * 
+     * @param productSku SKU do produto
+     * @param storeId identificador da loja
+     * @param catalogRequired se os atributos de catálogo devem ser carregados
+     * @return produto com quantidades efetivas
+     */
+    private Product findProductForStockChange(String productSku, String storeId, boolean catalogRequired) {
+        if (stockLedgerEnabled) {
+            productRepository.acquireStockLock(productSku, storeId);
+            return loadProduct(productSku, storeId);
+        }
+        if (catalogRequired) {
+            return loadProduct(productSku, storeId);
+        }
+        return productRepository.findStockBySkuAndStoreId(productSku, storeId)
+                .orElseThrow(() -> productNotFound(productSku, storeId));
+    }
+    
+    /**
+     * Persiste a alteração de estoque: atualiza apenas os contadores do produto
+     * ou, no modo ledger, apenas registra o movimento com os deltas da operação.
+     * O near-cache de produtos e a geração das listagens da loja são
+     * atualizados após o commit da transação.
+     * 
+     * @param product produto já alterado pela regra de domínio
+     * @param movementType tipo do movimento
+     * @param previousQuantity quantidade antes da operação
+     * @param previousReservedQuantity quantidade reservada antes da operação
+     * @return produto com o estado resultante
+     */
+    private Product persistStockChange(Product product, StockMovement.MovementType movementType,
+                                       Integer previousQuantity, Integer previousReservedQuantity) {
+        if (!stockLedgerEnabled) {
+            Product savedProduct = productRepository.saveStock(product);
+            productCache.refreshStock(savedProduct);
+            generationCounters.advanceAfterCommit(product.getStoreId());
+            return savedProduct;
+        }
+        
+        StockMovement movement = StockMovement.of(product, movementType, previousQuantity, previousReservedQuantity);
+        if (!movement.isEmpty()) {
+            StockMovement appended = productRepository.appendStockMovement(movement);
+            if (product.getVersion() != null) {
+                product.setVersion(product.getVersion() + 1);
+            }
+            log.debug("📒 Movimento registrado no ledger: posição={}, SKU={}, Tipo={}", 
+                    appended.getId(), product.getSku(), movementType);
+            productCache.refreshStock(product);
+            generationCounters.advanceAfterCommit(product.getStoreId());
         }
-        return product.get();
+        return product;
     }
     
     /**
@@ -273,6 +534,8 @@ public class InventoryDomainService {
         }
         
         Product savedProduct = productRepository.save(product);
+        productSearchIndex.index(savedProduct);
+        generationCounters.advanceAfterCommit(savedProduct.getStoreId());
         log.info("Produto criado com sucesso: ID={}, SKU={}", savedProduct.getId(), savedProduct.getSku());
         
         return savedProduct;
@@ -0,0 +1,97 @@
+package com.inventory.management.store.domain.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Contadores de geração das listagens de produtos por loja, mantidos em memória.
+ * Cada alteração confirmada avança a geração da loja afetada, permitindo
+ * responder a requisições condicionais das listagens sem consultar o banco.
+ * Os tokens incluem o identificador da instância e a janela de revalidação
+ * corrente, que limita por quanto tempo uma instância que não executou a
+ * alteração pode considerar a listagem inalterada.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class InventoryGenerationCounters {
+    
+    private static final String SEPARATOR = "-";
+    
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Long> storeGenerations = new ConcurrentHashMap<>();
+    private final long revalidationWindowMillis;
+    private final LongSupplier clock;
+    
+    /**
+     * Geração comum a todas as lojas, avançada por alterações que não
+     * identificam a loja (ex.: compactação do ledger).
+     */
+    private volatile long baseGeneration;
+    
+    @Autowired
+    public InventoryGenerationCounters(
+            @Value("${app.inventory.conditional-get.revalidation-window:PT30S}") Duration revalidationWindow) {
+        this(revalidationWindow, System::currentTimeMillis);
+    }
+    
+    InventoryGenerationCounters(Duration revalidationWindow, LongSupplier clock) {
+        this.revalidationWindowMillis = revalidationWindow.toMillis();
+        this.clock = clock;
+    }
+    
+    /**
+     * Avança a geração da loja após o commit da transação corrente
+     * (ou imediatamente, fora de transação).
+     * 
+     * @param storeId identificador da loja
+     */
+    public void advanceAfterCommit(String storeId) {
+        afterCommit(() -> storeGenerations.merge(storeId, sequence.incrementAndGet(), Math::max));
+    }
+    
+    /**
+     * Avança a geração de todas as lojas após o commit da transação corrente.
+     */
+    public void advanceAllAfterCommit() {
+        afterCommit(() -> baseGeneration = sequence.incrementAndGet());
+    }
+    
+    /**
+     * @param storeId identificador da loja
+     * @return token da geração das listagens da loja
+     */
+    public String storeToken(String storeId) {
+        long generation = Math.max(baseGeneration, storeGenerations.getOrDefault(storeId, 0L));
+        if (revalidationWindowMillis <= 0) {
+            return instanceId + SEPARATOR + generation;
+        }
+        return instanceId + SEPARATOR + (clock.getAsLong() / revalidationWindowMillis) + SEPARATOR + generation;
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
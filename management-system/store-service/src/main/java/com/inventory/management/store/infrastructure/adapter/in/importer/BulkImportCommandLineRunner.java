@@ -0,0 +1,94 @@
+package com.inventory.management.store.infrastructure.adapter.in.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.store.application.dto.response.BulkImportResponse;
+import com.inventory.management.store.application.usecase.BulkImportProductsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Importação em massa de produtos pela linha de comando.
+ * Ativada quando {@code app.inventory.bulk-import.file} é informado, por exemplo:
+ * <pre>
+ * java -jar store-service.jar --spring.main.web-application-type=none \
+ *   --app.inventory.bulk-import.file=/dados/estoque.csv.gz \
+ *   --app.inventory.bulk-import.store-id=STORE-001
+ * </pre>
+ * O formato é deduzido da extensão (.csv ou .ndjson/.jsonl, com .gz opcional)
+ * e, ao final, a aplicação é encerrada com código 0 em caso de sucesso.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.inventory.bulk-import.file")
+public class BulkImportCommandLineRunner implements ApplicationRunner {
+    
+    private final BulkImportProductsUseCase bulkImportProductsUseCase;
+    private final ObjectMapper objectMapper;
+    private final ConfigurableApplicationContext applicationContext;
+    
+    @Value("${app.inventory.bulk-import.file}")
+    private String file;
+    
+    @Value("${app.inventory.bulk-import.store-id:}")
+    private String storeId;
+    
+    @Value("${app.inventory.bulk-import.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+    
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        BulkImportResponse response = importFile();
+        log.info("📦 Resultado da importação de {}: sucesso={}, linhas={}, rejeitadas={}, criados={}, " +
+                "atualizados={}, duração={}ms", file, response.isSuccess(), response.getRowsRead(),
+                response.getRowsRejected(), response.getProductsCreated(), response.getProductsUpdated(),
+                response.getDurationMs());
+        response.getErrors().forEach(error -> log.warn("⚠️ Linha rejeitada: {}", error));
+        
+        if (exitOnCompletion) {
+            int exitCode = response.isSuccess() ? 0 : 1;
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
+    }
+    
+    /**
+     * Lê o arquivo configurado e executa a importação.
+     * 
+     * @return resumo da importação
+     */
+    BulkImportResponse importFile() throws IOException {
+        if (storeId == null || storeId.isBlank()) {
+            throw new IllegalArgumentException("app.inventory.bulk-import.store-id é obrigatório para importar " + file);
+        }
+        Path path = Path.of(file);
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        ProductImportFormat format = ProductImportFormat.fromFileName(fileName);
+        log.info("📦 Importando arquivo: arquivo={}, formato={}, storeId={}", path, format, storeId);
+        
+        InputStream input = Files.newInputStream(path);
+        if (fileName.endsWith(".gz")) {
+            input = new GZIPInputStream(input);
+        }
+        try (ProductImportReader rows = ProductImportReader.open(input, format, objectMapper)) {
+            return bulkImportProductsUseCase.execute(storeId, rows);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.inventory.management.store.infrastructure.adapter.in.importer;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceitos na importação em massa de produtos.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ProductImportFormat {
+    
+    /**
+     * CSV com cabeçalho (sku, name, description, price, quantity).
+     */
+    CSV,
+    
+    /**
+     * Um objeto JSON por linha com os mesmos campos do CSV.
+     */
+    NDJSON;
+    
+    /**
+     * Resolve o formato a partir do Content-Type da requisição.
+     * 
+     * @param contentType Content-Type informado
+     * @return formato correspondente
+     * @throws IllegalArgumentException se o tipo não for suportado
+     */
+    public static ProductImportFormat fromContentType(String contentType) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (type.startsWith("application/x-ndjson")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Formato de importação não suportado: " + contentType);
+    }
+    
+    /**
+     * Resolve o formato a partir da extensão do arquivo, ignorando o sufixo .gz.
+     * 
+     * @param fileName nome do arquivo
+     * @return formato correspondente
+     * @throws IllegalArgumentException se a extensão não for suportada
+     */
+    public static ProductImportFormat fromFileName(String fileName) {
+        String name = fileName.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Extensão de arquivo não suportada para importação: " + fileName);
+    }
+}
@@ -0,0 +1,302 @@
+package com.inventory.management.store.infrastructure.adapter.in.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.store.domain.model.ProductImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Leitura em streaming das linhas de uma importação em massa (CSV ou NDJSON).
+ * Cada registro é lido apenas quando solicitado; um registro inválido faz
+ * {@link #next()} lançar IllegalArgumentException com o número da linha,
+ * sem interromper a leitura dos registros seguintes.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public abstract class ProductImportReader implements Iterator<ProductImportRow>, Closeable {
+    
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    
+    protected final BufferedReader reader;
+    protected long lineNumber;
+    private long recordLine;
+    private Object pending;
+    private boolean exhausted;
+    
+    protected ProductImportReader(InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Cria o leitor adequado ao formato informado.
+     * 
+     * @param input conteúdo a importar (não comprimido)
+     * @param format formato do conteúdo
+     * @param objectMapper mapper usado para NDJSON
+     * @return leitor de linhas de importação
+     */
+    public static ProductImportReader open(InputStream input, ProductImportFormat format, ObjectMapper objectMapper) {
+        return switch (format) {
+            case CSV -> new CsvReader(input);
+            case NDJSON -> new NdjsonReader(input, objectMapper);
+        };
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (pending != null) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        try {
+            pending = readRecord();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha na leitura do conteúdo da importação", e);
+        }
+        exhausted = pending == null;
+        return !exhausted;
+    }
+    
+    @Override
+    public ProductImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object record = pending;
+        pending = null;
+        try {
+            return parseRecord(record);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Linha " + recordLine + ": " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    /**
+     * Lê o próximo registro bruto, avançando {@link #lineNumber}.
+     * 
+     * @return registro bruto ou null no fim do conteúdo
+     */
+    protected abstract Object readRecord() throws IOException;
+    
+    /**
+     * Converte o registro bruto em linha de importação.
+     * 
+     * @throws IllegalArgumentException se o registro for inválido
+     */
+    protected abstract ProductImportRow parseRecord(Object record);
+    
+    /**
+     * Registra a linha atual como início do registro em leitura, usada nas mensagens de erro.
+     */
+    protected void markRecordStart() {
+        recordLine = lineNumber;
+    }
+    
+    protected String readLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK) {
+                line = line.substring(1);
+            }
+        }
+        return line;
+    }
+    
+    static BigDecimal parsePrice(String value) {
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Preço inválido: " + value);
+        }
+    }
+    
+    static Integer parseQuantity(String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new IllegalArgumentException("Quantidade inválida: " + value);
+        }
+    }
+    
+    /**
+     * CSV (RFC 4180) com cabeçalho; campos entre aspas podem conter vírgulas,
+     * aspas duplicadas e quebras de linha.
+     */
+    private static final class CsvReader extends ProductImportReader {
+        
+        private static final List<String> REQUIRED_COLUMNS = List.of("sku", "name", "price", "quantity");
+        
+        private Map<String, Integer> columns;
+        
+        CsvReader(InputStream input) {
+            super(input);
+        }
+        
+        @Override
+        protected Object readRecord() throws IOException {
+            if (columns == null) {
+                List<String> header = readFields();
+                if (header == null) {
+                    return null;
+                }
+                columns = indexColumns(header);
+            }
+            List<String> fields;
+            do {
+                fields = readFields();
+            } while (fields != null && fields.size() == 1 && fields.get(0).isBlank());
+            return fields;
+        }
+        
+        @Override
+        @SuppressWarnings("unchecked")
+        protected ProductImportRow parseRecord(Object record) {
+            List<String> fields = (List<String>) record;
+            String description = field(fields, "description");
+            return new ProductImportRow(
+                    field(fields, "sku"),
+                    field(fields, "name"),
+                    description == null || description.isEmpty() ? null : description,
+                    parsePrice(field(fields, "price")),
+                    parseQuantity(field(fields, "quantity")));
+        }
+        
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? fields.get(index) : null;
+        }
+        
+        private Map<String, Integer> indexColumns(List<String> header) {
+            Map<String, Integer> indexed = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                indexed.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!indexed.containsKey(column)) {
+                    throw new IllegalArgumentException("Cabeçalho CSV sem a coluna obrigatória: " + column);
+                }
+            }
+            return indexed;
+        }
+        
+        private List<String> readFields() throws IOException {
+            String line = readLine();
+            if (line == null) {
+                return null;
+            }
+            markRecordStart();
+            List<String> fields = new ArrayList<>();
+            StringBuilder current = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    String continuation = readLine();
+                    if (continuation == null) {
+                        throw new IllegalArgumentException("Linha " + lineNumber + ": aspas não fechadas no CSV");
+                    }
+                    current.append('\n');
+                    line = continuation;
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c == '"' && i < line.length() && line.charAt(i) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+            fields.add(current.toString());
+            return fields;
+        }
+    }
+    
+    /**
+     * Um objeto JSON por linha; linhas em branco são ignoradas.
+     */
+    private static final class NdjsonReader extends ProductImportReader {
+        
+        private final ObjectMapper objectMapper;
+        
+        NdjsonReader(InputStream input, ObjectMapper objectMapper) {
+            super(input);
+            this.objectMapper = objectMapper;
+        }
+        
+        @Override
+        protected Object readRecord() throws IOException {
+            String line;
+            do {
+                line = readLine();
+            } while (line != null && line.isBlank());
+            markRecordStart();
+            return line;
+        }
+        
+        @Override
+        protected ProductImportRow parseRecord(Object record) {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree((String) record);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("JSON inválido: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Cada linha deve conter um objeto JSON");
+            }
+            return new ProductImportRow(
+                    text(node, "sku"),
+                    text(node, "name"),
+                    text(node, "description"),
+                    parsePrice(text(node, "price")),
+                    parseQuantity(text(node, "quantity")));
+        }
+        
+        private String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : value.asText();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Utilitário para conversão entre a chave de continuação da paginação keyset
+ * (último SKU da página) e o token opaco exposto aos clientes.
+ * O token é o SKU prefixado pela versão do formato, codificado em Base64 URL-safe,
+ * permitindo evoluir a chave de ordenação sem quebrar clientes.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class ContinuationTokenSupport {
+    
+    private static final String FORMAT_PREFIX = "v1:";
+    
+    private ContinuationTokenSupport() {
+        // Utility class
+    }
+    
+    /**
+     * Gera o token de continuação para o SKU informado.
+     * 
+     * @param afterSku último SKU da página
+     * @return token opaco ou null se não houver próxima página
+     */
+    public static String encode(String afterSku) {
+        if (afterSku == null) {
+            return null;
+        }
+        byte[] raw = (FORMAT_PREFIX + afterSku).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+    
+    /**
+     * Extrai o SKU de continuação de um token recebido do cliente.
+     * 
+     * @param token token opaco (pode ser nulo)
+     * @return SKU de continuação ou null se o token estiver ausente
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static String decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + token);
+        }
+        if (!decoded.startsWith(FORMAT_PREFIX) || decoded.length() == FORMAT_PREFIX.length()) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + token);
+        }
+        return decoded.substring(FORMAT_PREFIX.length());
+    }
+}
@@ -0,0 +1,98 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+/**
+ * Utilitário para conversão entre versões de produto e cabeçalhos ETag/If-Match.
+ * As versões são expostas como entity tags fortes, por exemplo {@code "3"}.
+ * As listagens usam os tokens de geração da loja, validados por If-None-Match.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EntityTagSupport {
+    
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+    
+    private EntityTagSupport() {
+        // Utility class
+    }
+    
+    /**
+     * Converte a versão do produto em entity tag.
+     * 
+     * @param version versão do produto
+     * @return entity tag entre aspas ou null se a versão for nula
+     */
+    public static String toETag(Long version) {
+        return version != null ? "\"" + version + "\"" : null;
+    }
+    
+    /**
+     * Converte o token de geração de uma listagem em entity tag forte.
+     * 
+     * @param token token de geração
+     * @return entity tag entre aspas
+     */
+    public static String generationETag(String token) {
+        return "\"" + token + "\"";
+    }
+    
+    /**
+     * Verifica se o cabeçalho If-None-Match corresponde à entity tag atual.
+     * Aceita listas separadas por vírgula, o curinga e tags fracas
+     * (comparação fraca, conforme a RFC 9110 para If-None-Match).
+     * 
+     * @param ifNoneMatch valor do cabeçalho (pode ser nulo)
+     * @param eTag entity tag atual
+     * @return true se o conteúdo do cliente ainda é o atual
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (WILDCARD.equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith(WEAK_PREFIX)) {
+                tag = tag.substring(WEAK_PREFIX.length());
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Extrai a versão esperada de um cabeçalho If-Match.
+     * 
+     * @param ifMatch valor do cabeçalho (pode ser nulo)
+     * @return versão esperada ou null se o cabeçalho estiver ausente ou for curinga
+     * @throws IllegalArgumentException se o cabeçalho não contiver uma versão válida
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+        
+        String tag = ifMatch.trim();
+        if (WILDCARD.equals(tag)) {
+            return null;
+        }
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+    }
+}
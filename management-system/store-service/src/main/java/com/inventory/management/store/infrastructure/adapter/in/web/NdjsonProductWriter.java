@@ -0,0 +1,71 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.store.domain.model.Product;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve produtos como NDJSON (um objeto JSON por linha) diretamente no
+ * stream de resposta, opcionalmente comprimido com gzip.
+ * A primeira linha é enviada imediatamente e as demais em blocos,
+ * sem acumular o conteúdo em memória.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class NdjsonProductWriter {
+    
+    static final int FLUSH_EVERY = 500;
+    
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final byte LINE_SEPARATOR = '\n';
+    
+    private final ObjectMapper objectMapper;
+    private final OutputStream output;
+    private long written;
+    
+    NdjsonProductWriter(ObjectMapper objectMapper, OutputStream output, boolean gzip) throws IOException {
+        this.objectMapper = objectMapper;
+        this.output = gzip ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE, true) : output;
+    }
+    
+    /**
+     * Escreve um produto como uma linha NDJSON.
+     * 
+     * @param product produto a ser escrito
+     * @throws UncheckedIOException se a escrita falhar (ex.: cliente desconectado)
+     */
+    void write(Product product) {
+        try {
+            output.write(objectMapper.writeValueAsBytes(product));
+            output.write(LINE_SEPARATOR);
+            written++;
+            if (written == 1 || written % FLUSH_EVERY == 0) {
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao escrever produto na exportação: " + product.getSku(), e);
+        }
+    }
+    
+    /**
+     * Finaliza a escrita, concluindo o trailer gzip quando aplicável.
+     * 
+     * @throws IOException se a escrita falhar
+     */
+    void finish() throws IOException {
+        if (output instanceof GZIPOutputStream gzipOutput) {
+            gzipOutput.finish();
+        }
+        output.flush();
+    }
+    
+    long getWritten() {
+        return written;
+    }
+}
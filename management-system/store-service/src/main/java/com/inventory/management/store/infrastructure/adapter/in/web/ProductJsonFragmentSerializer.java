@@ -0,0 +1,56 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.infrastructure.adapter.out.cache.ProductJsonFragmentCache;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+
+/**
+ * Serializador de produtos das respostas de leitura que escreve o fragmento
+ * JSON pré-serializado do {@link ProductJsonFragmentCache} diretamente no
+ * gerador, transformando a listagem em concatenação de bytes.
+ * Fora do contexto Spring (sem cache) ou em formatos que não são JSON
+ * textual (CBOR, Smile), serializa o produto normalmente.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ProductJsonFragmentSerializer extends StdSerializer<Object> {
+    
+    private final transient ProductJsonFragmentCache fragmentCache;
+    
+    public ProductJsonFragmentSerializer() {
+        this(null);
+    }
+    
+    @Autowired
+    public ProductJsonFragmentSerializer(ProductJsonFragmentCache fragmentCache) {
+        super(Object.class);
+        this.fragmentCache = fragmentCache;
+    }
+    
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        boolean textualJson = gen instanceof JsonGeneratorImpl;
+        SerializableString fragment = fragmentCache == null || !textualJson ? null : switch (value) {
+            case Product product -> fragmentCache.get(product.getStoreId(), product.getSku(),
+                    product.getVersion(), product);
+            case ProductView view -> fragmentCache.get(view.storeId(), view.sku(), view.version(), view);
+            default -> null;
+        };
+        
+        if (fragment != null) {
+            gen.writeRawValue(fragment);
+        } else {
+            provider.defaultSerializeValue(value, gen);
+        }
+    }
+}
@@ -1,16 +1,26 @@
 package com.inventory.management.store.infrastructure.adapter.in.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inventory.management.store.application.dto.request.CancelReservationRequest;
 import com.inventory.management.store.application.dto.request.CommitProductRequest;
 import com.inventory.management.store.application.dto.request.GetProductRequest;
 import com.inventory.management.store.application.dto.request.ReserveProductRequest;
 import com.inventory.management.store.application.dto.request.SearchProductsRequest;
 import com.inventory.management.store.application.dto.request.UpdateProductQuantityRequest;
+import com.inventory.management.store.application.dto.response.BulkImportResponse;
+import com.inventory.management.store.application.usecase.BulkImportProductsUseCase;
 import com.inventory.management.store.application.usecase.CancelReservationUseCase;
 import com.inventory.management.store.application.usecase.CommitProductUseCase;
+import com.inventory.management.store.application.usecase.ExportCatalogUseCase;
 import com.inventory.management.store.application.usecase.ReserveProductUseCase;
 import com.inventory.management.store.application.usecase.SearchProductsUseCase;
 import com.inventory.management.store.application.usecase.UpdateProductQuantityUseCase;
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
+import com.inventory.management.store.domain.model.FieldSelection;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.service.InventoryGenerationCounters;
+import com.inventory.management.store.infrastructure.adapter.in.importer.ProductImportFormat;
+import com.inventory.management.store.infrastructure.adapter.in.importer.ProductImportReader;
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.request.CancelRequest;
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.request.CommitRequest;
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.request.ReserveRequest;
@@ -21,6 +31,7 @@ import com.inventory.management.store.infrastructure.adapter.in.web.dto.response
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.response.ProductResponse;
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.response.ReservationResponse;
 import com.inventory.management.store.infrastructure.adapter.in.web.dto.response.UpdateQuantityResponse;
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,12 +39,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Controlador REST para operações de inventário da loja.
@@ -55,42 +76,175 @@ public class StoreInventoryController {
     private final CommitProductUseCase commitProductUseCase;
     private final CancelReservationUseCase cancelReservationUseCase;
     private final UpdateProductQuantityUseCase updateProductQuantityUseCase;
+    private final ExportCatalogUseCase exportCatalogUseCase;
+    private final BulkImportProductsUseCase bulkImportProductsUseCase;
+    private final BusinessMetrics businessMetrics;
+    private final ObjectMapper objectMapper;
+    private final InventoryGenerationCounters generationCounters;
     
     /**
      * Busca produtos disponíveis na loja.
+     * Sem filtro de nome, a listagem é paginada: a resposta traz o token
+     * {@code nextCursor} a ser enviado em {@code cursor} para obter a próxima página.
+     * A resposta traz uma ETag baseada na geração da loja; requisições com
+     * If-None-Match correspondente recebem 304 sem acesso ao banco. Com
+     * {@code fields}, cada produto traz apenas os campos informados (o SKU é
+     * sempre incluído) e a listagem lê do banco somente essas colunas.
      * 
      * @param storeId identificador da loja
      * @param name nome do produto para filtrar (opcional)
+     * @param limit tamanho máximo da página / quantidade de resultados
+     * @param cursor token de continuação da página anterior (opcional)
+     * @param fields campos a retornar, separados por vírgula (opcional)
+     * @param ifNoneMatch ETag obtida na consulta anterior (opcional)
      * @return lista de produtos disponíveis
      */
     @GetMapping("/products")
     @Operation(summary = "Buscar produtos", 
-               description = "Busca produtos disponíveis na loja, opcionalmente filtrados por nome")
+               description = "Busca produtos disponíveis na loja, opcionalmente filtrados por nome. " +
+                             "Sem filtro de nome, a listagem é paginada por cursor")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Produtos encontrados com sucesso",
                     content = @Content(schema = @Schema(implementation = ProductListResponse.class))),
-        @ApiResponse(responseCode = "400", description = "Parâmetros inválidos"),
+        @ApiResponse(responseCode = "304", description = "Listagem não alterada"),
+        @ApiResponse(responseCode = "400", description = "Parâmetros, cursor ou campos inválidos"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<ProductListResponse> searchProducts(
             @Parameter(description = "ID da loja", required = true)
             @PathVariable String storeId,
             @Parameter(description = "Nome do produto para filtrar")
-            @RequestParam(required = false) String name) {
+            @RequestParam(required = false) String name,
+            @Parameter(description = "Quantidade máxima de resultados")
+            @RequestParam(required = false) @Min(1) Integer limit,
+            @Parameter(description = "Token de continuação retornado na página anterior")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: sku,availableQuantity)")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "ETag obtida na consulta anterior")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
-        log.info("Buscando produtos na loja: storeId={}, name={}", storeId, name);
+        log.info("Buscando produtos na loja: storeId={}, name={}, limit={}, cursor={}, fields={}", 
+                storeId, name, limit, cursor, fields);
+        
+        String afterSku;
+        FieldSelection selection;
+        try {
+            afterSku = ContinuationTokenSupport.decode(cursor);
+            selection = FieldSelection.parse(fields, ProductView.FIELDS);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ProductListResponse.error(e.getMessage()));
+        }
         
-        var request = new SearchProductsRequest(storeId, name);
+        String token = generationCounters.storeToken(storeId);
+        String eTag = EntityTagSupport.generationETag(selection == null ? token : token + "-" + selection.fingerprint());
+        if (EntityTagSupport.matchesIfNoneMatch(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        
+        if (name == null || name.isBlank()) {
+            ProductListResponse body = selection == null
+                ? ProductListResponse.from(searchProductsUseCase.listAvailableProducts(storeId, afterSku, limit))
+                : ProductListResponse.from(
+                    searchProductsUseCase.listAvailableProductFields(storeId, afterSku, limit, selection));
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(body);
+        }
+        
+        var request = new SearchProductsRequest(storeId, name, limit, afterSku);
         var response = searchProductsUseCase.execute(request);
         
         if (response.isSuccess()) {
-            return ResponseEntity.ok(ProductListResponse.from(response));
+            return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT)
+                .body(ProductListResponse.from(response, selection));
         } else {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ProductListResponse.error(response.getMessage()));
         }
     }
     
+    /**
+     * Exporta o catálogo completo da loja em NDJSON (um produto por linha).
+     * Os produtos são lidos com cursor no servidor e escritos diretamente na
+     * resposta, com compressão gzip quando o cliente a aceita.
+     * 
+     * @param storeId identificador da loja
+     * @param acceptEncoding cabeçalho Accept-Encoding do cliente
+     * @return corpo da resposta gerado sob demanda
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar catálogo", 
+               description = "Exporta todos os produtos da loja em NDJSON, ordenados por SKU, em streaming")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Catálogo exportado em streaming"),
+        @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    public ResponseEntity<StreamingResponseBody> exportCatalog(
+            @Parameter(description = "ID da loja", required = true)
+            @PathVariable String storeId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        boolean gzip = acceptsGzip(acceptEncoding);
+        log.info("Exportando catálogo da loja: storeId={}, gzip={}", storeId, gzip);
+        
+        StreamingResponseBody body = outputStream -> {
+            NdjsonProductWriter writer = new NdjsonProductWriter(objectMapper, outputStream, gzip);
+            exportCatalogUseCase.execute(storeId, writer::write);
+            writer.finish();
+        };
+        
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+    }
+    
+    /**
+     * Importa produtos e estoque em massa a partir de CSV ou NDJSON enviado no
+     * corpo da requisição (opcionalmente comprimido com gzip). O conteúdo é
+     * lido em streaming e gravado em lotes; a quantidade importada substitui
+     * a atual.
+     * 
+     * @param storeId identificador da loja
+     * @param contentType formato do conteúdo (text/csv ou application/x-ndjson)
+     * @param contentEncoding cabeçalho Content-Encoding da requisição
+     * @param body conteúdo a importar
+     * @return resumo da importação
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Importar produtos em massa", 
+               description = "Cria ou atualiza produtos e quantidades da loja a partir de CSV ou NDJSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Importação concluída",
+                    content = @Content(schema = @Schema(implementation = BulkImportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Formato ou cabeçalho inválido"),
+        @ApiResponse(responseCode = "500", description = "Importação interrompida")
+    })
+    public ResponseEntity<BulkImportResponse> importProducts(
+            @Parameter(description = "ID da loja", required = true)
+            @PathVariable String storeId,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            InputStream body) throws IOException {
+        
+        ProductImportFormat format = ProductImportFormat.fromContentType(contentType);
+        log.info("Importando produtos em massa: storeId={}, formato={}, encoding={}", storeId, format, contentEncoding);
+        
+        InputStream input = acceptsGzip(contentEncoding) ? new GZIPInputStream(body) : body;
+        try (ProductImportReader rows = ProductImportReader.open(input, format, objectMapper)) {
+            BulkImportResponse response = bulkImportProductsUseCase.execute(storeId, rows);
+            return response.isSuccess()
+                ? ResponseEntity.ok(response)
+                : ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+    
     /**
      * Busca um produto específico por SKU.
      * 
@@ -120,7 +274,8 @@ public class StoreInventoryController {
         var response = searchProductsUseCase.getProductBySku(request);
         
         if (response.isSuccess()) {
-            return ResponseEntity.ok(ProductResponse.from(response.getProduct()));
+            return withETag(ResponseEntity.ok(), response.getProduct().getVersion())
+                .body(ProductResponse.from(response.getProduct()));
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(ProductResponse.error(response.getMessage()));
@@ -143,6 +298,8 @@ public class StoreInventoryController {
                     content = @Content(schema = @Schema(implementation = ReservationResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou estoque insuficiente"),
         @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Conflito de concorrência não resolvido"),
+        @ApiResponse(responseCode = "429", description = "Cota de reservas do cliente excedida"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<ReservationResponse> reserveProduct(
@@ -165,6 +322,9 @@ public class StoreInventoryController {
         
         if (response.isSuccess()) {
             return ResponseEntity.ok(ReservationResponse.from(response));
+        } else if (response.isQuotaExceeded()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .body(ReservationResponse.error(response.getMessage()));
         } else {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(ReservationResponse.error(response.getMessage()));
@@ -187,6 +347,7 @@ public class StoreInventoryController {
                     content = @Content(schema = @Schema(implementation = CommitResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou quantidade reservada insuficiente"),
         @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Conflito de concorrência não resolvido"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<CommitResponse> commitProduct(
@@ -225,6 +386,7 @@ public class StoreInventoryController {
                     content = @Content(schema = @Schema(implementation = CancelResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou quantidade reservada insuficiente"),
         @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Conflito de concorrência não resolvido"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<CancelResponse> cancelReservation(
@@ -257,12 +419,15 @@ public class StoreInventoryController {
      */
     @PutMapping("/products/{sku}/quantity")
     @Operation(summary = "Atualizar quantidade", 
-               description = "Atualiza a quantidade total em estoque de um produto")
+               description = "Atualiza a quantidade total em estoque de um produto. " +
+                             "Aceita If-Match com o ETag retornado na consulta do produto.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Quantidade atualizada com sucesso",
                     content = @Content(schema = @Schema(implementation = UpdateQuantityResponse.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
         @ApiResponse(responseCode = "404", description = "Produto não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Conflito de concorrência não resolvido"),
+        @ApiResponse(responseCode = "412", description = "Versão do produto divergente do If-Match"),
         @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     public ResponseEntity<UpdateQuantityResponse> updateProductQuantity(
@@ -270,21 +435,65 @@ public class StoreInventoryController {
             @PathVariable String storeId,
             @Parameter(description = "SKU do produto", required = true)
             @PathVariable String sku,
+            @Parameter(description = "ETag da versão esperada do produto")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateQuantityRequest request) {
         
-        log.info("Atualizando quantidade: storeId={}, sku={}, newQuantity={}", storeId, sku, request.getNewQuantity());
+        log.info("Atualizando quantidade: storeId={}, sku={}, newQuantity={}, ifMatch={}", 
+                storeId, sku, request.getNewQuantity(), ifMatch);
+        
+        Long expectedVersion;
+        try {
+            expectedVersion = EntityTagSupport.parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            businessMetrics.recordPreconditionFailed();
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(UpdateQuantityResponse.error(e.getMessage()));
+        }
         
-        var useCaseRequest = new UpdateProductQuantityRequest(sku, storeId, request.getNewQuantity());
+        var useCaseRequest = new UpdateProductQuantityRequest(sku, storeId, request.getNewQuantity(), expectedVersion);
         var response = updateProductQuantityUseCase.execute(useCaseRequest);
         
         if (response.isSuccess()) {
-            return ResponseEntity.ok(UpdateQuantityResponse.from(response));
+            return withETag(ResponseEntity.ok(), response.getVersion())
+                .body(UpdateQuantityResponse.from(response));
+        } else if (response.isVersionConflict()) {
+            businessMetrics.recordPreconditionFailed();
+            return withETag(ResponseEntity.status(HttpStatus.PRECONDITION_FAILED), response.getVersion())
+                .body(UpdateQuantityResponse.error(response.getMessage()));
         } else {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(UpdateQuantityResponse.error(response.getMessage()));
         }
     }
     
+    private ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Long version) {
+        String eTag = EntityTagSupport.toETag(version);
+        return eTag != null ? builder.eTag(eTag) : builder;
+    }
+    
+    /**
+     * Responde ao conflito de versão que persistiu após as novas tentativas.
+     * Com If-Match o cliente condicionou a escrita a uma versão, então o
+     * conflito é informado como pré-condição falha (412); sem ele, como 409.
+     * 
+     * @param ex conflito não resolvido
+     * @param request requisição HTTP
+     * @return resposta de conflito
+     */
+    @ExceptionHandler(ConcurrencyConflictException.class)
+    public ResponseEntity<ProductListResponse> handleConcurrencyConflict(ConcurrencyConflictException ex,
+                                                                         HttpServletRequest request) {
+        log.warn("Conflito de concorrência não resolvido: {} {}", request.getMethod(), request.getRequestURI());
+        if (request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            businessMetrics.recordPreconditionFailed();
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                    .body(ProductListResponse.error(ex.getMessage()));
+        }
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ProductListResponse.error(ex.getMessage()));
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProductListResponse> handleException(Exception ex) {
         log.error("Erro inesperado no controller: {}", ex.getMessage(), ex);
@@ -1,7 +1,12 @@
 package com.inventory.management.store.infrastructure.adapter.in.web.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.inventory.management.store.application.dto.response.SearchProductsResponse;
-import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.FieldSelection;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.infrastructure.adapter.in.web.ContinuationTokenSupport;
+import com.inventory.management.store.infrastructure.adapter.in.web.ProductJsonFragmentSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +16,8 @@ import java.util.List;
 
 /**
  * DTO de resposta para busca de lista de produtos.
+ * Os produtos são visões completas ou, quando a requisição seleciona
+ * campos, mapas contendo apenas os campos selecionados.
  * 
  * @author Renan Vieira Lima
  * @version 1.0.0
@@ -23,16 +30,42 @@ import java.util.List;
 public class ProductListResponse {
     
     private boolean success;
-    private List<Product> products;
+    @JsonSerialize(contentUsing = ProductJsonFragmentSerializer.class)
+    private List<?> products;
     private int totalFound;
     private String message;
+    private String nextCursor;
     
     public static ProductListResponse from(SearchProductsResponse response) {
         return new ProductListResponse(
             response.isSuccess(),
-            response.getProducts(),
+            response.getProducts().stream().map(ProductView::from).toList(),
             response.getTotalFound(),
-            response.getMessage()
+            response.getMessage(),
+            ContinuationTokenSupport.encode(response.getNextAfterSku())
+        );
+    }
+    
+    public static ProductListResponse from(SearchProductsResponse response, FieldSelection selection) {
+        if (selection == null) {
+            return from(response);
+        }
+        return new ProductListResponse(
+            response.isSuccess(),
+            response.getProducts().stream().map(product -> ProductView.from(product).select(selection)).toList(),
+            response.getTotalFound(),
+            response.getMessage(),
+            ContinuationTokenSupport.encode(response.getNextAfterSku())
+        );
+    }
+    
+    public static ProductListResponse from(ProductPage<?> page) {
+        return new ProductListResponse(
+            true,
+            page.products(),
+            page.products().size(),
+            "Busca realizada com sucesso",
+            ContinuationTokenSupport.encode(page.nextAfterSku())
         );
     }
     
@@ -41,7 +74,8 @@ public class ProductListResponse {
             false,
             List.of(),
             0,
-            message
+            message,
+            null
         );
     }
 }
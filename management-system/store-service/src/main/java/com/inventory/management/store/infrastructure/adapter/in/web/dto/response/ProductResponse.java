@@ -1,6 +1,8 @@
 package com.inventory.management.store.infrastructure.adapter.in.web.dto.response;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.infrastructure.adapter.in.web.ProductJsonFragmentSerializer;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,6 +22,7 @@ import lombok.Setter;
 public class ProductResponse {
     
     private boolean success;
+    @JsonSerialize(using = ProductJsonFragmentSerializer.class)
     private Product product;
     private String message;
     
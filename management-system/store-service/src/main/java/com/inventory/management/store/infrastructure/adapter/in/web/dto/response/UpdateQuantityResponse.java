@@ -28,6 +28,7 @@ public class UpdateQuantityResponse {
     private Integer totalQuantity;
     private Integer reservedQuantity;
     private Integer availableQuantity;
+    private Long version;
     
     /**
      * Converte response do use case para response da API.
@@ -41,6 +42,7 @@ public class UpdateQuantityResponse {
             .totalQuantity(response.getTotalQuantity())
             .reservedQuantity(response.getReservedQuantity())
             .availableQuantity(response.getAvailableQuantity())
+            .version(response.getVersion())
             .build();
     }
     
@@ -0,0 +1,107 @@
+package com.inventory.management.store.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Cache de fragmentos JSON pré-serializados de produtos.
+ * Guarda, por (loja, SKU), o JSON já codificado em UTF-8 da última versão
+ * serializada do produto, permitindo que as respostas de leitura copiem os
+ * bytes em vez de repetir a serialização Jackson. Um fragmento só é
+ * reaproveitado para a mesma versão do produto; alterações de catálogo,
+ * que não mudam a versão, invalidam a entrada explicitamente.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+public class ProductJsonFragmentCache {
+    
+    private static final String KEY_SEPARATOR = "|";
+    
+    private final Cache<String, JsonFragment> cache;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    
+    public ProductJsonFragmentCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.json-fragment-cache.enabled:true}") boolean enabled,
+            @Value("${app.inventory.json-fragment-cache.maximum-size:50000}") long maximumSize,
+            @Value("${app.inventory.json-fragment-cache.ttl:PT5M}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-json-fragment-cache");
+    }
+    
+    /**
+     * Obtém o fragmento JSON do produto na versão informada, serializando
+     * e armazenando o valor quando não houver fragmento dessa versão.
+     * 
+     * @param storeId identificador da loja
+     * @param sku SKU do produto
+     * @param version versão do produto
+     * @param value produto a ser serializado em caso de ausência
+     * @return fragmento JSON ou null se o cache estiver desabilitado ou o produto não tiver versão
+     * @throws JsonProcessingException se a serialização falhar
+     */
+    public SerializableString get(String storeId, String sku, Long version, Object value)
+            throws JsonProcessingException {
+        if (!enabled || version == null) {
+            return null;
+        }
+        
+        String key = key(storeId, sku);
+        JsonFragment cached = cache.getIfPresent(key);
+        if (cached != null && cached.version() == version) {
+            return cached.json();
+        }
+        
+        SerializedString json = new SerializedString(objectMapper.writeValueAsString(value));
+        json.asUnquotedUTF8();
+        cache.asMap().merge(key, new JsonFragment(version, json), ProductJsonFragmentCache::newest);
+        return json;
+    }
+    
+    /**
+     * Remove o fragmento do produto, qualquer que seja a versão armazenada.
+     * 
+     * @param storeId identificador da loja
+     * @param sku SKU do produto
+     */
+    public void invalidate(String storeId, String sku) {
+        if (enabled) {
+            cache.invalidate(key(storeId, sku));
+        }
+    }
+    
+    private static JsonFragment newest(JsonFragment existing, JsonFragment serialized) {
+        return existing.version() > serialized.version() ? existing : serialized;
+    }
+    
+    private static String key(String storeId, String sku) {
+        return storeId + KEY_SEPARATOR + sku;
+    }
+    
+    /**
+     * Fragmento JSON (com os bytes UTF-8 já calculados) de uma versão do produto.
+     */
+    private record JsonFragment(long version, SerializedString json) {
+    }
+}
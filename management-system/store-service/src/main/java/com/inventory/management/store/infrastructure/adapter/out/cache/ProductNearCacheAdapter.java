@@ -0,0 +1,247 @@
+package com.inventory.management.store.infrastructure.adapter.out.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.port.ProductCache;
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Near-cache de produtos em memória, baseado em Caffeine.
+ * Reduz a leitura de produto por (loja, SKU) a um acesso local, com
+ * tamanho máximo e TTL configuráveis. Alterações de estoque são aplicadas
+ * à entrada local após o commit e propagadas às demais instâncias como
+ * invalidação via Redis pub/sub. Com o circuit breaker do banco local
+ * aberto, entradas expiradas continuam sendo servidas até o fim da
+ * janela de tolerância (stale-while-revalidate). Remoções de produto
+ * também invalidam o fragmento JSON pré-serializado correspondente.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@Slf4j
+public class ProductNearCacheAdapter implements ProductCache {
+    
+    private static final String KEY_SEPARATOR = "|";
+    
+    private final Cache<String, CachedProduct> cache;
+    private final CircuitBreaker localDatabaseCircuitBreaker;
+    private final StringRedisTemplate redisTemplate;
+    private final ProductJsonFragmentCache fragmentCache;
+    private final BusinessMetrics businessMetrics;
+    private final Ticker ticker;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final String invalidationChannel;
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    @Autowired
+    public ProductNearCacheAdapter(
+            @Qualifier("localDatabaseCircuitBreaker") CircuitBreaker localDatabaseCircuitBreaker,
+            StringRedisTemplate redisTemplate,
+            ProductJsonFragmentCache fragmentCache,
+            BusinessMetrics businessMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${app.inventory.near-cache.enabled:true}") boolean enabled,
+            @Value("${app.inventory.near-cache.maximum-size:50000}") long maximumSize,
+            @Value("${app.inventory.near-cache.ttl:PT30S}") Duration ttl,
+            @Value("${app.inventory.near-cache.stale-ttl:PT5M}") Duration staleTtl,
+            @Value("${app.inventory.near-cache.invalidation-channel:inventory:product-cache:invalidate}") 
+            String invalidationChannel) {
+        this(localDatabaseCircuitBreaker, redisTemplate, fragmentCache, businessMetrics, meterRegistry, enabled,
+                maximumSize, ttl, staleTtl, invalidationChannel, Ticker.systemTicker());
+    }
+    
+    ProductNearCacheAdapter(CircuitBreaker localDatabaseCircuitBreaker, StringRedisTemplate redisTemplate,
+                            ProductJsonFragmentCache fragmentCache, BusinessMetrics businessMetrics,
+                            MeterRegistry meterRegistry, boolean enabled, long maximumSize, Duration ttl,
+                            Duration staleTtl, String invalidationChannel, Ticker ticker) {
+        this.localDatabaseCircuitBreaker = localDatabaseCircuitBreaker;
+        this.redisTemplate = redisTemplate;
+        this.fragmentCache = fragmentCache;
+        this.businessMetrics = businessMetrics;
+        this.ticker = ticker;
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.invalidationChannel = invalidationChannel;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl.plus(staleTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "product-near-cache");
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Product get(String sku, String storeId, Supplier<Product> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        
+        String key = key(storeId, sku);
+        CachedProduct cached = cache.getIfPresent(key);
+        if (cached != null && isFresh(cached)) {
+            return copy(cached.product());
+        }
+        if (cached != null && isDatabaseUnavailable()) {
+            return serveStale(cached, sku, storeId);
+        }
+        
+        Product loaded;
+        try {
+            loaded = localDatabaseCircuitBreaker.executeSupplier(loader::get);
+        } catch (IllegalArgumentException e) {
+            cache.invalidate(key);
+            throw e;
+        } catch (RuntimeException e) {
+            if (cached != null) {
+                return serveStale(cached, sku, storeId);
+            }
+            throw e;
+        }
+        
+        CachedProduct fresh = new CachedProduct(copy(loaded), ticker.read());
+        cache.asMap().merge(key, fresh, ProductNearCacheAdapter::newest);
+        return loaded;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void refreshStock(Product product) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> {
+            String key = key(product.getStoreId(), product.getSku());
+            cache.asMap().computeIfPresent(key, (k, cached) -> {
+                Product current = cached.product();
+                if (product.getVersion() == null || current.getVersion() == null
+                        || product.getVersion() <= current.getVersion()) {
+                    return null;
+                }
+                Product updated = current.toBuilder()
+                        .quantity(product.getQuantity())
+                        .reservedQuantity(product.getReservedQuantity())
+                        .version(product.getVersion())
+                        .updatedAt(product.getUpdatedAt())
+                        .build();
+                return new CachedProduct(updated, ticker.read());
+            });
+            publishInvalidation(product.getStoreId(), product.getSku());
+        });
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void evict(String sku, String storeId) {
+        afterCommit(() -> {
+            fragmentCache.invalidate(storeId, sku);
+            if (enabled) {
+                cache.invalidate(key(storeId, sku));
+                publishInvalidation(storeId, sku);
+            }
+        });
+    }
+    
+    /**
+     * Processa uma invalidação recebida de outra instância via Redis pub/sub.
+     * 
+     * @param message mensagem no formato instância|loja|SKU, com um sufixo
+     *                opcional que identifica alterações de catálogo
+     */
+    public void onRemoteInvalidation(String message) {
+        String[] parts = message.split("\\" + KEY_SEPARATOR, 4);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        cache.invalidate(key(parts[1], parts[2]));
+        fragmentCache.invalidate(parts[1], parts[2]);
+        log.debug("Produto invalidado por outra instância: Loja={}, SKU={}", parts[1], parts[2]);
+    }
+    
+    private Product serveStale(CachedProduct cached, String sku, String storeId) {
+        businessMetrics.recordNearCacheStaleServed();
+        log.warn("⚠️ Banco local indisponível, servindo produto do cache expirado: SKU={}, Loja={}", sku, storeId);
+        return copy(cached.product());
+    }
+    
+    private void publishInvalidation(String storeId, String sku) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, 
+                    instanceId + KEY_SEPARATOR + storeId + KEY_SEPARATOR + sku);
+        } catch (Exception e) {
+            log.warn("⚠️ Falha ao publicar invalidação do cache de produtos: {}", e.getMessage());
+        }
+    }
+    
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private boolean isDatabaseUnavailable() {
+        CircuitBreaker.State state = localDatabaseCircuitBreaker.getState();
+        return state == CircuitBreaker.State.OPEN || state == CircuitBreaker.State.FORCED_OPEN;
+    }
+    
+    private boolean isFresh(CachedProduct cached) {
+        return ticker.read() - cached.loadedAtNanos() < ttlNanos;
+    }
+    
+    private static CachedProduct newest(CachedProduct existing, CachedProduct loaded) {
+        Long existingVersion = existing.product().getVersion();
+        Long loadedVersion = loaded.product().getVersion();
+        if (existingVersion != null && loadedVersion != null && existingVersion > loadedVersion) {
+            return existing;
+        }
+        return loaded;
+    }
+    
+    private static Product copy(Product product) {
+        return product.toBuilder().build();
+    }
+    
+    private static String key(String storeId, String sku) {
+        return storeId + KEY_SEPARATOR + sku;
+    }
+    
+    /**
+     * Entrada do cache com o instante de carregamento.
+     */
+    private record CachedProduct(Product product, long loadedAtNanos) {
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.retry.support.RetryTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -31,6 +33,13 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
     
+    /**
+     * Eventos transacionais publicados no tópico prioritário, consumido pelo
+     * serviço central em um container próprio que não espera atrás de cargas em massa.
+     */
+    private static final Set<InventoryUpdateEvent.EventType> PRIORITY_EVENT_TYPES =
+            EnumSet.of(InventoryUpdateEvent.EventType.RESERVE, InventoryUpdateEvent.EventType.COMMIT);
+    
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
     private final EventResilienceService resilienceService;
@@ -41,9 +50,15 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
     @Value("${app.kafka.topics.inventory-update:inventory-update}")
     private String inventoryUpdateTopic;
     
+    @Value("${app.kafka.topics.inventory-priority:inventory-update-priority}")
+    private String inventoryPriorityTopic;
+    
     @Value("${app.resilience.kafka.dlq.enabled:true}")
     private boolean dlqEnabled;
     
+    @Value("${app.kafka.partition-by-sku:false}")
+    private boolean partitionBySku;
+    
     /**
      * {@inheritDoc}
      */
@@ -55,9 +70,10 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
         try {
             String eventJson = serializeEvent(event);
             String partitionKey = buildPartitionKey(event);
+            String topic = resolveTopic(event);
             
             // Tentar publicar com retry automático
-            publishWithResilience(event, eventJson, partitionKey);
+            publishWithResilience(event, eventJson, topic, partitionKey);
             
         } catch (JsonProcessingException e) {
             log.error("❌ Erro na serialização do evento: eventId={}, erro={}", 
@@ -69,7 +85,7 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
     /**
      * Publica evento com estratégia de resiliência.
      */
-    private void publishWithResilience(InventoryUpdateEvent event, String eventJson, String partitionKey) {
+    private void publishWithResilience(InventoryUpdateEvent event, String eventJson, String topic, String partitionKey) {
         try {
             // Tentar publicar com retry template
             kafkaRetryTemplate.execute(context -> {
@@ -77,7 +93,7 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
                          context.getRetryCount() + 1, event.getEventId());
                 
                 CompletableFuture<SendResult<String, String>> future = 
-                    kafkaTemplate.send(inventoryUpdateTopic, partitionKey, eventJson);
+                    kafkaTemplate.send(topic, partitionKey, eventJson);
                 
                 // Aguardar resultado síncrono para capturar falhas imediatamente
                 SendResult<String, String> result = future.get();
@@ -100,7 +116,7 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
                     resilienceService.saveFailedEvent(
                         event.getEventId().toString(),
                         event.getEventType().toString(),
-                        inventoryUpdateTopic,
+                        topic,
                         partitionKey,
                         eventJson,
                         e.getMessage()
@@ -152,15 +168,37 @@ public class KafkaInventoryEventPublisher implements InventoryEventPublisher {
         return objectMapper.writeValueAsString(event);
     }
     
+    /**
+     * Resolve o tópico de destino do evento.
+     * 
+     * Reservas e confirmações de venda seguem pelo tópico prioritário para não
+     * aguardar o backlog de atualizações em massa de outras lojas. A ordem entre
+     * os dois tópicos é garantida no serviço central pela sequência por loja e produto.
+     * 
+     * @param event evento
+     * @return tópico de destino
+     */
+    private String resolveTopic(InventoryUpdateEvent event) {
+        return PRIORITY_EVENT_TYPES.contains(event.getEventType()) ? inventoryPriorityTopic : inventoryUpdateTopic;
+    }
+    
     /**
      * Constrói a chave de partição baseada no SKU e loja.
      * Isso garante que eventos do mesmo produto sempre vão para a mesma partição,
      * mantendo a ordem dos eventos.
      * 
+     * Com {@code app.kafka.partition-by-sku} a chave é apenas o SKU: todas as
+     * lojas de um produto caem na mesma partição e, portanto, no mesmo
+     * consumidor do serviço central, que agrega o produto sem disputar a linha
+     * com outras instâncias. A ordem por loja e produto é preservada.
+     * 
      * @param event evento
      * @return chave de partição
      */
     private String buildPartitionKey(InventoryUpdateEvent event) {
+        if (partitionBySku) {
+            return event.getProductSku();
+        }
         return String.format("%s:%s", event.getStoreId(), event.getProductSku());
     }
 }
@@ -0,0 +1,247 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Importação em massa de produtos via COPY do PostgreSQL.
+ * Cada lote é carregado por COPY em uma tabela temporária de staging e
+ * incorporado ao catálogo e ao estoque com um INSERT ... ON CONFLICT por
+ * tabela, usando a conexão da transação corrente. Linhas idênticas às já
+ * gravadas não são reescritas. Antes do estoque, os produtos do lote são
+ * bloqueados contra novos movimentos do ledger e contra a compactação.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCopyImporter {
+
+    static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS product_import_staging (" +
+            "sku VARCHAR(100) NOT NULL, name VARCHAR(255) NOT NULL, description TEXT, " +
+            "price DECIMAL(19,2) NOT NULL, quantity INTEGER NOT NULL) ON COMMIT DELETE ROWS";
+
+    static final String COPY_STAGING_SQL =
+            "COPY product_import_staging (sku, name, description, price, quantity) FROM STDIN WITH (FORMAT csv)";
+
+    static final String UPSERT_CATALOG_SQL =
+            "INSERT INTO store_service.product_catalog AS c (id, sku, name, description, price, store_id, active) " +
+            "SELECT uuid_generate_v4(), s.sku, s.name, s.description, s.price, ?, true " +
+            "FROM product_import_staging s " +
+            "ON CONFLICT (store_id, sku) DO UPDATE SET name = EXCLUDED.name, " +
+            "description = EXCLUDED.description, price = EXCLUDED.price, active = true " +
+            "WHERE (c.name, c.description, c.price, c.active) IS DISTINCT FROM " +
+            "(EXCLUDED.name, EXCLUDED.description, EXCLUDED.price, true) " +
+            "RETURNING c.sku, (c.xmax = 0) AS created";
+
+    /**
+     * Mesmo advisory lock (loja:sku) das reservas e confirmações no modo
+     * ledger, adquirido em ordem de SKU para evitar deadlock entre lotes.
+     * A subconsulta ordenada não é achatada, então a ordem é preservada.
+     */
+    static final String LOCK_STOCK_KEYS_SQL =
+            "SELECT pg_advisory_xact_lock(hashtext(k.lock_key)) FROM (" +
+            "SELECT ? || ':' || s.sku AS lock_key FROM product_import_staging s ORDER BY s.sku) k";
+
+    /**
+     * Bloqueia os snapshots de estoque do lote, impedindo que a compactação
+     * consolide movimentos e avance o ledger_position até o fim da transação.
+     */
+    static final String LOCK_STOCK_ROWS_SQL =
+            "SELECT st.product_id FROM store_service.product_stock st " +
+            "JOIN store_service.product_catalog c ON c.id = st.product_id " +
+            "JOIN product_import_staging s ON s.sku = c.sku " +
+            "WHERE c.store_id = ? ORDER BY st.product_id FOR UPDATE OF st";
+
+    /**
+     * Executado após os locks, em comando próprio: com READ COMMITTED o
+     * snapshot do comando já enxerga o ledger_position da linha bloqueada e
+     * todos os movimentos confirmados até ele. A quantidade gravada no snapshot desconta os deltas ainda não consolidados
+     * do ledger, de forma que a quantidade efetiva seja a importada. A versão
+     * devolvida também é a efetiva (snapshot + movimentos pendentes).
+     */
+    static final String UPSERT_STOCK_SQL =
+            "WITH target AS (" +
+            "SELECT c.id AS product_id, c.sku, s.quantity AS imported, st.quantity AS snapshot_quantity, " +
+            "COALESCE(SUM(m.quantity_delta), 0) AS pending_quantity, " +
+            "COALESCE(SUM(m.reserved_delta), 0) AS pending_reserved, COUNT(m.id) AS pending_movements " +
+            "FROM product_import_staging s " +
+            "JOIN store_service.product_catalog c ON c.store_id = ? AND c.sku = s.sku " +
+            "LEFT JOIN store_service.product_stock st ON st.product_id = c.id " +
+            "LEFT JOIN store_service.stock_movements m ON m.store_id = c.store_id " +
+            "AND m.sku = c.sku AND m.id > st.ledger_position " +
+            "GROUP BY c.id, c.sku, s.quantity, st.quantity), " +
+            "upserted AS (" +
+            "INSERT INTO store_service.product_stock AS st (product_id, quantity, reserved_quantity, updated_at) " +
+            "SELECT t.product_id, t.imported - t.pending_quantity, 0, CURRENT_TIMESTAMP FROM target t " +
+            "ON CONFLICT (product_id) DO UPDATE SET quantity = EXCLUDED.quantity, " +
+            "updated_at = EXCLUDED.updated_at, version = st.version + 1 " +
+            "WHERE st.quantity <> EXCLUDED.quantity " +
+            "RETURNING st.product_id, st.reserved_quantity, st.version) " +
+            "SELECT t.sku, t.snapshot_quantity + t.pending_quantity AS previous_quantity, " +
+            "t.imported AS new_quantity, u.reserved_quantity + t.pending_reserved AS reserved_quantity, " +
+            "u.version + t.pending_movements AS version " +
+            "FROM upserted u JOIN target t ON t.product_id = u.product_id";
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final DataSource dataSource;
+
+    /**
+     * Carrega o lote na staging e o incorpora ao catálogo e ao estoque da loja.
+     * Deve ser executado dentro de uma transação: a staging é esvaziada no commit.
+     *
+     * @param storeId identificador da loja
+     * @param rows linhas do lote, com no máximo uma linha por SKU
+     * @return alterações efetivamente aplicadas
+     */
+    public List<ProductImportChange> upsertBatch(String storeId, List<ProductImportRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_STAGING_SQL);
+            }
+            copyIntoStaging(connection, rows);
+
+            Set<String> createdSkus = new HashSet<>();
+            Set<String> catalogChangedSkus = new HashSet<>();
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_CATALOG_SQL)) {
+                statement.setString(1, storeId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String sku = resultSet.getString(1);
+                        catalogChangedSkus.add(sku);
+                        if (resultSet.getBoolean(2)) {
+                            createdSkus.add(sku);
+                        }
+                    }
+                }
+            }
+
+            lockStock(connection, storeId);
+            List<ProductImportChange> changes = new ArrayList<>(catalogChangedSkus.size());
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_STOCK_SQL)) {
+                statement.setString(1, storeId);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String sku = resultSet.getString(1);
+                        boolean created = createdSkus.contains(sku);
+                        Integer previousQuantity = created ? null : (Integer) resultSet.getObject(2);
+                        changes.add(new ProductImportChange(sku, created, previousQuantity,
+                                resultSet.getInt(3), resultSet.getInt(4), resultSet.getLong(5)));
+                        catalogChangedSkus.remove(sku);
+                    }
+                }
+            }
+            catalogChangedSkus.forEach(sku -> changes.add(new ProductImportChange(sku, false, null, null, null, null)));
+
+            log.debug("Lote importado via COPY: Loja={}, Linhas={}, Alterações={}", storeId, rows.size(), changes.size());
+            return changes;
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha na importação em massa de produtos: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Serializa o lote com as reservas e confirmações do ledger (advisory
+     * lock) e com a compactação (lock de linha), nesta ordem, antes de ler
+     * os deltas pendentes.
+     */
+    private void lockStock(Connection connection, String storeId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_STOCK_KEYS_SQL)) {
+            statement.setString(1, storeId);
+            statement.execute();
+        }
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_STOCK_ROWS_SQL)) {
+            statement.setString(1, storeId);
+            statement.execute();
+        }
+    }
+
+    private void copyIntoStaging(Connection connection, List<ProductImportRow> rows) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING_SQL);
+        try {
+            StringBuilder record = new StringBuilder(256);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(COPY_BUFFER_SIZE);
+            for (ProductImportRow row : rows) {
+                record.setLength(0);
+                appendCsvRecord(record, row);
+                buffer.writeBytes(record.toString().getBytes(StandardCharsets.UTF_8));
+                if (buffer.size() >= COPY_BUFFER_SIZE) {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    buffer.reset();
+                }
+            }
+            if (buffer.size() > 0) {
+                copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Escreve a linha no formato CSV do COPY. Campos de texto são sempre
+     * delimitados por aspas; a descrição ausente é escrita sem aspas para
+     * ser lida como NULL.
+     */
+    static void appendCsvRecord(StringBuilder target, ProductImportRow row) {
+        appendQuoted(target, row.sku());
+        target.append(',');
+        appendQuoted(target, row.name());
+        target.append(',');
+        if (row.description() != null) {
+            appendQuoted(target, row.description());
+        }
+        target.append(',');
+        target.append(row.price().toPlainString());
+        target.append(',');
+        target.append(row.quantity());
+        target.append('\n');
+    }
+
+    private static void appendQuoted(StringBuilder target, String value) {
+        target.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                target.append('"');
+            }
+            target.append(c);
+        }
+        target.append('"');
+    }
+}
@@ -0,0 +1,157 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.model.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Consultas dinâmicas de produtos com JPA Criteria.
+ * Todos os filtros, a ordenação e o limite da busca de inventário são
+ * aplicados no banco, de forma que o custo da consulta acompanhe o
+ * tamanho do resultado e não o do catálogo. As listagens com seleção de
+ * campos (sparse fieldsets) leem apenas as colunas solicitadas.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public class ProductCriteriaRepository {
+    
+    /**
+     * Atributo da entidade de cada campo selecionável de {@link com.inventory.management.store.domain.model.ProductView}.
+     */
+    static final Map<String, String> FIELD_ATTRIBUTES = Map.ofEntries(
+            Map.entry("sku", "sku"),
+            Map.entry("id", "id"),
+            Map.entry("name", "name"),
+            Map.entry("description", "description"),
+            Map.entry("price", "price"),
+            Map.entry("quantity", "quantity"),
+            Map.entry("reservedQuantity", "reservedQuantity"),
+            Map.entry("availableQuantity", "quantity"),
+            Map.entry("storeId", "storeId"),
+            Map.entry("active", "active"),
+            Map.entry("updatedAt", "lastUpdated"),
+            Map.entry("version", "version"));
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * Busca produtos ativos da loja aplicando os filtros informados.
+     * Sem filtro de nome, apenas produtos com estoque disponível são retornados.
+     * 
+     * @param request critérios de busca (loja obrigatória)
+     * @return produtos encontrados
+     */
+    public List<ProductEntity> search(InventorySearchRequest request) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductEntity> query = cb.createQuery(ProductEntity.class);
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(product.get("storeId"), request.getStoreId()));
+        predicates.add(cb.isTrue(product.get("active")));
+        
+        Expression<Integer> quantity = product.get("quantity");
+        Expression<Integer> reservedQuantity = product.get("reservedQuantity");
+        
+        request.getNameFilter().ifPresentOrElse(
+                name -> predicates.add(cb.like(cb.lower(product.get("name")),
+                        "%" + escapeLike(name.toLowerCase(Locale.ROOT)) + "%", '\\')),
+                () -> predicates.add(cb.gt(cb.diff(quantity, reservedQuantity), 0)));
+        request.getMinQuantity().ifPresent(min -> predicates.add(cb.ge(quantity, min)));
+        request.getMinPrice().ifPresent(min -> predicates.add(cb.ge(product.get("price"), min)));
+        request.getMaxPrice().ifPresent(max -> predicates.add(cb.le(product.get("price"), max)));
+        
+        query.select(product).where(predicates.toArray(Predicate[]::new));
+        request.getSortBy().ifPresent(sortField -> {
+            Expression<?> sortExpression = product.get(sortAttribute(sortField));
+            query.orderBy(request.isDescending() ? cb.desc(sortExpression) : cb.asc(sortExpression),
+                    cb.asc(product.get("sku")));
+        });
+        
+        TypedQuery<ProductEntity> typedQuery = entityManager.createQuery(query);
+        request.getLimit().ifPresent(typedQuery::setMaxResults);
+        return typedQuery.getResultList();
+    }
+    
+    /**
+     * Lista produtos com estoque disponível da loja, em ordem de SKU, lendo
+     * apenas as colunas dos campos selecionados. Campos que são aliases do
+     * mesmo atributo compartilham a coluna selecionada.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (null para a primeira página)
+     * @param limit quantidade máxima de produtos
+     * @param selection campos selecionados
+     * @return linhas campo → valor na ordem da seleção
+     */
+    public List<Map<String, Object>> findAvailableFields(String storeId, String afterSku, int limit,
+                                                         FieldSelection selection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        int[] columnOfField = new int[selection.fields().size()];
+        for (int i = 0; i < columnOfField.length; i++) {
+            columnOfField[i] = columns.computeIfAbsent(FIELD_ATTRIBUTES.get(selection.fields().get(i)),
+                    attribute -> columns.size());
+        }
+        List<Selection<?>> selections = new ArrayList<>(columns.size());
+        columns.keySet().forEach(attribute -> selections.add(product.get(attribute)));
+        
+        Expression<Integer> quantity = product.get("quantity");
+        Expression<Integer> reservedQuantity = product.get("reservedQuantity");
+        query.multiselect(selections)
+                .where(cb.equal(product.get("storeId"), storeId),
+                        cb.greaterThan(product.get("sku"), afterSku != null ? afterSku : ""),
+                        cb.isTrue(product.get("active")),
+                        cb.gt(cb.diff(quantity, reservedQuantity), 0))
+                .orderBy(cb.asc(product.get("sku")));
+        
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+        
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < columnOfField.length; i++) {
+                row.put(selection.fields().get(i), tuple.get(columnOfField[i]));
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+    
+    private static String sortAttribute(InventorySearchRequest.SortField sortField) {
+        return switch (sortField) {
+            case NAME -> "name";
+            case PRICE -> "price";
+            case QUANTITY -> "quantity";
+        };
+    }
+    
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
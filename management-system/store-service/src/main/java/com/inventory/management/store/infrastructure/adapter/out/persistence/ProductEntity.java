@@ -14,18 +14,22 @@ import java.util.UUID;
 
 /**
  * Entidade JPA para persistência de produtos.
- * Mapeia o modelo de domínio Product para a estrutura do banco de dados.
+ * Mapeia o modelo de domínio Product para a estrutura do banco de dados,
+ * unindo os atributos de catálogo (product_catalog) aos contadores de
+ * estoque (product_stock). Escritas somente de estoque usam {@link ProductStockEntity}.
  * 
  * @author Sistema de Gerenciamento de Inventário
  * @version 1.0.0
  * @since 1.0.0
  */
 @Entity
-@Table(name = "products", schema = "store_service", indexes = {
+@Table(name = "product_catalog", schema = "store_service", indexes = {
     @Index(name = "idx_store_sku", columnList = "storeId, sku", unique = true),
     @Index(name = "idx_store_name", columnList = "storeId, name"),
     @Index(name = "idx_active", columnList = "active")
 })
+@SecondaryTable(name = "product_stock", schema = "store_service",
+    pkJoinColumns = @PrimaryKeyJoinColumn(name = "product_id"))
 @Getter
 @Setter
 @Builder
@@ -49,13 +53,13 @@ public class ProductEntity {
     @Column(nullable = false, precision = 19, scale = 2)
     private BigDecimal price;
     
-    @Column(nullable = false)
+    @Column(table = "product_stock", nullable = false)
     private Integer quantity;
     
-    @Column(name = "reserved_quantity", nullable = false)
+    @Column(table = "product_stock", name = "reserved_quantity", nullable = false)
     private Integer reservedQuantity;
     
-    @Column(name = "updated_at", nullable = false)
+    @Column(table = "product_stock", name = "updated_at", nullable = false)
     private LocalDateTime lastUpdated;
     
     @Column(name = "store_id", nullable = false, length = 50)
@@ -63,6 +67,10 @@ public class ProductEntity {
     
     @Column(nullable = false)
     private Boolean active;
+
+    @Version
+    @Column(table = "product_stock", nullable = false)
+    private Long version;
     
     /**
      * Converte a entidade JPA para o modelo de domínio.
@@ -81,6 +89,7 @@ public class ProductEntity {
             .updatedAt(this.lastUpdated)
             .storeId(this.storeId)
             .active(this.active)
+            .version(this.version)
             .build();
     }
     
@@ -102,6 +111,7 @@ public class ProductEntity {
             .lastUpdated(product.getUpdatedAt())
             .storeId(product.getStoreId())
             .active(product.getActive())
+            .version(product.getVersion())
             .build();
     }
 }
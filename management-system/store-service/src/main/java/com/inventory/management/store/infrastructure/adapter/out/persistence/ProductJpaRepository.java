@@ -1,13 +1,20 @@
 package com.inventory.management.store.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.store.domain.model.ProductView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repositório JPA para entidades Product.
@@ -20,6 +27,11 @@ import java.util.UUID;
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID> {
     
+    /**
+     * Quantidade de linhas buscadas por ida ao banco durante a exportação.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+    
     /**
      * Busca produto por SKU e loja.
      * 
@@ -45,6 +57,23 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
      */
     List<ProductEntity> findByStoreIdAndActiveTrue(String storeId);
     
+    /**
+     * Percorre todos os produtos de uma loja em ordem de SKU com cursor no servidor.
+     * O fetch size faz o driver buscar as linhas em lotes em vez de materializar
+     * o resultado inteiro; deve ser consumido dentro de uma transação somente leitura
+     * e o stream precisa ser fechado ao final.
+     * 
+     * @param storeId identificador da loja
+     * @return stream de produtos da loja
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM ProductEntity p WHERE p.storeId = :storeId ORDER BY p.sku")
+    Stream<ProductEntity> streamByStoreId(@Param("storeId") String storeId);
+    
     /**
      * Lista produtos com estoque disponível (quantidade > quantidade reservada).
      * 
@@ -55,6 +84,40 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
            "AND p.active = true AND (p.quantity - p.reservedQuantity) > 0")
     List<ProductEntity> findAvailableProductsByStoreId(@Param("storeId") String storeId);
     
+    /**
+     * Lista produtos com estoque disponível com SKU posterior ao informado,
+     * ordenados por SKU. A ordenação segue o índice único (store_id, sku),
+     * de forma que cada página custa o mesmo independentemente da posição.
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (vazio para a primeira página)
+     * @param pageable limite de resultados
+     * @return lista de produtos com estoque disponível
+     */
+    @Query("SELECT p FROM ProductEntity p WHERE p.storeId = :storeId AND p.sku > :afterSku " +
+           "AND p.active = true AND (p.quantity - p.reservedQuantity) > 0 ORDER BY p.sku")
+    List<ProductEntity> findAvailableProductsByStoreIdAfterSku(@Param("storeId") String storeId,
+                                                               @Param("afterSku") String afterSku,
+                                                               Pageable pageable);
+    
+    /**
+     * Mesma consulta de {@link #findAvailableProductsByStoreIdAfterSku}, projetada
+     * diretamente em {@link ProductView}: nenhuma entidade é instanciada nem
+     * registrada no contexto de persistência (sem snapshot para dirty checking).
+     * 
+     * @param storeId identificador da loja
+     * @param afterSku último SKU já retornado (vazio para a primeira página)
+     * @param pageable limite de resultados
+     * @return visões dos produtos com estoque disponível
+     */
+    @Query("SELECT new com.inventory.management.store.domain.model.ProductView(p.id, p.sku, p.name, " +
+           "p.description, p.price, p.quantity, p.reservedQuantity, p.storeId, p.active, p.lastUpdated, p.version) " +
+           "FROM ProductEntity p WHERE p.storeId = :storeId AND p.sku > :afterSku " +
+           "AND p.active = true AND (p.quantity - p.reservedQuantity) > 0 ORDER BY p.sku")
+    List<ProductView> findAvailableViewsByStoreIdAfterSku(@Param("storeId") String storeId,
+                                                          @Param("afterSku") String afterSku,
+                                                          Pageable pageable);
+    
     /**
      * Busca produtos por nome (busca parcial) em uma loja específica.
      * 
@@ -66,4 +129,46 @@ public interface ProductJpaRepository extends JpaRepository<ProductEntity, UUID>
            "AND p.active = true AND LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<ProductEntity> findByNameContainingAndStoreId(@Param("name") String name, 
                                                         @Param("storeId") String storeId);
+    
+    /**
+     * Busca produtos ativos de uma loja a partir de uma lista de SKUs.
+     * Utiliza o índice único (store_id, sku).
+     * 
+     * @param skus SKUs dos produtos
+     * @param storeId identificador da loja
+     * @return produtos encontrados (sem ordem garantida)
+     */
+    List<ProductEntity> findBySkuInAndStoreIdAndActiveTrue(Collection<String> skus, String storeId);
+    
+    /**
+     * Lista loja, SKU e nome de todos os produtos ativos, sem carregar
+     * os contadores de estoque. Usado na construção do índice de busca.
+     * 
+     * @return entradas de catálogo dos produtos ativos
+     */
+    @Query("SELECT p.storeId AS storeId, p.sku AS sku, p.name AS name FROM ProductEntity p WHERE p.active = true")
+    List<CatalogEntryView> findActiveCatalogEntries();
+    
+    /**
+     * Busca a entrada de catálogo de um produto ativo.
+     * 
+     * @param storeId identificador da loja
+     * @param sku SKU do produto
+     * @return entrada de catálogo, vazia se o produto não existir ou estiver inativo
+     */
+    @Query("SELECT p.storeId AS storeId, p.sku AS sku, p.name AS name FROM ProductEntity p " +
+           "WHERE p.storeId = :storeId AND p.sku = :sku AND p.active = true")
+    Optional<CatalogEntryView> findActiveCatalogEntry(@Param("storeId") String storeId, @Param("sku") String sku);
+    
+    /**
+     * Projeção dos atributos de catálogo usados pelo índice de busca.
+     */
+    interface CatalogEntryView {
+        
+        String getStoreId();
+        
+        String getSku();
+        
+        String getName();
+    }
 }
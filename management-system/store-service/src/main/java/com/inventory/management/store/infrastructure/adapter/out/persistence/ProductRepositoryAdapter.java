@@ -1,15 +1,31 @@
 package com.inventory.management.store.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.model.StockMovement;
 import com.inventory.management.store.domain.port.ProductRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementação do repositório de produtos usando JPA.
@@ -24,7 +40,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ProductRepositoryAdapter implements ProductRepository {
     
+    /**
+     * SKUs por consulta IN, bem abaixo do limite de 32767 parâmetros do PostgreSQL.
+     */
+    static final int SKU_LOOKUP_CHUNK_SIZE = 1000;
+    
     private final ProductJpaRepository jpaRepository;
+    private final StockMovementJpaRepository stockMovementRepository;
+    private final ProductStockJpaRepository stockJpaRepository;
+    private final ProductCriteriaRepository criteriaRepository;
+    private final ProductCopyImporter copyImporter;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     /**
      * {@inheritDoc}
@@ -63,6 +91,39 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .map(ProductEntity::toDomain);
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findStockBySkuAndStoreId(String sku, String storeId) {
+        log.debug("Buscando estoque do produto: SKU={}, Loja={}", sku, storeId);
+        
+        return stockJpaRepository.findBySkuAndStoreId(sku, storeId)
+                .map(stock -> stock.toDomain(sku, storeId));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Product saveStock(Product product) {
+        log.debug("Salvando estoque do produto: SKU={}, ID={}", product.getSku(), product.getId());
+        
+        Long currentVersion = product.getVersion() != null ? product.getVersion() : 0L;
+        int updated = stockJpaRepository.updateCounters(product.getId(), product.getQuantity(),
+                product.getReservedQuantity(), product.getUpdatedAt(), currentVersion);
+        if (updated == 0) {
+            if (stockJpaRepository.existsById(product.getId())) {
+                log.warn("⚠️ Conflito de versão no estoque: SKU={}, versão lida={}", product.getSku(), currentVersion);
+                throw new ObjectOptimisticLockingFailureException(ProductStockEntity.class, product.getId());
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Produto não encontrado: SKU=%s, Loja=%s", product.getSku(), product.getStoreId()));
+        }
+        product.setVersion(currentVersion + 1);
+        return product;
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -76,6 +137,28 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .toList();
     }
     
+    /**
+     * {@inheritDoc}
+     * Cada entidade é desanexada após o uso para que o contexto de persistência
+     * não cresça com o tamanho do catálogo.
+     */
+    @Override
+    public long forEachByStoreId(String storeId, Consumer<Product> consumer) {
+        log.debug("Percorrendo catálogo da loja: {}", storeId);
+        
+        long count = 0;
+        try (Stream<ProductEntity> entities = jpaRepository.streamByStoreId(storeId)) {
+            Iterator<ProductEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                ProductEntity entity = iterator.next();
+                consumer.accept(entity.toDomain());
+                entityManager.detach(entity);
+                count++;
+            }
+        }
+        return count;
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -89,6 +172,43 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .toList();
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findAvailableProductsByStoreIdAfterSku(String storeId, String afterSku, int limit) {
+        log.debug("Listando produtos disponíveis da loja: {} após SKU={} (limite {})", storeId, afterSku, limit);
+        
+        return jpaRepository.findAvailableProductsByStoreIdAfterSku(
+                        storeId, afterSku != null ? afterSku : "", PageRequest.ofSize(limit))
+                .stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductView> findAvailableProductViewsByStoreIdAfterSku(String storeId, String afterSku, int limit) {
+        log.debug("Listando visões de produtos disponíveis da loja: {} após SKU={} (limite {})", storeId, afterSku, limit);
+        
+        return jpaRepository.findAvailableViewsByStoreIdAfterSku(
+                storeId, afterSku != null ? afterSku : "", PageRequest.ofSize(limit));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Map<String, Object>> findAvailableProductFieldsByStoreIdAfterSku(String storeId, String afterSku,
+                                                                                 int limit, FieldSelection selection) {
+        log.debug("Listando campos {} de produtos disponíveis da loja: {} após SKU={} (limite {})",
+                selection.fields(), storeId, afterSku, limit);
+        
+        return criteriaRepository.findAvailableFields(storeId, afterSku, limit, selection);
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -102,6 +222,36 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .toList();
     }
     
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> findBySkusAndStoreId(Collection<String> skus, String storeId) {
+        log.debug("Buscando produtos por SKUs: quantidade={}, loja={}", skus.size(), storeId);
+        
+        List<String> skuList = List.copyOf(skus);
+        List<Product> products = new ArrayList<>(skuList.size());
+        for (int from = 0; from < skuList.size(); from += SKU_LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = skuList.subList(from, Math.min(from + SKU_LOOKUP_CHUNK_SIZE, skuList.size()));
+            jpaRepository.findBySkuInAndStoreIdAndActiveTrue(chunk, storeId)
+                    .forEach(entity -> products.add(entity.toDomain()));
+        }
+        return products;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Product> searchInventory(InventorySearchRequest request) {
+        log.debug("Buscando inventário: {}", request);
+        
+        return criteriaRepository.search(request)
+                .stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+    
     /**
      * {@inheritDoc}
      */
@@ -134,4 +284,56 @@ public class ProductRepositoryAdapter implements ProductRepository {
                 .map(ProductEntity::toDomain)
                 .toList();
     }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Product> findBySkuAndStoreIdWithPendingMovements(String sku, String storeId) {
+        log.debug("Buscando produto com movimentos pendentes do ledger: SKU={}, Loja={}", sku, storeId);
+        
+        return jpaRepository.findBySkuAndStoreId(sku, storeId)
+                .map(ProductEntity::toDomain)
+                .map(product -> {
+                    stockMovementRepository.findEffectiveStockLevel(storeId, sku)
+                            .ifPresent(level -> {
+                                product.setQuantity(level.getQuantity().intValue());
+                                product.setReservedQuantity(level.getReserved().intValue());
+                                product.setVersion(level.getVersion());
+                            });
+                    return product;
+                });
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StockMovement appendStockMovement(StockMovement movement) {
+        log.debug("Registrando movimento no ledger: SKU={}, Loja={}, Tipo={}", 
+                movement.getSku(), movement.getStoreId(), movement.getMovementType());
+        
+        StockMovementEntity savedEntity = stockMovementRepository.save(StockMovementEntity.fromDomain(movement));
+        return savedEntity.toDomain();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void acquireStockLock(String sku, String storeId) {
+        log.debug("Adquirindo lock de estoque: SKU={}, Loja={}", sku, storeId);
+        
+        stockMovementRepository.acquireStockLock(storeId + ":" + sku);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ProductImportChange> upsertImportBatch(String storeId, List<ProductImportRow> rows) {
+        log.debug("Importando lote de produtos: Loja={}, Linhas={}", storeId, rows.size());
+        
+        return copyImporter.upsertBatch(storeId, rows);
+    }
 }
@@ -0,0 +1,68 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.store.domain.model.Product;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA para os contadores de estoque de um produto.
+ * Mapeia apenas a tabela estreita product_stock, usada no caminho quente
+ * de reserva e confirmação sem carregar os atributos de catálogo.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "product_stock", schema = "store_service")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockEntity {
+
+    @Id
+    @Column(name = "product_id", columnDefinition = "UUID")
+    private UUID productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime lastUpdated;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Converte os contadores para o modelo de domínio.
+     * Atributos de catálogo (nome, descrição, preço) não são preenchidos.
+     *
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     * @return modelo de domínio Product apenas com dados de estoque
+     */
+    public Product toDomain(String sku, String storeId) {
+        return Product.builder()
+            .id(this.productId)
+            .sku(sku)
+            .storeId(storeId)
+            .quantity(this.quantity)
+            .reservedQuantity(this.reservedQuantity)
+            .updatedAt(this.lastUpdated)
+            .version(this.version)
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório JPA para os contadores de estoque (product_stock).
+ * Concentra as operações do caminho quente, que não precisam dos
+ * atributos de catálogo.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface ProductStockJpaRepository extends JpaRepository<ProductStockEntity, UUID> {
+
+    /**
+     * Busca os contadores de estoque por SKU e loja.
+     * O catálogo é consultado apenas pelo índice único (store_id, sku).
+     *
+     * @param sku SKU do produto
+     * @param storeId identificador da loja
+     * @return contadores encontrados ou empty
+     */
+    @Query(value = "SELECT s.* FROM store_service.product_stock s " +
+                   "JOIN store_service.product_catalog c ON c.id = s.product_id " +
+                   "WHERE c.store_id = :storeId AND c.sku = :sku",
+           nativeQuery = true)
+    Optional<ProductStockEntity> findBySkuAndStoreId(@Param("sku") String sku,
+                                                     @Param("storeId") String storeId);
+
+    /**
+     * Atualiza somente os contadores de estoque de um produto, condicionado
+     * à versão lida (controle otimista) e incrementando-a.
+     *
+     * @param productId identificador do produto
+     * @param quantity quantidade disponível
+     * @param reservedQuantity quantidade reservada
+     * @param lastUpdated data da atualização
+     * @param version versão lida antes da alteração
+     * @return quantidade de linhas atualizadas (0 se a versão mudou ou o produto não existe)
+     */
+    @Modifying
+    @Query("UPDATE ProductStockEntity s SET s.quantity = :quantity, " +
+           "s.reservedQuantity = :reservedQuantity, s.lastUpdated = :lastUpdated, " +
+           "s.version = s.version + 1 " +
+           "WHERE s.productId = :productId AND s.version = :version")
+    int updateCounters(@Param("productId") UUID productId,
+                       @Param("quantity") Integer quantity,
+                       @Param("reservedQuantity") Integer reservedQuantity,
+                       @Param("lastUpdated") LocalDateTime lastUpdated,
+                       @Param("version") Long version);
+}
@@ -0,0 +1,90 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.store.domain.model.StockMovement;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para o ledger append-only de movimentos de estoque.
+ * Linhas estreitas e somente de inserção: nunca são atualizadas,
+ * evitando disputa de lock na linha do produto e tuplas mortas.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "stock_movements", schema = "store_service", indexes = {
+    @Index(name = "idx_stock_movements_store_sku", columnList = "storeId, sku, id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockMovementEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "store_id", nullable = false, length = 50, updatable = false)
+    private String storeId;
+
+    @Column(nullable = false, length = 100, updatable = false)
+    private String sku;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "movement_type", nullable = false, length = 20, updatable = false)
+    private StockMovement.MovementType movementType;
+
+    @Column(name = "quantity_delta", nullable = false, updatable = false)
+    private Integer quantityDelta;
+
+    @Column(name = "reserved_delta", nullable = false, updatable = false)
+    private Integer reservedDelta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Converte a entidade JPA para o modelo de domínio.
+     *
+     * @return modelo de domínio StockMovement
+     */
+    public StockMovement toDomain() {
+        return StockMovement.builder()
+            .id(this.id)
+            .storeId(this.storeId)
+            .sku(this.sku)
+            .movementType(this.movementType)
+            .quantityDelta(this.quantityDelta)
+            .reservedDelta(this.reservedDelta)
+            .createdAt(this.createdAt)
+            .build();
+    }
+
+    /**
+     * Cria uma entidade JPA a partir do modelo de domínio.
+     *
+     * @param movement modelo de domínio
+     * @return entidade JPA
+     */
+    public static StockMovementEntity fromDomain(StockMovement movement) {
+        return StockMovementEntity.builder()
+            .id(movement.getId())
+            .storeId(movement.getStoreId())
+            .sku(movement.getSku())
+            .movementType(movement.getMovementType())
+            .quantityDelta(movement.getQuantityDelta())
+            .reservedDelta(movement.getReservedDelta())
+            .createdAt(movement.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para o ledger de movimentos de estoque.
+ * Além da inserção de movimentos, expõe as consultas nativas usadas
+ * na leitura efetiva (snapshot + deltas) e na compactação do ledger.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Repository
+public interface StockMovementJpaRepository extends JpaRepository<StockMovementEntity, Long> {
+
+    /**
+     * Calcula as quantidades efetivas de um produto em um único comando:
+     * snapshot da tabela product_stock somado aos movimentos posteriores à
+     * posição já consolidada. Por ser um único statement, a leitura é
+     * consistente mesmo com o compactador executando em paralelo.
+     * A versão efetiva conta cada movimento pendente como uma alteração,
+     * e o compactador incorpora essa contagem à versão do snapshot.
+     *
+     * @param storeId identificador da loja
+     * @param sku SKU do produto
+     * @return quantidades efetivas ou empty se o produto não existir
+     */
+    @Query(value = "SELECT s.quantity + COALESCE(SUM(m.quantity_delta), 0) AS quantity, " +
+                   "s.reserved_quantity + COALESCE(SUM(m.reserved_delta), 0) AS reserved, " +
+                   "s.version + COUNT(m.id) AS version " +
+                   "FROM store_service.product_catalog c " +
+                   "JOIN store_service.product_stock s ON s.product_id = c.id " +
+                   "LEFT JOIN store_service.stock_movements m ON m.store_id = c.store_id " +
+                   "AND m.sku = c.sku AND m.id > s.ledger_position " +
+                   "WHERE c.store_id = :storeId AND c.sku = :sku " +
+                   "GROUP BY s.quantity, s.reserved_quantity, s.version",
+           nativeQuery = true)
+    Optional<StockLevelView> findEffectiveStockLevel(@Param("storeId") String storeId,
+                                                     @Param("sku") String sku);
+
+    /**
+     * Adquire um advisory lock transacional para a chave informada.
+     * O lock é liberado automaticamente no commit ou rollback e não gera
+     * nenhuma escrita nas tabelas de produtos. O xid da transação é atribuído
+     * no mesmo comando, antes de qualquer identificador de movimento, como
+     * exige a barreira de compactação.
+     *
+     * @param lockKey chave lógica do lock (loja:sku)
+     * @return sempre 1
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:lockKey)), pg_current_xact_id()",
+           nativeQuery = true)
+    Integer acquireStockLock(@Param("lockKey") String lockKey);
+
+    /**
+     * Obtém o checkpoint de compactação, bloqueando-o para que apenas uma
+     * instância compacte por vez. Indica também se a barreira registrada já
+     * está estável: todas as transações com xid anterior ao xmax da barreira
+     * terminaram, logo nenhum movimento até a posição da barreira ainda será
+     * confirmado.
+     *
+     * @return checkpoint com a posição consolidada e a barreira
+     */
+    @Query(value = "SELECT position, barrier_position AS \"barrierPosition\", " +
+                   "COALESCE(pg_snapshot_xmin(pg_current_snapshot()) >= barrier_xmax, false) AS \"barrierSettled\" " +
+                   "FROM store_service.stock_ledger_checkpoint WHERE id = 1 FOR UPDATE",
+           nativeQuery = true)
+    CompactionCheckpointView lockCompactionCheckpoint();
+
+    /**
+     * Lê a última posição atribuída pela sequência do ledger, inclusive a
+     * transações ainda em andamento (a sequência não é transacional).
+     *
+     * @return última posição atribuída ou 0 se nenhum movimento foi registrado
+     */
+    @Query(value = "SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END " +
+                   "FROM store_service.stock_movements_id_seq",
+           nativeQuery = true)
+    Long findLastAssignedPosition();
+
+    /**
+     * Registra uma nova barreira de compactação com o xmax do snapshot deste
+     * comando. Deve ser executado depois de {@link #findLastAssignedPosition()}:
+     * como o xid é atribuído antes do identificador do movimento, toda
+     * transação que recebeu uma posição até a barreira tem xid anterior ao xmax.
+     *
+     * @param position posição lida da sequência
+     * @return quantidade de linhas atualizadas
+     */
+    @Modifying
+    @Query(value = "UPDATE store_service.stock_ledger_checkpoint SET barrier_position = :position, " +
+                   "barrier_xmax = pg_snapshot_xmax(pg_current_snapshot()) WHERE id = 1",
+           nativeQuery = true)
+    int placeCompactionBarrier(@Param("position") Long position);
+
+    /**
+     * Calcula até qual posição o ledger pode ser consolidado neste ciclo,
+     * dentro do intervalo já estável (fromId, toId]. Sem atingir o tamanho do
+     * lote, todo o intervalo é consolidado, inclusive lacunas de transações
+     * desfeitas.
+     *
+     * @param fromId posição já consolidada
+     * @param toId posição da barreira estável
+     * @param batchSize quantidade máxima de movimentos por ciclo
+     * @return posição final do lote
+     */
+    @Query(value = "SELECT CASE WHEN COUNT(*) < :batchSize THEN :toId ELSE MAX(b.id) END " +
+                   "FROM (SELECT m.id FROM store_service.stock_movements m " +
+                   "WHERE m.id > :fromId AND m.id <= :toId ORDER BY m.id LIMIT :batchSize) b",
+           nativeQuery = true)
+    Long findCompactionUpperBound(@Param("fromId") Long fromId,
+                                  @Param("toId") Long toId,
+                                  @Param("batchSize") int batchSize);
+
+    /**
+     * Consolida os movimentos do intervalo (fromId, toId] nos snapshots
+     * da tabela product_stock, gerando uma única atualização por produto.
+     *
+     * @param fromId posição já consolidada (exclusiva)
+     * @param toId posição final do lote (inclusiva)
+     * @return quantidade de produtos atualizados
+     */
+    @Modifying
+    @Query(value = "UPDATE store_service.product_stock s SET " +
+                   "quantity = s.quantity + d.quantity_delta, " +
+                   "reserved_quantity = s.reserved_quantity + d.reserved_delta, " +
+                   "ledger_position = d.last_id, " +
+                   "version = s.version + d.movement_count, " +
+                   "updated_at = d.last_movement_at " +
+                   "FROM (SELECT c.id AS product_id, SUM(m.quantity_delta) AS quantity_delta, " +
+                   "SUM(m.reserved_delta) AS reserved_delta, MAX(m.id) AS last_id, " +
+                   "MAX(m.created_at) AS last_movement_at, COUNT(m.id) AS movement_count " +
+                   "FROM store_service.stock_movements m " +
+                   "JOIN store_service.product_catalog c ON c.store_id = m.store_id AND c.sku = m.sku " +
+                   "WHERE m.id > :fromId AND m.id <= :toId " +
+                   "GROUP BY c.id) d " +
+                   "WHERE s.product_id = d.product_id AND s.ledger_position < d.last_id",
+           nativeQuery = true)
+    int foldMovementsIntoSnapshots(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * Avança o checkpoint de compactação do ledger.
+     *
+     * @param position nova posição consolidada
+     * @param compactedAt momento da compactação
+     * @return quantidade de linhas atualizadas
+     */
+    @Modifying
+    @Query(value = "UPDATE store_service.stock_ledger_checkpoint SET position = :position, " +
+                   "compacted_at = :compactedAt WHERE id = 1",
+           nativeQuery = true)
+    int advanceCompactionCheckpoint(@Param("position") Long position,
+                                    @Param("compactedAt") LocalDateTime compactedAt);
+
+    /**
+     * Projeção do checkpoint de compactação.
+     */
+    interface CompactionCheckpointView {
+
+        /**
+         * @return última posição do ledger consolidada nos snapshots
+         */
+        Long getPosition();
+
+        /**
+         * @return posição da barreira registrada ou null se não houver
+         */
+        Long getBarrierPosition();
+
+        /**
+         * @return true se nenhuma transação anterior à barreira está em andamento
+         */
+        Boolean getBarrierSettled();
+    }
+
+    /**
+     * Projeção das quantidades efetivas de um produto.
+     */
+    interface StockLevelView {
+
+        /**
+         * @return quantidade disponível efetiva
+         */
+        Long getQuantity();
+
+        /**
+         * @return quantidade reservada efetiva
+         */
+        Long getReserved();
+
+        /**
+         * @return versão efetiva (snapshot + movimentos pendentes)
+         */
+        Long getVersion();
+    }
+}
@@ -0,0 +1,240 @@
+package com.inventory.management.store.infrastructure.adapter.out.search;
+
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.port.ProductSearchIndex;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.ProductJpaRepository;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.ProductJpaRepository.CatalogEntryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice de busca de produtos mantido em memória, particionado por loja.
+ * É construído na inicialização a partir do catálogo ativo, atualizado
+ * incrementalmente após o commit de cada escrita de produto e
+ * reconstruído periodicamente como rede de segurança.
+ * 
+ * Alterações recebidas durante uma reconstrução são aplicadas ao índice
+ * corrente e reaplicadas sobre o novo antes da troca, para não se perderem.
+ * As demais instâncias são avisadas pelo canal Redis de invalidação do
+ * near-cache de produtos e recarregam do banco apenas o produto alterado.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+    
+    /**
+     * Marcador das mensagens de alteração de catálogo no canal de invalidação,
+     * que as distingue das invalidações de estoque do near-cache.
+     */
+    static final String CATALOG_CHANGE_MARKER = "catalog";
+    
+    private static final String KEY_SEPARATOR = "|";
+    
+    private final ProductJpaRepository jpaRepository;
+    private final StringRedisTemplate redisTemplate;
+    
+    @Value("${app.inventory.search-index.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${app.inventory.near-cache.invalidation-channel:inventory:product-cache:invalidate}")
+    private String invalidationChannel;
+    
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Object writeLock = new Object();
+    
+    private volatile Map<String, StoreSearchIndex> indexesByStore = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+    private List<CatalogChange> changesDuringRebuild;
+    
+    /**
+     * Constrói o índice após a inicialização da aplicação.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+    
+    /**
+     * Reconstrói o índice a partir do catálogo ativo e o substitui atomicamente.
+     * As alterações aplicadas enquanto o catálogo é lido são reaplicadas
+     * sobre o novo índice antes da troca.
+     */
+    @Scheduled(initialDelayString = "${app.inventory.search-index.refresh-interval-ms:300000}",
+               fixedDelayString = "${app.inventory.search-index.refresh-interval-ms:300000}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (writeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            long start = System.currentTimeMillis();
+            List<CatalogEntryView> entries = jpaRepository.findActiveCatalogEntries();
+            
+            Map<String, StoreSearchIndex> rebuilt = new ConcurrentHashMap<>();
+            for (CatalogEntryView entry : entries) {
+                rebuilt.computeIfAbsent(entry.getStoreId(), s -> new StoreSearchIndex())
+                        .put(entry.getSku(), entry.getName());
+            }
+            int replayed;
+            synchronized (writeLock) {
+                replayed = changesDuringRebuild.size();
+                changesDuringRebuild.forEach(change -> applyTo(rebuilt, change));
+                indexesByStore = rebuilt;
+                ready = true;
+            }
+            
+            log.info("🔎 Índice de busca construído: {} produtos em {} lojas, {} alterações reaplicadas ({} ms)", 
+                    entries.size(), rebuilt.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("❌ Falha ao construir índice de busca: {}", e.getMessage());
+        } finally {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isReady() {
+        return enabled && ready;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<String> search(String storeId, String query, int limit) {
+        StoreSearchIndex index = indexesByStore.get(storeId);
+        return index != null ? index.search(query, limit) : List.of();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Dentro de uma transação, a alteração só é aplicada após o commit.
+     */
+    @Override
+    public void index(Product product) {
+        if (!enabled) {
+            return;
+        }
+        String name = product.isActive() ? product.getName() : null;
+        afterCommit(new CatalogChange(product.getStoreId(), product.getSku(), name));
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * Dentro de uma transação, a remoção só é aplicada após o commit.
+     */
+    @Override
+    public void remove(String storeId, String sku) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(new CatalogChange(storeId, sku, null));
+    }
+    
+    /**
+     * Processa uma mensagem do canal de invalidação de produtos. Apenas as
+     * alterações de catálogo publicadas por outras instâncias são consideradas;
+     * o produto é recarregado do banco, o que torna a aplicação independente
+     * da ordem de chegada das mensagens.
+     * 
+     * @param message mensagem no formato instância|loja|SKU|catalog
+     */
+    public void onRemoteInvalidation(String message) {
+        String[] parts = message.split("\\" + KEY_SEPARATOR, 4);
+        if (!enabled || parts.length != 4 || !CATALOG_CHANGE_MARKER.equals(parts[3])
+                || instanceId.equals(parts[0])) {
+            return;
+        }
+        try {
+            String name = jpaRepository.findActiveCatalogEntry(parts[1], parts[2])
+                    .map(CatalogEntryView::getName)
+                    .orElse(null);
+            apply(new CatalogChange(parts[1], parts[2], name));
+            log.debug("Índice de busca atualizado por outra instância: Loja={}, SKU={}", parts[1], parts[2]);
+        } catch (Exception e) {
+            log.warn("⚠️ Falha ao recarregar produto no índice de busca: Loja={}, SKU={}, erro={}", 
+                    parts[1], parts[2], e.getMessage());
+        }
+    }
+    
+    private void afterCommit(CatalogChange change) {
+        Runnable action = () -> {
+            apply(change);
+            publishChange(change);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private void apply(CatalogChange change) {
+        synchronized (writeLock) {
+            applyTo(indexesByStore, change);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        }
+    }
+    
+    private void publishChange(CatalogChange change) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, String.join(KEY_SEPARATOR, 
+                    instanceId, change.storeId(), change.sku(), CATALOG_CHANGE_MARKER));
+        } catch (Exception e) {
+            log.warn("⚠️ Falha ao publicar alteração do índice de busca: {}", e.getMessage());
+        }
+    }
+    
+    private static void applyTo(Map<String, StoreSearchIndex> indexes, CatalogChange change) {
+        if (change.name() != null) {
+            indexes.computeIfAbsent(change.storeId(), s -> new StoreSearchIndex())
+                    .put(change.sku(), change.name());
+            return;
+        }
+        StoreSearchIndex index = indexes.get(change.storeId());
+        if (index != null) {
+            index.remove(change.sku());
+        }
+    }
+    
+    /**
+     * Alteração de um produto no índice; nome nulo indica remoção.
+     */
+    private record CatalogChange(String storeId, String sku, String name) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.inventory.management.store.infrastructure.adapter.out.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalização de texto para o índice de busca.
+ * Remove acentos, converte para minúsculas e reduz separadores a um
+ * único espaço, de forma que "Café Orgânico" e "cafe organico" sejam
+ * indexados e buscados da mesma maneira.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class SearchTextNormalizer {
+    
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+    
+    private SearchTextNormalizer() {
+        // Utility class
+    }
+    
+    /**
+     * Normaliza o texto informado.
+     * 
+     * @param text texto original (pode ser nulo)
+     * @return texto normalizado, vazio se nulo
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String withoutAccents = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,257 @@
+package com.inventory.management.store.infrastructure.adapter.out.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de busca de uma loja: índice invertido de trigramas para buscas
+ * por substring e trie de prefixos das palavras para autocomplete.
+ * Leituras concorrentes são permitidas; escritas são exclusivas.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class StoreSearchIndex {
+    
+    private static final int GRAM_SIZE = 3;
+    
+    private static final int RANK_EXACT = 0;
+    private static final int RANK_NAME_PREFIX = 1;
+    private static final int RANK_WORD_PREFIX = 2;
+    private static final int RANK_SUBSTRING = 3;
+    
+    private final Map<String, String> namesBySku = new HashMap<>();
+    private final Map<String, Set<String>> postings = new HashMap<>();
+    private final TrieNode trie = new TrieNode();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * Adiciona ou substitui o nome indexado de um SKU.
+     * 
+     * @param sku SKU do produto
+     * @param name nome do produto
+     */
+    void put(String sku, String name) {
+        String normalized = SearchTextNormalizer.normalize(name);
+        lock.writeLock().lock();
+        try {
+            String previous = namesBySku.put(sku, normalized);
+            if (previous != null) {
+                unindex(sku, previous);
+            }
+            for (String gram : grams(normalized)) {
+                postings.computeIfAbsent(gram, g -> new HashSet<>()).add(sku);
+            }
+            for (String word : words(normalized)) {
+                trie.add(word, sku);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove um SKU do índice.
+     * 
+     * @param sku SKU do produto
+     */
+    void remove(String sku) {
+        lock.writeLock().lock();
+        try {
+            String previous = namesBySku.remove(sku);
+            if (previous != null) {
+                unindex(sku, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Busca SKUs cujo nome normalizado contenha o termo.
+     * 
+     * @param rawQuery termo de busca
+     * @param limit quantidade máxima de resultados
+     * @return SKUs ordenados por relevância
+     */
+    List<String> search(String rawQuery, int limit) {
+        String query = SearchTextNormalizer.normalize(rawQuery);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = query.length() >= GRAM_SIZE
+                    ? candidatesByGrams(query)
+                    : trie.find(lastWord(query));
+            
+            List<Match> matches = new ArrayList<>();
+            for (String sku : candidates) {
+                String name = namesBySku.get(sku);
+                int rank = rank(name, query);
+                if (rank >= 0) {
+                    matches.add(new Match(sku, name, rank));
+                }
+            }
+            
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Match::rank)
+                            .thenComparingInt(match -> match.name().length())
+                            .thenComparing(Match::name)
+                            .thenComparing(Match::sku))
+                    .limit(limit)
+                    .map(Match::sku)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return quantidade de produtos indexados
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return namesBySku.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    private Set<String> candidatesByGrams(String query) {
+        List<Set<String>> lists = new ArrayList<>();
+        for (String gram : grams(query)) {
+            Set<String> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        
+        Set<String> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+    
+    private void unindex(String sku, String normalized) {
+        for (String gram : grams(normalized)) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(sku);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+        for (String word : words(normalized)) {
+            trie.remove(word, sku);
+        }
+    }
+    
+    private static int rank(String name, String query) {
+        if (name == null) {
+            return -1;
+        }
+        if (name.equals(query)) {
+            return RANK_EXACT;
+        }
+        if (name.startsWith(query)) {
+            return RANK_NAME_PREFIX;
+        }
+        int index = name.indexOf(query);
+        if (index < 0) {
+            return -1;
+        }
+        do {
+            if (name.charAt(index - 1) == ' ') {
+                return RANK_WORD_PREFIX;
+            }
+            index = name.indexOf(query, index + 1);
+        } while (index > 0);
+        return RANK_SUBSTRING;
+    }
+    
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+    
+    private static Set<String> words(String text) {
+        Set<String> words = new HashSet<>();
+        for (String word : text.split(" ")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+    
+    private static String lastWord(String query) {
+        int space = query.lastIndexOf(' ');
+        return space < 0 ? query : query.substring(space + 1);
+    }
+    
+    private record Match(String sku, String name, int rank) {
+    }
+    
+    /**
+     * Nó da trie de prefixos; cada nó guarda os SKUs com alguma palavra
+     * iniciada pelo prefixo correspondente.
+     */
+    private static final class TrieNode {
+        
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final Set<String> skus = new HashSet<>();
+        
+        void add(String word, String sku) {
+            TrieNode node = this;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+                node.skus.add(sku);
+            }
+        }
+        
+        void remove(String word, String sku) {
+            TrieNode node = this;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                TrieNode child = node.children.get(word.charAt(i));
+                if (child == null) {
+                    return;
+                }
+                child.skus.remove(sku);
+                if (child.skus.isEmpty()) {
+                    node.children.remove(word.charAt(i));
+                    return;
+                }
+                node = child;
+            }
+        }
+        
+        Set<String> find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.get(prefix.charAt(i));
+                if (node == null) {
+                    return Set.of();
+                }
+            }
+            return node.skus;
+        }
+    }
+}
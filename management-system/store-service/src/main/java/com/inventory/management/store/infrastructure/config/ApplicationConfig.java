@@ -1,9 +1,15 @@
 package com.inventory.management.store.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
@@ -20,14 +26,41 @@ public class ApplicationConfig {
     
     /**
      * Configura o ObjectMapper para serialização JSON.
-     * Registra o módulo JavaTimeModule para suporte a LocalDateTime.
+     * Registra o módulo JavaTimeModule para suporte a LocalDateTime e permite
+     * que serializadores declarados por anotação recebam dependências do Spring.
      * 
+     * @param beanFactory fábrica usada para instanciar serializadores anotados
      * @return ObjectMapper configurado
      */
     @Bean
-    public ObjectMapper objectMapper() {
+    public ObjectMapper objectMapper(AutowireCapableBeanFactory beanFactory) {
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
+        mapper.setHandlerInstantiator(new SpringHandlerInstantiator(beanFactory));
         return mapper;
     }
+    
+    /**
+     * Conversor HTTP para application/cbor, negociado pelo cabeçalho Accept.
+     * Usa uma cópia do ObjectMapper principal, com os mesmos módulos e serializadores.
+     * 
+     * @param objectMapper ObjectMapper principal
+     * @return conversor CBOR
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+    
+    /**
+     * Conversor HTTP para application/x-jackson-smile, negociado pelo cabeçalho Accept.
+     * Usa uma cópia do ObjectMapper principal, com os mesmos módulos e serializadores.
+     * 
+     * @param objectMapper ObjectMapper principal
+     * @return conversor Smile
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
 }
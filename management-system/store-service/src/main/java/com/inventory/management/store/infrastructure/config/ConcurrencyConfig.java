@@ -1,10 +1,16 @@
 package com.inventory.management.store.infrastructure.config;
 
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.retry.annotation.Recover;
@@ -38,6 +44,14 @@ public class ConcurrencyConfig {
         return new DataSourceConnectionValidator(dataSource);
     }
     
+    /**
+     * Listener que contabiliza conflitos e novas tentativas do retry otimista.
+     */
+    @Bean
+    public RetryListener optimisticLockRetryListener(BusinessMetrics businessMetrics) {
+        return new OptimisticLockRetryMetricsListener(businessMetrics);
+    }
+    
     /**
      * Componente para validação de conexões.
      */
@@ -72,6 +86,8 @@ public class ConcurrencyConfig {
         
         /**
          * Executa operação com retry automático em caso de OptimisticLockingException.
+         * O backoff exponencial usa jitter para que requisições em conflito não
+         * voltem a colidir no mesmo instante.
          * 
          * @param operation operação a ser executada
          * @param <T> tipo do retorno
@@ -80,7 +96,8 @@ public class ConcurrencyConfig {
         @Retryable(
             retryFor = {OptimisticLockingFailureException.class, ObjectOptimisticLockingFailureException.class},
             maxAttempts = 5,
-            backoff = @Backoff(delay = 100, multiplier = 2, maxDelay = 2000)
+            backoff = @Backoff(delay = 100, multiplier = 2, maxDelay = 2000, random = true),
+            listeners = "optimisticLockRetryListener"
         )
         @Transactional(isolation = Isolation.READ_COMMITTED, timeout = 30)
         public <T> T executeWithOptimisticLockRetry(java.util.function.Supplier<T> operation) {
@@ -90,17 +107,54 @@ public class ConcurrencyConfig {
         
         /**
          * Método de recuperação quando todas as tentativas falharam.
+         * O conflito é propagado como {@link ConcurrencyConflictException},
+         * respondida pela API com 409 (ou 412 quando a requisição traz If-Match).
          */
         @Recover
         public <T> T recover(OptimisticLockingFailureException ex, java.util.function.Supplier<T> operation) {
             log.error("Falha após múltiplas tentativas devido a conflito de concorrência", ex);
-            throw new IllegalStateException("Conflito de concorrência não resolvido após múltiplas tentativas", ex);
+            throw new ConcurrencyConflictException("Conflito de concorrência não resolvido após múltiplas tentativas", ex);
         }
         
         @Recover
         public <T> T recover(ObjectOptimisticLockingFailureException ex, java.util.function.Supplier<T> operation) {
             log.error("Falha após múltiplas tentativas devido a conflito de concorrência no objeto", ex);
-            throw new IllegalStateException("Conflito de concorrência não resolvido após múltiplas tentativas", ex);
+            throw new ConcurrencyConflictException("Conflito de concorrência não resolvido após múltiplas tentativas", ex);
+        }
+        
+        /**
+         * Exceções de negócio (não relacionadas a concorrência) são propagadas sem alteração.
+         */
+        @Recover
+        public <T> T recover(RuntimeException ex, java.util.function.Supplier<T> operation) {
+            throw ex;
+        }
+    }
+    
+    /**
+     * Publica métricas de conflitos de versão e das novas tentativas executadas.
+     */
+    @RequiredArgsConstructor
+    public static class OptimisticLockRetryMetricsListener implements RetryListener {
+        
+        private final BusinessMetrics businessMetrics;
+        
+        @Override
+        public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, 
+                                                     Throwable throwable) {
+            if (throwable instanceof OptimisticLockingFailureException) {
+                businessMetrics.recordOptimisticLockConflict();
+            }
+        }
+        
+        @Override
+        public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, 
+                                                   Throwable throwable) {
+            int retries = throwable == null ? context.getRetryCount() : context.getRetryCount() - 1;
+            businessMetrics.recordOptimisticLockRetries(retries);
+            if (throwable instanceof OptimisticLockingFailureException) {
+                businessMetrics.recordOptimisticLockExhausted();
+            }
         }
     }
     
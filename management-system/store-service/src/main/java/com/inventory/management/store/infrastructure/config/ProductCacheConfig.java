@@ -0,0 +1,46 @@
+package com.inventory.management.store.infrastructure.config;
+
+import com.inventory.management.store.infrastructure.adapter.out.cache.ProductNearCacheAdapter;
+import com.inventory.management.store.infrastructure.adapter.out.search.InMemoryProductSearchIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuração da invalidação distribuída do near-cache de produtos.
+ * Assina o canal Redis em que as instâncias publicam as alterações de estoque
+ * e de catálogo; estas também atualizam o índice de busca em memória.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.inventory.near-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheConfig {
+    
+    @Value("${app.inventory.near-cache.invalidation-channel:inventory:product-cache:invalidate}")
+    private String invalidationChannel;
+    
+    @Bean
+    public RedisMessageListenerContainer productCacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, ProductNearCacheAdapter productNearCache,
+            InMemoryProductSearchIndex productSearchIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> {
+                    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+                    productNearCache.onRemoteInvalidation(body);
+                    productSearchIndex.onRemoteInvalidation(body);
+                },
+                new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
@@ -0,0 +1,85 @@
+package com.inventory.management.store.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Métricas de negócio do serviço de loja expostas via Micrometer/Prometheus.
+ * 
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class BusinessMetrics {
+    
+    private static final String OPTIMISTIC_LOCK_CONFLICTS = "inventory.concurrency.optimistic_lock.conflicts";
+    private static final String OPTIMISTIC_LOCK_RETRIES = "inventory.concurrency.optimistic_lock.retries";
+    private static final String OPTIMISTIC_LOCK_EXHAUSTED = "inventory.concurrency.optimistic_lock.exhausted";
+    private static final String PRECONDITION_FAILED = "inventory.concurrency.precondition_failed";
+    private static final String RESERVATION_QUOTA_REJECTED = "inventory.reservation.quota_rejected";
+    private static final String NEAR_CACHE_STALE_SERVED = "inventory.near_cache.stale_served";
+    
+    private final MeterRegistry meterRegistry;
+    
+    /**
+     * Registra um conflito de versão detectado ao persistir o estoque.
+     */
+    public void recordOptimisticLockConflict() {
+        counter(OPTIMISTIC_LOCK_CONFLICTS, "Conflitos de versão detectados ao persistir estoque").increment();
+    }
+    
+    /**
+     * Registra as novas tentativas executadas após conflitos de versão.
+     * 
+     * @param retries quantidade de novas tentativas
+     */
+    public void recordOptimisticLockRetries(int retries) {
+        if (retries > 0) {
+            counter(OPTIMISTIC_LOCK_RETRIES, "Novas tentativas após conflito de versão").increment(retries);
+        }
+    }
+    
+    /**
+     * Registra uma operação que esgotou as tentativas por conflito de versão.
+     */
+    public void recordOptimisticLockExhausted() {
+        counter(OPTIMISTIC_LOCK_EXHAUSTED, "Operações que esgotaram as tentativas por conflito de versão").increment();
+    }
+    
+    /**
+     * Registra uma requisição rejeitada por If-Match divergente.
+     */
+    public void recordPreconditionFailed() {
+        counter(PRECONDITION_FAILED, "Requisições rejeitadas por If-Match divergente").increment();
+    }
+    
+    /**
+     * Registra uma reserva rejeitada por cota de cliente.
+     * 
+     * @param scope escopo da cota excedida (customer ou customer_sku)
+     */
+    public void recordReservationQuotaRejected(String scope) {
+        Counter.builder(RESERVATION_QUOTA_REJECTED)
+                .description("Reservas rejeitadas por cota de cliente")
+                .tag("scope", scope)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    /**
+     * Registra uma leitura servida a partir de entrada expirada do near-cache.
+     */
+    public void recordNearCacheStaleServed() {
+        counter(NEAR_CACHE_STALE_SERVED, "Leituras servidas do near-cache expirado com banco indisponível").increment();
+    }
+    
+    private Counter counter(String name, String description) {
+        return Counter.builder(name)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
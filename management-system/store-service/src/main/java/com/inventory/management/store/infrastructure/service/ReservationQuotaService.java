@@ -0,0 +1,284 @@
+package com.inventory.management.store.infrastructure.service;
+
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controle de cotas de reserva por cliente.
+ * Mantém em memória contadores de janela deslizante por cliente e por
+ * cliente/SKU, distribuídos em shards pelo customerId, permitindo rejeitar
+ * reservas acima do limite sem nenhum acesso ao banco de dados.
+ * Em ambientes com várias instâncias, os incrementos locais são
+ * sincronizados periodicamente com o Redis e os totais globais retornados
+ * passam a compor a contagem local.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@Slf4j
+public class ReservationQuotaService {
+
+    private static final String REDIS_KEY_PREFIX = "reservation_quota:";
+    private static final String KEY_SEPARATOR = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final BusinessMetrics businessMetrics;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxQuantityPerCustomer;
+    private final int maxQuantityPerCustomerSku;
+    private final boolean redisSyncEnabled;
+    private final Shard[] shards;
+
+    public ReservationQuotaService(
+            @Qualifier("rateLimitRedisTemplate") RedisTemplate<String, String> redisTemplate,
+            BusinessMetrics businessMetrics,
+            @Value("${app.inventory.reservation-quota.enabled:true}") boolean enabled,
+            @Value("${app.inventory.reservation-quota.window-ms:60000}") long windowMs,
+            @Value("${app.inventory.reservation-quota.max-quantity-per-customer:100}") int maxQuantityPerCustomer,
+            @Value("${app.inventory.reservation-quota.max-quantity-per-customer-sku:20}") int maxQuantityPerCustomerSku,
+            @Value("${app.inventory.reservation-quota.shards:64}") int shardCount,
+            @Value("${app.inventory.reservation-quota.redis-sync.enabled:true}") boolean redisSyncEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.businessMetrics = businessMetrics;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxQuantityPerCustomer = maxQuantityPerCustomer;
+        this.maxQuantityPerCustomerSku = maxQuantityPerCustomerSku;
+        this.redisSyncEnabled = redisSyncEnabled;
+        this.shards = new Shard[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+        }
+    }
+
+    /**
+     * Verifica as cotas do cliente e, se permitido, registra a quantidade solicitada.
+     * As tentativas consomem cota mesmo que a reserva falhe depois no domínio,
+     * pois o objetivo é limitar o volume de tentativas por cliente.
+     *
+     * @param customerId identificador do cliente
+     * @param storeId identificador da loja
+     * @param productSku SKU do produto
+     * @param quantity quantidade solicitada
+     * @return decisão da verificação de cota
+     */
+    public QuotaDecision tryAcquire(String customerId, String storeId, String productSku, int quantity) {
+        return tryAcquire(customerId, storeId, productSku, quantity, System.currentTimeMillis());
+    }
+
+    QuotaDecision tryAcquire(String customerId, String storeId, String productSku, int quantity, long nowMillis) {
+        if (!enabled) {
+            return QuotaDecision.permit();
+        }
+
+        String customerKey = customerId;
+        String skuKey = customerId + KEY_SEPARATOR + storeId + KEY_SEPARATOR + productSku;
+        long bucket = nowMillis / windowMs;
+        double previousWeight = 1.0 - (double) (nowMillis % windowMs) / windowMs;
+
+        Shard shard = shardFor(customerId);
+        synchronized (shard) {
+            WindowCounter customerCounter = shard.counter(customerKey, bucket);
+            if (customerCounter.estimate(previousWeight) + quantity > maxQuantityPerCustomer) {
+                businessMetrics.recordReservationQuotaRejected("customer");
+                return QuotaDecision.reject(String.format(
+                        "Limite de reservas por cliente excedido: máximo de %d unidades por janela",
+                        maxQuantityPerCustomer));
+            }
+
+            WindowCounter skuCounter = shard.counter(skuKey, bucket);
+            if (skuCounter.estimate(previousWeight) + quantity > maxQuantityPerCustomerSku) {
+                businessMetrics.recordReservationQuotaRejected("customer_sku");
+                return QuotaDecision.reject(String.format(
+                        "Limite de reservas do produto por cliente excedido: máximo de %d unidades por janela",
+                        maxQuantityPerCustomerSku));
+            }
+
+            customerCounter.add(quantity);
+            skuCounter.add(quantity);
+        }
+        return QuotaDecision.permit();
+    }
+
+    /**
+     * Sincroniza os incrementos locais com o Redis e incorpora os totais
+     * globais aos contadores locais. Também descarta contadores expirados.
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.reservation-quota.redis-sync.interval-ms:1000}")
+    public void synchronize() {
+        if (!enabled) {
+            return;
+        }
+        long currentBucket = System.currentTimeMillis() / windowMs;
+
+        for (Shard shard : shards) {
+            List<PendingIncrement> pending = shard.drainPending(currentBucket);
+            if (pending.isEmpty() || !redisSyncEnabled) {
+                continue;
+            }
+
+            try {
+                List<Long> totals = pushIncrements(pending);
+                synchronized (shard) {
+                    for (int i = 0; i < pending.size(); i++) {
+                        shard.applyGlobalTotal(pending.get(i), totals.get(i));
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Falha ao sincronizar cotas de reserva com Redis: {}", e.getMessage());
+                synchronized (shard) {
+                    pending.forEach(shard::restorePending);
+                }
+            }
+        }
+    }
+
+    private List<Long> pushIncrements(List<PendingIncrement> pending) {
+        long ttlSeconds = Math.max(1, windowMs * 2 / 1000);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (PendingIncrement increment : pending) {
+                byte[] redisKey = bytes(REDIS_KEY_PREFIX + increment.bucket());
+                incrementAndExpire(connection, redisKey, bytes(increment.key()), increment.delta(), ttlSeconds);
+            }
+            return null;
+        });
+
+        List<Long> totals = new ArrayList<>(pending.size());
+        for (int i = 0; i < results.size(); i += 2) {
+            totals.add(((Number) results.get(i)).longValue());
+        }
+        return totals;
+    }
+
+    private void incrementAndExpire(RedisConnection connection, byte[] redisKey, byte[] field,
+                                    long delta, long ttlSeconds) {
+        connection.hashCommands().hIncrBy(redisKey, field, delta);
+        connection.keyCommands().expire(redisKey, ttlSeconds);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private Shard shardFor(String customerId) {
+        return shards[Math.floorMod(customerId.hashCode(), shards.length)];
+    }
+
+    /**
+     * Resultado da verificação de cota.
+     *
+     * @param allowed se a reserva pode prosseguir
+     * @param message motivo da rejeição (null quando permitido)
+     */
+    public record QuotaDecision(boolean allowed, String message) {
+
+        private static final QuotaDecision ALLOWED = new QuotaDecision(true, null);
+
+        static QuotaDecision permit() {
+            return ALLOWED;
+        }
+
+        static QuotaDecision reject(String message) {
+            return new QuotaDecision(false, message);
+        }
+    }
+
+    /**
+     * Incremento local ainda não enviado ao Redis.
+     */
+    private record PendingIncrement(String key, long bucket, long delta) {
+    }
+
+    /**
+     * Conjunto de contadores de um shard, protegido pelo monitor do próprio shard.
+     */
+    private static final class Shard {
+
+        private final Map<String, WindowCounter> counters = new HashMap<>();
+
+        WindowCounter counter(String key, long bucket) {
+            WindowCounter counter = counters.computeIfAbsent(key, k -> new WindowCounter());
+            counter.rollTo(bucket);
+            return counter;
+        }
+
+        synchronized List<PendingIncrement> drainPending(long currentBucket) {
+            List<PendingIncrement> pending = new ArrayList<>();
+            Iterator<Map.Entry<String, WindowCounter>> iterator = counters.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, WindowCounter> entry = iterator.next();
+                WindowCounter counter = entry.getValue();
+                counter.rollTo(currentBucket);
+                if (counter.pending > 0) {
+                    pending.add(new PendingIncrement(entry.getKey(), counter.bucket, counter.pending));
+                    counter.pending = 0;
+                } else if (counter.current == 0 && counter.previous == 0) {
+                    iterator.remove();
+                }
+            }
+            return pending;
+        }
+
+        void applyGlobalTotal(PendingIncrement increment, long globalTotal) {
+            WindowCounter counter = counters.get(increment.key());
+            if (counter != null && counter.bucket == increment.bucket()) {
+                counter.current = Math.max(counter.current, globalTotal + counter.pending);
+            }
+        }
+
+        void restorePending(PendingIncrement increment) {
+            WindowCounter counter = counters.get(increment.key());
+            if (counter != null && counter.bucket == increment.bucket()) {
+                counter.pending += increment.delta();
+            }
+        }
+    }
+
+    /**
+     * Contador de janela deslizante aproximada: combina a contagem da janela
+     * atual com a da anterior ponderada pelo tempo restante de sobreposição.
+     */
+    private static final class WindowCounter {
+
+        private long bucket = Long.MIN_VALUE;
+        private long current;
+        private long previous;
+        private long pending;
+
+        void rollTo(long targetBucket) {
+            if (targetBucket == bucket) {
+                return;
+            }
+            previous = targetBucket == bucket + 1 ? current : 0;
+            current = 0;
+            pending = 0;
+            bucket = targetBucket;
+        }
+
+        double estimate(double previousWeight) {
+            return current + previous * previousWeight;
+        }
+
+        void add(int quantity) {
+            current += quantity;
+            pending += quantity;
+        }
+    }
+}
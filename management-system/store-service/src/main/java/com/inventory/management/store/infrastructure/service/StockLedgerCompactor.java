@@ -0,0 +1,93 @@
+package com.inventory.management.store.infrastructure.service;
+
+import com.inventory.management.store.domain.service.InventoryGenerationCounters;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.StockMovementJpaRepository;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.StockMovementJpaRepository.CompactionCheckpointView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compactador do ledger de movimentos de estoque.
+ * Consolida periodicamente os deltas registrados em stock_movements nos
+ * snapshots da tabela product_stock, gerando uma única atualização por produto
+ * a cada ciclo em vez de uma por operação. Os movimentos são mantidos
+ * como trilha de auditoria. Como as listagens leem os snapshots, cada
+ * ciclo com alterações invalida as ETags das listagens de todas as lojas.
+ *
+ * O checkpoint só avança até uma barreira estável: a última posição
+ * atribuída pela sequência, registrada com o xmax do snapshot, é consolidada
+ * quando todas as transações anteriores a esse xmax terminaram. Assim uma
+ * transação longa que recebeu uma posição menor nunca fica para trás do
+ * checkpoint, independentemente da sua duração.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.inventory.stock-ledger.enabled", havingValue = "true")
+public class StockLedgerCompactor {
+
+    private final StockMovementJpaRepository stockMovementRepository;
+    private final InventoryGenerationCounters generationCounters;
+
+    @Value("${app.inventory.stock-ledger.compaction.batch-size:5000}")
+    private int batchSize;
+
+    /**
+     * Executa um ciclo de compactação do ledger.
+     * O checkpoint é bloqueado durante o ciclo, garantindo que apenas uma
+     * instância consolide o mesmo intervalo de movimentos.
+     *
+     * @return quantidade de produtos atualizados no ciclo
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.stock-ledger.compaction.interval-ms:5000}")
+    @Transactional
+    public int compact() {
+        CompactionCheckpointView checkpoint = stockMovementRepository.lockCompactionCheckpoint();
+        long position = checkpoint.getPosition();
+        Long barrier = checkpoint.getBarrierPosition();
+        if (barrier != null && !Boolean.TRUE.equals(checkpoint.getBarrierSettled())) {
+            // Ainda há transações anteriores à barreira em andamento
+            return 0;
+        }
+
+        int updatedProducts = 0;
+        if (barrier != null && barrier > position) {
+            long upperBound = stockMovementRepository.findCompactionUpperBound(position, barrier, batchSize);
+            updatedProducts = stockMovementRepository.foldMovementsIntoSnapshots(position, upperBound);
+            stockMovementRepository.advanceCompactionCheckpoint(upperBound, LocalDateTime.now());
+            if (updatedProducts > 0) {
+                generationCounters.advanceAllAfterCommit();
+            }
+            log.info("📒 Ledger compactado: posições ({}, {}] consolidadas em {} produtos",
+                    position, upperBound, updatedProducts);
+            position = upperBound;
+        }
+
+        if (barrier == null || position >= barrier) {
+            placeNextBarrier(position);
+        }
+        return updatedProducts;
+    }
+
+    /**
+     * Registra a próxima barreira quando há posições atribuídas além do
+     * checkpoint. A posição é lida antes do snapshot que define o xmax.
+     */
+    private void placeNextBarrier(long position) {
+        Long lastAssigned = stockMovementRepository.findLastAssignedPosition();
+        if (lastAssigned != null && lastAssigned > position) {
+            stockMovementRepository.placeCompactionBarrier(lastAssigned);
+        }
+    }
+}
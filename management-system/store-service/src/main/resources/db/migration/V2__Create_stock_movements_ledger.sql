@@ -0,0 +1,28 @@
+-- Ledger append-only de movimentos de estoque
+-- Reservas, confirmações e cancelamentos passam a registrar linhas estreitas
+-- (somente inserção) que são consolidadas periodicamente no snapshot da tabela products.
+
+CREATE TABLE store_service.stock_movements (
+    id BIGSERIAL PRIMARY KEY,
+    store_id VARCHAR(50) NOT NULL,
+    sku VARCHAR(100) NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    quantity_delta INTEGER NOT NULL,
+    reserved_delta INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Leitura efetiva (snapshot + deltas) por produto a partir da última posição consolidada
+CREATE INDEX idx_stock_movements_store_sku ON store_service.stock_movements(store_id, sku, id);
+
+-- Última posição do ledger já consolidada em cada snapshot
+ALTER TABLE store_service.products ADD COLUMN ledger_position BIGINT NOT NULL DEFAULT 0;
+
+-- Checkpoint global do compactador (linha única)
+CREATE TABLE store_service.stock_ledger_checkpoint (
+    id INTEGER PRIMARY KEY,
+    position BIGINT NOT NULL DEFAULT 0,
+    compacted_at TIMESTAMP
+);
+
+INSERT INTO store_service.stock_ledger_checkpoint (id, position) VALUES (1, 0);
@@ -0,0 +1,39 @@
+-- Separação das colunas quentes (contadores de estoque) dos atributos de catálogo.
+-- Reservas, confirmações e cancelamentos passam a reescrever apenas a tupla estreita
+-- de product_stock, sem índices secundários, favorecendo atualizações HOT
+-- (heap-only tuple). Os índices por nome/ativo ficam em product_catalog, que raramente muda.
+
+CREATE TABLE store_service.product_catalog (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    sku VARCHAR(100) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    description TEXT,
+    price DECIMAL(19,2) NOT NULL,
+    store_id VARCHAR(50) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT true
+);
+
+-- fillfactor reduzido deixa espaço livre na página para novas versões da tupla (HOT)
+CREATE TABLE store_service.product_stock (
+    product_id UUID PRIMARY KEY REFERENCES store_service.product_catalog(id) ON DELETE CASCADE,
+    quantity INTEGER NOT NULL DEFAULT 0,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ledger_position BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0
+) WITH (fillfactor = 70, autovacuum_vacuum_scale_factor = 0.05);
+
+-- Migração dos dados existentes
+INSERT INTO store_service.product_catalog (id, sku, name, description, price, store_id, active)
+SELECT id, sku, name, description, price, store_id, active FROM store_service.products;
+
+INSERT INTO store_service.product_stock (product_id, quantity, reserved_quantity, updated_at, ledger_position, version)
+SELECT id, quantity, reserved_quantity, updated_at, ledger_position, version FROM store_service.products;
+
+DROP TABLE store_service.products;
+
+-- Índices do catálogo (id incluído para permitir index-only scan na busca do estoque por loja/SKU)
+CREATE UNIQUE INDEX idx_store_sku ON store_service.product_catalog(store_id, sku) INCLUDE (id);
+CREATE INDEX idx_store_name ON store_service.product_catalog(store_id, name);
+CREATE INDEX idx_active ON store_service.product_catalog(active);
+CREATE INDEX idx_store_id ON store_service.product_catalog(store_id);
@@ -0,0 +1,6 @@
+-- Índices para a busca de inventário filtrada no banco (loja + faixa de preço / ordenação).
+-- Parciais em active, pois a busca considera apenas produtos ativos.
+-- product_stock continua sem índices secundários para preservar as atualizações HOT.
+
+CREATE INDEX idx_catalog_store_price_active ON store_service.product_catalog(store_id, price) WHERE active;
+CREATE INDEX idx_catalog_store_name_active ON store_service.product_catalog(store_id, name) WHERE active;
@@ -0,0 +1,8 @@
+-- Barreira de compactação do ledger: posição da sequência de movimentos e xmax do snapshot
+-- registrados pelo compactador. A posição só é consolidada quando todas as transações com
+-- xid anterior ao xmax terminaram, garantindo que nenhum movimento ainda não confirmado
+-- com identificador menor seja ultrapassado pelo checkpoint.
+
+ALTER TABLE store_service.stock_ledger_checkpoint
+    ADD COLUMN barrier_position BIGINT,
+    ADD COLUMN barrier_xmax xid8;
@@ -99,6 +99,35 @@ class InventorySearchRequestTest {
                 new InventorySearchRequest(null, null, null, null);
             });
         }
+
+        @Test
+        @DisplayName("Should create InventorySearchRequest with store, sort and limit")
+        void shouldCreateInventorySearchRequestWithStoreSortAndLimit() {
+            // When
+            InventorySearchRequest request = new InventorySearchRequest("STORE-001",
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.of(InventorySearchRequest.SortField.PRICE), true, Optional.of(25));
+
+            // Then
+            assertEquals("STORE-001", request.getStoreId());
+            assertEquals(Optional.of(InventorySearchRequest.SortField.PRICE), request.getSortBy());
+            assertTrue(request.isDescending());
+            assertEquals(Optional.of(25), request.getLimit());
+        }
+
+        @Test
+        @DisplayName("Should default sort and limit when using legacy constructor")
+        void shouldDefaultSortAndLimitWhenUsingLegacyConstructor() {
+            // When
+            InventorySearchRequest request = new InventorySearchRequest(
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+
+            // Then
+            assertNull(request.getStoreId());
+            assertTrue(request.getSortBy().isEmpty());
+            assertFalse(request.isDescending());
+            assertTrue(request.getLimit().isEmpty());
+        }
     }
 
     @Nested
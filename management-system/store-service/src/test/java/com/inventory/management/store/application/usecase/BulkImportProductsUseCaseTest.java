@@ -0,0 +1,144 @@
+package com.inventory.management.store.application.usecase;
+
+import com.inventory.management.store.application.dto.response.BulkImportResponse;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.service.InventoryDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BulkImportProductsUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkImportProductsUseCase Tests")
+class BulkImportProductsUseCaseTest {
+
+    @Mock
+    private InventoryDomainService inventoryDomainService;
+
+    @InjectMocks
+    private BulkImportProductsUseCase bulkImportProductsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkImportProductsUseCase, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Should import rows in batches and summarize changes")
+    void shouldImportRowsInBatches() {
+        // Given
+        List<List<String>> batches = new ArrayList<>();
+        when(inventoryDomainService.importProductBatch(eq("STORE-001"), anyList())).thenAnswer(invocation -> {
+            List<ProductImportRow> batch = invocation.getArgument(1);
+            batches.add(batch.stream().map(ProductImportRow::sku).toList());
+            return batch.stream()
+                .map(row -> row.sku().equals("SKU-1")
+                    ? new ProductImportChange(row.sku(), true, null, row.quantity(), 0, 0L)
+                    : new ProductImportChange(row.sku(), false, 1, row.quantity(), 0, 1L))
+                .toList();
+        });
+
+        // When
+        BulkImportResponse response = bulkImportProductsUseCase.execute("STORE-001",
+                List.of(row("SKU-1"), row("SKU-2"), row("SKU-3")).iterator());
+
+        // Then
+        assertTrue(response.isSuccess());
+        assertEquals(List.of(List.of("SKU-1", "SKU-2"), List.of("SKU-3")), batches);
+        assertEquals(3, response.getRowsRead());
+        assertEquals(1, response.getProductsCreated());
+        assertEquals(2, response.getProductsUpdated());
+        assertEquals(3, response.getStockChanges());
+        assertEquals(2, response.getBatches());
+    }
+
+    @Test
+    @DisplayName("Should skip and report invalid rows")
+    void shouldSkipAndReportInvalidRows() {
+        // Given
+        when(inventoryDomainService.importProductBatch(eq("STORE-001"), anyList())).thenReturn(List.of());
+        Iterator<ProductImportRow> rows = iteratorOf(row("SKU-1"), new IllegalArgumentException("Linha 3: Preço inválido"));
+
+        // When
+        BulkImportResponse response = bulkImportProductsUseCase.execute("STORE-001", rows);
+
+        // Then
+        assertTrue(response.isSuccess());
+        assertEquals(1, response.getRowsRead());
+        assertEquals(1, response.getRowsRejected());
+        assertEquals(List.of("Linha 3: Preço inválido"), response.getErrors());
+    }
+
+    @Test
+    @DisplayName("Should stop and report failure when a batch fails")
+    void shouldReportFailureWhenBatchFails() {
+        // Given
+        when(inventoryDomainService.importProductBatch(eq("STORE-001"), anyList()))
+            .thenReturn(List.of(new ProductImportChange("SKU-1", true, null, 10, 0, 0L)))
+            .thenThrow(new DataAccessResourceFailureException("Conexão perdida"));
+
+        // When
+        BulkImportResponse response = bulkImportProductsUseCase.execute("STORE-001",
+                List.of(row("SKU-1"), row("SKU-2"), row("SKU-3"), row("SKU-4"), row("SKU-5")).iterator());
+
+        // Then
+        assertFalse(response.isSuccess());
+        assertTrue(response.getMessage().contains("Conexão perdida"));
+        assertEquals(1, response.getBatches());
+        assertEquals(1, response.getProductsCreated());
+        verify(inventoryDomainService, times(2)).importProductBatch(eq("STORE-001"), anyList());
+    }
+
+    @Test
+    @DisplayName("Should not call domain service for empty input")
+    void shouldNotCallDomainServiceForEmptyInput() {
+        // When
+        BulkImportResponse response = bulkImportProductsUseCase.execute("STORE-001", List.<ProductImportRow>of().iterator());
+
+        // Then
+        assertTrue(response.isSuccess());
+        assertEquals(0, response.getBatches());
+        verifyNoInteractions(inventoryDomainService);
+    }
+
+    private ProductImportRow row(String sku) {
+        return new ProductImportRow(sku, "Produto " + sku, null, BigDecimal.TEN, 10);
+    }
+
+    private Iterator<ProductImportRow> iteratorOf(Object... items) {
+        Iterator<Object> delegate = List.of(items).iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return delegate.hasNext();
+            }
+
+            @Override
+            public ProductImportRow next() {
+                Object item = delegate.next();
+                if (item instanceof RuntimeException e) {
+                    throw e;
+                }
+                return (ProductImportRow) item;
+            }
+        };
+    }
+}
@@ -4,6 +4,7 @@ import com.inventory.management.store.application.dto.request.CommitProductReque
 import com.inventory.management.store.application.dto.response.CommitProductResponse;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,8 +17,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,6 +37,9 @@ class CommitProductUseCaseTest {
     @Mock
     private InventoryDomainService inventoryDomainService;
 
+    @Mock
+    private OptimisticLockRetryTemplate optimisticLockRetryTemplate;
+
     @InjectMocks
     private CommitProductUseCase commitProductUseCase;
 
@@ -45,6 +51,9 @@ class CommitProductUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(optimisticLockRetryTemplate.executeWithOptimisticLockRetry(any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+
         product = Product.builder()
                 .id(UUID.randomUUID())
                 .sku(PRODUCT_SKU)
@@ -0,0 +1,65 @@
+package com.inventory.management.store.application.usecase;
+
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.service.InventoryDomainService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ExportCatalogUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportCatalogUseCase Tests")
+class ExportCatalogUseCaseTest {
+
+    @Mock
+    private InventoryDomainService inventoryDomainService;
+
+    @InjectMocks
+    private ExportCatalogUseCase exportCatalogUseCase;
+
+    @Test
+    @DisplayName("Should stream products to consumer and return exported count")
+    @SuppressWarnings("unchecked")
+    void shouldStreamProductsToConsumer() {
+        // Given
+        Product product = Product.builder().sku("SKU-001").storeId("STORE-001").build();
+        when(inventoryDomainService.exportCatalog(eq("STORE-001"), any())).thenAnswer(invocation -> {
+            Consumer<Product> consumer = invocation.getArgument(1);
+            consumer.accept(product);
+            return 1L;
+        });
+        List<Product> received = new ArrayList<>();
+
+        // When
+        long exported = exportCatalogUseCase.execute("STORE-001", received::add);
+
+        // Then
+        assertEquals(1L, exported);
+        assertEquals(List.of(product), received);
+    }
+
+    @Test
+    @DisplayName("Should propagate export failures")
+    void shouldPropagateExportFailures() {
+        // Given
+        when(inventoryDomainService.exportCatalog(eq("STORE-001"), any()))
+                .thenThrow(new IllegalStateException("Conexão perdida"));
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> exportCatalogUseCase.execute("STORE-001", p -> { }));
+    }
+}
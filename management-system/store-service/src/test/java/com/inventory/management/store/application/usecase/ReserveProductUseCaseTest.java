@@ -4,6 +4,9 @@ import com.inventory.management.store.application.dto.request.ReserveProductRequ
 import com.inventory.management.store.application.dto.response.ReserveProductResponse;
 import com.inventory.management.store.domain.model.Product;
 import com.inventory.management.store.domain.service.InventoryDomainService;
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryTemplate;
+import com.inventory.management.store.infrastructure.service.ReservationQuotaService;
+import com.inventory.management.store.infrastructure.service.ReservationQuotaService.QuotaDecision;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,9 +19,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,6 +40,12 @@ class ReserveProductUseCaseTest {
     @Mock
     private InventoryDomainService inventoryDomainService;
 
+    @Mock
+    private OptimisticLockRetryTemplate optimisticLockRetryTemplate;
+
+    @Mock
+    private ReservationQuotaService reservationQuotaService;
+
     @InjectMocks
     private ReserveProductUseCase reserveProductUseCase;
 
@@ -48,6 +59,11 @@ class ReserveProductUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(optimisticLockRetryTemplate.executeWithOptimisticLockRetry(any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        lenient().when(reservationQuotaService.tryAcquire(any(), any(), any(), anyInt()))
+                .thenReturn(new QuotaDecision(true, null));
+
         product = Product.builder()
                 .id(UUID.randomUUID())
                 .sku(PRODUCT_SKU)
@@ -116,6 +132,41 @@ class ReserveProductUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Reservation Quota Tests")
+    class ReservationQuotaTests {
+
+        @Test
+        @DisplayName("Should reject without touching domain when customer quota is exceeded")
+        void shouldRejectWithoutTouchingDomainWhenQuotaExceeded() {
+            // Given
+            when(reservationQuotaService.tryAcquire(CUSTOMER_ID, STORE_ID, PRODUCT_SKU, 5))
+                    .thenReturn(new QuotaDecision(false, "Limite de reservas por cliente excedido"));
+
+            // When
+            ReserveProductResponse response = reserveProductUseCase.execute(validRequest);
+
+            // Then
+            assertFalse(response.isSuccess());
+            assertTrue(response.isQuotaExceeded());
+            assertEquals("Limite de reservas por cliente excedido", response.getMessage());
+            verifyNoInteractions(inventoryDomainService);
+        }
+
+        @Test
+        @DisplayName("Should not consume quota for invalid requests")
+        void shouldNotConsumeQuotaForInvalidRequests() {
+            // Given
+            ReserveProductRequest request = new ReserveProductRequest(PRODUCT_SKU, STORE_ID, 0, CUSTOMER_ID, RESERVATION_DURATION);
+
+            // When
+            reserveProductUseCase.execute(request);
+
+            // Then
+            verifyNoInteractions(reservationQuotaService);
+        }
+    }
+
     @Nested
     @DisplayName("Validation Tests")
     class ValidationTests {
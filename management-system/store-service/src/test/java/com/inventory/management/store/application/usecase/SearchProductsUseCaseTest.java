@@ -4,7 +4,10 @@ import com.inventory.management.store.application.dto.request.GetProductRequest;
 import com.inventory.management.store.application.dto.request.SearchProductsRequest;
 import com.inventory.management.store.application.dto.response.GetProductResponse;
 import com.inventory.management.store.application.dto.response.SearchProductsResponse;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
 import com.inventory.management.store.domain.service.InventoryDomainService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,15 +17,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -75,6 +81,9 @@ class SearchProductsUseCaseTest {
                 .build();
 
         products = Arrays.asList(product1, product2);
+
+        ReflectionTestUtils.setField(searchProductsUseCase, "defaultPageSize", 100);
+        ReflectionTestUtils.setField(searchProductsUseCase, "maxPageSize", 500);
     }
 
     @Nested
@@ -87,8 +96,8 @@ class SearchProductsUseCaseTest {
             // Given
             SearchProductsRequest request = new SearchProductsRequest(STORE_ID, null);
 
-            when(inventoryDomainService.findAvailableProducts(STORE_ID))
-                    .thenReturn(products);
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, null, 100))
+                    .thenReturn(new ProductPage<>(products, null));
 
             // When
             SearchProductsResponse response = searchProductsUseCase.execute(request);
@@ -97,9 +106,10 @@ class SearchProductsUseCaseTest {
             assertTrue(response.isSuccess());
             assertEquals(2, response.getProducts().size());
             assertEquals(2, response.getTotalFound());
+            assertNull(response.getNextAfterSku());
             assertEquals("Busca realizada com sucesso", response.getMessage());
 
-            verify(inventoryDomainService).findAvailableProducts(STORE_ID);
+            verify(inventoryDomainService).findAvailableProducts(STORE_ID, null, 100);
             verify(inventoryDomainService, never()).searchProductsByName(any(), any());
         }
 
@@ -124,7 +134,7 @@ class SearchProductsUseCaseTest {
             assertEquals("Busca realizada com sucesso", response.getMessage());
 
             verify(inventoryDomainService).searchProductsByName("Product 1", STORE_ID);
-            verify(inventoryDomainService, never()).findAvailableProducts(any());
+            verify(inventoryDomainService, never()).findAvailableProducts(any(), any(), anyInt());
         }
 
         @Test
@@ -151,15 +161,15 @@ class SearchProductsUseCaseTest {
             // Given
             SearchProductsRequest request = new SearchProductsRequest(STORE_ID, "   ");
 
-            when(inventoryDomainService.findAvailableProducts(STORE_ID))
-                    .thenReturn(products);
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, null, 100))
+                    .thenReturn(new ProductPage<>(products, null));
 
             // When
             SearchProductsResponse response = searchProductsUseCase.execute(request);
 
             // Then
             assertTrue(response.isSuccess());
-            verify(inventoryDomainService).findAvailableProducts(STORE_ID);
+            verify(inventoryDomainService).findAvailableProducts(STORE_ID, null, 100);
             verify(inventoryDomainService, never()).searchProductsByName(any(), any());
         }
 
@@ -169,8 +179,8 @@ class SearchProductsUseCaseTest {
             // Given
             SearchProductsRequest request = new SearchProductsRequest(STORE_ID, null);
 
-            when(inventoryDomainService.findAvailableProducts(STORE_ID))
-                    .thenReturn(List.of());
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, null, 100))
+                    .thenReturn(new ProductPage<>(List.of(), null));
 
             // When
             SearchProductsResponse response = searchProductsUseCase.execute(request);
@@ -187,7 +197,7 @@ class SearchProductsUseCaseTest {
             // Given
             SearchProductsRequest request = new SearchProductsRequest(STORE_ID, null);
 
-            when(inventoryDomainService.findAvailableProducts(STORE_ID))
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, null, 100))
                     .thenThrow(new RuntimeException("Database error"));
 
             // When
@@ -200,6 +210,95 @@ class SearchProductsUseCaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Search Limit Tests")
+    class SearchLimitTests {
+
+        @Test
+        @DisplayName("Should forward limit to ranked name search")
+        void shouldForwardLimitToNameSearch() {
+            // Given
+            SearchProductsRequest request = new SearchProductsRequest(STORE_ID, " Product ", 1);
+            when(inventoryDomainService.searchProductsByName("Product", STORE_ID, 1))
+                    .thenReturn(List.of(product1));
+
+            // When
+            SearchProductsResponse response = searchProductsUseCase.execute(request);
+
+            // Then
+            assertTrue(response.isSuccess());
+            assertEquals(1, response.getTotalFound());
+            verify(inventoryDomainService, never()).searchProductsByName(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should use limit as page size and expose continuation SKU")
+        void shouldUseLimitAsPageSizeAndExposeContinuationSku() {
+            // Given
+            SearchProductsRequest request = new SearchProductsRequest(STORE_ID, null, 1, "SKU-000");
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, "SKU-000", 1))
+                    .thenReturn(new ProductPage<>(List.of(product1), "SKU-001"));
+
+            // When
+            SearchProductsResponse response = searchProductsUseCase.execute(request);
+
+            // Then
+            assertEquals(1, response.getProducts().size());
+            assertEquals("SKU-001", response.getNextAfterSku());
+        }
+
+        @Test
+        @DisplayName("Should cap page size at configured maximum")
+        void shouldCapPageSizeAtConfiguredMaximum() {
+            // Given
+            SearchProductsRequest request = new SearchProductsRequest(STORE_ID, null, 10_000);
+            when(inventoryDomainService.findAvailableProducts(STORE_ID, null, 500))
+                    .thenReturn(new ProductPage<>(products, null));
+
+            // When
+            SearchProductsResponse response = searchProductsUseCase.execute(request);
+
+            // Then
+            assertTrue(response.isSuccess());
+            verify(inventoryDomainService).findAvailableProducts(STORE_ID, null, 500);
+        }
+
+        @Test
+        @DisplayName("Should list available product views with resolved page size")
+        void shouldListAvailableProductViewsWithResolvedPageSize() {
+            // Given
+            ProductView view = ProductView.from(product1);
+            when(inventoryDomainService.findAvailableProductViews(STORE_ID, "SKU-000", 100))
+                    .thenReturn(new ProductPage<>(List.of(view), null));
+
+            // When
+            ProductPage<ProductView> page = searchProductsUseCase.listAvailableProducts(STORE_ID, "SKU-000", null);
+
+            // Then
+            assertEquals(List.of(view), page.products());
+            assertFalse(page.hasNext());
+            verify(inventoryDomainService, never()).findAvailableProducts(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Should list available product fields with resolved page size")
+        void shouldListAvailableProductFieldsWithResolvedPageSize() {
+            // Given
+            FieldSelection selection = FieldSelection.parse("name", ProductView.FIELDS);
+            Map<String, Object> row = Map.of("sku", "SKU-001", "name", "Produto");
+            when(inventoryDomainService.findAvailableProductFields(STORE_ID, null, 100, selection))
+                    .thenReturn(new ProductPage<>(List.of(row), null));
+
+            // When
+            ProductPage<Map<String, Object>> page =
+                    searchProductsUseCase.listAvailableProductFields(STORE_ID, null, null, selection);
+
+            // Then
+            assertEquals(List.of(row), page.products());
+            verify(inventoryDomainService, never()).findAvailableProductViews(any(), any(), anyInt());
+        }
+    }
+
     @Nested
     @DisplayName("Get Product By SKU Tests")
     class GetProductBySkuTests {
@@ -65,9 +65,13 @@ public class InventoryManagementSteps {
     @Quando("busco inventário com filtro de nome {string}")
     public void busco_inventario_com_filtro_de_nome(String nomeFilter) {
         InventorySearchRequest request = new InventorySearchRequest(
+            "STORE_DEFAULT",
             Optional.of(nomeFilter),
             Optional.empty(),
             Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            false,
             Optional.empty()
         );
         List<Product> products = inventoryDomainService.searchInventory(request);
@@ -78,9 +82,13 @@ public class InventoryManagementSteps {
     @Quando("busco todo o inventário")
     public void busco_todo_o_inventario() {
         InventorySearchRequest request = new InventorySearchRequest(
+            "STORE_DEFAULT",
+            Optional.empty(),
             Optional.empty(),
             Optional.empty(),
             Optional.empty(),
+            Optional.empty(),
+            false,
             Optional.empty()
         );
         List<Product> products = inventoryDomainService.searchInventory(request);
@@ -91,9 +99,13 @@ public class InventoryManagementSteps {
     @Quando("busco inventário com quantidade mínima {int}")
     public void busco_inventario_com_quantidade_minima(Integer quantidadeMinima) {
         InventorySearchRequest request = new InventorySearchRequest(
+            "STORE_DEFAULT",
             Optional.empty(),
             Optional.of(quantidadeMinima),
             Optional.empty(),
+            Optional.empty(),
+            Optional.empty(),
+            false,
             Optional.empty()
         );
         List<Product> products = inventoryDomainService.searchInventory(request);
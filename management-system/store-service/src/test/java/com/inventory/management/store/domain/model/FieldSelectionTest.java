@@ -0,0 +1,52 @@
+package com.inventory.management.store.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para FieldSelection.
+ */
+@DisplayName("FieldSelection Tests")
+class FieldSelectionTest {
+
+    @Test
+    @DisplayName("Should include key field first without duplicates")
+    void shouldIncludeKeyFieldFirstWithoutDuplicates() {
+        FieldSelection selection = FieldSelection.parse(" availableQuantity, sku,availableQuantity,, ",
+                ProductView.FIELDS);
+
+        assertEquals(List.of("sku", "availableQuantity"), selection.fields());
+        assertEquals("sku", selection.keyField());
+    }
+
+    @Test
+    @DisplayName("Should return null when no field is informed")
+    void shouldReturnNullWhenNoFieldIsInformed() {
+        assertNull(FieldSelection.parse(null, ProductView.FIELDS));
+        assertNull(FieldSelection.parse("  ", ProductView.FIELDS));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown field")
+    void shouldRejectUnknownField() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FieldSelection.parse("sku,password", ProductView.FIELDS));
+
+        assertTrue(exception.getMessage().contains("password"));
+    }
+
+    @Test
+    @DisplayName("Should produce distinct fingerprints for distinct selections")
+    void shouldProduceDistinctFingerprintsForDistinctSelections() {
+        FieldSelection names = FieldSelection.parse("name", ProductView.FIELDS);
+        FieldSelection prices = FieldSelection.parse("price", ProductView.FIELDS);
+
+        assertNotEquals(names.fingerprint(), prices.fingerprint());
+        assertEquals(names.fingerprint(), FieldSelection.parse("sku,name", ProductView.FIELDS).fingerprint());
+        assertFalse(names.fingerprint().contains(","));
+    }
+}
@@ -95,7 +95,7 @@ class InventoryUpdateEventTest {
             // When
             InventoryUpdateEvent event = new InventoryUpdateEvent(
                 eventId, PRODUCT_SKU, STORE_ID, InventoryUpdateEvent.EventType.COMMIT,
-                PREVIOUS_QUANTITY, NEW_QUANTITY, RESERVED_QUANTITY, timestamp, details
+                PREVIOUS_QUANTITY, NEW_QUANTITY, RESERVED_QUANTITY, timestamp, details, 7L
             );
             
             // Then
@@ -108,6 +108,7 @@ class InventoryUpdateEventTest {
             assertEquals(RESERVED_QUANTITY, event.getReservedQuantity());
             assertEquals(timestamp, event.getTimestamp());
             assertEquals(details, event.getDetails());
+            assertEquals(7L, event.getSequence());
         }
     }
     
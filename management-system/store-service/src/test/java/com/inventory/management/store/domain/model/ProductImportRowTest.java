@@ -0,0 +1,47 @@
+package com.inventory.management.store.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProductImportRow e ProductImportChange.
+ */
+@DisplayName("ProductImportRow Tests")
+class ProductImportRowTest {
+
+    @Test
+    @DisplayName("Should accept valid row")
+    void shouldAcceptValidRow() {
+        ProductImportRow row = new ProductImportRow("SKU-001", "Mouse", null, BigDecimal.ZERO, 0);
+
+        assertEquals("SKU-001", row.sku());
+    }
+
+    @Test
+    @DisplayName("Should reject missing or out of range fields")
+    void shouldRejectInvalidFields() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductImportRow(" ", "Mouse", null, BigDecimal.ONE, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductImportRow("X".repeat(101), "Mouse", null, BigDecimal.ONE, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductImportRow("SKU-001", null, null, BigDecimal.ONE, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductImportRow("SKU-001", "Mouse", null, new BigDecimal("-0.01"), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProductImportRow("SKU-001", "Mouse", null, BigDecimal.ONE, -1));
+    }
+
+    @Test
+    @DisplayName("Should classify import changes")
+    void shouldClassifyImportChanges() {
+        assertTrue(new ProductImportChange("SKU-001", true, null, 10, 0, 0L).isRestock());
+        assertTrue(new ProductImportChange("SKU-001", false, 5, 10, 0, 1L).isRestock());
+        assertFalse(new ProductImportChange("SKU-001", false, 10, 5, 0, 1L).isRestock());
+        assertFalse(new ProductImportChange("SKU-001", false, null, null, null, null).stockChanged());
+    }
+}
@@ -0,0 +1,69 @@
+package com.inventory.management.store.domain.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProductView.
+ */
+@DisplayName("ProductView Tests")
+class ProductViewTest {
+
+    private final Product product = Product.builder()
+            .id(UUID.randomUUID())
+            .sku("SKU-001")
+            .name("Mouse")
+            .description("Mouse sem fio")
+            .price(new BigDecimal("99.90"))
+            .quantity(10)
+            .reservedQuantity(2)
+            .storeId("STORE-001")
+            .active(true)
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+            .version(3L)
+            .build();
+
+    @Test
+    @DisplayName("Should copy all fields from product")
+    void shouldCopyAllFieldsFromProduct() {
+        ProductView view = ProductView.from(product);
+
+        assertEquals(product.getId(), view.id());
+        assertEquals("SKU-001", view.sku());
+        assertEquals("Mouse sem fio", view.description());
+        assertEquals(2, view.reservedQuantity());
+        assertEquals(product.getAvailableQuantity(), view.getAvailableQuantity());
+        assertEquals(3L, view.version());
+    }
+
+    @Test
+    @DisplayName("Should serialize with the same JSON shape as product")
+    void shouldSerializeWithSameJsonShapeAsProduct() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(product)),
+                objectMapper.readTree(objectMapper.writeValueAsString(ProductView.from(product))));
+    }
+
+    @Test
+    @DisplayName("Should select only requested fields in selection order")
+    void shouldSelectOnlyRequestedFieldsInSelectionOrder() {
+        FieldSelection selection = FieldSelection.parse("availableQuantity,price", ProductView.FIELDS);
+
+        Map<String, Object> row = ProductView.from(product).select(selection);
+
+        assertEquals(List.of("sku", "availableQuantity", "price"), List.copyOf(row.keySet()));
+        assertEquals(product.getAvailableQuantity(), row.get("availableQuantity"));
+        assertEquals(new BigDecimal("99.90"), row.get("price"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.inventory.management.store.domain.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para a classe StockMovement.
+ *
+ * @author Sistema de Gerenciamento de Inventário
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@DisplayName("StockMovement Domain Model Tests")
+class StockMovementTest {
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .sku("TEST-SKU-001")
+                .name("Produto Teste")
+                .price(BigDecimal.valueOf(99.99))
+                .quantity(100)
+                .reservedQuantity(10)
+                .storeId("STORE-001")
+                .active(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should compute deltas for reservation")
+    void shouldComputeDeltasForReservation() {
+        // Given
+        product.reserveQuantity(5);
+
+        // When
+        StockMovement movement = StockMovement.of(product, StockMovement.MovementType.RESERVE, 100, 10);
+
+        // Then
+        assertEquals("TEST-SKU-001", movement.getSku());
+        assertEquals("STORE-001", movement.getStoreId());
+        assertEquals(StockMovement.MovementType.RESERVE, movement.getMovementType());
+        assertEquals(-5, movement.getQuantityDelta());
+        assertEquals(5, movement.getReservedDelta());
+        assertNotNull(movement.getCreatedAt());
+        assertNull(movement.getId());
+        assertFalse(movement.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should compute deltas for commit")
+    void shouldComputeDeltasForCommit() {
+        // Given
+        product.commitReservation(4);
+
+        // When
+        StockMovement movement = StockMovement.of(product, StockMovement.MovementType.COMMIT, 100, 10);
+
+        // Then
+        assertEquals(0, movement.getQuantityDelta());
+        assertEquals(-4, movement.getReservedDelta());
+    }
+
+    @Test
+    @DisplayName("Should compute deltas for manual adjustment")
+    void shouldComputeDeltasForAdjustment() {
+        // Given
+        product.updateQuantity(130);
+
+        // When
+        StockMovement movement = StockMovement.of(product, StockMovement.MovementType.ADJUSTMENT, 100, 10);
+
+        // Then
+        assertEquals(30, movement.getQuantityDelta());
+        assertEquals(0, movement.getReservedDelta());
+    }
+
+    @Test
+    @DisplayName("Should treat null previous reserved quantity as zero")
+    void shouldTreatNullPreviousReservedAsZero() {
+        // When
+        StockMovement movement = StockMovement.of(product, StockMovement.MovementType.RESERVE, 100, null);
+
+        // Then
+        assertEquals(10, movement.getReservedDelta());
+    }
+
+    @Test
+    @DisplayName("Should detect empty movement")
+    void shouldDetectEmptyMovement() {
+        // When
+        StockMovement movement = StockMovement.of(product, StockMovement.MovementType.ADJUSTMENT, 100, 10);
+
+        // Then
+        assertTrue(movement.isEmpty());
+    }
+}
@@ -1,20 +1,36 @@
 package com.inventory.management.store.domain.service;
 
+import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.exception.ProductVersionConflictException;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.InventoryUpdateEvent;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.model.StockMovement;
 import com.inventory.management.store.domain.port.InventoryEventPublisher;
+import com.inventory.management.store.domain.port.ProductCache;
 import com.inventory.management.store.domain.port.ProductRepository;
+import com.inventory.management.store.domain.port.ProductSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,6 +49,15 @@ class InventoryDomainServiceTest {
     @Mock
     private InventoryEventPublisher eventPublisher;
 
+    @Mock
+    private ProductCache productCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
     @InjectMocks
     private InventoryDomainService inventoryDomainService;
 
@@ -42,6 +67,9 @@ class InventoryDomainServiceTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(productCache.get(anyString(), anyString(), any()))
+            .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+
         testProduct = Product.builder()
             .id(UUID.randomUUID())
             .sku(TEST_SKU)
@@ -59,23 +87,43 @@ class InventoryDomainServiceTest {
     void shouldReserveProductSuccessfully() {
         // Given
         int quantityToReserve = 5;
-        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+        when(productRepository.findStockBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
             .thenReturn(Optional.of(testProduct));
-        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
 
         // When
         Product result = inventoryDomainService.reserveProduct(TEST_SKU, TEST_STORE_ID, quantityToReserve);
 
         // Then
         assertThat(result).isNotNull();
-        verify(productRepository).save(testProduct);
+        verify(productRepository).saveStock(testProduct);
         verify(eventPublisher).publishInventoryUpdateEventAsync(any(InventoryUpdateEvent.class));
     }
 
+    @Test
+    void shouldStampStockVersionAsEventSequence() {
+        // Given
+        when(productRepository.findStockBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+        when(productRepository.saveStock(any(Product.class))).thenAnswer(invocation -> {
+            Product saved = invocation.getArgument(0);
+            saved.setVersion(4L);
+            return saved;
+        });
+
+        // When
+        inventoryDomainService.reserveProduct(TEST_SKU, TEST_STORE_ID, 5);
+
+        // Then
+        ArgumentCaptor<InventoryUpdateEvent> event = ArgumentCaptor.forClass(InventoryUpdateEvent.class);
+        verify(eventPublisher).publishInventoryUpdateEventAsync(event.capture());
+        assertThat(event.getValue().getSequence()).isEqualTo(4L);
+    }
+
     @Test
     void shouldThrowExceptionWhenProductNotFound() {
         // Given
-        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+        when(productRepository.findStockBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
             .thenReturn(Optional.empty());
 
         // When & Then
@@ -89,14 +137,14 @@ class InventoryDomainServiceTest {
         int quantityToCancel = 5;
         when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
             .thenReturn(Optional.of(testProduct));
-        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
 
         // When
         Product result = inventoryDomainService.cancelReservation(TEST_SKU, TEST_STORE_ID, quantityToCancel);
 
         // Then
         assertThat(result).isNotNull();
-        verify(productRepository).save(testProduct);
+        verify(productRepository).saveStock(testProduct);
         verify(eventPublisher).publishInventoryUpdateEventAsync(any(InventoryUpdateEvent.class));
     }
 
@@ -104,16 +152,16 @@ class InventoryDomainServiceTest {
     void shouldCommitReservedProductSuccessfully() {
         // Given
         int quantityToCommit = 5;
-        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+        when(productRepository.findStockBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
             .thenReturn(Optional.of(testProduct));
-        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
 
         // When
         Product result = inventoryDomainService.commitReservedProduct(TEST_SKU, TEST_STORE_ID, quantityToCommit);
 
         // Then
         assertThat(result).isNotNull();
-        verify(productRepository).save(testProduct);
+        verify(productRepository).saveStock(testProduct);
         verify(eventPublisher).publishInventoryUpdateEventAsync(any(InventoryUpdateEvent.class));
     }
 
@@ -123,15 +171,16 @@ class InventoryDomainServiceTest {
         int newQuantity = 150;
         when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
             .thenReturn(Optional.of(testProduct));
-        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
 
         // When
         Product result = inventoryDomainService.updateProductQuantity(TEST_SKU, TEST_STORE_ID, newQuantity);
 
         // Then
         assertThat(result).isNotNull();
-        verify(productRepository).save(testProduct);
+        verify(productRepository).saveStock(testProduct);
         verify(eventPublisher).publishInventoryUpdateEventAsync(any(InventoryUpdateEvent.class));
+        verify(generationCounters).advanceAfterCommit(TEST_STORE_ID);
     }
 
     @Test
@@ -172,4 +221,366 @@ class InventoryDomainServiceTest {
         assertThatThrownBy(() -> inventoryDomainService.reserveProduct(TEST_SKU, TEST_STORE_ID, 0))
             .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    void shouldAppendMovementInsteadOfSavingWhenLedgerEnabled() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "stockLedgerEnabled", true);
+        when(productRepository.findBySkuAndStoreIdWithPendingMovements(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+        when(productRepository.appendStockMovement(any(StockMovement.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Product result = inventoryDomainService.reserveProduct(TEST_SKU, TEST_STORE_ID, 5);
+
+        // Then
+        ArgumentCaptor<StockMovement> captor = ArgumentCaptor.forClass(StockMovement.class);
+        verify(productRepository).acquireStockLock(TEST_SKU, TEST_STORE_ID);
+        verify(productRepository).appendStockMovement(captor.capture());
+        verify(productRepository, never()).saveStock(any(Product.class));
+        verify(eventPublisher).publishInventoryUpdateEventAsync(any(InventoryUpdateEvent.class));
+        assertThat(captor.getValue().getMovementType()).isEqualTo(StockMovement.MovementType.RESERVE);
+        assertThat(captor.getValue().getQuantityDelta()).isEqualTo(-5);
+        assertThat(captor.getValue().getReservedDelta()).isEqualTo(5);
+        assertThat(result.getQuantity()).isEqualTo(95);
+        assertThat(result.getReservedQuantity()).isEqualTo(15);
+    }
+
+    @Test
+    void shouldUpdateQuantityWhenExpectedVersionMatches() {
+        // Given
+        testProduct.setVersion(3L);
+        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        Product result = inventoryDomainService.updateProductQuantity(TEST_SKU, TEST_STORE_ID, 120, 3L);
+
+        // Then
+        assertThat(result.getQuantity()).isEqualTo(120);
+        verify(productRepository).saveStock(testProduct);
+    }
+
+    @Test
+    void shouldRejectUpdateWhenExpectedVersionDiffers() {
+        // Given
+        testProduct.setVersion(5L);
+        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryDomainService.updateProductQuantity(TEST_SKU, TEST_STORE_ID, 120, 3L))
+            .isInstanceOf(ProductVersionConflictException.class)
+            .satisfies(e -> assertThat(((ProductVersionConflictException) e).getCurrentVersion()).isEqualTo(5L));
+        verify(productRepository, never()).saveStock(any(Product.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldReadProductThroughCache() {
+        // Given
+        when(productCache.get(eq(TEST_SKU), eq(TEST_STORE_ID), any())).thenReturn(testProduct);
+
+        // When
+        Product result = inventoryDomainService.findProductBySkuAndStore(TEST_SKU, TEST_STORE_ID);
+
+        // Then
+        assertThat(result).isSameAs(testProduct);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldBypassCacheAndRefreshItAfterStockChange() {
+        // Given
+        when(productRepository.findBySkuAndStoreId(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+        when(productRepository.saveStock(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        inventoryDomainService.cancelReservation(TEST_SKU, TEST_STORE_ID, 5);
+
+        // Then
+        verify(productCache, never()).get(anyString(), anyString(), any());
+        verify(productCache).refreshStock(testProduct);
+    }
+
+    @Test
+    void shouldSearchThroughIndexPreservingRanking() {
+        // Given
+        Product other = Product.builder().sku("TEST-002").storeId(TEST_STORE_ID).name("Test Product Plus").build();
+        when(productSearchIndex.isReady()).thenReturn(true);
+        when(productSearchIndex.search(TEST_STORE_ID, "test", 5)).thenReturn(List.of("TEST-002", TEST_SKU));
+        when(productRepository.findBySkusAndStoreId(List.of("TEST-002", TEST_SKU), TEST_STORE_ID))
+            .thenReturn(List.of(testProduct, other));
+
+        // When
+        List<Product> result = inventoryDomainService.searchProductsByName("test", TEST_STORE_ID, 5);
+
+        // Then
+        assertThat(result).containsExactly(other, testProduct);
+        verify(productRepository, never()).findByNameContainingAndStoreId(anyString(), anyString());
+    }
+
+    @Test
+    void shouldFallBackToDatabaseWhileIndexNotReady() {
+        // Given
+        when(productRepository.findByNameContainingAndStoreId("test", TEST_STORE_ID))
+            .thenReturn(List.of(testProduct, testProduct));
+
+        // When
+        List<Product> result = inventoryDomainService.searchProductsByName("test", TEST_STORE_ID, 1);
+
+        // Then
+        assertThat(result).hasSize(1);
+        verify(productSearchIndex, never()).search(anyString(), anyString(), anyInt());
+    }
+
+    @Test
+    void shouldIndexCreatedProduct() {
+        // Given
+        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+
+        // When
+        inventoryDomainService.createProduct(testProduct);
+
+        // Then
+        verify(productSearchIndex).index(testProduct);
+        verify(generationCounters).advanceAfterCommit(TEST_STORE_ID);
+    }
+
+    @Test
+    void shouldAppendAdjustmentMovementWhenLedgerEnabled() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "stockLedgerEnabled", true);
+        when(productRepository.findBySkuAndStoreIdWithPendingMovements(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+        when(productRepository.appendStockMovement(any(StockMovement.class)))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        inventoryDomainService.updateProductQuantity(TEST_SKU, TEST_STORE_ID, 120);
+
+        // Then
+        ArgumentCaptor<StockMovement> captor = ArgumentCaptor.forClass(StockMovement.class);
+        verify(productRepository).appendStockMovement(captor.capture());
+        assertThat(captor.getValue().getMovementType()).isEqualTo(StockMovement.MovementType.ADJUSTMENT);
+        assertThat(captor.getValue().getQuantityDelta()).isEqualTo(20);
+        assertThat(captor.getValue().getReservedDelta()).isZero();
+    }
+
+    @Test
+    void shouldSkipEmptyMovementWhenLedgerEnabled() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "stockLedgerEnabled", true);
+        when(productRepository.findBySkuAndStoreIdWithPendingMovements(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+
+        // When
+        inventoryDomainService.updateProductQuantity(TEST_SKU, TEST_STORE_ID, 100);
+
+        // Then
+        verify(productRepository, never()).appendStockMovement(any());
+        verify(productRepository, never()).saveStock(any(Product.class));
+    }
+
+    @Test
+    void shouldReadPendingMovementsWhenLedgerEnabled() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "stockLedgerEnabled", true);
+        when(productRepository.findBySkuAndStoreIdWithPendingMovements(TEST_SKU, TEST_STORE_ID))
+            .thenReturn(Optional.of(testProduct));
+
+        // When
+        Product result = inventoryDomainService.findProductBySkuAndStore(TEST_SKU, TEST_STORE_ID);
+
+        // Then
+        assertThat(result).isEqualTo(testProduct);
+        verify(productRepository, never()).findBySkuAndStoreId(anyString(), anyString());
+    }
+
+    @Test
+    void shouldDelegateInventorySearchToRepository() {
+        // Given
+        InventorySearchRequest request = new InventorySearchRequest(TEST_STORE_ID,
+            Optional.of("prod"), Optional.of(1), Optional.empty(), Optional.empty(),
+            Optional.of(InventorySearchRequest.SortField.PRICE), true, Optional.of(10));
+        when(productRepository.searchInventory(request)).thenReturn(List.of(testProduct));
+
+        // When
+        List<Product> result = inventoryDomainService.searchInventory(request);
+
+        // Then
+        assertThat(result).containsExactly(testProduct);
+        verify(productRepository, never()).findByStoreId(anyString());
+    }
+
+    @Test
+    void shouldRequireStoreIdForInventorySearch() {
+        // Given
+        InventorySearchRequest request = new InventorySearchRequest(
+            Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> inventoryDomainService.searchInventory(request))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("storeId");
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldOverfetchOneProductToDetectNextPage() {
+        // Given
+        Product second = testProduct.toBuilder().sku("SKU-2").build();
+        Product third = testProduct.toBuilder().sku("SKU-3").build();
+        when(productRepository.findAvailableProductsByStoreIdAfterSku(TEST_STORE_ID, "SKU-0", 3))
+            .thenReturn(List.of(testProduct, second, third));
+
+        // When
+        ProductPage<Product> page = inventoryDomainService.findAvailableProducts(TEST_STORE_ID, "SKU-0", 2);
+
+        // Then
+        assertThat(page.products()).containsExactly(testProduct, second);
+        assertThat(page.nextAfterSku()).isEqualTo("SKU-2");
+        assertThat(page.hasNext()).isTrue();
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutContinuation() {
+        // Given
+        when(productRepository.findAvailableProductsByStoreIdAfterSku(TEST_STORE_ID, null, 3))
+            .thenReturn(List.of(testProduct));
+
+        // When
+        ProductPage<Product> page = inventoryDomainService.findAvailableProducts(TEST_STORE_ID, null, 2);
+
+        // Then
+        assertThat(page.products()).containsExactly(testProduct);
+        assertThat(page.hasNext()).isFalse();
+        verify(productRepository, never()).findAvailableProductsByStoreId(anyString());
+    }
+
+    @Test
+    void shouldOverfetchOneProductViewToDetectNextPage() {
+        // Given
+        ProductView first = ProductView.from(testProduct);
+        ProductView second = ProductView.from(testProduct.toBuilder().sku("SKU-2").build());
+        when(productRepository.findAvailableProductViewsByStoreIdAfterSku(TEST_STORE_ID, null, 2))
+            .thenReturn(List.of(first, second));
+
+        // When
+        ProductPage<ProductView> page = inventoryDomainService.findAvailableProductViews(TEST_STORE_ID, null, 1);
+
+        // Then
+        assertThat(page.products()).containsExactly(first);
+        assertThat(page.nextAfterSku()).isEqualTo(first.sku());
+        verify(productRepository, never()).findAvailableProductsByStoreIdAfterSku(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void shouldOverfetchOneFieldRowToDetectNextPage() {
+        // Given
+        FieldSelection selection = FieldSelection.parse("availableQuantity", ProductView.FIELDS);
+        Map<String, Object> first = Map.of("sku", "SKU-1", "availableQuantity", 5);
+        Map<String, Object> second = Map.of("sku", "SKU-2", "availableQuantity", 7);
+        when(productRepository.findAvailableProductFieldsByStoreIdAfterSku(TEST_STORE_ID, null, 2, selection))
+            .thenReturn(List.of(first, second));
+
+        // When
+        ProductPage<Map<String, Object>> page =
+            inventoryDomainService.findAvailableProductFields(TEST_STORE_ID, null, 1, selection);
+
+        // Then
+        assertThat(page.products()).containsExactly(first);
+        assertThat(page.nextAfterSku()).isEqualTo("SKU-1");
+        verify(productRepository, never()).findAvailableProductViewsByStoreIdAfterSku(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void shouldExportCatalogThroughRepositoryCursor() {
+        // Given
+        when(productRepository.forEachByStoreId(eq(TEST_STORE_ID), any())).thenAnswer(invocation -> {
+            Consumer<Product> consumer = invocation.getArgument(1);
+            consumer.accept(testProduct);
+            return 1L;
+        });
+        List<Product> exported = new java.util.ArrayList<>();
+
+        // When
+        long count = inventoryDomainService.exportCatalog(TEST_STORE_ID, exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(1L);
+        assertThat(exported).containsExactly(testProduct);
+        verify(productRepository, never()).findByStoreId(anyString());
+    }
+
+    @Test
+    void shouldRequireStoreIdForCatalogExport() {
+        assertThatThrownBy(() -> inventoryDomainService.exportCatalog(" ", product -> { }))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldImportBatchKeepingLastRowPerSkuAndPublishingStockEvents() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "bulkImportEventsEnabled", true);
+        ProductImportRow first = new ProductImportRow("SKU-A", "Nome antigo", null, BigDecimal.ONE, 1);
+        ProductImportRow last = new ProductImportRow("SKU-A", "Nome novo", null, BigDecimal.ONE, 20);
+        ProductImportRow other = new ProductImportRow("SKU-B", "Outro", null, BigDecimal.ONE, 2);
+        ProductImportRow renamed = new ProductImportRow("SKU-C", "Renomeado", null, BigDecimal.ONE, 3);
+        when(productRepository.upsertImportBatch(eq(TEST_STORE_ID), anyList())).thenReturn(List.of(
+            new ProductImportChange("SKU-A", true, null, 20, 0, 0L),
+            new ProductImportChange("SKU-B", false, 5, 2, 1, 3L),
+            new ProductImportChange("SKU-C", false, null, null, null, null)));
+
+        // When
+        List<ProductImportChange> changes = inventoryDomainService.importProductBatch(TEST_STORE_ID,
+            List.of(first, other, last, renamed));
+
+        // Then
+        assertThat(changes).hasSize(3);
+        verify(productRepository).upsertImportBatch(TEST_STORE_ID, List.of(last, other, renamed));
+        verify(productCache).evict("SKU-A", TEST_STORE_ID);
+        verify(productCache).evict("SKU-C", TEST_STORE_ID);
+        ArgumentCaptor<Product> indexed = ArgumentCaptor.forClass(Product.class);
+        verify(productSearchIndex, times(3)).index(indexed.capture());
+        assertThat(indexed.getAllValues()).extracting(Product::getName)
+            .containsExactly("Nome novo", "Outro", "Renomeado");
+
+        ArgumentCaptor<InventoryUpdateEvent> events = ArgumentCaptor.forClass(InventoryUpdateEvent.class);
+        verify(eventPublisher, times(2)).publishInventoryUpdateEventAsync(events.capture());
+        assertThat(events.getAllValues()).extracting(InventoryUpdateEvent::getEventType)
+            .containsExactly(InventoryUpdateEvent.EventType.RESTOCK, InventoryUpdateEvent.EventType.UPDATE);
+        assertThat(events.getAllValues().get(0).getPreviousQuantity()).isZero();
+        assertThat(events.getAllValues().get(1).getReservedQuantity()).isEqualTo(1);
+        assertThat(events.getAllValues()).extracting(InventoryUpdateEvent::getSequence)
+            .containsExactly(0L, 3L);
+        verify(generationCounters).advanceAfterCommit(TEST_STORE_ID);
+    }
+
+    @Test
+    void shouldNotPublishImportEventsWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(inventoryDomainService, "bulkImportEventsEnabled", false);
+        when(productRepository.upsertImportBatch(eq(TEST_STORE_ID), anyList()))
+            .thenReturn(List.of(new ProductImportChange("SKU-A", true, null, 20, 0, 0L)));
+
+        // When
+        inventoryDomainService.importProductBatch(TEST_STORE_ID,
+            List.of(new ProductImportRow("SKU-A", "Produto", null, BigDecimal.ONE, 20)));
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        verify(productCache).evict("SKU-A", TEST_STORE_ID);
+    }
+
+    @Test
+    void shouldRequireStoreIdForImport() {
+        assertThatThrownBy(() -> inventoryDomainService.importProductBatch(null, List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productRepository);
+    }
 }
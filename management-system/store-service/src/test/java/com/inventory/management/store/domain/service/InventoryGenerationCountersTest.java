@@ -0,0 +1,74 @@
+package com.inventory.management.store.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para InventoryGenerationCounters.
+ */
+@DisplayName("InventoryGenerationCounters Tests")
+class InventoryGenerationCountersTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final InventoryGenerationCounters counters =
+        new InventoryGenerationCounters(Duration.ofSeconds(30), now::get);
+
+    @Test
+    @DisplayName("Should advance only the changed store generation")
+    void shouldAdvanceOnlyChangedStore() {
+        // Given
+        String store = counters.storeToken("STORE-001");
+        String otherStore = counters.storeToken("STORE-002");
+
+        // When
+        counters.advanceAfterCommit("STORE-001");
+
+        // Then
+        assertThat(counters.storeToken("STORE-001")).isNotEqualTo(store);
+        assertThat(counters.storeToken("STORE-002")).isEqualTo(otherStore);
+    }
+
+    @Test
+    @DisplayName("Should advance every store generation")
+    void shouldAdvanceEveryStore() {
+        // Given
+        counters.advanceAfterCommit("STORE-001");
+        String store = counters.storeToken("STORE-001");
+        String otherStore = counters.storeToken("STORE-002");
+
+        // When
+        counters.advanceAllAfterCommit();
+
+        // Then
+        assertThat(counters.storeToken("STORE-001")).isNotEqualTo(store);
+        assertThat(counters.storeToken("STORE-002")).isNotEqualTo(otherStore);
+    }
+
+    @Test
+    @DisplayName("Should renew tokens on each revalidation window")
+    void shouldRenewTokensOnEachRevalidationWindow() {
+        // Given
+        String token = counters.storeToken("STORE-001");
+
+        // When
+        now.addAndGet(Duration.ofSeconds(29).toMillis());
+        String sameWindow = counters.storeToken("STORE-001");
+        now.addAndGet(Duration.ofSeconds(1).toMillis());
+
+        // Then
+        assertThat(sameWindow).isEqualTo(token);
+        assertThat(counters.storeToken("STORE-001")).isNotEqualTo(token);
+    }
+
+    @Test
+    @DisplayName("Should differentiate tokens from distinct instances")
+    void shouldDifferentiateTokensFromDistinctInstances() {
+        assertThat(new InventoryGenerationCounters(Duration.ZERO).storeToken("STORE-001"))
+            .isNotEqualTo(new InventoryGenerationCounters(Duration.ZERO).storeToken("STORE-001"));
+    }
+}
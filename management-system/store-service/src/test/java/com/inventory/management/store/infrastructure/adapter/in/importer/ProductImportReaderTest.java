@@ -0,0 +1,165 @@
+package com.inventory.management.store.infrastructure.adapter.in.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProductImportReader.
+ */
+@DisplayName("ProductImportReader Tests")
+class ProductImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Nested
+    @DisplayName("CSV Tests")
+    class CsvTests {
+
+        @Test
+        @DisplayName("Should read rows using header column order")
+        void shouldReadRowsUsingHeaderColumnOrder() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.CSV,
+                    "quantity,price,sku,name\n10,99.90,SKU-001,Mouse\n5,10,SKU-002,Cabo\n");
+
+            // When
+            List<ProductImportRow> rows = readAll(reader);
+
+            // Then
+            assertEquals(2, rows.size());
+            assertEquals(new ProductImportRow("SKU-001", "Mouse", null, new BigDecimal("99.90"), 10), rows.get(0));
+            assertEquals("SKU-002", rows.get(1).sku());
+        }
+
+        @Test
+        @DisplayName("Should handle quoted fields with commas, quotes and line breaks")
+        void shouldHandleQuotedFields() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.CSV,
+                    "\uFEFFsku,name,description,price,quantity\n" +
+                    "SKU-001,\"Monitor 24\"\"\",\"Full HD, 75Hz\nHDMI\",899.00,3\n");
+
+            // When
+            ProductImportRow row = reader.next();
+
+            // Then
+            assertEquals("SKU-001", row.sku());
+            assertEquals("Monitor 24\"", row.name());
+            assertEquals("Full HD, 75Hz\nHDMI", row.description());
+            assertFalse(reader.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should report invalid row with line number and continue")
+        void shouldReportInvalidRowAndContinue() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.CSV,
+                    "sku,name,price,quantity\nSKU-001,Mouse,abc,1\n\nSKU-002,Teclado,50,-1\nSKU-003,Cabo,5,2\n");
+
+            // When
+            IllegalArgumentException invalidPrice = assertThrows(IllegalArgumentException.class, reader::next);
+            IllegalArgumentException invalidQuantity = assertThrows(IllegalArgumentException.class, reader::next);
+            ProductImportRow valid = reader.next();
+
+            // Then
+            assertTrue(invalidPrice.getMessage().startsWith("Linha 2:"));
+            assertTrue(invalidQuantity.getMessage().startsWith("Linha 4:"));
+            assertEquals("SKU-003", valid.sku());
+            assertFalse(reader.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should reject header without required column")
+        void shouldRejectHeaderWithoutRequiredColumn() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.CSV, "sku,name,price\nSKU-001,Mouse,10\n");
+
+            // When & Then
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, reader::hasNext);
+            assertTrue(exception.getMessage().contains("quantity"));
+        }
+
+        @Test
+        @DisplayName("Should return no rows for empty content")
+        void shouldReturnNoRowsForEmptyContent() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.CSV, "");
+
+            // When & Then
+            assertFalse(reader.hasNext());
+            assertThrows(NoSuchElementException.class, reader::next);
+        }
+    }
+
+    @Nested
+    @DisplayName("NDJSON Tests")
+    class NdjsonTests {
+
+        @Test
+        @DisplayName("Should read one row per JSON line")
+        void shouldReadOneRowPerJsonLine() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.NDJSON,
+                    "{\"sku\":\"SKU-001\",\"name\":\"Mouse\",\"price\":35.9,\"quantity\":50}\n\n" +
+                    "{\"sku\":\"SKU-002\",\"name\":\"Cabo\",\"description\":\"USB-C\",\"price\":\"12.00\",\"quantity\":\"7\"}\n");
+
+            // When
+            List<ProductImportRow> rows = readAll(reader);
+
+            // Then
+            assertEquals(2, rows.size());
+            assertEquals(new BigDecimal("35.9"), rows.get(0).price());
+            assertEquals("USB-C", rows.get(1).description());
+            assertEquals(7, rows.get(1).quantity());
+        }
+
+        @Test
+        @DisplayName("Should report malformed JSON with line number")
+        void shouldReportMalformedJson() {
+            // Given
+            ProductImportReader reader = reader(ProductImportFormat.NDJSON,
+                    "{\"sku\":\"SKU-001\"\n{\"sku\":\"SKU-002\",\"name\":\"Cabo\",\"price\":1,\"quantity\":1}\n");
+
+            // When
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, reader::next);
+
+            // Then
+            assertTrue(exception.getMessage().startsWith("Linha 1:"));
+            assertEquals("SKU-002", reader.next().sku());
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve format from content type and file name")
+    void shouldResolveFormat() {
+        assertEquals(ProductImportFormat.CSV, ProductImportFormat.fromContentType("text/csv; charset=UTF-8"));
+        assertEquals(ProductImportFormat.NDJSON, ProductImportFormat.fromContentType("application/x-ndjson"));
+        assertEquals(ProductImportFormat.CSV, ProductImportFormat.fromFileName("estoque.CSV.gz"));
+        assertEquals(ProductImportFormat.NDJSON, ProductImportFormat.fromFileName("estoque.jsonl"));
+        assertThrows(IllegalArgumentException.class, () -> ProductImportFormat.fromContentType("application/json"));
+        assertThrows(IllegalArgumentException.class, () -> ProductImportFormat.fromFileName("estoque.xlsx"));
+    }
+
+    private ProductImportReader reader(ProductImportFormat format, String content) {
+        return ProductImportReader.open(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                format, objectMapper);
+    }
+
+    private List<ProductImportRow> readAll(ProductImportReader reader) {
+        List<ProductImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
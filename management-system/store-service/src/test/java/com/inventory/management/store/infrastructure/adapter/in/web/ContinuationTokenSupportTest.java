@@ -0,0 +1,45 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ContinuationTokenSupport.
+ */
+@DisplayName("ContinuationTokenSupport Tests")
+class ContinuationTokenSupportTest {
+
+    @Test
+    @DisplayName("Should round-trip SKU through opaque token")
+    void shouldRoundTripSkuThroughOpaqueToken() {
+        String token = ContinuationTokenSupport.encode("SKU-001/ÁÇ");
+
+        assertNotNull(token);
+        assertFalse(token.contains("SKU"));
+        assertEquals("SKU-001/ÁÇ", ContinuationTokenSupport.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should return null when there is no next page or no cursor")
+    void shouldReturnNullWhenThereIsNoNextPageOrNoCursor() {
+        assertNull(ContinuationTokenSupport.encode(null));
+        assertNull(ContinuationTokenSupport.decode(null));
+        assertNull(ContinuationTokenSupport.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed or foreign tokens")
+    void shouldRejectMalformedOrForeignTokens() {
+        String foreign = Base64.getUrlEncoder().encodeToString("SKU-001".getBytes(StandardCharsets.UTF_8));
+        String empty = Base64.getUrlEncoder().encodeToString("v1:".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> ContinuationTokenSupport.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> ContinuationTokenSupport.decode(foreign));
+        assertThrows(IllegalArgumentException.class, () -> ContinuationTokenSupport.decode(empty));
+    }
+}
@@ -0,0 +1,55 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para EntityTagSupport.
+ */
+@DisplayName("EntityTagSupport Tests")
+class EntityTagSupportTest {
+
+    @Test
+    @DisplayName("Should render version as strong entity tag")
+    void shouldRenderVersionAsStrongEntityTag() {
+        assertEquals("\"7\"", EntityTagSupport.toETag(7L));
+        assertNull(EntityTagSupport.toETag(null));
+    }
+
+    @Test
+    @DisplayName("Should parse quoted and weak entity tags")
+    void shouldParseQuotedAndWeakEntityTags() {
+        assertEquals(7L, EntityTagSupport.parseIfMatch("\"7\""));
+        assertEquals(7L, EntityTagSupport.parseIfMatch("W/\"7\""));
+        assertEquals(7L, EntityTagSupport.parseIfMatch(" 7 "));
+    }
+
+    @Test
+    @DisplayName("Should ignore absent header and wildcard")
+    void shouldIgnoreAbsentHeaderAndWildcard() {
+        assertNull(EntityTagSupport.parseIfMatch(null));
+        assertNull(EntityTagSupport.parseIfMatch(" "));
+        assertNull(EntityTagSupport.parseIfMatch("*"));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed entity tag")
+    void shouldRejectMalformedEntityTag() {
+        assertThrows(IllegalArgumentException.class, () -> EntityTagSupport.parseIfMatch("\"abc\""));
+    }
+
+    @Test
+    @DisplayName("Should match If-None-Match lists, weak tags and wildcard")
+    void shouldMatchIfNoneMatch() {
+        String eTag = EntityTagSupport.generationETag("a1b2c3d4-7");
+
+        assertEquals("\"a1b2c3d4-7\"", eTag);
+        assertTrue(EntityTagSupport.matchesIfNoneMatch("\"a1b2c3d4-7\"", eTag));
+        assertTrue(EntityTagSupport.matchesIfNoneMatch("\"other\", W/\"a1b2c3d4-7\"", eTag));
+        assertTrue(EntityTagSupport.matchesIfNoneMatch("*", eTag));
+        assertFalse(EntityTagSupport.matchesIfNoneMatch("\"a1b2c3d4-6\"", eTag));
+        assertFalse(EntityTagSupport.matchesIfNoneMatch(null, eTag));
+    }
+}
@@ -0,0 +1,122 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.store.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para NdjsonProductWriter.
+ */
+@DisplayName("NdjsonProductWriter Tests")
+class NdjsonProductWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteOneJsonObjectPerLine() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        NdjsonProductWriter writer = new NdjsonProductWriter(objectMapper, output, false);
+
+        // When
+        writer.write(product("SKU-001"));
+        writer.write(product("SKU-002"));
+        writer.finish();
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(2, writer.getWritten());
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("SKU-001", first.get("sku").asText());
+        assertEquals("SKU-002", objectMapper.readTree(lines[1]).get("sku").asText());
+        assertTrue(output.toString(StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    @DisplayName("Should produce valid gzip stream when compression is enabled")
+    void shouldProduceValidGzipStream() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        NdjsonProductWriter writer = new NdjsonProductWriter(objectMapper, output, true);
+
+        // When
+        writer.write(product("SKU-001"));
+        writer.finish();
+
+        // Then
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            String content = new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+            assertEquals("SKU-001", objectMapper.readTree(content.trim()).get("sku").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush first line immediately")
+    void shouldFlushFirstLineImmediately() throws IOException {
+        // Given
+        CountingFlushStream output = new CountingFlushStream();
+        NdjsonProductWriter writer = new NdjsonProductWriter(objectMapper, output, false);
+
+        // When
+        writer.write(product("SKU-001"));
+        writer.write(product("SKU-002"));
+
+        // Then
+        assertEquals(1, output.flushes);
+    }
+
+    @Test
+    @DisplayName("Should wrap write failures as unchecked exception")
+    void shouldWrapWriteFailures() throws IOException {
+        // Given
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        NdjsonProductWriter writer = new NdjsonProductWriter(objectMapper, broken, false);
+
+        // When & Then
+        assertThrows(UncheckedIOException.class, () -> writer.write(product("SKU-001")));
+    }
+
+    private Product product(String sku) {
+        return Product.builder()
+                .sku(sku)
+                .name("Produto " + sku)
+                .price(new BigDecimal("10.00"))
+                .quantity(5)
+                .reservedQuantity(1)
+                .storeId("STORE-001")
+                .active(true)
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    private static final class CountingFlushStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductPage;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.infrastructure.adapter.in.web.dto.response.ProductListResponse;
+import com.inventory.management.store.infrastructure.adapter.in.web.dto.response.ProductResponse;
+import com.inventory.management.store.infrastructure.adapter.out.cache.ProductJsonFragmentCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.converter.json.SpringHandlerInstantiator;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProductJsonFragmentSerializer.
+ */
+@DisplayName("ProductJsonFragmentSerializer Tests")
+class ProductJsonFragmentSerializerTest {
+
+    private final ObjectMapper plainMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ObjectMapper fragmentMapper;
+    private ProductJsonFragmentCache fragmentCache;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        fragmentMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        fragmentCache = new ProductJsonFragmentCache(fragmentMapper, new SimpleMeterRegistry(),
+                true, 100, Duration.ofMinutes(5));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("productJsonFragmentCache", fragmentCache);
+        AutowiredAnnotationBeanPostProcessor autowiredProcessor = new AutowiredAnnotationBeanPostProcessor();
+        autowiredProcessor.setBeanFactory(beanFactory);
+        beanFactory.addBeanPostProcessor(autowiredProcessor);
+        fragmentMapper.setHandlerInstantiator(new SpringHandlerInstantiator(beanFactory));
+
+        product = Product.builder()
+                .id(UUID.randomUUID())
+                .sku("SKU-001")
+                .name("Mouse")
+                .price(new BigDecimal("99.90"))
+                .quantity(10)
+                .reservedQuantity(1)
+                .storeId("STORE-001")
+                .active(true)
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .version(4L)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as plain serialization")
+    void shouldWriteSameJsonAsPlainSerialization() throws Exception {
+        // Given
+        ProductListResponse list = ProductListResponse.from(
+                new ProductPage<>(List.of(ProductView.from(product)), null));
+        ProductResponse detail = ProductResponse.from(product);
+
+        // Then
+        assertEquals(plainMapper.writeValueAsString(list), fragmentMapper.writeValueAsString(list));
+        assertEquals(plainMapper.writeValueAsString(detail), new String(fragmentMapper.writeValueAsBytes(detail)));
+    }
+
+    @Test
+    @DisplayName("Should share the fragment between list and detail responses")
+    void shouldShareFragmentBetweenListAndDetail() throws Exception {
+        // Given
+        fragmentMapper.writeValueAsString(ProductResponse.from(product));
+        Product renamed = product.toBuilder().name("Renomeado").build();
+
+        // When
+        String json = fragmentMapper.writeValueAsString(
+                ProductListResponse.from(new ProductPage<>(List.of(ProductView.from(renamed)), null)));
+
+        // Then
+        assertTrue(json.contains("\"Mouse\""));
+        assertFalse(json.contains("Renomeado"));
+    }
+
+    @Test
+    @DisplayName("Should serialize binary formats without raw JSON fragments")
+    void shouldSerializeBinaryFormatsWithoutRawJsonFragments() throws Exception {
+        // Given
+        fragmentMapper.writeValueAsString(ProductResponse.from(product));
+        ObjectMapper cborMapper = fragmentMapper.copyWith(new CBORFactory());
+        ProductListResponse list = ProductListResponse.from(
+                new ProductPage<>(List.of(ProductView.from(product)), null));
+
+        // When
+        JsonNode decoded = cborMapper.readTree(cborMapper.writeValueAsBytes(list)).get("products").get(0);
+
+        // Then
+        assertEquals("SKU-001", decoded.get("sku").asText());
+        assertEquals("Mouse", decoded.get("name").asText());
+        assertEquals(10, decoded.get("availableQuantity").asInt());
+    }
+
+    @Test
+    @DisplayName("Should serialize errors without product")
+    void shouldSerializeErrorsWithoutProduct() throws Exception {
+        // When
+        String json = fragmentMapper.writeValueAsString(ProductResponse.error("Produto não encontrado"));
+
+        // Then
+        assertTrue(json.contains("\"product\":null"));
+    }
+}
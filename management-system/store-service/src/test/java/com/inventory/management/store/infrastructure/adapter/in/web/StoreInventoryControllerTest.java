@@ -0,0 +1,132 @@
+package com.inventory.management.store.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory.management.store.application.usecase.BulkImportProductsUseCase;
+import com.inventory.management.store.application.usecase.CancelReservationUseCase;
+import com.inventory.management.store.application.usecase.CommitProductUseCase;
+import com.inventory.management.store.application.usecase.ExportCatalogUseCase;
+import com.inventory.management.store.application.usecase.ReserveProductUseCase;
+import com.inventory.management.store.application.usecase.SearchProductsUseCase;
+import com.inventory.management.store.application.usecase.UpdateProductQuantityUseCase;
+import com.inventory.management.store.domain.exception.ConcurrencyConflictException;
+import com.inventory.management.store.domain.service.InventoryGenerationCounters;
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes do mapeamento de erros do {@link StoreInventoryController}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreInventoryController Tests")
+class StoreInventoryControllerTest {
+
+    private static final String BASE_PATH = "/api/v1/store/STORE-001/inventory/products/SKU-001";
+    private static final String CONFLICT_MESSAGE = "Conflito de concorrência não resolvido após múltiplas tentativas";
+
+    @Mock
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Mock
+    private ReserveProductUseCase reserveProductUseCase;
+
+    @Mock
+    private CommitProductUseCase commitProductUseCase;
+
+    @Mock
+    private CancelReservationUseCase cancelReservationUseCase;
+
+    @Mock
+    private UpdateProductQuantityUseCase updateProductQuantityUseCase;
+
+    @Mock
+    private ExportCatalogUseCase exportCatalogUseCase;
+
+    @Mock
+    private BulkImportProductsUseCase bulkImportProductsUseCase;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        StoreInventoryController controller = new StoreInventoryController(searchProductsUseCase,
+                reserveProductUseCase, commitProductUseCase, cancelReservationUseCase,
+                updateProductQuantityUseCase, exportCatalogUseCase, bulkImportProductsUseCase,
+                businessMetrics, new ObjectMapper(), generationCounters);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when optimistic lock retries are exhausted")
+    void shouldAnswerConflictWhenRetriesAreExhausted() throws Exception {
+        // Given
+        when(commitProductUseCase.execute(any())).thenThrow(exhaustedRetries());
+
+        // When & Then
+        mockMvc.perform(post(BASE_PATH + "/commit")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\":1}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(CONFLICT_MESSAGE));
+        verify(businessMetrics, never()).recordPreconditionFailed();
+    }
+
+    @Test
+    @DisplayName("Should answer 412 when retries are exhausted on a conditional update")
+    void shouldAnswerPreconditionFailedWhenRetriesAreExhaustedWithIfMatch() throws Exception {
+        // Given
+        when(updateProductQuantityUseCase.execute(any())).thenThrow(exhaustedRetries());
+
+        // When & Then
+        mockMvc.perform(put(BASE_PATH + "/quantity")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newQuantity\":10}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(CONFLICT_MESSAGE));
+        verify(businessMetrics).recordPreconditionFailed();
+    }
+
+    @Test
+    @DisplayName("Should answer 409 when retries are exhausted on an unconditional update")
+    void shouldAnswerConflictWhenRetriesAreExhaustedWithoutIfMatch() throws Exception {
+        // Given
+        when(updateProductQuantityUseCase.execute(any())).thenThrow(exhaustedRetries());
+
+        // When & Then
+        mockMvc.perform(put(BASE_PATH + "/quantity")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newQuantity\":10}"))
+                .andExpect(status().isConflict());
+    }
+
+    private ConcurrencyConflictException exhaustedRetries() {
+        return new ConcurrencyConflictException(CONFLICT_MESSAGE,
+                new OptimisticLockingFailureException("version mismatch"));
+    }
+}
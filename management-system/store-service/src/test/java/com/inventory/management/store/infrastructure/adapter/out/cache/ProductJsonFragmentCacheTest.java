@@ -0,0 +1,103 @@
+package com.inventory.management.store.infrastructure.adapter.out.cache;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inventory.management.store.domain.model.Product;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para ProductJsonFragmentCache.
+ */
+@DisplayName("ProductJsonFragmentCache Tests")
+class ProductJsonFragmentCacheTest {
+
+    private static final String SKU = "SKU-001";
+    private static final String STORE_ID = "STORE-001";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private ProductJsonFragmentCache fragmentCache;
+
+    @BeforeEach
+    void setUp() {
+        fragmentCache = new ProductJsonFragmentCache(objectMapper, new SimpleMeterRegistry(),
+                true, 100, Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Should serialize once per version and keep UTF-8 bytes")
+    void shouldSerializeOncePerVersion() throws Exception {
+        // Given
+        Product product = product("Café", 1L);
+
+        // When
+        SerializableString first = fragmentCache.get(STORE_ID, SKU, 1L, product);
+        SerializableString second = fragmentCache.get(STORE_ID, SKU, 1L, product("Outro nome", 1L));
+
+        // Then
+        assertSame(first, second);
+        assertArrayEquals(objectMapper.writeValueAsBytes(product), first.asUnquotedUTF8());
+    }
+
+    @Test
+    @DisplayName("Should reserialize when version changes")
+    void shouldReserializeWhenVersionChanges() throws Exception {
+        // Given
+        fragmentCache.get(STORE_ID, SKU, 1L, product("Café", 1L));
+
+        // When
+        SerializableString updated = fragmentCache.get(STORE_ID, SKU, 2L, product("Café", 2L));
+
+        // Then
+        assertTrue(new String(updated.asUnquotedUTF8(), StandardCharsets.UTF_8).contains("\"version\":2"));
+    }
+
+    @Test
+    @DisplayName("Should reserialize after invalidation")
+    void shouldReserializeAfterInvalidation() throws Exception {
+        // Given
+        SerializableString first = fragmentCache.get(STORE_ID, SKU, 1L, product("Café", 1L));
+
+        // When
+        fragmentCache.invalidate(STORE_ID, SKU);
+        SerializableString second = fragmentCache.get(STORE_ID, SKU, 1L, product("Café gourmet", 1L));
+
+        // Then
+        assertNotSame(first, second);
+        assertTrue(second.getValue().contains("Café gourmet"));
+    }
+
+    @Test
+    @DisplayName("Should skip products without version and disabled cache")
+    void shouldSkipProductsWithoutVersionAndDisabledCache() throws Exception {
+        // Given
+        ProductJsonFragmentCache disabled = new ProductJsonFragmentCache(objectMapper, new SimpleMeterRegistry(),
+                false, 100, Duration.ofMinutes(5));
+
+        // Then
+        assertNull(fragmentCache.get(STORE_ID, SKU, null, product("Café", null)));
+        assertNull(disabled.get(STORE_ID, SKU, 1L, product("Café", 1L)));
+    }
+
+    private Product product(String name, Long version) {
+        return Product.builder()
+                .sku(SKU)
+                .name(name)
+                .price(new BigDecimal("10.00"))
+                .quantity(5)
+                .reservedQuantity(0)
+                .storeId(STORE_ID)
+                .active(true)
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,254 @@
+package com.inventory.management.store.infrastructure.adapter.out.cache;
+
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ProductNearCacheAdapter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductNearCacheAdapter Tests")
+class ProductNearCacheAdapterTest {
+
+    private static final String SKU = "SKU-001";
+    private static final String STORE_ID = "STORE-001";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
+    @Mock
+    private ProductJsonFragmentCache fragmentCache;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private ProductNearCacheAdapter nearCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.ofDefaults("local-database-test");
+        nearCache = new ProductNearCacheAdapter(circuitBreaker, redisTemplate, fragmentCache, businessMetrics,
+                meterRegistry, true, 100, Duration.ofSeconds(30), Duration.ofMinutes(5), "channel", nanos::get);
+    }
+
+    @Test
+    @DisplayName("Should load once and serve independent copies while fresh")
+    void shouldLoadOnceAndServeCopiesWhileFresh() {
+        // When
+        Product first = nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        first.reserveQuantity(10);
+        Product second = nearCache.get(SKU, STORE_ID, loader(100, 1L));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(100, second.getQuantity());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should reload after ttl")
+    void shouldReloadAfterTtl() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        Product result = nearCache.get(SKU, STORE_ID, loader(80, 2L));
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(80, result.getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should serve stale entry when database circuit breaker is open")
+    void shouldServeStaleWhenCircuitBreakerOpen() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        circuitBreaker.transitionToOpenState();
+
+        // When
+        Product result = nearCache.get(SKU, STORE_ID, loader(80, 2L));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(100, result.getQuantity());
+        verify(businessMetrics).recordNearCacheStaleServed();
+    }
+
+    @Test
+    @DisplayName("Should serve stale entry when reload fails")
+    void shouldServeStaleWhenReloadFails() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When
+        Product result = nearCache.get(SKU, STORE_ID, () -> {
+            throw new IllegalStateException("conexão recusada");
+        });
+
+        // Then
+        assertEquals(100, result.getQuantity());
+        verify(businessMetrics).recordNearCacheStaleServed();
+    }
+
+    @Test
+    @DisplayName("Should propagate not found and drop entry")
+    void shouldPropagateNotFound() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> nearCache.get(SKU, STORE_ID, () -> {
+            throw new IllegalArgumentException("Produto não encontrado");
+        }));
+        nearCache.get(SKU, STORE_ID, loader(5, 9L));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should write through newer stock counters and notify other instances")
+    void shouldWriteThroughNewerStockCounters() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+        Product changed = product(90, 2L);
+        changed.setName(null);
+
+        // When
+        nearCache.refreshStock(changed);
+        Product result = nearCache.get(SKU, STORE_ID, loader(0, 0L));
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(90, result.getQuantity());
+        assertEquals(2L, result.getVersion());
+        assertEquals("Produto", result.getName());
+        verify(redisTemplate).convertAndSend(eq("channel"), endsWith("|" + STORE_ID + "|" + SKU));
+    }
+
+    @Test
+    @DisplayName("Should drop entry when write through is older than cached version")
+    void shouldDropEntryWhenWriteThroughIsOlder() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 5L));
+
+        // When
+        nearCache.refreshStock(product(90, 4L));
+        nearCache.get(SKU, STORE_ID, loader(70, 6L));
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict on remote invalidation and ignore own messages")
+    void shouldEvictOnRemoteInvalidation() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+
+        // When
+        nearCache.onRemoteInvalidation("other-instance|" + STORE_ID + "|" + SKU);
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+
+        // Then
+        assertEquals(2, loads.get());
+        verify(fragmentCache).invalidate(STORE_ID, SKU);
+    }
+
+    @Test
+    @DisplayName("Should evict on remote catalog change published by the search index")
+    void shouldEvictOnRemoteCatalogChange() {
+        // Given
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+
+        // When
+        nearCache.onRemoteInvalidation("other-instance|" + STORE_ID + "|" + SKU + "|catalog");
+        nearCache.get(SKU, STORE_ID, loader(100, 1L));
+
+        // Then
+        assertEquals(2, loads.get());
+        verify(fragmentCache).invalidate(STORE_ID, SKU);
+    }
+
+    @Test
+    @DisplayName("Should invalidate JSON fragment on evict even when disabled")
+    void shouldInvalidateJsonFragmentOnEvictEvenWhenDisabled() {
+        // Given
+        ProductNearCacheAdapter disabled = new ProductNearCacheAdapter(circuitBreaker, redisTemplate, fragmentCache,
+                businessMetrics, meterRegistry, false, 100, Duration.ofSeconds(30), Duration.ofMinutes(5),
+                "channel", nanos::get);
+
+        // When
+        disabled.evict(SKU, STORE_ID);
+
+        // Then
+        verify(fragmentCache).invalidate(STORE_ID, SKU);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Should bypass cache when disabled")
+    void shouldBypassCacheWhenDisabled() {
+        // Given
+        ProductNearCacheAdapter disabled = new ProductNearCacheAdapter(circuitBreaker, redisTemplate, fragmentCache,
+                businessMetrics, meterRegistry, false, 100, Duration.ofSeconds(30), Duration.ofMinutes(5), "channel", nanos::get);
+
+        // When
+        disabled.get(SKU, STORE_ID, loader(100, 1L));
+        disabled.get(SKU, STORE_ID, loader(100, 1L));
+        disabled.refreshStock(product(90, 2L));
+
+        // Then
+        assertEquals(2, loads.get());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private Supplier<Product> loader(int quantity, long version) {
+        return () -> {
+            loads.incrementAndGet();
+            return product(quantity, version);
+        };
+    }
+
+    private Product product(int quantity, long version) {
+        return Product.builder()
+                .id(UUID.randomUUID())
+                .sku(SKU)
+                .name("Produto")
+                .price(BigDecimal.TEN)
+                .quantity(quantity)
+                .reservedQuantity(0)
+                .storeId(STORE_ID)
+                .active(true)
+                .version(version)
+                .build();
+    }
+}
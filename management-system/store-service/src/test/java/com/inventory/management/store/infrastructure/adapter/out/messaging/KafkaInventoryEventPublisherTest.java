@@ -62,6 +62,7 @@ class KafkaInventoryEventPublisherTest {
         );
         
         ReflectionTestUtils.setField(publisher, "inventoryUpdateTopic", "inventory-update");
+        ReflectionTestUtils.setField(publisher, "inventoryPriorityTopic", "inventory-update-priority");
         ReflectionTestUtils.setField(publisher, DLQ_ENABLED_FIELD, true);
     }
 
@@ -137,13 +138,51 @@ class KafkaInventoryEventPublisherTest {
         verify(resilienceService).saveFailedEvent(
                 eq(event.getEventId().toString()),
                 eq(event.getEventType().toString()),
-                eq("inventory-update"),
+                eq("inventory-update-priority"),
                 eq("STORE-001:PROD-123"),
                 eq(TEST_EVENT_JSON),
                 anyString()
         );
     }
 
+    @Test
+    @DisplayName("Deve publicar atualizações em massa no tópico principal")
+    void shouldPublishBulkUpdatesToMainTopic() throws Exception {
+        // Given
+        InventoryUpdateEvent event = createTestEvent(InventoryUpdateEvent.EventType.RESTOCK);
+        ExecutionException kafkaError = new ExecutionException(KAFKA_DOWN_ERROR, new RuntimeException());
+
+        when(objectMapper.writeValueAsString(event)).thenReturn(TEST_EVENT_JSON);
+        when(kafkaRetryTemplate.execute(any())).thenThrow(kafkaError);
+
+        // When
+        publisher.publishInventoryUpdateEvent(event);
+
+        // Then
+        verify(resilienceService).saveFailedEvent(
+                anyString(), eq("RESTOCK"), eq("inventory-update"), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Deve usar apenas o SKU como chave de partição quando configurado")
+    void shouldUseSkuAsPartitionKeyWhenPartitionBySkuEnabled() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(publisher, "partitionBySku", true);
+        
+        InventoryUpdateEvent event = createTestEvent();
+        ExecutionException kafkaError = new ExecutionException(KAFKA_DOWN_ERROR, new RuntimeException());
+
+        when(objectMapper.writeValueAsString(event)).thenReturn(TEST_EVENT_JSON);
+        when(kafkaRetryTemplate.execute(any())).thenThrow(kafkaError);
+
+        // When
+        publisher.publishInventoryUpdateEvent(event);
+
+        // Then
+        verify(resilienceService).saveFailedEvent(
+                anyString(), anyString(), anyString(), eq("PROD-123"), anyString(), anyString());
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando DLQ também falhar")
     void shouldThrowExceptionWhenDlqAlsoFails() throws Exception {
@@ -190,11 +229,18 @@ class KafkaInventoryEventPublisherTest {
      * Cria um evento de teste padrão.
      */
     private InventoryUpdateEvent createTestEvent() {
+        return createTestEvent(InventoryUpdateEvent.EventType.RESERVE);
+    }
+
+    /**
+     * Cria um evento de teste com o tipo informado.
+     */
+    private InventoryUpdateEvent createTestEvent(InventoryUpdateEvent.EventType eventType) {
         return InventoryUpdateEvent.builder()
                 .eventId(UUID.randomUUID())
                 .storeId("STORE-001")
                 .productSku("PROD-123")
-                .eventType(InventoryUpdateEvent.EventType.RESERVE)
+                .eventType(eventType)
                 .previousQuantity(10)
                 .newQuantity(8)
                 .reservedQuantity(2)
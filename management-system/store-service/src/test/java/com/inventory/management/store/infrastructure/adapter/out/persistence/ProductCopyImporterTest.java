@@ -0,0 +1,199 @@
+package com.inventory.management.store.infrastructure.adapter.out.persistence;
+
+import com.inventory.management.store.domain.model.ProductImportChange;
+import com.inventory.management.store.domain.model.ProductImportRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ProductCopyImporter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCopyImporter Tests")
+class ProductCopyImporterTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PreparedStatement catalogStatement;
+
+    @Mock
+    private PreparedStatement stockStatement;
+
+    @Mock
+    private PreparedStatement lockKeysStatement;
+
+    @Mock
+    private PreparedStatement lockRowsStatement;
+
+    @Mock
+    private ResultSet catalogResult;
+
+    @Mock
+    private ResultSet stockResult;
+
+    @InjectMocks
+    private ProductCopyImporter importer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        lenient().when(connection.createStatement()).thenReturn(statement);
+        lenient().when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        lenient().when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        lenient().when(copyManager.copyIn(ProductCopyImporter.COPY_STAGING_SQL)).thenReturn(copyIn);
+        lenient().when(connection.prepareStatement(ProductCopyImporter.UPSERT_CATALOG_SQL)).thenReturn(catalogStatement);
+        lenient().when(connection.prepareStatement(ProductCopyImporter.UPSERT_STOCK_SQL)).thenReturn(stockStatement);
+        lenient().when(connection.prepareStatement(ProductCopyImporter.LOCK_STOCK_KEYS_SQL)).thenReturn(lockKeysStatement);
+        lenient().when(connection.prepareStatement(ProductCopyImporter.LOCK_STOCK_ROWS_SQL)).thenReturn(lockRowsStatement);
+        lenient().when(catalogStatement.executeQuery()).thenReturn(catalogResult);
+        lenient().when(stockStatement.executeQuery()).thenReturn(stockResult);
+    }
+
+    @Test
+    @DisplayName("Should copy rows into staging and merge catalog and stock changes")
+    void shouldCopyRowsAndMergeChanges() throws SQLException {
+        // Given
+        when(catalogResult.next()).thenReturn(true, true, true, false);
+        when(catalogResult.getString(1)).thenReturn("SKU-NEW", "SKU-UPD", "SKU-NAME");
+        when(catalogResult.getBoolean(2)).thenReturn(true, false, false);
+        when(stockResult.next()).thenReturn(true, true, false);
+        when(stockResult.getString(1)).thenReturn("SKU-NEW", "SKU-UPD");
+        when(stockResult.getObject(2)).thenReturn(7);
+        when(stockResult.getInt(3)).thenReturn(10, 3);
+        when(stockResult.getInt(4)).thenReturn(0, 1);
+        when(stockResult.getLong(5)).thenReturn(0L, 4L);
+
+        // When
+        List<ProductImportChange> changes = importer.upsertBatch("STORE-001",
+                List.of(row("SKU-NEW", "Mouse"), row("SKU-UPD", "Teclado"), row("SKU-NAME", "Cabo")));
+
+        // Then
+        verify(statement).execute(ProductCopyImporter.CREATE_STAGING_SQL);
+        verify(copyIn).endCopy();
+        verify(catalogStatement).setString(1, "STORE-001");
+        verify(stockStatement).setString(1, "STORE-001");
+        verify(connection).close();
+        assertEquals(List.of(
+                new ProductImportChange("SKU-NEW", true, null, 10, 0, 0L),
+                new ProductImportChange("SKU-UPD", false, 7, 3, 1, 4L),
+                new ProductImportChange("SKU-NAME", false, null, null, null, null)), changes);
+    }
+
+    @Test
+    @DisplayName("Should lock ledger keys and stock rows before reading pending movements")
+    void shouldLockStockBeforeReadingPendingMovements() throws SQLException {
+        // When
+        importer.upsertBatch("STORE-001", List.of(row("SKU-1", "Mouse")));
+
+        // Then
+        InOrder inOrder = inOrder(catalogStatement, lockKeysStatement, lockRowsStatement, stockStatement);
+        inOrder.verify(catalogStatement).executeQuery();
+        inOrder.verify(lockKeysStatement).setString(1, "STORE-001");
+        inOrder.verify(lockKeysStatement).execute();
+        inOrder.verify(lockRowsStatement).setString(1, "STORE-001");
+        inOrder.verify(lockRowsStatement).execute();
+        inOrder.verify(stockStatement).executeQuery();
+        assertTrue(ProductCopyImporter.LOCK_STOCK_KEYS_SQL.contains("pg_advisory_xact_lock(hashtext("));
+        assertTrue(ProductCopyImporter.LOCK_STOCK_KEYS_SQL.contains("? || ':' || s.sku"));
+        assertTrue(ProductCopyImporter.LOCK_STOCK_ROWS_SQL.endsWith("ORDER BY st.product_id FOR UPDATE OF st"));
+    }
+
+    @Test
+    @DisplayName("Should stream rows as CSV to COPY")
+    void shouldStreamRowsAsCsv() throws SQLException {
+        // Given
+        ArgumentCaptor<byte[]> bytes = ArgumentCaptor.forClass(byte[].class);
+
+        // When
+        importer.upsertBatch("STORE-001", List.of(row("SKU-1", "Mouse")));
+
+        // Then
+        verify(copyIn).writeToCopy(bytes.capture(), eq(0), anyInt());
+        assertEquals("\"SKU-1\",\"Mouse\",,10.50,4\n", new String(bytes.getValue(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should cancel COPY and wrap SQL failures")
+    void shouldCancelCopyOnFailure() throws SQLException {
+        // Given
+        doThrow(new SQLException("COPY falhou")).when(copyIn).endCopy();
+        when(copyIn.isActive()).thenReturn(true);
+
+        // When & Then
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> importer.upsertBatch("STORE-001", List.of(row("SKU-1", "Mouse"))));
+        verify(copyIn).cancelCopy();
+        verify(connection).close();
+        verifyNoInteractions(catalogStatement);
+    }
+
+    @Test
+    @DisplayName("Should skip database for empty batch")
+    void shouldSkipDatabaseForEmptyBatch() {
+        assertEquals(List.of(), importer.upsertBatch("STORE-001", List.of()));
+        verifyNoInteractions(dataSource);
+    }
+
+    @Test
+    @DisplayName("Should quote text fields and write null description as empty unquoted field")
+    void shouldEncodeCsvRecord() {
+        // Given
+        StringBuilder record = new StringBuilder();
+
+        // When
+        ProductCopyImporter.appendCsvRecord(record,
+                new ProductImportRow("SKU-1", "Monitor 24\"", "Full HD, 75Hz", new BigDecimal("899.00"), 3));
+        ProductCopyImporter.appendCsvRecord(record,
+                new ProductImportRow("SKU-2", "Cabo", null, new BigDecimal("1E+1"), 0));
+
+        // Then
+        assertEquals("\"SKU-1\",\"Monitor 24\"\"\",\"Full HD, 75Hz\",899.00,3\n" +
+                     "\"SKU-2\",\"Cabo\",,10,0\n", record.toString());
+    }
+
+    private ProductImportRow row(String sku, String name) {
+        return new ProductImportRow(sku, name, null, new BigDecimal("10.50"), 4);
+    }
+}
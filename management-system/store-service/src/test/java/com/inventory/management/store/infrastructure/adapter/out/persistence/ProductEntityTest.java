@@ -62,7 +62,7 @@ class ProductEntityTest {
 
             // When
             ProductEntity entity = new ProductEntity(id, sku, name, description, price,
-                quantity, reservedQuantity, lastUpdated, storeId, active);
+                quantity, reservedQuantity, lastUpdated, storeId, active, 0L);
 
             // Then
             assertNotNull(entity);
@@ -1,17 +1,28 @@
 package com.inventory.management.store.infrastructure.adapter.out.persistence;
 
+import com.inventory.management.store.application.dto.InventorySearchRequest;
+import com.inventory.management.store.domain.model.FieldSelection;
 import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.domain.model.ProductView;
+import com.inventory.management.store.domain.model.StockMovement;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.BeforeEach;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -30,12 +41,25 @@ class ProductRepositoryAdapterTest {
     @Mock
     private ProductJpaRepository jpaRepository;
 
+    @Mock
+    private StockMovementJpaRepository stockMovementRepository;
+
+    @Mock
+    private ProductStockJpaRepository stockJpaRepository;
+
+    @Mock
+    private ProductCriteriaRepository criteriaRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ProductRepositoryAdapter repositoryAdapter;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(repositoryAdapter, "entityManager", entityManager);
     }
 
     @Nested
@@ -365,6 +389,71 @@ class ProductRepositoryAdapterTest {
             assertTrue(result.isEmpty());
             verify(jpaRepository, times(1)).findAvailableProductsByStoreId(storeId);
         }
+
+        @Test
+        @DisplayName("Should fetch available products page after given SKU")
+        void shouldFetchAvailableProductsPageAfterGivenSku() {
+            // Given
+            when(jpaRepository.findAvailableProductsByStoreIdAfterSku("TEST-STORE", "SKU-1", PageRequest.ofSize(3)))
+                .thenReturn(List.of(createAvailableEntity("SKU-2", "Product 2", 10, 2)));
+
+            // When
+            List<Product> result = repositoryAdapter.findAvailableProductsByStoreIdAfterSku("TEST-STORE", "SKU-1", 3);
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals("SKU-2", result.get(0).getSku());
+        }
+
+        @Test
+        @DisplayName("Should start from the first SKU when there is no cursor")
+        void shouldStartFromFirstSkuWhenThereIsNoCursor() {
+            // Given
+            when(jpaRepository.findAvailableProductsByStoreIdAfterSku(eq("TEST-STORE"), eq(""), any()))
+                .thenReturn(Collections.emptyList());
+
+            // When
+            List<Product> result = repositoryAdapter.findAvailableProductsByStoreIdAfterSku("TEST-STORE", null, 3);
+
+            // Then
+            assertTrue(result.isEmpty());
+            verify(jpaRepository).findAvailableProductsByStoreIdAfterSku("TEST-STORE", "", PageRequest.ofSize(3));
+        }
+
+        @Test
+        @DisplayName("Should return projected views without mapping entities")
+        void shouldReturnProjectedViewsWithoutMappingEntities() {
+            // Given
+            ProductView view = new ProductView(UUID.randomUUID(), "SKU-1", "Product", null, BigDecimal.TEN,
+                10, 0, "TEST-STORE", true, LocalDateTime.now(), 0L);
+            when(jpaRepository.findAvailableViewsByStoreIdAfterSku("TEST-STORE", "", PageRequest.ofSize(2)))
+                .thenReturn(List.of(view));
+
+            // When
+            List<ProductView> result = repositoryAdapter.findAvailableProductViewsByStoreIdAfterSku("TEST-STORE", null, 2);
+
+            // Then
+            assertEquals(List.of(view), result);
+            verify(jpaRepository, never()).findAvailableProductsByStoreIdAfterSku(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should delegate sparse field pages to criteria repository")
+        void shouldDelegateSparseFieldPagesToCriteriaRepository() {
+            // Given
+            FieldSelection selection = FieldSelection.parse("availableQuantity", ProductView.FIELDS);
+            List<Map<String, Object>> rows = List.of(Map.of("sku", "SKU-1", "availableQuantity", 10));
+            when(criteriaRepository.findAvailableFields("TEST-STORE", "SKU-0", 3, selection)).thenReturn(rows);
+
+            // When
+            List<Map<String, Object>> result =
+                repositoryAdapter.findAvailableProductFieldsByStoreIdAfterSku("TEST-STORE", "SKU-0", 3, selection);
+
+            // Then
+            assertEquals(rows, result);
+            assertEquals(Set.copyOf(ProductView.FIELDS), ProductCriteriaRepository.FIELD_ATTRIBUTES.keySet());
+            verifyNoInteractions(jpaRepository);
+        }
     }
 
     @Nested
@@ -429,6 +518,33 @@ class ProductRepositoryAdapterTest {
             assertNotNull(result);
             verify(jpaRepository, times(1)).findByNameContainingAndStoreId(emptyName, storeId);
         }
+
+        @Test
+        @DisplayName("Should split large SKU lookups into bounded IN queries")
+        @SuppressWarnings("unchecked")
+        void shouldSplitLargeSkuLookupIntoChunks() {
+            // Given
+            String storeId = "STORE-001";
+            int chunkSize = ProductRepositoryAdapter.SKU_LOOKUP_CHUNK_SIZE;
+            List<String> skus = new ArrayList<>();
+            for (int i = 0; i < chunkSize * 2 + 5; i++) {
+                skus.add("SKU-" + i);
+            }
+            when(jpaRepository.findBySkuInAndStoreIdAndActiveTrue(anyCollection(), eq(storeId)))
+                .thenReturn(List.of(createSampleEntity("SKU-0", "Product 0")))
+                .thenReturn(List.of(createSampleEntity("SKU-1000", "Product 1000")))
+                .thenReturn(List.of(createSampleEntity("SKU-2004", "Product 2004")));
+
+            // When
+            List<Product> result = repositoryAdapter.findBySkusAndStoreId(skus, storeId);
+
+            // Then
+            ArgumentCaptor<Collection<String>> chunks = ArgumentCaptor.forClass(Collection.class);
+            verify(jpaRepository, times(3)).findBySkuInAndStoreIdAndActiveTrue(chunks.capture(), eq(storeId));
+            assertEquals(List.of(chunkSize, chunkSize, 5),
+                chunks.getAllValues().stream().map(Collection::size).toList());
+            assertEquals(List.of("SKU-0", "SKU-1000", "SKU-2004"), result.stream().map(Product::getSku).toList());
+        }
     }
 
     @Nested
@@ -624,6 +740,242 @@ class ProductRepositoryAdapterTest {
             .build();
     }
 
+    @Nested
+    @DisplayName("Stock Counters Tests")
+    class StockCountersTests {
+
+        @Test
+        @DisplayName("Should find stock counters without catalog attributes")
+        void shouldFindStockCountersWithoutCatalogAttributes() {
+            // Given
+            UUID productId = UUID.randomUUID();
+            ProductStockEntity stock = ProductStockEntity.builder()
+                .productId(productId)
+                .quantity(8)
+                .reservedQuantity(3)
+                .lastUpdated(LocalDateTime.now())
+                .build();
+            when(stockJpaRepository.findBySkuAndStoreId("TEST-SKU", "TEST-STORE")).thenReturn(Optional.of(stock));
+
+            // When
+            Optional<Product> result = repositoryAdapter.findStockBySkuAndStoreId("TEST-SKU", "TEST-STORE");
+
+            // Then
+            assertTrue(result.isPresent());
+            assertEquals(productId, result.get().getId());
+            assertEquals("TEST-SKU", result.get().getSku());
+            assertEquals("TEST-STORE", result.get().getStoreId());
+            assertEquals(8, result.get().getQuantity());
+            assertEquals(3, result.get().getReservedQuantity());
+            assertNull(result.get().getName());
+            verifyNoInteractions(jpaRepository);
+        }
+
+        @Test
+        @DisplayName("Should update only stock counters")
+        void shouldUpdateOnlyStockCounters() {
+            // Given
+            Product product = createSampleProduct();
+            product.setId(UUID.randomUUID());
+            product.setVersion(4L);
+            when(stockJpaRepository.updateCounters(product.getId(), product.getQuantity(),
+                product.getReservedQuantity(), product.getUpdatedAt(), 4L)).thenReturn(1);
+
+            // When
+            Product result = repositoryAdapter.saveStock(product);
+
+            // Then
+            assertSame(product, result);
+            assertEquals(5L, result.getVersion());
+            verify(jpaRepository, never()).save(any(ProductEntity.class));
+        }
+
+        @Test
+        @DisplayName("Should fail when stock row does not exist")
+        void shouldFailWhenStockRowDoesNotExist() {
+            // Given
+            Product product = createSampleProduct();
+            product.setId(UUID.randomUUID());
+            when(stockJpaRepository.updateCounters(any(), any(), any(), any(), any())).thenReturn(0);
+            when(stockJpaRepository.existsById(product.getId())).thenReturn(false);
+
+            // When & Then
+            assertThrows(IllegalArgumentException.class, () -> repositoryAdapter.saveStock(product));
+        }
+
+        @Test
+        @DisplayName("Should raise optimistic locking failure when version changed concurrently")
+        void shouldRaiseOptimisticLockingFailureWhenVersionChanged() {
+            // Given
+            Product product = createSampleProduct();
+            product.setId(UUID.randomUUID());
+            product.setVersion(2L);
+            when(stockJpaRepository.updateCounters(any(), any(), any(), any(), eq(2L))).thenReturn(0);
+            when(stockJpaRepository.existsById(product.getId())).thenReturn(true);
+
+            // When & Then
+            assertThrows(ObjectOptimisticLockingFailureException.class, () -> repositoryAdapter.saveStock(product));
+            assertEquals(2L, product.getVersion());
+        }
+    }
+
+    @Nested
+    @DisplayName("Stock Ledger Tests")
+    class StockLedgerTests {
+
+        @Test
+        @DisplayName("Should apply pending ledger deltas to snapshot")
+        void shouldApplyPendingLedgerDeltasToSnapshot() {
+            // Given
+            ProductEntity entity = createSampleEntity();
+            StockMovementJpaRepository.StockLevelView level = mock(StockMovementJpaRepository.StockLevelView.class);
+            when(level.getQuantity()).thenReturn(7L);
+            when(level.getReserved()).thenReturn(5L);
+            when(jpaRepository.findBySkuAndStoreId("TEST-SKU", "TEST-STORE")).thenReturn(Optional.of(entity));
+            when(stockMovementRepository.findEffectiveStockLevel("TEST-STORE", "TEST-SKU")).thenReturn(Optional.of(level));
+
+            // When
+            Optional<Product> result = repositoryAdapter.findBySkuAndStoreIdWithPendingMovements("TEST-SKU", "TEST-STORE");
+
+            // Then
+            assertTrue(result.isPresent());
+            assertEquals(7, result.get().getQuantity());
+            assertEquals(5, result.get().getReservedQuantity());
+        }
+
+        @Test
+        @DisplayName("Should return empty when product does not exist")
+        void shouldReturnEmptyWhenProductDoesNotExist() {
+            // Given
+            when(jpaRepository.findBySkuAndStoreId("MISSING", "TEST-STORE")).thenReturn(Optional.empty());
+
+            // When
+            Optional<Product> result = repositoryAdapter.findBySkuAndStoreIdWithPendingMovements("MISSING", "TEST-STORE");
+
+            // Then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(stockMovementRepository);
+        }
+
+        @Test
+        @DisplayName("Should append stock movement")
+        void shouldAppendStockMovement() {
+            // Given
+            StockMovement movement = StockMovement.builder()
+                .sku("TEST-SKU")
+                .storeId("TEST-STORE")
+                .movementType(StockMovement.MovementType.RESERVE)
+                .quantityDelta(-1)
+                .reservedDelta(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+            when(stockMovementRepository.save(any(StockMovementEntity.class))).thenAnswer(invocation -> {
+                StockMovementEntity entity = invocation.getArgument(0);
+                entity.setId(42L);
+                return entity;
+            });
+
+            // When
+            StockMovement result = repositoryAdapter.appendStockMovement(movement);
+
+            // Then
+            assertEquals(42L, result.getId());
+            assertEquals(StockMovement.MovementType.RESERVE, result.getMovementType());
+            assertEquals(-1, result.getQuantityDelta());
+        }
+
+        @Test
+        @DisplayName("Should acquire stock lock by store and sku")
+        void shouldAcquireStockLockByStoreAndSku() {
+            // When
+            repositoryAdapter.acquireStockLock("TEST-SKU", "TEST-STORE");
+
+            // Then
+            verify(stockMovementRepository).acquireStockLock("TEST-STORE:TEST-SKU");
+        }
+    }
+
+    @Nested
+    @DisplayName("Catalog Export Tests")
+    class CatalogExportTests {
+
+        @Test
+        @DisplayName("Should stream entities to consumer and detach each one")
+        void shouldStreamEntitiesAndDetachEachOne() {
+            // Given
+            ProductEntity first = createSampleEntity("SKU-1", "Product 1");
+            ProductEntity second = createSampleEntity("SKU-2", "Product 2");
+            AtomicBoolean closed = new AtomicBoolean();
+            when(jpaRepository.streamByStoreId("TEST-STORE"))
+                .thenReturn(Stream.of(first, second).onClose(() -> closed.set(true)));
+            List<String> exported = new ArrayList<>();
+
+            // When
+            long count = repositoryAdapter.forEachByStoreId("TEST-STORE", product -> exported.add(product.getSku()));
+
+            // Then
+            assertEquals(2, count);
+            assertEquals(List.of("SKU-1", "SKU-2"), exported);
+            verify(entityManager).detach(first);
+            verify(entityManager).detach(second);
+            assertTrue(closed.get());
+        }
+
+        @Test
+        @DisplayName("Should close cursor when consumer fails")
+        void shouldCloseCursorWhenConsumerFails() {
+            // Given
+            AtomicBoolean closed = new AtomicBoolean();
+            when(jpaRepository.streamByStoreId("TEST-STORE"))
+                .thenReturn(Stream.of(createSampleEntity()).onClose(() -> closed.set(true)));
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> repositoryAdapter.forEachByStoreId("TEST-STORE",
+                product -> { throw new IllegalStateException("Cliente desconectado"); }));
+            assertTrue(closed.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Inventory Tests")
+    class SearchInventoryTests {
+
+        @Test
+        @DisplayName("Should delegate filters to criteria query and map entities")
+        void shouldDelegateFiltersToCriteriaQuery() {
+            // Given
+            InventorySearchRequest request = new InventorySearchRequest("TEST-STORE",
+                Optional.of("test"), Optional.empty(), Optional.of(new BigDecimal("10.00")), Optional.empty(),
+                Optional.of(InventorySearchRequest.SortField.NAME), false, Optional.of(5));
+            ProductEntity entity = createSampleEntity();
+            when(criteriaRepository.search(request)).thenReturn(List.of(entity));
+
+            // When
+            List<Product> result = repositoryAdapter.searchInventory(request);
+
+            // Then
+            assertEquals(1, result.size());
+            assertEquals("TEST-SKU", result.get(0).getSku());
+            verify(jpaRepository, never()).findByStoreId(anyString());
+        }
+
+        @Test
+        @DisplayName("Should return empty list when nothing matches")
+        void shouldReturnEmptyListWhenNothingMatches() {
+            // Given
+            InventorySearchRequest request = new InventorySearchRequest("TEST-STORE",
+                Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), false, Optional.empty());
+            when(criteriaRepository.search(request)).thenReturn(List.of());
+
+            // When
+            List<Product> result = repositoryAdapter.searchInventory(request);
+
+            // Then
+            assertTrue(result.isEmpty());
+        }
+    }
+
     private ProductEntity createSampleEntity() {
         return ProductEntity.builder()
             .id(UUID.randomUUID())
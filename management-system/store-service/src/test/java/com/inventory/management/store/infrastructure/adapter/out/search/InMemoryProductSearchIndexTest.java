@@ -0,0 +1,198 @@
+package com.inventory.management.store.infrastructure.adapter.out.search;
+
+import com.inventory.management.store.domain.model.Product;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.ProductJpaRepository;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.ProductJpaRepository.CatalogEntryView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para InMemoryProductSearchIndex.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryProductSearchIndex Tests")
+class InMemoryProductSearchIndexTest {
+
+    private static final String CHANNEL = "inventory:product-cache:invalidate";
+
+    @Mock
+    private ProductJpaRepository jpaRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @InjectMocks
+    private InMemoryProductSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        ReflectionTestUtils.setField(searchIndex, "invalidationChannel", CHANNEL);
+    }
+
+    @Test
+    @DisplayName("Should build per-store index from active catalog")
+    void shouldBuildPerStoreIndex() {
+        // Given
+        when(jpaRepository.findActiveCatalogEntries()).thenReturn(List.of(
+                entry("STORE-1", "SKU-1", "Feijão Preto"),
+                entry("STORE-2", "SKU-2", "Feijão Carioca")));
+        assertFalse(searchIndex.isReady());
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertTrue(searchIndex.isReady());
+        assertEquals(List.of("SKU-1"), searchIndex.search("STORE-1", "feijao", 10));
+        assertTrue(searchIndex.search("STORE-3", "feijao", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stay not ready when catalog load fails")
+    void shouldStayNotReadyWhenLoadFails() {
+        // Given
+        when(jpaRepository.findActiveCatalogEntries()).thenThrow(new RuntimeException("db down"));
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertFalse(searchIndex.isReady());
+    }
+
+    @Test
+    @DisplayName("Should index new products incrementally and drop inactive ones")
+    void shouldIndexIncrementally() {
+        // Given
+        Product product = Product.builder().sku("SKU-9").storeId("STORE-1").name("Arroz Integral").active(true).build();
+
+        // When
+        searchIndex.index(product);
+
+        // Then
+        assertEquals(List.of("SKU-9"), searchIndex.search("STORE-1", "integral", 10));
+
+        // When
+        product.deactivate();
+        searchIndex.index(product);
+
+        // Then
+        assertTrue(searchIndex.search("STORE-1", "integral", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply writes only after the transaction commits")
+    void shouldApplyWritesOnlyAfterCommit() {
+        // Given
+        Product product = Product.builder().sku("SKU-9").storeId("STORE-1").name("Arroz Integral").active(true).build();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            searchIndex.index(product);
+
+            // Then
+            assertTrue(searchIndex.search("STORE-1", "integral", 10).isEmpty());
+            verifyNoInteractions(redisTemplate);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(List.of("SKU-9"), searchIndex.search("STORE-1", "integral", 10));
+            verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("|STORE-1|SKU-9|catalog"));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep writes made while the catalog is being reloaded")
+    void shouldKeepWritesMadeDuringRebuild() {
+        // Given
+        searchIndex.index(Product.builder().sku("SKU-2").storeId("STORE-1").name("Feijão Preto").active(true).build());
+        when(jpaRepository.findActiveCatalogEntries()).thenAnswer(invocation -> {
+            searchIndex.index(Product.builder().sku("SKU-9").storeId("STORE-1").name("Arroz Integral").active(true).build());
+            searchIndex.index(Product.builder().sku("SKU-2").storeId("STORE-1").name("Feijão Preto").active(false).build());
+            return List.of(entry("STORE-1", "SKU-1", "Arroz Branco"), entry("STORE-1", "SKU-2", "Feijão Preto"));
+        });
+
+        // When
+        searchIndex.rebuild();
+
+        // Then
+        assertEquals(List.of("SKU-9"), searchIndex.search("STORE-1", "integral", 10));
+        assertEquals(List.of("SKU-1"), searchIndex.search("STORE-1", "branco", 10));
+        assertTrue(searchIndex.search("STORE-1", "feijao", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reload product on remote catalog change and ignore other messages")
+    void shouldReloadProductOnRemoteCatalogChange() {
+        // Given
+        searchIndex.index(Product.builder().sku("SKU-3").storeId("STORE-1").name("Café Torrado").active(true).build());
+        when(jpaRepository.findActiveCatalogEntry("STORE-1", "SKU-9"))
+                .thenReturn(Optional.of(entry("STORE-1", "SKU-9", "Arroz Integral")));
+        when(jpaRepository.findActiveCatalogEntry("STORE-1", "SKU-3")).thenReturn(Optional.empty());
+
+        // When
+        searchIndex.onRemoteInvalidation("other-instance|STORE-1|SKU-9|catalog");
+        searchIndex.onRemoteInvalidation("other-instance|STORE-1|SKU-3|catalog");
+        searchIndex.onRemoteInvalidation("other-instance|STORE-1|SKU-5");
+
+        // Then
+        assertEquals(List.of("SKU-9"), searchIndex.search("STORE-1", "integral", 10));
+        assertTrue(searchIndex.search("STORE-1", "cafe", 10).isEmpty());
+        verify(jpaRepository, never()).findActiveCatalogEntry("STORE-1", "SKU-5");
+    }
+
+    @Test
+    @DisplayName("Should ignore own catalog changes received from the channel")
+    void shouldIgnoreOwnCatalogChanges() {
+        // Given
+        searchIndex.index(Product.builder().sku("SKU-9").storeId("STORE-1").name("Arroz Integral").active(true).build());
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), published.capture());
+
+        // When
+        searchIndex.onRemoteInvalidation(published.getValue());
+
+        // Then
+        verify(jpaRepository, never()).findActiveCatalogEntry(anyString(), anyString());
+    }
+
+    private CatalogEntryView entry(String storeId, String sku, String name) {
+        return new CatalogEntryView() {
+            @Override
+            public String getStoreId() {
+                return storeId;
+            }
+
+            @Override
+            public String getSku() {
+                return sku;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.inventory.management.store.infrastructure.adapter.out.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes unitários para StoreSearchIndex.
+ */
+@DisplayName("StoreSearchIndex Tests")
+class StoreSearchIndexTest {
+
+    private StoreSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSearchIndex();
+        index.put("SKU-1", "Café Orgânico 500g");
+        index.put("SKU-2", "Cafeteira Elétrica");
+        index.put("SKU-3", "Açúcar Mascavo");
+        index.put("SKU-4", "Bolo de Café");
+        index.put("SKU-5", "Café");
+    }
+
+    @Test
+    @DisplayName("Should find substring ignoring accents and case")
+    void shouldFindSubstringIgnoringAccentsAndCase() {
+        assertEquals(List.of("SKU-3"), index.search("ACUCAR", 10));
+        assertEquals(List.of("SKU-1"), index.search("organico", 10));
+        assertEquals(List.of("SKU-3"), index.search("car mas", 10));
+    }
+
+    @Test
+    @DisplayName("Should rank exact, name prefix, word prefix and substring matches")
+    void shouldRankMatches() {
+        // Quando: "cafe" é nome exato do SKU-5, prefixo de SKU-1/SKU-2 e palavra em SKU-4
+        List<String> result = index.search("café", 10);
+
+        // Então
+        assertEquals(List.of("SKU-5", "SKU-1", "SKU-2", "SKU-4"), result);
+    }
+
+    @Test
+    @DisplayName("Should autocomplete short prefixes through trie")
+    void shouldAutocompleteShortPrefixes() {
+        assertEquals(List.of("SKU-4"), index.search("bo", 10));
+        assertEquals(List.of("SKU-2"), index.search("el", 10));
+        assertTrue(index.search("zz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply limit after ranking")
+    void shouldApplyLimit() {
+        assertEquals(List.of("SKU-5", "SKU-1"), index.search("cafe", 2));
+        assertTrue(index.search("cafe", 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reindex renamed product and remove deleted product")
+    void shouldReindexAndRemove() {
+        // When
+        index.put("SKU-2", "Chaleira Elétrica");
+        index.remove("SKU-3");
+
+        // Then
+        assertEquals(List.of("SKU-5", "SKU-1", "SKU-4"), index.search("cafe", 10));
+        assertEquals(List.of("SKU-2"), index.search("chaleira", 10));
+        assertTrue(index.search("acucar", 10).isEmpty());
+        assertTrue(index.search("ca", 10).containsAll(List.of("SKU-1", "SKU-5")));
+        assertFalse(index.search("caf", 10).contains("SKU-2"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should return nothing for blank query")
+    void shouldReturnNothingForBlankQuery() {
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDateTime;
@@ -33,7 +34,7 @@ class ApplicationConfigTest {
     @BeforeEach
     void setUp() {
         applicationConfig = new ApplicationConfig();
-        objectMapper = applicationConfig.objectMapper();
+        objectMapper = applicationConfig.objectMapper(new DefaultListableBeanFactory());
     }
 
     @Nested
@@ -44,13 +45,20 @@ class ApplicationConfigTest {
         @DisplayName("Should create ObjectMapper bean")
         void shouldCreateObjectMapperBean() {
             // When
-            ObjectMapper result = applicationConfig.objectMapper();
+            ObjectMapper result = applicationConfig.objectMapper(new DefaultListableBeanFactory());
 
             // Then
             assertNotNull(result);
             assertInstanceOf(ObjectMapper.class, result);
         }
 
+        @Test
+        @DisplayName("Should instantiate annotated serializers through Spring")
+        void shouldInstantiateAnnotatedSerializersThroughSpring() {
+            // Then
+            assertNotNull(objectMapper.getSerializationConfig().getHandlerInstantiator());
+        }
+
         @Test
         @DisplayName("Should register JavaTimeModule")
         void shouldRegisterJavaTimeModule() {
@@ -183,6 +191,28 @@ class ApplicationConfigTest {
         }
     }
 
+    @Nested
+    @DisplayName("Binary Message Converters")
+    class BinaryMessageConverterTests {
+
+        @Test
+        @DisplayName("Should create CBOR and Smile converters sharing ObjectMapper modules")
+        void shouldCreateBinaryConvertersSharingObjectMapperModules() throws Exception {
+            // Given
+            LocalDateTime dateTime = LocalDateTime.of(2023, 12, 25, 15, 30, 45);
+
+            // When
+            ObjectMapper cbor = applicationConfig.cborHttpMessageConverter(objectMapper).getObjectMapper();
+            ObjectMapper smile = applicationConfig.smileHttpMessageConverter(objectMapper).getObjectMapper();
+
+            // Then
+            assertEquals(dateTime, cbor.readValue(cbor.writeValueAsBytes(dateTime), LocalDateTime.class));
+            assertEquals(dateTime, smile.readValue(smile.writeValueAsBytes(dateTime), LocalDateTime.class));
+            assertEquals("CBOR", cbor.getFactory().getFormatName());
+            assertEquals("Smile", smile.getFactory().getFormatName());
+        }
+    }
+
     @Nested
     @DisplayName("Configuration Annotations")
     class ConfigurationAnnotationsTests {
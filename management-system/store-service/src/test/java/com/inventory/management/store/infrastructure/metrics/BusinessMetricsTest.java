@@ -0,0 +1,76 @@
+package com.inventory.management.store.infrastructure.metrics;
+
+import com.inventory.management.store.infrastructure.config.ConcurrencyConfig.OptimisticLockRetryMetricsListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para BusinessMetrics e o listener de retry otimista.
+ */
+@DisplayName("BusinessMetrics Tests")
+class BusinessMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BusinessMetrics businessMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        businessMetrics = new BusinessMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should count precondition failures")
+    void shouldCountPreconditionFailures() {
+        // When
+        businessMetrics.recordPreconditionFailed();
+        businessMetrics.recordPreconditionFailed();
+
+        // Then
+        assertEquals(2.0, meterRegistry.counter("inventory.concurrency.precondition_failed").count());
+    }
+
+    @Test
+    @DisplayName("Should record conflicts and retries of a recovered operation")
+    void shouldRecordConflictsAndRetriesOfRecoveredOperation() {
+        // Given
+        OptimisticLockRetryMetricsListener listener = new OptimisticLockRetryMetricsListener(businessMetrics);
+        RetryContext context = mock(RetryContext.class);
+        when(context.getRetryCount()).thenReturn(2);
+        ObjectOptimisticLockingFailureException conflict =
+                new ObjectOptimisticLockingFailureException(Object.class, "id");
+
+        // When
+        listener.onError(context, null, conflict);
+        listener.onError(context, null, conflict);
+        listener.close(context, null, null);
+
+        // Then
+        assertEquals(2.0, meterRegistry.counter("inventory.concurrency.optimistic_lock.conflicts").count());
+        assertEquals(2.0, meterRegistry.counter("inventory.concurrency.optimistic_lock.retries").count());
+        assertEquals(0.0, meterRegistry.counter("inventory.concurrency.optimistic_lock.exhausted").count());
+    }
+
+    @Test
+    @DisplayName("Should record exhausted operation")
+    void shouldRecordExhaustedOperation() {
+        // Given
+        OptimisticLockRetryMetricsListener listener = new OptimisticLockRetryMetricsListener(businessMetrics);
+        RetryContext context = mock(RetryContext.class);
+        when(context.getRetryCount()).thenReturn(5);
+
+        // When
+        listener.close(context, null, new ObjectOptimisticLockingFailureException(Object.class, "id"));
+
+        // Then
+        assertEquals(4.0, meterRegistry.counter("inventory.concurrency.optimistic_lock.retries").count());
+        assertEquals(1.0, meterRegistry.counter("inventory.concurrency.optimistic_lock.exhausted").count());
+    }
+}
@@ -0,0 +1,155 @@
+package com.inventory.management.store.infrastructure.service;
+
+import com.inventory.management.store.infrastructure.metrics.BusinessMetrics;
+import com.inventory.management.store.infrastructure.service.ReservationQuotaService.QuotaDecision;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ReservationQuotaService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationQuotaService Tests")
+class ReservationQuotaServiceTest {
+
+    private static final long WINDOW_MS = 60_000L;
+    private static final long WINDOW_START = 100 * WINDOW_MS;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private BusinessMetrics businessMetrics;
+
+    private ReservationQuotaService quotaService;
+
+    @BeforeEach
+    void setUp() {
+        quotaService = new ReservationQuotaService(redisTemplate, businessMetrics,
+                true, WINDOW_MS, 10, 4, 8, true);
+    }
+
+    @Test
+    @DisplayName("Should allow reservations within customer and sku caps")
+    void shouldAllowReservationsWithinCaps() {
+        assertTrue(quotaService.tryAcquire("C1", "S1", "SKU-1", 2, WINDOW_START).allowed());
+        assertTrue(quotaService.tryAcquire("C1", "S1", "SKU-1", 2, WINDOW_START + 10).allowed());
+        assertTrue(quotaService.tryAcquire("C1", "S1", "SKU-2", 4, WINDOW_START + 20).allowed());
+        verifyNoInteractions(businessMetrics);
+    }
+
+    @Test
+    @DisplayName("Should reject when per sku cap is exceeded")
+    void shouldRejectWhenSkuCapExceeded() {
+        // Given
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 4, WINDOW_START);
+
+        // When
+        QuotaDecision decision = quotaService.tryAcquire("C1", "S1", "SKU-1", 1, WINDOW_START + 10);
+
+        // Then
+        assertFalse(decision.allowed());
+        assertNotNull(decision.message());
+        verify(businessMetrics).recordReservationQuotaRejected("customer_sku");
+        assertTrue(quotaService.tryAcquire("C2", "S1", "SKU-1", 4, WINDOW_START + 10).allowed());
+    }
+
+    @Test
+    @DisplayName("Should reject when customer cap is exceeded across skus")
+    void shouldRejectWhenCustomerCapExceeded() {
+        // Given
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 4, WINDOW_START);
+        quotaService.tryAcquire("C1", "S1", "SKU-2", 4, WINDOW_START);
+
+        // When
+        QuotaDecision decision = quotaService.tryAcquire("C1", "S1", "SKU-3", 3, WINDOW_START + 10);
+
+        // Then
+        assertFalse(decision.allowed());
+        verify(businessMetrics).recordReservationQuotaRejected("customer");
+    }
+
+    @Test
+    @DisplayName("Should not consume quota when reservation is rejected")
+    void shouldNotConsumeQuotaWhenRejected() {
+        // Given
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 3, WINDOW_START);
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 3, WINDOW_START);
+
+        // When
+        QuotaDecision decision = quotaService.tryAcquire("C1", "S1", "SKU-1", 1, WINDOW_START);
+
+        // Then
+        assertTrue(decision.allowed());
+    }
+
+    @Test
+    @DisplayName("Should weight previous window when sliding")
+    void shouldWeightPreviousWindowWhenSliding() {
+        // Given
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 4, WINDOW_START);
+
+        // When & Then - no início da próxima janela o consumo anterior ainda pesa quase integralmente
+        assertFalse(quotaService.tryAcquire("C1", "S1", "SKU-1", 1, WINDOW_START + WINDOW_MS + 1).allowed());
+        // Passados 3/4 da janela seguinte resta apenas 1/4 do consumo anterior
+        assertTrue(quotaService.tryAcquire("C1", "S1", "SKU-1", 3, WINDOW_START + WINDOW_MS + WINDOW_MS * 3 / 4).allowed());
+    }
+
+    @Test
+    @DisplayName("Should allow everything when disabled")
+    void shouldAllowEverythingWhenDisabled() {
+        // Given
+        ReservationQuotaService disabled = new ReservationQuotaService(redisTemplate, businessMetrics,
+                false, WINDOW_MS, 1, 1, 8, true);
+
+        // When & Then
+        assertTrue(disabled.tryAcquire("C1", "S1", "SKU-1", 50, WINDOW_START).allowed());
+    }
+
+    @Test
+    @DisplayName("Should merge global totals from Redis into local counters")
+    @SuppressWarnings("unchecked")
+    void shouldMergeGlobalTotalsFromRedis() {
+        // Given - outra instância já consumiu 3 unidades do mesmo SKU
+        long now = System.currentTimeMillis();
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 1, now);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenReturn(List.of(4L, true, 4L, true));
+
+        // When
+        quotaService.synchronize();
+
+        // Then
+        assertFalse(quotaService.tryAcquire("C1", "S1", "SKU-1", 1, now).allowed());
+    }
+
+    @Test
+    @DisplayName("Should keep local counters when Redis is unavailable")
+    @SuppressWarnings("unchecked")
+    void shouldKeepLocalCountersWhenRedisUnavailable() {
+        // Given
+        long now = System.currentTimeMillis();
+        quotaService.tryAcquire("C1", "S1", "SKU-1", 3, now);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RuntimeException("Redis indisponível"));
+
+        // When
+        quotaService.synchronize();
+
+        // Then
+        assertTrue(quotaService.tryAcquire("C1", "S1", "SKU-1", 1, now).allowed());
+        assertFalse(quotaService.tryAcquire("C1", "S1", "SKU-1", 1, now).allowed());
+    }
+}
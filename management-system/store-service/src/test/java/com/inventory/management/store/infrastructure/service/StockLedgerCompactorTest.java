@@ -0,0 +1,152 @@
+package com.inventory.management.store.infrastructure.service;
+
+import com.inventory.management.store.domain.service.InventoryGenerationCounters;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.StockMovementJpaRepository;
+import com.inventory.management.store.infrastructure.adapter.out.persistence.StockMovementJpaRepository.CompactionCheckpointView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para StockLedgerCompactor.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockLedgerCompactor Tests")
+class StockLedgerCompactorTest {
+
+    @Mock
+    private StockMovementJpaRepository stockMovementRepository;
+
+    @Mock
+    private InventoryGenerationCounters generationCounters;
+
+    @InjectMocks
+    private StockLedgerCompactor compactor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(compactor, "batchSize", 500);
+    }
+
+    @Test
+    @DisplayName("Should fold movements up to a settled barrier and place the next one")
+    void shouldFoldPendingMovementsAndAdvanceCheckpoint() {
+        // Given
+        when(stockMovementRepository.lockCompactionCheckpoint()).thenReturn(checkpoint(100L, 180L, true));
+        when(stockMovementRepository.findCompactionUpperBound(100L, 180L, 500)).thenReturn(180L);
+        when(stockMovementRepository.foldMovementsIntoSnapshots(100L, 180L)).thenReturn(7);
+        when(stockMovementRepository.findLastAssignedPosition()).thenReturn(240L);
+
+        // When
+        int updated = compactor.compact();
+
+        // Then
+        assertEquals(7, updated);
+        InOrder inOrder = inOrder(stockMovementRepository);
+        inOrder.verify(stockMovementRepository).foldMovementsIntoSnapshots(100L, 180L);
+        inOrder.verify(stockMovementRepository).advanceCompactionCheckpoint(eq(180L), any(LocalDateTime.class));
+        inOrder.verify(stockMovementRepository).findLastAssignedPosition();
+        inOrder.verify(stockMovementRepository).placeCompactionBarrier(240L);
+        verify(generationCounters).advanceAllAfterCommit();
+    }
+
+    @Test
+    @DisplayName("Should not pass a barrier while earlier transactions are still running")
+    void shouldWaitForTransactionsBeforeBarrier() {
+        // Given - uma transação longa recebeu uma posição abaixo da barreira e ainda não confirmou
+        when(stockMovementRepository.lockCompactionCheckpoint()).thenReturn(checkpoint(100L, 180L, false));
+
+        // When
+        int updated = compactor.compact();
+
+        // Then
+        assertEquals(0, updated);
+        verify(stockMovementRepository, never()).findCompactionUpperBound(anyLong(), anyLong(), anyInt());
+        verify(stockMovementRepository, never()).foldMovementsIntoSnapshots(anyLong(), anyLong());
+        verify(stockMovementRepository, never()).advanceCompactionCheckpoint(anyLong(), any());
+        verify(stockMovementRepository, never()).placeCompactionBarrier(anyLong());
+        verifyNoInteractions(generationCounters);
+    }
+
+    @Test
+    @DisplayName("Should place the first barrier without folding")
+    void shouldPlaceFirstBarrierWithoutFolding() {
+        // Given
+        when(stockMovementRepository.lockCompactionCheckpoint()).thenReturn(checkpoint(0L, null, false));
+        when(stockMovementRepository.findLastAssignedPosition()).thenReturn(42L);
+
+        // When
+        int updated = compactor.compact();
+
+        // Then
+        assertEquals(0, updated);
+        verify(stockMovementRepository).placeCompactionBarrier(42L);
+        verify(stockMovementRepository, never()).foldMovementsIntoSnapshots(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should keep the barrier until the batches reach it")
+    void shouldKeepBarrierWhileBatchIsLimited() {
+        // Given
+        when(stockMovementRepository.lockCompactionCheckpoint()).thenReturn(checkpoint(100L, 900L, true));
+        when(stockMovementRepository.findCompactionUpperBound(100L, 900L, 500)).thenReturn(600L);
+        when(stockMovementRepository.foldMovementsIntoSnapshots(100L, 600L)).thenReturn(3);
+
+        // When
+        compactor.compact();
+
+        // Then
+        verify(stockMovementRepository).advanceCompactionCheckpoint(eq(600L), any(LocalDateTime.class));
+        verify(stockMovementRepository, never()).findLastAssignedPosition();
+        verify(stockMovementRepository, never()).placeCompactionBarrier(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when there are no pending movements")
+    void shouldDoNothingWhenNoPendingMovements() {
+        // Given
+        when(stockMovementRepository.lockCompactionCheckpoint()).thenReturn(checkpoint(100L, 100L, true));
+        when(stockMovementRepository.findLastAssignedPosition()).thenReturn(100L);
+
+        // When
+        int updated = compactor.compact();
+
+        // Then
+        assertEquals(0, updated);
+        verify(stockMovementRepository, never()).foldMovementsIntoSnapshots(anyLong(), anyLong());
+        verify(stockMovementRepository, never()).advanceCompactionCheckpoint(anyLong(), any());
+        verify(stockMovementRepository, never()).placeCompactionBarrier(anyLong());
+        verifyNoInteractions(generationCounters);
+    }
+
+    private static CompactionCheckpointView checkpoint(Long position, Long barrierPosition, boolean settled) {
+        return new CompactionCheckpointView() {
+            @Override
+            public Long getPosition() {
+                return position;
+            }
+
+            @Override
+            public Long getBarrierPosition() {
+                return barrierPosition;
+            }
+
+            @Override
+            public Boolean getBarrierSettled() {
+                return settled;
+            }
+        };
+    }
+}
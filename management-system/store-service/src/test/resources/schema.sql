@@ -4,22 +4,45 @@
 -- Criar schema se não existir (H2 suporta schemas)
 CREATE SCHEMA IF NOT EXISTS store_service;
 
--- Criar tabela products no schema correto
-CREATE TABLE IF NOT EXISTS store_service.products (
+-- Criar tabela de catálogo de produtos no schema correto
+CREATE TABLE IF NOT EXISTS store_service.product_catalog (
     id UUID PRIMARY KEY,
     sku VARCHAR(100) NOT NULL,
     name VARCHAR(255) NOT NULL,
     description TEXT,
     price DECIMAL(19,2) NOT NULL,
-    quantity INTEGER NOT NULL DEFAULT 0,
-    reserved_quantity INTEGER NOT NULL DEFAULT 0,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     store_id VARCHAR(50) NOT NULL,
     active BOOLEAN NOT NULL DEFAULT true,
     CONSTRAINT uk_products_sku_store UNIQUE (sku, store_id)
 );
 
+-- Criar tabela de contadores de estoque (colunas quentes)
+CREATE TABLE IF NOT EXISTS store_service.product_stock (
+    product_id UUID PRIMARY KEY,
+    quantity INTEGER NOT NULL DEFAULT 0,
+    reserved_quantity INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ledger_position BIGINT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_product_stock_catalog FOREIGN KEY (product_id)
+        REFERENCES store_service.product_catalog(id) ON DELETE CASCADE
+);
+
 -- Criar índices para performance (compatível com H2)
-CREATE INDEX IF NOT EXISTS idx_store_sku ON store_service.products(store_id, sku);
-CREATE INDEX IF NOT EXISTS idx_store_name ON store_service.products(store_id, name);
-CREATE INDEX IF NOT EXISTS idx_active ON store_service.products(active);
+CREATE INDEX IF NOT EXISTS idx_store_sku ON store_service.product_catalog(store_id, sku);
+CREATE INDEX IF NOT EXISTS idx_store_name ON store_service.product_catalog(store_id, name);
+CREATE INDEX IF NOT EXISTS idx_active ON store_service.product_catalog(active);
+CREATE INDEX IF NOT EXISTS idx_catalog_store_price_active ON store_service.product_catalog(store_id, price);
+
+-- Ledger append-only de movimentos de estoque
+CREATE TABLE IF NOT EXISTS store_service.stock_movements (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    store_id VARCHAR(50) NOT NULL,
+    sku VARCHAR(100) NOT NULL,
+    movement_type VARCHAR(20) NOT NULL,
+    quantity_delta INTEGER NOT NULL,
+    reserved_delta INTEGER NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_movements_store_sku ON store_service.stock_movements(store_id, sku, id);